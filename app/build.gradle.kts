@@ -17,7 +17,12 @@ android {
     }
 
     buildTypes {
+        debug {
+            // Full request/response logging (bodies included) is for debug builds only
+            buildConfigField("String", "NETWORK_LOG_LEVEL", "\"BODY\"")
+        }
         release {
+            buildConfigField("String", "NETWORK_LOG_LEVEL", "\"NONE\"")
             isMinifyEnabled = false
             proguardFiles(
                 getDefaultProguardFile("proguard-android-optimize.txt"),
@@ -25,6 +30,9 @@ android {
             )
         }
     }
+    buildFeatures {
+        buildConfig = true
+    }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
@@ -33,6 +41,7 @@ android {
 
 dependencies {
 
+    implementation(project(":core"))
     implementation(libs.appcompat)
     implementation(libs.material)
     implementation(libs.activity)
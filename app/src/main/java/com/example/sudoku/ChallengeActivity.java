@@ -17,18 +17,19 @@ import android.widget.Toast;
 
 import com.example.sudoku.data.local.SessionManager;
 import com.example.sudoku.data.model.ChallengeResponse;
-import com.example.sudoku.data.network.ApiService;
+import com.example.sudoku.data.network.CircuitOpenException;
 import com.example.sudoku.data.network.RetrofitClient;
+import com.example.sudoku.data.repository.CachedResource;
+import com.example.sudoku.data.repository.ChallengeActionBatcher;
+import com.example.sudoku.data.repository.ChallengeRepository;
+import com.example.sudoku.data.repository.ChallengeStore;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID; // Import UUID
-import java.util.stream.Collectors; // Import Collectors
 
-import retrofit2.Call;
-import retrofit2.Callback;
 import retrofit2.Response;
 
 public class ChallengeActivity extends AppCompatActivity {
@@ -42,19 +43,18 @@ public class ChallengeActivity extends AppCompatActivity {
     private SwipeRefreshLayout swipeRefreshLayout;
     private ProgressDialog progressDialog;
 
-    private List<ChallengeResponse> allChallenges = new ArrayList<>(); // Store all fetched challenges
+    private ChallengeStore challenges; // All fetched challenges, indexed by tab; null until loaded
     private boolean showingIncoming = true; // Track current view state
 
-    private ApiService apiService;
     private SessionManager sessionManager;
     private String currentUserId = null; // Store the logged-in user's ID
+    private final ChallengeActionBatcher.ChangeListener challengesChanged = this::showLocalChallenges;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_challenge);
 
-        apiService = RetrofitClient.getApiService(this);
         sessionManager = new SessionManager(this);
         fetchCurrentUserId(); // Fetch user ID early
 
@@ -80,7 +80,10 @@ public class ChallengeActivity extends AppCompatActivity {
     // Helper to get user ID from session/token (simplified example)
     private void fetchCurrentUserId() {
         String token = sessionManager.fetchAuthToken();
-        if (token != null) {
+        String savedUserId = sessionManager.fetchUserId(); // Saved at login
+        if (token != null && savedUserId != null) {
+            currentUserId = savedUserId;
+        } else if (token != null) {
             try {
                 // Decode JWT locally - THIS IS NOT RECOMMENDED FOR PRODUCTION
                 // In a real app, fetch user profile via API or pass ID during login
@@ -104,8 +107,19 @@ public class ChallengeActivity extends AppCompatActivity {
     private void setupRecyclerView() {
         recyclerView.setLayoutManager(new LinearLayoutManager(this));
         // Pass currentUserId to the adapter
-        adapter = new ChallengeAdapter(new ArrayList<>(), this, apiService, this::fetchChallenges, currentUserId);
+        adapter = new ChallengeAdapter(new ArrayList<>(), this, currentUserId);
         recyclerView.setAdapter(adapter);
+        ChallengeActionBatcher.getInstance(this).addListener(challengesChanged);
+        ChallengeActionBatcher.getInstance(this).addActionListener(adapter); // Toasts, starts accepted games
+    }
+
+    // Accept/reject applied locally (or its result arrived): redisplay without refetching
+    private void showLocalChallenges() {
+        ChallengeStore local = ChallengeRepository.getInstance(this).peek();
+        if (local == null) return;
+        challenges = local;
+        updateDisplayedChallenges();
+        updateTabCounts();
     }
 
     private void setupTabListeners() {
@@ -114,14 +128,23 @@ public class ChallengeActivity extends AppCompatActivity {
     }
 
     private void setupSwipeRefresh() {
-        swipeRefreshLayout.setOnRefreshListener(this::fetchChallenges);
+        swipeRefreshLayout.setOnRefreshListener(this::refreshChallenges);
         // Optional: Customize refresh indicator colors
         swipeRefreshLayout.setColorSchemeResources(R.color.accent_blue, R.color.accent_green, R.color.accent_orange);
     }
 
-    // Fetches challenges from the backend
+    // Fetches challenges: cached ones are shown right away, stale ones refreshed in the background
     private void fetchChallenges() {
-        Log.d(TAG, "Fetching challenges...");
+        fetchChallenges(false);
+    }
+
+    // Pull to refresh always goes to the backend
+    private void refreshChallenges() {
+        fetchChallenges(true);
+    }
+
+    private void fetchChallenges(boolean forceRefresh) {
+        Log.d(TAG, "Fetching challenges..." + (forceRefresh ? " (forced)" : ""));
         if (currentUserId == null) {
             Log.w(TAG, "Cannot fetch challenges, user ID not available.");
             swipeRefreshLayout.setRefreshing(false);
@@ -129,69 +152,63 @@ public class ChallengeActivity extends AppCompatActivity {
             return;
         }
 
-        // Show progress dialog only if not already refreshing via swipe
-        if (!swipeRefreshLayout.isRefreshing() && allChallenges.isEmpty()) {
-            showLoading(true);
-        }
-
-        // Call the updated API endpoint
-        apiService.getChallenges().enqueue(new Callback<List<ChallengeResponse>>() {
+        ChallengeRepository.getInstance(this).get(forceRefresh, new CachedResource.Listener<ChallengeStore>() {
             @Override
-            public void onResponse(@NonNull Call<List<ChallengeResponse>> call, @NonNull Response<List<ChallengeResponse>> response) {
-                showLoading(false);
-                swipeRefreshLayout.setRefreshing(false);
-
-                if (response.isSuccessful() && response.body() != null) {
-                    allChallenges = response.body(); // Store the fetched (incoming + outgoing) challenges
-                    Log.d(TAG, "Fetched " + allChallenges.size() + " total relevant challenges.");
-                    updateDisplayedChallenges(); // Update RecyclerView based on the current tab
-                    updateTabCounts();           // Update counts on both tabs
-
-                } else {
-                    Log.e(TAG, "Error fetching challenges: " + response.code() + " - " + response.message());
-                    handleApiError(response, "Failed to load challenges");
-                    allChallenges.clear(); // Clear local list on error
-                    updateDisplayedChallenges();
-                    updateTabCounts();
+            public void onData(@NonNull ChallengeStore data, boolean fromCache) {
+                if (!fromCache || !forceRefresh) { // A forced refresh keeps spinning until the new data arrives
+                    showLoading(false);
+                    swipeRefreshLayout.setRefreshing(false);
                 }
+                challenges = data; // Fetched (incoming + outgoing) challenges, merged into the store
+                Log.d(TAG, (fromCache ? "Cached " : "Fetched ") + challenges.size() + " total relevant challenges.");
+                updateDisplayedChallenges(); // Update RecyclerView based on the current tab
+                updateTabCounts();           // Update counts on both tabs
             }
 
             @Override
-            public void onFailure(@NonNull Call<List<ChallengeResponse>> call, @NonNull Throwable t) {
+            public void onError(Response<ChallengeStore> response, Throwable t) {
                 showLoading(false);
                 swipeRefreshLayout.setRefreshing(false);
-                Log.e(TAG, "Network error fetching challenges: " + t.getMessage(), t);
-                Toast.makeText(ChallengeActivity.this, "Network Error. Please check connection.", Toast.LENGTH_SHORT).show();
-                allChallenges.clear(); // Clear local list on network error
+                if (response != null) {
+                    Log.e(TAG, "Error fetching challenges: " + response.code() + " - " + response.message());
+                    handleApiError(response, "Failed to load challenges");
+                } else {
+                    Log.e(TAG, "Network error fetching challenges: " + t.getMessage(), t);
+                    if (t instanceof CircuitOpenException) {
+                        // Backend is down: refused locally, refreshing again won't help for a while
+                        Toast.makeText(ChallengeActivity.this, hasChallenges() ? "Server unavailable. Showing saved challenges."
+                                : "Server unavailable. Please try again later.", Toast.LENGTH_SHORT).show();
+                    } else {
+                        Toast.makeText(ChallengeActivity.this, "Network Error. Please check connection.", Toast.LENGTH_SHORT).show();
+                    }
+                }
+                if (hasChallenges()) return; // Keep showing what we have
                 updateDisplayedChallenges();
                 updateTabCounts();
             }
         });
+
+        // Show progress dialog only if nothing could be shown from cache and not refreshing via swipe
+        if (!swipeRefreshLayout.isRefreshing() && !hasChallenges() && ChallengeRepository.getInstance(this).peek() == null) {
+            showLoading(true);
+        }
+    }
+
+    private boolean hasChallenges() {
+        return challenges != null && !challenges.isEmpty();
     }
 
     // Call this when switching tabs or after fetching data
     private void updateDisplayedChallenges() {
-        if (currentUserId == null) {
-            Log.w(TAG, "Cannot update display, user ID is null.");
+        if (currentUserId == null || challenges == null) {
+            if (currentUserId == null) Log.w(TAG, "Cannot update display, user ID is null.");
             adapter.updateData(new ArrayList<>()); // Show empty list
             return;
         }
-
-        List<ChallengeResponse> filteredList;
-        if (showingIncoming) {
-            // Filter for incoming (opponent is current user AND status is pending)
-            filteredList = allChallenges.stream()
-                    .filter(c -> currentUserId.equalsIgnoreCase(c.getOpponentId()) && "pending".equalsIgnoreCase(c.getStatus()))
-                    .collect(Collectors.toList());
-            Log.d(TAG, "Displaying " + filteredList.size() + " incoming challenges.");
-        } else {
-            // Filter for outgoing (challenger is current user AND status is pending or accepted)
-            filteredList = allChallenges.stream()
-                    .filter(c -> currentUserId.equalsIgnoreCase(c.getChallengerId()) && ("pending".equalsIgnoreCase(c.getStatus()) || "accepted".equalsIgnoreCase(c.getStatus())))
-                    .collect(Collectors.toList());
-            Log.d(TAG, "Displaying " + filteredList.size() + " outgoing challenges.");
-        }
-        adapter.updateData(filteredList);
+        // Both tabs are kept up to date by the store, nothing to filter here
+        List<ChallengeResponse> tabList = showingIncoming ? challenges.incoming() : challenges.outgoing();
+        Log.d(TAG, "Displaying " + tabList.size() + (showingIncoming ? " incoming" : " outgoing") + " challenges.");
+        adapter.updateData(tabList);
     }
 
 
@@ -209,7 +226,7 @@ public class ChallengeActivity extends AppCompatActivity {
         updateDisplayedChallenges(); // Update display with filtered data
     }
 
-    // Update counts on both tabs based on the *full* fetched list
+    // Update counts on both tabs from the store's indexes
     private void updateTabCounts() {
         if (currentUserId == null) {
             Log.w(TAG, "Cannot update tab counts, user ID is null.");
@@ -218,13 +235,8 @@ public class ChallengeActivity extends AppCompatActivity {
             return;
         }
 
-        long incomingCount = allChallenges.stream()
-                .filter(c -> currentUserId.equalsIgnoreCase(c.getOpponentId()) && "pending".equalsIgnoreCase(c.getStatus()))
-                .count();
-
-        long outgoingCount = allChallenges.stream()
-                .filter(c -> currentUserId.equalsIgnoreCase(c.getChallengerId()) && ("pending".equalsIgnoreCase(c.getStatus()) || "accepted".equalsIgnoreCase(c.getStatus())))
-                .count();
+        int incomingCount = challenges != null ? challenges.incomingCount() : 0;
+        int outgoingCount = challenges != null ? challenges.outgoingCount() : 0;
 
         incomingButton.setText(String.format(Locale.getDefault(), "Incoming (%d)", incomingCount));
         outgoingButton.setText(String.format(Locale.getDefault(), "Outgoing (%d)", outgoingCount));
@@ -280,7 +292,20 @@ public class ChallengeActivity extends AppCompatActivity {
         BottomNavigationView bottomNavigationView = findViewById(R.id.bottom_navigation);
         bottomNavigationView.setSelectedItemId(R.id.navigation_challenges);
         fetchCurrentUserId(); // Ensure user ID is fresh, in case of login changes
-        fetchChallenges(); // Refresh challenges list
+        fetchChallenges(); // Cached list right away, refreshed if stale
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        ChallengeActionBatcher.getInstance(this).flush(); // Don't hold taps back once the user leaves
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        ChallengeActionBatcher.getInstance(this).removeListener(challengesChanged);
+        ChallengeActionBatcher.getInstance(this).removeActionListener(adapter);
     }
 
     private void setupBottomNavigation() {
@@ -294,7 +319,7 @@ public class ChallengeActivity extends AppCompatActivity {
             } else if (itemId == R.id.navigation_ranks) {
                 intent = new Intent(ChallengeActivity.this, LeaderboardActivity.class);
             } else if (itemId == R.id.navigation_challenges) {
-                if(!swipeRefreshLayout.isRefreshing()) fetchChallenges(); // Refresh if reselected, unless already swiping
+                if(!swipeRefreshLayout.isRefreshing()) refreshChallenges(); // Refresh if reselected, unless already swiping
                 return true; // Stay on this screen
             } else if (itemId == R.id.navigation_profile) {
                 intent = new Intent(ChallengeActivity.this, ProfileActivity.class);
@@ -17,10 +17,9 @@ import androidx.core.content.ContextCompat;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.sudoku.data.model.ChallengePuzzle; // Ensure this is imported
-import com.example.sudoku.data.model.ChallengeRespondRequest;
 import com.example.sudoku.data.model.ChallengeResponse;
 import com.example.sudoku.data.model.PuzzleResponse; // Needed to start GameActivity
-import com.example.sudoku.data.network.ApiService;
+import com.example.sudoku.data.repository.ChallengeActionBatcher;
 import com.example.sudoku.utils.ProfileColorUtil;
 
 import java.util.ArrayList;
@@ -28,25 +27,19 @@ import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit; // For formatting time
 
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
-
-public class ChallengeAdapter extends RecyclerView.Adapter<ChallengeAdapter.ChallengeViewHolder> {
+public class ChallengeAdapter extends RecyclerView.Adapter<ChallengeAdapter.ChallengeViewHolder> implements ChallengeActionBatcher.ActionListener {
 
     private List<ChallengeResponse> challengeList;
     private final Context context;
-    private final ApiService apiService;
-    private final Runnable refreshCallback; // Callback to refresh list in Activity
     private final String currentUserId; // ID of the logged-in user
     private ProgressDialog progressDialog; // Loading indicator
 
 
-    public ChallengeAdapter(List<ChallengeResponse> challengeList, Context context, ApiService apiService, Runnable refreshCallback, String currentUserId) {
+    // Accept/reject results arrive as ChallengeActionBatcher action listener calls; the activity
+    // registers this adapter and removes it in onDestroy
+    public ChallengeAdapter(List<ChallengeResponse> challengeList, Context context, String currentUserId) {
         this.challengeList = (challengeList != null) ? challengeList : new ArrayList<>();
         this.context = context;
-        this.apiService = apiService;
-        this.refreshCallback = refreshCallback;
         this.currentUserId = currentUserId; // Store current user ID
         initProgressDialog(); // Initialize ProgressDialog
     }
@@ -142,51 +135,30 @@ public class ChallengeAdapter extends RecyclerView.Adapter<ChallengeAdapter.Chal
         return challengeList.size();
     }
 
+    // Rejects are batched with other taps and leave the list right away; an accept is sent
+    // at once (with any waiting rejects) because the game starts from its result
     private void handleChallengeResponse(ChallengeResponse challenge, String action) {
-        if (apiService == null) {
-            Toast.makeText(context, "Error: Network service not available.", Toast.LENGTH_SHORT).show();
-            return;
+        if ("accept".equals(action)) showLoading(true, "Accepting...");
+        ChallengeActionBatcher.getInstance(context).submit(challenge, action);
+    }
+
+    @Override
+    public void onActionConfirmed(@NonNull String action, @NonNull ChallengeResponse updatedChallenge) {
+        if ("accept".equals(action)) {
+            showLoading(false);
+            Log.d("ChallengeAdapter", "Challenge accept successful for ID: " + updatedChallenge.getId());
+            Toast.makeText(context, "Challenge Accepted!", Toast.LENGTH_SHORT).show();
+            startGameFromChallenge(updatedChallenge); // Start game with UPDATED challenge data
+        } else {
+            Log.d("ChallengeAdapter", "Challenge reject successful for ID: " + updatedChallenge.getId());
         }
-        showLoading(true, "accept".equals(action) ? "Accepting..." : "Rejecting...");
-
-        ChallengeRespondRequest request = new ChallengeRespondRequest(action);
-        apiService.respondToChallenge(challenge.getId(), request).enqueue(new Callback<ChallengeResponse>() {
-            @Override
-            public void onResponse(@NonNull Call<ChallengeResponse> call, @NonNull Response<ChallengeResponse> response) {
-                showLoading(false);
-                if (response.isSuccessful() && response.body() != null) {
-                    ChallengeResponse updatedChallenge = response.body();
-                    if ("accept".equals(action)) {
-                        Log.d("ChallengeAdapter", "Challenge accept successful for ID: " + challenge.getId());
-                        Toast.makeText(context, "Challenge Accepted!", Toast.LENGTH_SHORT).show();
-                        startGameFromChallenge(updatedChallenge); // Start game with UPDATED challenge data
-                    } else { // reject
-                        Log.d("ChallengeAdapter", "Challenge reject successful for ID: " + challenge.getId());
-                        Toast.makeText(context, "Challenge Rejected", Toast.LENGTH_SHORT).show();
-                        if (refreshCallback != null) {
-                            refreshCallback.run(); // Refresh the list in the activity
-                        }
-                    }
-                } else {
-                    Log.e("ChallengeAdapter", "API Error responding to challenge: " + response.code() + " - " + response.message());
-                    try {
-                        String errorBody = response.errorBody() != null ? response.errorBody().string() : "Unknown error";
-                        Log.e("ChallengeAdapter", "Error Body: " + errorBody);
-                        Toast.makeText(context, "Failed to " + action + " challenge: " + errorBody, Toast.LENGTH_LONG).show();
-                    } catch (Exception e) {
-                        Toast.makeText(context, "Failed to " + action + " challenge: " + response.message(), Toast.LENGTH_LONG).show();
-                    }
-
-                }
-            }
+    }
 
-            @Override
-            public void onFailure(@NonNull Call<ChallengeResponse> call, @NonNull Throwable t) {
-                showLoading(false);
-                Log.e("ChallengeAdapter", "Network Error responding to challenge: " + t.getMessage(), t);
-                Toast.makeText(context, "Network Error: Could not " + action + " challenge.", Toast.LENGTH_SHORT).show();
-            }
-        });
+    @Override
+    public void onActionFailed(@NonNull String action, @NonNull ChallengeResponse current, String detail) {
+        if ("accept".equals(action)) showLoading(false);
+        Log.e("ChallengeAdapter", "Failed to " + action + " challenge " + current.getId() + ": " + detail);
+        Toast.makeText(context, "Failed to " + action + " challenge: " + (detail != null ? detail : "Unknown error"), Toast.LENGTH_LONG).show();
     }
 
     private void startGameFromChallenge(ChallengeResponse challenge) {
@@ -211,16 +183,10 @@ public class ChallengeAdapter extends RecyclerView.Adapter<ChallengeAdapter.Chal
         Log.d("ChallengeAdapter", "Starting game for accepted challenge ID: " + challenge.getId() + " with Puzzle ID: " + challengePuzzle.getId() + " | Solution included: " + (challengePuzzle.getSolutionString() != null));
 
         Intent gameIntent = new Intent(context, GameActivity.class);
-        gameIntent.putExtra("PUZZLE_DATA", puzzleForGame);
+        gameIntent.putExtra(GameActivity.KEY_PUZZLE_DATA, puzzleForGame);
         // Add a flag to indicate this is a challenge game
         gameIntent.putExtra(GameActivity.KEY_IS_CHALLENGE, true); // Need to define this key in GameActivity
         context.startActivity(gameIntent);
-
-        // Optionally refresh the list in ChallengeActivity immediately
-        // Or wait for onResume to trigger the refresh
-        // if (refreshCallback != null) {
-        //     refreshCallback.run();
-        // }
     }
 
 
@@ -25,6 +25,7 @@ import com.example.sudoku.data.model.ChallengeResponse;
 import com.example.sudoku.data.model.UserBase;
 import com.example.sudoku.data.network.ApiService;
 import com.example.sudoku.data.network.RetrofitClient;
+import com.example.sudoku.data.repository.ChallengeRepository;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -174,6 +175,7 @@ public class ChallengeUserSearchActivity extends AppCompatActivity implements Us
                 showChallengeLoading(false, "");
                 if (response.isSuccessful() && response.body() != null) {
                     Log.d(TAG, "Challenge created successfully: ID=" + response.body().getId());
+                    ChallengeRepository.getInstance(ChallengeUserSearchActivity.this).invalidate(); // New outgoing challenge
                     Toast.makeText(ChallengeUserSearchActivity.this, "Challenge sent successfully!", Toast.LENGTH_LONG).show();
                     // Go back to HomeActivity, clearing ResultsActivity and this one
                     Intent homeIntent = new Intent(ChallengeUserSearchActivity.this, HomeActivity.class);
@@ -4,6 +4,8 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 import android.view.View;
 import android.widget.LinearLayout;
@@ -12,10 +14,16 @@ import android.widget.Toast;
 import android.app.ProgressDialog; // Import ProgressDialog
 
 
+import com.example.sudoku.data.local.PuzzlePrefetchPool;
 import com.example.sudoku.data.local.SessionManager;
 import com.example.sudoku.data.model.PuzzleResponse;
 import com.example.sudoku.data.network.ApiService;
+import com.example.sudoku.data.network.BackendWarmup;
 import com.example.sudoku.data.network.RetrofitClient;
+import com.example.sudoku.engine.PuzzleGenerator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -26,6 +34,24 @@ public class DifficultyActivity extends AppCompatActivity {
     private ApiService apiService;
     private ProgressDialog progressDialog; // Add ProgressDialog
 
+    // A local puzzle is generated while the server request runs; if the server hasn't answered
+    // within the budget, the local puzzle is played instead (offline games aren't saved or ranked).
+    // An awake backend answers well within NETWORK_BUDGET_MS; one that may be asleep gets the
+    // longer COLD_NETWORK_BUDGET_MS to cold start. The request isn't cancelled: a late game goes
+    // to PuzzlePrefetchPool for the next tap.
+    private static final long NETWORK_BUDGET_MS = 1500;
+    private static final long COLD_NETWORK_BUDGET_MS = 20_000;
+    private final ExecutorService generatorExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private PuzzleGenerator puzzleGenerator; // Only used on the generator thread
+    private boolean gameStarted = false;
+
+    // Offline fallback state (main thread)
+    private int localAttempt;               // Bumped per fallback start; results of older ones are dropped
+    private PuzzleResponse localPuzzle;     // Set once the generator thread is done
+    private boolean localPuzzleFailed;
+    private boolean playOfflineWhenReady;   // Server too slow or failed: start the local puzzle once it is there
+
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -57,38 +83,126 @@ public class DifficultyActivity extends AppCompatActivity {
     }
 
     private void fetchAndStartGame(String difficulty) {
+        if (gameStarted) return;
+
+        // Fast path: a game prefetched in the background (the pool refills itself afterwards)
+        PuzzleResponse pooled = PuzzlePrefetchPool.getInstance(this).poll(difficulty);
+        if (pooled != null) {
+            Log.d("DifficultyActivity", "Starting prefetched game: GameID=" + pooled.getGameId());
+            startGame(pooled);
+            return;
+        }
+
         // Show loading indicator
+        BackendWarmup warmup = BackendWarmup.getInstance();
+        final long budgetMs = warmup.isReady() ? NETWORK_BUDGET_MS : COLD_NETWORK_BUDGET_MS;
+        progressDialog.setMessage(warmup.isReady() ? "Generating puzzle..." : "Waking up server...");
         showLoading(true);
 
-        Call<PuzzleResponse> call = apiService.getNewGame(difficulty);
-        call.enqueue(new Callback<PuzzleResponse>() {
+        // Generate a fallback puzzle off the UI thread (takes a few milliseconds)
+        final int attempt = ++localAttempt;
+        localPuzzle = null;
+        localPuzzleFailed = false;
+        playOfflineWhenReady = false;
+        generatorExecutor.execute(() -> {
+            try {
+                PuzzleResponse generated = generateLocalPuzzle(difficulty);
+                mainHandler.post(() -> onLocalPuzzleReady(attempt, generated));
+            } catch (RuntimeException e) {
+                Log.e("DifficultyActivity", "Local puzzle generation failed: " + e.getMessage(), e);
+                mainHandler.post(() -> onLocalPuzzleReady(attempt, null));
+            }
+        });
+
+        Runnable playOffline = () -> {
+            Log.d("DifficultyActivity", "No server answer within " + budgetMs + " ms, playing offline");
+            startLocalGame();
+        };
+        mainHandler.postDelayed(playOffline, budgetMs);
+
+        final String requestUserId = new SessionManager(this).fetchUserId();
+        final PuzzlePrefetchPool pool = PuzzlePrefetchPool.getInstance(this);
+        apiService.getNewGame(difficulty).enqueue(new Callback<PuzzleResponse>() {
             @Override
             public void onResponse(Call<PuzzleResponse> call, Response<PuzzleResponse> response) {
-                showLoading(false); // Hide loading indicator
+                if (gameStarted || isDestroyed()) { // Already playing the local puzzle (or left the screen)
+                    if (response.isSuccessful() && response.body() != null) {
+                        Log.d("DifficultyActivity", "Late new-game response, keeping game " + response.body().getGameId() + " for later");
+                        pool.offer(difficulty, response.body(), requestUserId);
+                    }
+                    return;
+                }
+                mainHandler.removeCallbacks(playOffline);
                 if (response.isSuccessful() && response.body() != null) {
+                    showLoading(false); // Hide loading indicator
                     PuzzleResponse puzzle = response.body();
                     Log.d("DifficultyActivity", "Puzzle fetched: ID=" + puzzle.getId() + ", GameID=" + puzzle.getGameId() + ", Board=" + puzzle.getBoardString());
                     startGame(puzzle);
                 } else {
                     // Handle API error (e.g., no puzzles available, server error)
                     Log.e("DifficultyActivity", "API Error: " + response.code() + " - " + response.message());
-                    Toast.makeText(DifficultyActivity.this, "Error fetching puzzle: " + response.message(), Toast.LENGTH_LONG).show();
                     if (response.code() == 401) { // Unauthorized
+                        showLoading(false);
+                        Toast.makeText(DifficultyActivity.this, "Error fetching puzzle: " + response.message(), Toast.LENGTH_LONG).show();
                         handleUnauthorizedError();
+                    } else {
+                        startLocalGame();
                     }
                 }
             }
 
             @Override
             public void onFailure(Call<PuzzleResponse> call, Throwable t) {
-                showLoading(false); // Hide loading indicator
+                if (gameStarted || isDestroyed()) return;
+                mainHandler.removeCallbacks(playOffline);
                 // Handle network failure
                 Log.e("DifficultyActivity", "Network Error: " + t.getMessage(), t);
-                Toast.makeText(DifficultyActivity.this, "Network Error: " + t.getMessage(), Toast.LENGTH_LONG).show();
+                startLocalGame();
             }
         });
     }
 
+    // Runs on the generator thread
+    private PuzzleResponse generateLocalPuzzle(String difficulty) {
+        if (puzzleGenerator == null) puzzleGenerator = new PuzzleGenerator();
+        long start = System.nanoTime();
+        PuzzleGenerator.Puzzle generated = puzzleGenerator.generate(difficulty);
+        Log.d("DifficultyActivity", "Local puzzle generated in " + (System.nanoTime() - start) / 1_000_000 + " ms, graded " + generated.getDifficulty() + " (" + generated.getClues() + " clues)");
+
+        PuzzleResponse puzzle = new PuzzleResponse();
+        puzzle.setDifficulty(generated.getDifficulty()); // As graded, which can differ from the one asked for
+        puzzle.setBoardString(generated.getBoardString());
+        puzzle.setSolutionString(generated.getSolutionString());
+        puzzle.setGeneratedLocally(true);
+        return puzzle;
+    }
+
+    // Posted from the generator thread; null if generation failed
+    private void onLocalPuzzleReady(int attempt, PuzzleResponse puzzle) {
+        if (attempt != localAttempt) return;
+        localPuzzle = puzzle;
+        localPuzzleFailed = puzzle == null;
+        if (playOfflineWhenReady) startLocalGame();
+    }
+
+    /**
+     * Starts the locally generated puzzle as an offline game (not saved to the server), or
+     * starts it as soon as it is generated (normally done long before this point).
+     */
+    private void startLocalGame() {
+        if (gameStarted || isDestroyed()) return;
+        playOfflineWhenReady = true;
+        if (localPuzzle == null && !localPuzzleFailed) return; // onLocalPuzzleReady() calls back
+        showLoading(false);
+        if (localPuzzle != null) {
+            Toast.makeText(this, "Server unavailable. Playing an offline puzzle (not ranked).", Toast.LENGTH_LONG).show();
+            startGame(localPuzzle);
+        } else {
+            playOfflineWhenReady = false;
+            Toast.makeText(this, "Could not start a game. Please try again.", Toast.LENGTH_LONG).show();
+        }
+    }
+
     private void showLoading(boolean isLoading) {
         if (isLoading) {
             progressDialog.show();
@@ -99,13 +213,21 @@ public class DifficultyActivity extends AppCompatActivity {
 
 
     private void startGame(PuzzleResponse puzzle) {
+        gameStarted = true;
         Intent intent = new Intent(this, GameActivity.class);
         // Pass the entire PuzzleResponse object
-        intent.putExtra("PUZZLE_DATA", puzzle);
+        intent.putExtra(GameActivity.KEY_PUZZLE_DATA, puzzle);
         startActivity(intent);
         finish(); // Finish DifficultyActivity after starting GameActivity
     }
 
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        mainHandler.removeCallbacksAndMessages(null);
+        generatorExecutor.shutdownNow();
+    }
+
     private void handleUnauthorizedError() {
         SessionManager sessionManager = new SessionManager(this);
         sessionManager.clear(); // Clear token
@@ -3,11 +3,9 @@
 package com.example.sudoku;
 
 import androidx.activity.OnBackPressedCallback;
-import androidx.annotation.NonNull; // Added NonNull
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 
-import android.app.ProgressDialog;
 import android.content.Intent;
 import android.os.Bundle;
 import android.os.SystemClock;
@@ -20,29 +18,26 @@ import android.widget.ImageView;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import com.example.sudoku.core.Board;
 import com.example.sudoku.data.local.SessionManager;
 import com.example.sudoku.data.model.ChallengeCompleteRequest; // Import for challenge completion
-import com.example.sudoku.data.model.ChallengeResponse; // Import for challenge completion
 import com.example.sudoku.data.model.GameResponse;
 import com.example.sudoku.data.model.GameUpdateRequest;
 import com.example.sudoku.data.model.PuzzleResponse;
-import com.example.sudoku.data.model.UpdateResponse;
-import com.example.sudoku.data.network.ApiService;
-import com.example.sudoku.data.network.RetrofitClient;
+import com.example.sudoku.data.network.WriteBehindQueue;
+import com.example.sudoku.engine.HintEngine;
+import com.example.sudoku.engine.ScoreCalculator;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
 
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
-
 public class GameActivity extends AppCompatActivity {
 
     // --- Constants ---
     public static final String KEY_IS_CHALLENGE = "IS_CHALLENGE_GAME"; // Key to identify challenge mode
+    public static final String KEY_PUZZLE_DATA = "PUZZLE_DATA"; // PuzzleResponse of a new game or challenge game
 
     // --- Views ---
     private SudokuBoardView sudokuBoardView;
@@ -50,13 +45,13 @@ public class GameActivity extends AppCompatActivity {
     private ImageView pauseButton;
     private FrameLayout pauseOverlay;
     private Button resumeButton, restartButton, quitButton;
-    private TextView undoButton, eraseButton, hintButton;
+    private TextView undoButton, redoButton, eraseButton, hintButton;
     private Button submitButton;
     private Button solveButtonDebug; // Debug button
 
     // --- State & Data ---
-    private ApiService apiService;
-    private ProgressDialog progressDialog; // Added for API calls
+    private WriteBehindQueue writeBehindQueue; // Saves game results in the background
+    private GameAutosaver autosaver; // Periodic progress saves (standard online games only)
     private SessionManager sessionManager; // Added for auth handling
 
     private String currentPuzzleId;    // ID of the puzzle being played
@@ -70,17 +65,19 @@ public class GameActivity extends AppCompatActivity {
     private boolean isPaused = false;
     private long timeWhenStopped = 0;
     private boolean isChallengeGame = false; // Flag for challenge mode
+    private boolean isOfflineGame = false; // Puzzle generated on-device, no server game record
     private int hintsUsed = 0;
     private static final int MAX_HINTS = 3;
+    private final HintEngine hintEngine = new HintEngine(); // Reused for every hint
+    private final int[] hintCells = new int[81];
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_game);
 
-        apiService = RetrofitClient.getApiService(this);
+        writeBehindQueue = WriteBehindQueue.getInstance(this);
         sessionManager = new SessionManager(this); // Initialize SessionManager
-        initProgressDialog(); // Initialize ProgressDialog
 
         // Find Views
         findViews(); // Encapsulated finding views
@@ -101,6 +98,7 @@ public class GameActivity extends AppCompatActivity {
         setupPauseMenu();
         setupOnBackPressed();
         setupDebugButton(); // Setup the debug solve button
+        setupAutosave();
 
         // Start Timer
         // Set base correctly whether resuming (initialDurationSeconds > 0) or starting new (initialDurationSeconds == 0)
@@ -108,14 +106,17 @@ public class GameActivity extends AppCompatActivity {
         startTimer(); // Start the timer explicitly
     }
 
-    // --- Initialization Methods ---
-
-    private void initProgressDialog() {
-        progressDialog = new ProgressDialog(this);
-        progressDialog.setMessage("Submitting...");
-        progressDialog.setCancelable(false);
+    @Override
+    protected void onStop() {
+        super.onStop();
+        // Leaving the screen without quitting (home button, call, ...): save progress right away
+        if (autosaver != null && !isFinishing()) {
+            autosaver.flush();
+        }
     }
 
+    // --- Initialization Methods ---
+
     private void findViews() {
         sudokuBoardView = findViewById(R.id.sudoku_board_view);
         timerChronometer = findViewById(R.id.timer_chronometer);
@@ -125,6 +126,7 @@ public class GameActivity extends AppCompatActivity {
         restartButton = findViewById(R.id.restart_button);
         quitButton = findViewById(R.id.quit_button);
         undoButton = findViewById(R.id.undo_button);
+        redoButton = findViewById(R.id.redo_button);
         eraseButton = findViewById(R.id.erase_button);
         hintButton = findViewById(R.id.hint_button);
         submitButton = findViewById(R.id.submit_button);
@@ -155,6 +157,7 @@ public class GameActivity extends AppCompatActivity {
                 initialCurrentState = existingGame.getCurrentState(); // Use get() not field
                 currentSolutionString = existingGame.getPuzzle().getSolutionString();
                 initialErrorsMade = existingGame.getErrorsMade(); // *** Store initial errors ***
+                hintsUsed = existingGame.getHintsUsed();
 
                 Log.d("GameActivity", "Resuming Game: GameID=" + currentGameId + ", PuzzleID=" + currentPuzzleId + ", Initial Duration=" + initialDurationSeconds + ", Initial Errors=" + initialErrorsMade);
 
@@ -163,9 +166,13 @@ public class GameActivity extends AppCompatActivity {
                     // Load state if it exists and is different from initial board
                     if (initialCurrentState != null && !initialCurrentState.isEmpty() && !initialCurrentState.equals(existingGame.getPuzzle().getBoardString())) {
                         sudokuBoardView.loadCurrentState(initialCurrentState);
+                        // Undo history saved with the state (validated against it by the board)
+                        sudokuBoardView.restoreJournal(existingGame.getMoveJournal());
                     }
                     // *** Restore the error count ***
-                    sudokuBoardView.setErrorCount(initialErrorsMade);
+                    sudokuBoardView.getBoard().setErrorCount(initialErrorsMade);
+                    // Base for delta updates: only the cells changed from here on are uploaded
+                    writeBehindQueue.rememberServerState(currentGameId, existingGame.getStateVersion(), initialCurrentState, existingGame.getMoveJournal());
                     return true;
                 } else {
                     Log.e("GameActivity", "Board string missing in existing game data.");
@@ -177,8 +184,8 @@ public class GameActivity extends AppCompatActivity {
             }
         }
         // --- Starting a new game OR a challenge game ---
-        else if (intent.hasExtra("PUZ ZLE_DATA")) {
-            PuzzleResponse puzzleData = (PuzzleResponse) intent.getSerializableExtra("PUZZLE_DATA");
+        else if (intent.hasExtra(KEY_PUZZLE_DATA)) {
+            PuzzleResponse puzzleData = (PuzzleResponse) intent.getSerializableExtra(KEY_PUZZLE_DATA);
             if (puzzleData != null) {
                 currentPuzzleId = puzzleData.getId();
                 currentGameId = puzzleData.getGameId(); // This will be Game ID (new game) OR Challenge ID (challenge)
@@ -187,6 +194,8 @@ public class GameActivity extends AppCompatActivity {
                 initialCurrentState = null; // No saved state
                 currentSolutionString = puzzleData.getSolutionString();
                 initialErrorsMade = 0; // New game starts with 0 errors
+                isOfflineGame = puzzleData.isGeneratedLocally();
+                hintsUsed = 0;
 
                 if (isChallengeGame) {
                     Log.d("GameActivity", "Starting Challenge Game: ChallengeID=" + currentGameId + ", PuzzleID=" + currentPuzzleId + ", Solution Provided: " + (currentSolutionString != null));
@@ -198,7 +207,7 @@ public class GameActivity extends AppCompatActivity {
                 if (puzzleData.getBoardString() != null) {
                     sudokuBoardView.setBoard(puzzleData.getBoardString(), currentSolutionString);
                     // Set initial error count for new game
-                    sudokuBoardView.setErrorCount(initialErrorsMade);
+                    sudokuBoardView.getBoard().setErrorCount(initialErrorsMade);
                     return true;
                 } else {
                     Log.e("GameActivity", "Board string missing in new puzzle data.");
@@ -241,14 +250,25 @@ public class GameActivity extends AppCompatActivity {
 
 
     private void setupControlButtons() {
-        if (undoButton != null) {
-            undoButton.setOnClickListener(v -> Toast.makeText(this, "Undo (Not Implemented)", Toast.LENGTH_SHORT).show());
+        if (undoButton != null && sudokuBoardView != null) {
+            undoButton.setOnClickListener(v -> {
+                if (!sudokuBoardView.undo()) {
+                    Toast.makeText(this, "Nothing to undo.", Toast.LENGTH_SHORT).show();
+                }
+            });
+        }
+        if (redoButton != null && sudokuBoardView != null) {
+            redoButton.setOnClickListener(v -> {
+                if (!sudokuBoardView.redo()) {
+                    Toast.makeText(this, "Nothing to redo.", Toast.LENGTH_SHORT).show();
+                }
+            });
         }
         if (eraseButton != null && sudokuBoardView != null) {
             eraseButton.setOnClickListener(v -> sudokuBoardView.eraseNumber());
         }
         if (hintButton != null) {
-            hintButton.setOnClickListener(v -> Toast.makeText(this, "Hint (Not Implemented)", Toast.LENGTH_SHORT).show());
+            hintButton.setOnClickListener(v -> showHint());
         }
 
         if (submitButton != null) {
@@ -259,7 +279,7 @@ public class GameActivity extends AppCompatActivity {
         if (solveButtonDebug != null) {
             solveButtonDebug.setOnClickListener(v -> {
                 if (sudokuBoardView != null) {
-                    if (sudokuBoardView.hasSolution()) {
+                    if (sudokuBoardView.getBoard().hasSolution()) {
                         sudokuBoardView.fillWithSolution();
                         stopTimer(); // Stop timer after solving for debug
                         Toast.makeText(this, "Board solved (DEBUG)", Toast.LENGTH_SHORT).show();
@@ -271,13 +291,21 @@ public class GameActivity extends AppCompatActivity {
         }
     }
 
+    private void setupAutosave() {
+        // Challenges and offline games have no server game record to update
+        if (isChallengeGame || isOfflineGame || currentGameId == null || currentGameId.isEmpty()) return;
+        autosaver = new GameAutosaver(this, () -> buildUpdateRequest(false, 0));
+        autosaver.markSaved(); // The loaded state is what the backend already has
+        sudokuBoardView.setOnBoardChangeListener(autosaver::onBoardChanged);
+    }
+
     private void setupDebugButton() {
         // This method correctly uses solveButtonDebug and is called from onCreate
         if (solveButtonDebug != null && sudokuBoardView != null) {
             solveButtonDebug.setOnClickListener(v -> {
                 Log.d("GameActivity", "Debug Solve button clicked.");
                 // Use the hasSolution check before attempting to fill
-                if (sudokuBoardView.hasSolution()) {
+                if (sudokuBoardView.getBoard().hasSolution()) {
                     sudokuBoardView.fillWithSolution();
                     stopTimer(); // Stop timer after solving for debug
                     Toast.makeText(this, "Board filled with solution!", Toast.LENGTH_SHORT).show();
@@ -317,6 +345,29 @@ public class GameActivity extends AppCompatActivity {
 
     // --- Confirmation Dialogs ---
 
+    /**
+     * Finds the next logical move with the HintEngine, places it and explains the technique.
+     * Wrong user numbers are ignored when looking for a hint. Limited to MAX_HINTS per game
+     * (restarting doesn't give hints back).
+     */
+    private void showHint() {
+        if (sudokuBoardView == null || isPaused) return;
+        if (hintsUsed >= MAX_HINTS) {
+            Toast.makeText(this, "No hints left for this game.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+        sudokuBoardView.getBoard().copyCells(hintCells, true);
+        HintEngine.Hint hint = hintEngine.findHint(hintCells);
+        if (hint == null || !sudokuBoardView.applyHint(hint)) {
+            Log.d("GameActivity", "No logical hint found for the current board.");
+            Toast.makeText(this, "No hint available for this position.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+        hintsUsed++;
+        int hintsLeft = MAX_HINTS - hintsUsed;
+        Toast.makeText(this, hint.getDescription() + " Hints left: " + hintsLeft, Toast.LENGTH_LONG).show();
+    }
+
     private void showRestartConfirmation() {
         if (isChallengeGame) {
             Toast.makeText(this, "Cannot restart a challenge game.", Toast.LENGTH_SHORT).show();
@@ -329,14 +380,14 @@ public class GameActivity extends AppCompatActivity {
                 .setPositiveButton("Restart", (dialog, which) -> {
                     // Fetch the original board and solution strings
                     String initialBoard = null;
-                    String solution = sudokuBoardView.getSolutionStringInternal(); // Use internal getter
+                    String solution = sudokuBoardView.getBoard().getSolutionString(); // Solution currently on the board
                     // Need to get the original board string from somewhere reliable
                     // Re-loading from intent might be complex, let's assume we can get it from puzzleData if needed
                     // For simplicity, let's just use the currentPuzzleData if available
 
                     Intent intent = getIntent();
-                    if (intent != null && intent.hasExtra("PUZZLE_DATA")) { // Prioritize original puzzle data if available (e.g., from new game start)
-                        PuzzleResponse puzzleData = (PuzzleResponse) intent.getSerializableExtra("PUZZLE_DATA");
+                    if (intent != null && intent.hasExtra(KEY_PUZZLE_DATA)) { // Prioritize original puzzle data if available (e.g., from new game start)
+                        PuzzleResponse puzzleData = (PuzzleResponse) intent.getSerializableExtra(KEY_PUZZLE_DATA);
                         initialBoard = puzzleData != null ? puzzleData.getBoardString() : null;
                         // If started from puzzle data, solution should be reliable here
                         solution = puzzleData != null ? puzzleData.getSolutionString() : solution;
@@ -354,6 +405,7 @@ public class GameActivity extends AppCompatActivity {
                         timerChronometer.stop(); // Stop before setting base
                         timerChronometer.setBase(SystemClock.elapsedRealtime()); // Reset base to now
                         startTimer(); // Restart timer
+                        if (autosaver != null) autosaver.onBoardChanged(); // Save the cleared board
                         togglePauseMenu(false); // Close pause menu
                         Toast.makeText(this, "Game Restarted", Toast.LENGTH_SHORT).show();
                     } else {
@@ -464,9 +516,9 @@ public class GameActivity extends AppCompatActivity {
             return;
         }
 
-        boolean isSolvedOrFull = sudokuBoardView.isSolvedCorrectly();
+        boolean isSolvedOrFull = sudokuBoardView.getBoard().isSolvedCorrectly();
         // *** Get the CURRENT error count from the view ***
-        int errors = sudokuBoardView.getErrorCount();
+        int errors = sudokuBoardView.getBoard().getErrorCount();
         int timeSeconds = getElapsedTimeSeconds();
 
         if (isSolvedOrFull) {
@@ -481,7 +533,7 @@ public class GameActivity extends AppCompatActivity {
                 callUpdateGameApi(true, finalScore);
             }
         } else {
-            String message = sudokuBoardView.hasSolution()
+            String message = sudokuBoardView.getBoard().hasSolution()
                     ? "Puzzle is not solved correctly or is incomplete. Keep trying!"
                     : "Puzzle is not complete. Keep trying!";
             Toast.makeText(this, message, Toast.LENGTH_LONG).show();
@@ -491,21 +543,13 @@ public class GameActivity extends AppCompatActivity {
 
 
     private int calculateScore(int timeSeconds, int errors, String difficulty) {
-        int baseScore;
-        String lowerCaseDifficulty = (difficulty != null) ? difficulty.toLowerCase() : "unknown";
-        switch (lowerCaseDifficulty) {
-            case "easy": baseScore = 1500; break;
-            case "medium": baseScore = 2500; break;
-            case "hard": baseScore = 4000; break;
-            default: baseScore = 2000; break;
-        }
-        int timePenalty = Math.max(0, (timeSeconds - 30) * 2);
-        int errorPenalty = errors * 100;
+        int baseScore = ScoreCalculator.baseScore(difficulty);
+        int timePenalty = ScoreCalculator.timePenalty(timeSeconds);
+        int errorPenalty = ScoreCalculator.errorPenalty(errors);
 
         Log.d("CalculateScore", "Base: " + baseScore + ", Time: " + timeSeconds + "s -> Penalty: " + timePenalty + ", Errors: " + errors + " -> Penalty: " + errorPenalty);
 
-        int finalScore = baseScore - timePenalty - errorPenalty;
-        return Math.max(50, finalScore);
+        return ScoreCalculator.calculateScore(timeSeconds, errors, difficulty);
     }
 
     // --- API Calls ---
@@ -515,6 +559,10 @@ public class GameActivity extends AppCompatActivity {
      * Called on successful submission or when quitting a standard game.
      */
     private void callUpdateGameApi(boolean completed, int score) {
+        if (isOfflineGame) {
+            handleOfflineGameEnd(completed, score);
+            return;
+        }
         if (currentGameId == null || currentGameId.isEmpty() || isChallengeGame) {
             Log.e("GameActivity", "Cannot update standard game: Game ID/Challenge ID is missing or this is a challenge.");
             handleMissingGameId(completed);
@@ -532,50 +580,18 @@ public class GameActivity extends AppCompatActivity {
 
         final int finalScore = score;
         int timeSeconds = getElapsedTimeSeconds();
-        // *** Get the CURRENT error count from the view for saving ***
-        int errors = sudokuBoardView.getErrorCount();
-        String completedTimestamp = completed ? getTimestamp() : null;
-        String currentBoardState = sudokuBoardView.getBoardString();
-
-        GameUpdateRequest updateRequest = new GameUpdateRequest();
-        updateRequest.setId(currentGameId);
-        updateRequest.setDifficulty(currentDifficulty);
-        updateRequest.setWasCompleted(completed);
-        updateRequest.setDurationSeconds(timeSeconds);
-        updateRequest.setErrorsMade(errors); // Send current error count
-        updateRequest.setHintsUsed(0);
-        updateRequest.setFinalScore(finalScore);
-        updateRequest.setCompletedAt(completedTimestamp);
-        updateRequest.setCurrentState(currentBoardState);
+        GameUpdateRequest updateRequest = buildUpdateRequest(completed, finalScore);
+        String currentBoardState = updateRequest.getCurrentState();
 
-        Log.d("GameActivity", "Updating Standard Game - ID: " + currentGameId + ", Completed: " + completed + ", Score: " + finalScore + ", Time: " + timeSeconds + ", Errors: " + errors + ", State: " + currentBoardState.substring(0, Math.min(20, currentBoardState.length())) + "...");
+        Log.d("GameActivity", "Updating Standard Game - ID: " + currentGameId + ", Completed: " + completed + ", Score: " + finalScore + ", Time: " + timeSeconds + ", Errors: " + updateRequest.getErrorsMade() + ", State: " + currentBoardState.substring(0, Math.min(20, currentBoardState.length())) + "...");
 
-        if (apiService == null) {
-            Log.e("GameActivity", "ApiService is null, cannot update game.");
-            handleApiErrorCondition(completed);
-            return;
-        }
-
-        showLoading(true, completed ? "Saving Result..." : "Saving Progress...");
-
-        apiService.updateGame(updateRequest).enqueue(new Callback<UpdateResponse>() {
-            @Override
-            public void onResponse(@NonNull Call<UpdateResponse> call, @NonNull Response<UpdateResponse> response) {
-                showLoading(false,"Game update successful.");
-                if (response.isSuccessful() && response.body() != null && "success".equals(response.body().getStatus())) {
-                    handleSuccessfulUpdate(completed, finalScore, timeSeconds);
-                } else {
-                    handleFailedUpdate(response, completed);
-                }
-            }
-            @Override
-            public void onFailure(@NonNull Call<UpdateResponse> call, @NonNull Throwable t) {
-                showLoading(false,"Network Error updating game.");
-                handleNetworkFailure(t, completed);
-            }
-        });
+        // Persist locally and let the queue deliver it; never wait for the network here
+        if (autosaver != null) autosaver.stop(); // This update supersedes any autosave
+        writeBehindQueue.enqueueGameUpdate(updateRequest);
 
-        if (!completed) { // Only finish immediately if quitting
+        if (completed) {
+            navigateToResults(finalScore, timeSeconds);
+        } else {
             Intent homeIntent = new Intent(GameActivity.this, HomeActivity.class);
             homeIntent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP | Intent.FLAG_ACTIVITY_NEW_TASK);
             startActivity(homeIntent);
@@ -583,6 +599,25 @@ public class GameActivity extends AppCompatActivity {
         }
     }
 
+    /**
+     * Snapshot of the current standard game as an update request (also used for autosaves).
+     */
+    private GameUpdateRequest buildUpdateRequest(boolean completed, int finalScore) {
+        Board board = sudokuBoardView.getBoard();
+        GameUpdateRequest updateRequest = new GameUpdateRequest();
+        updateRequest.setId(currentGameId);
+        updateRequest.setDifficulty(currentDifficulty);
+        updateRequest.setWasCompleted(completed);
+        updateRequest.setDurationSeconds(getElapsedTimeSeconds());
+        updateRequest.setErrorsMade(board.getErrorCount()); // Send current error count
+        updateRequest.setHintsUsed(hintsUsed);
+        updateRequest.setFinalScore(finalScore);
+        updateRequest.setCompletedAt(completed ? getTimestamp() : null);
+        updateRequest.setCurrentState(board.toBoardString());
+        updateRequest.setMoveJournal(board.getJournalString());
+        return updateRequest;
+    }
+
     /**
      * Calls the backend API to complete a challenge.
      */
@@ -593,44 +628,35 @@ public class GameActivity extends AppCompatActivity {
             startTimer();
             return;
         }
-        if (apiService == null) {
-            Log.e("GameActivity", "ApiService is null, cannot complete challenge.");
-            Toast.makeText(this, "Error submitting challenge result (Network unavailable).", Toast.LENGTH_LONG).show();
-            startTimer();
-            return;
-        }
-
-        showLoading(true, "Submitting Challenge...");
         ChallengeCompleteRequest request = new ChallengeCompleteRequest(opponentTimeSeconds);
         Log.d("GameActivity", "Completing Challenge - ID: " + currentGameId + ", Opponent Time: " + opponentTimeSeconds + "s");
 
-        apiService.completeChallenge(currentGameId, request).enqueue(new Callback<ChallengeResponse>() {
-            @Override
-            public void onResponse(@NonNull Call<ChallengeResponse> call, @NonNull Response<ChallengeResponse> response) {
-                showLoading(false,"Challenge completion successful.");
-                if (response.isSuccessful() && response.body() != null) {
-                    ChallengeResponse challengeResult = response.body();
-                    Log.d("GameActivity", "Challenge completion successful. Status: " + challengeResult.getStatus() + ", WinnerID: " + challengeResult.getWinnerId());
-                    int errorsMade = sudokuBoardView != null ? sudokuBoardView.getErrorCount() : 0;
-                    int fakeScore = calculateScore(opponentTimeSeconds, errorsMade, currentDifficulty);
-                    navigateToResults(fakeScore, opponentTimeSeconds);
-                } else {
-                    handleFailedChallengeCompletion(response);
-                }
-            }
-            @Override
-            public void onFailure(@NonNull Call<ChallengeResponse> call, @NonNull Throwable t) {
-                showLoading(false,"Network Error submitting challenge.");
-                handleNetworkFailureChallenge(t);
-            }
-        });
+        // Queued like game updates; the result screen doesn't need the server's answer
+        writeBehindQueue.enqueueChallengeCompletion(currentGameId, request);
+        int errorsMade = sudokuBoardView != null ? sudokuBoardView.getBoard().getErrorCount() : 0;
+        int score = calculateScore(opponentTimeSeconds, errorsMade, currentDifficulty);
+        navigateToResults(score, opponentTimeSeconds);
     }
 
 
     // --- API Response Handling Helpers ---
-    // (Keep existing handlers: handleMissingGameId, handleSuccessfulUpdate,
-    //  handleFailedUpdate, handleFailedChallengeCompletion, handleNetworkFailure,
-    //  handleNetworkFailureChallenge, handleApiErrorCondition, parseApiErrorMessage)
+    // (Delivery errors are handled by WriteBehindQueue; these cover the local cases:
+    //  handleOfflineGameEnd, handleMissingGameId, handleApiErrorCondition)
+    /**
+     * Offline games have nothing to save on the server: show the result or just go home.
+     */
+    private void handleOfflineGameEnd(boolean completed, int finalScore) {
+        Log.d("GameActivity", "Offline game " + (completed ? "completed" : "quit") + ", not saved to the server.");
+        if (completed) {
+            navigateToResults(finalScore, getElapsedTimeSeconds());
+        } else {
+            Intent homeIntent = new Intent(GameActivity.this, HomeActivity.class);
+            homeIntent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP | Intent.FLAG_ACTIVITY_NEW_TASK);
+            startActivity(homeIntent);
+            finish();
+        }
+    }
+
     private void handleMissingGameId(boolean completed) {
         // This is specific to standard games
         if (!completed) {
@@ -645,73 +671,6 @@ public class GameActivity extends AppCompatActivity {
         }
     }
 
-    private void handleSuccessfulUpdate(boolean completed, int finalScore, int timeSeconds) {
-        // This is specific to standard games
-        Log.d("GameActivity", "Standard game update successful via API.");
-        if (completed) {
-            navigateToResults(finalScore, timeSeconds);
-        } else {
-            Log.d("GameActivity", "Standard Game Quit & Save API call finished successfully. Activity should already be finishing.");
-            // finish() was called earlier for the quitting case
-        }
-    }
-
-    private void handleFailedUpdate(Response<?> response, boolean completed) {
-        // This is specific to standard games
-        String defaultError = completed ? "Error saving game result." : "Error saving game progress.";
-        String apiMsg = parseApiErrorMessage(response);
-        String errorMsg = defaultError + (apiMsg != null ? ": " + apiMsg : " Code: " + response.code());
-
-        Log.e("GameActivity", "API Error updating standard game: " + response.code() + " - " + response.message() + (apiMsg != null ? " | Body/Msg: " + apiMsg : ""));
-        Toast.makeText(GameActivity.this, errorMsg, Toast.LENGTH_LONG).show();
-
-        if (response.code() == 401) {
-            handleUnauthorizedError(); // Special handling for auth errors
-        } else if (completed) {
-            startTimer(); // If submitting standard game failed, resume timer
-        } else {
-            Log.w("GameActivity", "Failed to save standard game quit status to backend, but activity should be finishing anyway.");
-            // finish() was called earlier for the quitting case
-        }
-    }
-
-    private void handleFailedChallengeCompletion(Response<?> response) {
-        // Specific to challenge completion errors
-        String defaultError = "Error submitting challenge result.";
-        String apiMsg = parseApiErrorMessage(response);
-        String errorMsg = defaultError + (apiMsg != null ? ": " + apiMsg : " Code: " + response.code());
-
-        Log.e("GameActivity", "API Error completing challenge: " + response.code() + " - " + response.message() + (apiMsg != null ? " | Body/Msg: " + apiMsg : ""));
-        Toast.makeText(GameActivity.this, errorMsg, Toast.LENGTH_LONG).show();
-
-        if (response.code() == 401) {
-            handleUnauthorizedError();
-        } else {
-            startTimer(); // Resume timer if challenge submission failed
-        }
-    }
-
-
-    private void handleNetworkFailure(Throwable t, boolean completed) {
-        // Specific to standard game update network errors
-        Log.e("GameActivity", "Network Error updating standard game: " + t.getMessage(), t);
-        Toast.makeText(GameActivity.this, "Network Error: Could not save progress.", Toast.LENGTH_LONG).show();
-        if (completed) {
-            startTimer(); // If submitting standard game failed
-        } else {
-            Log.w("GameActivity", "Failed to save standard game quit status due to network error, but activity should be finishing anyway.");
-            // finish() was called earlier for the standard game quitting case
-        }
-    }
-
-    private void handleNetworkFailureChallenge(Throwable t) {
-        // Specific to challenge completion network errors
-        Log.e("GameActivity", "Network Error completing challenge: " + t.getMessage(), t);
-        Toast.makeText(GameActivity.this, "Network Error: Could not submit challenge result.", Toast.LENGTH_LONG).show();
-        startTimer(); // Resume timer if challenge submission failed
-    }
-
-
     private void handleApiErrorCondition(boolean completed) {
         // Generic handler if API call couldn't even be prepared (e.g., view is null)
         Toast.makeText(this, "Internal error preparing game update.", Toast.LENGTH_SHORT).show();
@@ -727,33 +686,6 @@ public class GameActivity extends AppCompatActivity {
         // If it was a quit attempt for a challenge, do nothing extra (quit confirmation handled it)
     }
 
-    private String parseApiErrorMessage(Response<?> response) {
-        // Helper to try and extract a meaningful message from error body
-        try {
-            if (response.errorBody() != null) {
-                // Important: Clone the error body before reading it
-                okhttp3.ResponseBody errorBody = response.errorBody();
-                String errorBodyStr = errorBody.string();
-                // Now you can work with errorBodyStr
-                if (errorBodyStr.contains("\"detail\":\"")) {
-                    String detail = errorBodyStr.split("\"detail\":\"")[1].split("\"")[0];
-                    return detail;
-                }
-                else if (errorBodyStr.contains("\"message\":\"")) {
-                    String msg = errorBodyStr.split("\"message\":\"")[1].split("\"")[0];
-                    return msg;
-                }
-                return errorBodyStr; // Return raw body if no known pattern found
-            }
-        } catch (Exception e) {
-            Log.e("GameActivity", "Error parsing error body", e);
-        }
-        // Fallback if error body is null or parsing failed
-        return response.message() != null ? response.message() : "Unknown error";
-    }
-
-
-
     // --- Navigation & Utility ---
 
     private void navigateToResults(int finalScore, int timeSeconds) {
@@ -776,35 +708,5 @@ public class GameActivity extends AppCompatActivity {
         sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
         return sdf.format(new Date());
     }
-
-    private void handleUnauthorizedError() {
-        if (sessionManager != null) {
-            sessionManager.clear(); // Clear token and user ID
-        }
-        RetrofitClient.clearInstance(); // Reset Retrofit client
-        Toast.makeText(this, "Session expired. Please log in again.", Toast.LENGTH_LONG).show();
-        Intent intent = new Intent(this, MainActivity.class);
-        intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
-        startActivity(intent);
-        finishAffinity(); // Finish this and all parent activities
-    }
-
-    private void showLoading(boolean show, String message) {
-        if (progressDialog == null) return;
-        try {
-            if (show) {
-                progressDialog.setMessage(message);
-                if (!progressDialog.isShowing()) {
-                    progressDialog.show();
-                }
-            } else {
-                if (progressDialog.isShowing()) {
-                    progressDialog.dismiss();
-                }
-            }
-        } catch (Exception e) {
-            Log.e("GameActivity", "Error showing/hiding progress dialog", e);
-        }
-    }
 }
 
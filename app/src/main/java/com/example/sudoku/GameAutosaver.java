@@ -0,0 +1,99 @@
+// Relative Path: app/src/main/java/com/example/sudoku/GameAutosaver.java
+package com.example.sudoku;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.example.sudoku.data.model.GameUpdateRequest;
+import com.example.sudoku.data.network.WriteBehindQueue;
+
+import java.util.function.Supplier;
+
+/**
+ * Autosaves an in-progress standard game while it is being played.
+ * Board changes are coalesced into at most one save per SAVE_INTERVAL_MS. A save goes to the
+ * WriteBehindQueue, which writes it to disk first (so a crash loses only a few seconds of
+ * play) and holds it up to PUSH_DELAY_MS before sending, replacing it with newer saves in the
+ * meantime. Saves whose board/errors/hints/undo history equal the last saved state are skipped.
+ * Main thread only.
+ */
+public class GameAutosaver {
+
+    private static final String TAG = "GameAutosaver";
+    static final long SAVE_INTERVAL_MS = 3_000;  // Local (queue file) writes at most this often
+    static final long PUSH_DELAY_MS = 30_000;    // Backend update_game calls at most this often
+
+    private final WriteBehindQueue queue;
+    private final Supplier<GameUpdateRequest> snapshot; // Builds a not-completed update of the current state
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable saveRunnable = () -> save(PUSH_DELAY_MS);
+
+    private String lastSavedSignature;
+    private long lastSaveAt; // SystemClock.elapsedRealtime() of the last local write
+    private boolean scheduled;
+    private boolean stopped;
+
+    public GameAutosaver(Context context, Supplier<GameUpdateRequest> snapshot) {
+        this.queue = WriteBehindQueue.getInstance(context);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Marks the current state as already saved (e.g. just loaded from the backend), so it
+     * isn't sent again until something changes.
+     */
+    public void markSaved() {
+        GameUpdateRequest request = snapshot.get();
+        lastSavedSignature = request != null ? signature(request) : null;
+    }
+
+    /** Call after every board change. Schedules a save unless one is already pending. */
+    public void onBoardChanged() {
+        if (stopped || scheduled) return;
+        long wait = Math.max(0, lastSaveAt + SAVE_INTERVAL_MS - SystemClock.elapsedRealtime());
+        scheduled = true;
+        handler.postDelayed(saveRunnable, wait);
+    }
+
+    /**
+     * Saves and sends now if anything changed (activity going to the background, where the
+     * process may be killed without further notice).
+     */
+    public void flush() {
+        if (stopped) return;
+        save(0);
+        queue.drainSoon(); // Also sends an earlier autosave still waiting for its push delay
+    }
+
+    /** Stops autosaving; the final quit/complete update is sent by the activity itself. */
+    public void stop() {
+        stopped = true;
+        scheduled = false;
+        handler.removeCallbacks(saveRunnable);
+    }
+
+    private void save(long sendDelayMs) {
+        handler.removeCallbacks(saveRunnable);
+        scheduled = false;
+        GameUpdateRequest request = snapshot.get();
+        if (request == null) return;
+
+        String signature = signature(request);
+        if (signature.equals(lastSavedSignature)) {
+            Log.d(TAG, "State unchanged since last save, skipping.");
+            return;
+        }
+        queue.enqueueGameUpdate(request, sendDelayMs);
+        lastSavedSignature = signature;
+        lastSaveAt = SystemClock.elapsedRealtime();
+        Log.d(TAG, "Autosaved game " + request.getGameId() + (sendDelayMs == 0 ? " (sending now)" : ""));
+    }
+
+    // Everything that matters for resuming; the play time alone is not worth a save
+    private static String signature(GameUpdateRequest request) {
+        return request.getCurrentState() + '|' + request.getErrorsMade() + '|' + request.getHintsUsed() + '|' + request.getMoveJournal();
+    }
+}
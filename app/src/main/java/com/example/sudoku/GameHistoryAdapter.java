@@ -32,7 +32,7 @@ public class GameHistoryAdapter extends RecyclerView.Adapter<GameHistoryAdapter.
 
     // Modified Constructor
     public GameHistoryAdapter(List<GameResponse> historyList, Context context, String currentUserId) {
-        this.historyList = (historyList != null) ? historyList : new ArrayList<>();
+        this.historyList = (historyList != null) ? new ArrayList<>(historyList) : new ArrayList<>();
         this.context = context;
         this.currentUserId = currentUserId; // Store current user ID
         if (currentUserId == null) {
@@ -171,11 +171,21 @@ public class GameHistoryAdapter extends RecyclerView.Adapter<GameHistoryAdapter.
 
     // Method to update the data in the adapter
     public void updateData(List<GameResponse> newHistoryList) {
-        this.historyList = (newHistoryList != null) ? newHistoryList : new ArrayList<>();
+        // Own copy: pages are appended to it, and the first page may be a cached list
+        this.historyList = (newHistoryList != null) ? new ArrayList<>(newHistoryList) : new ArrayList<>();
         Log.d("GameHistoryAdapter", "Updating adapter with " + this.historyList.size() + " items.");
         notifyDataSetChanged(); // Refresh the RecyclerView
     }
 
+    // Adds the next page of history below the current rows
+    public void appendData(List<GameResponse> page) {
+        if (page == null || page.isEmpty()) return;
+        int start = historyList.size();
+        historyList.addAll(page);
+        Log.d("GameHistoryAdapter", "Appended " + page.size() + " items (" + historyList.size() + " total).");
+        notifyItemRangeInserted(start, page.size()); // Only the new rows are bound
+    }
+
     // --- Helper Methods ---
 
     private String capitalize(String str) {
@@ -14,6 +14,7 @@ import android.widget.LinearLayout;
 import android.widget.RelativeLayout; // Import RelativeLayout
 import android.widget.TextView;
 import android.widget.Toast;
+import com.example.sudoku.data.local.PuzzlePrefetchPool;
 import com.example.sudoku.data.local.SessionManager;
 import com.example.sudoku.data.model.GameResponse; // Import GameResponse
 import com.example.sudoku.data.model.PuzzleResponse; // Import PuzzleResponse
@@ -21,6 +22,9 @@ import com.example.sudoku.data.model.UserData;
 import com.example.sudoku.data.model.UserResponse;
 import com.example.sudoku.data.network.ApiService;
 import com.example.sudoku.data.network.RetrofitClient;
+import com.example.sudoku.data.network.WriteBehindQueue;
+import com.example.sudoku.data.repository.CachedResource;
+import com.example.sudoku.data.repository.UserRepository;
 import com.example.sudoku.utils.ProfileColorUtil; // Ensure this exists
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import java.util.List;
@@ -104,6 +108,11 @@ public class HomeActivity extends AppCompatActivity {
         // Fetch in-progress game will be called after user profile fetch succeeds
 
         populateDailyQuests(); // Keep mock quests for now
+
+        // Start filling the new-game pool (after login or on app start with a saved session)
+        PuzzlePrefetchPool.getInstance(this).refillAll();
+        // Send any game results still queued from earlier sessions (e.g. played offline)
+        WriteBehindQueue.getInstance(this).drainSoon();
     }
 
     @Override
@@ -151,30 +160,35 @@ public class HomeActivity extends AppCompatActivity {
             return;
         }
 
-        apiService.getUser().enqueue(new Callback<UserResponse>() {
+        // Cached profile renders right away; a stale one is refreshed in the background
+        UserRepository.getInstance(this).get(new CachedResource.Listener<UserResponse>() {
+            private boolean gameChecked = false;
+
             @Override
-            public void onResponse(@NonNull Call<UserResponse> call, @NonNull Response<UserResponse> response) {
-                if (response.isSuccessful() && response.body() != null && response.body().getMessage() != null) {
-                    UserData userData = response.body().getMessage();
-                    updateUI(userData);
-                    // Now fetch the in-progress game AFTER successfully getting user data
+            public void onData(@NonNull UserResponse data, boolean fromCache) {
+                updateUI(data.getMessage());
+                // Now fetch the in-progress game AFTER getting user data (once, not again for the refresh)
+                if (!gameChecked) {
+                    gameChecked = true;
                     fetchInProgressGame();
-                } else {
-                    Log.e("HomeActivity", "Error fetching user profile: " + response.code() + " - " + response.message());
-                    if (response.code() == 401) { // Unauthorized
-                        handleUnauthorizedError();
-                    } else {
-                        Toast.makeText(HomeActivity.this, "Error loading profile: " + response.message(), Toast.LENGTH_SHORT).show();
-                        // Handle other errors, maybe show placeholders or retry
-                    }
                 }
             }
 
             @Override
-            public void onFailure(@NonNull Call<UserResponse> call, @NonNull Throwable t) {
-                Log.e("HomeActivity", "Network error fetching user profile: " + t.getMessage(), t);
-                // More robust handling: Check connectivity, redirect if needed
-                handleNetworkError(); // Call the specific network error handler
+            public void onError(Response<UserResponse> response, Throwable t) {
+                if (response == null) {
+                    Log.e("HomeActivity", "Network error fetching user profile: " + t.getMessage(), t);
+                    // More robust handling: Check connectivity, redirect if needed
+                    handleNetworkError(); // Call the specific network error handler
+                    return;
+                }
+                Log.e("HomeActivity", "Error fetching user profile: " + response.code() + " - " + response.message());
+                if (response.code() == 401) { // Unauthorized
+                    handleUnauthorizedError();
+                } else {
+                    Toast.makeText(HomeActivity.this, "Error loading profile: " + response.message(), Toast.LENGTH_SHORT).show();
+                    // Handle other errors, maybe show placeholders or retry
+                }
             }
         });
     }
@@ -22,8 +22,9 @@ import com.example.sudoku.data.model.LeaderboardEntryResponse;
 import com.example.sudoku.data.model.LeaderboardResponse;
 import com.example.sudoku.data.model.UserRankCategoryData;
 import com.example.sudoku.data.model.UserRankEntry;
-import com.example.sudoku.data.network.ApiService;
 import com.example.sudoku.data.network.RetrofitClient;
+import com.example.sudoku.data.repository.CachedResource;
+import com.example.sudoku.data.repository.LeaderboardRepository;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
 import java.util.ArrayList;
@@ -32,8 +33,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import retrofit2.Call;
-import retrofit2.Callback;
 import retrofit2.Response;
 
 public class LeaderboardActivity extends AppCompatActivity {
@@ -47,7 +46,6 @@ public class LeaderboardActivity extends AppCompatActivity {
     // Optional: Add TextView for displaying user's rank if needed
     private TextView userRankTextView;
 
-    private ApiService apiService;
     private SessionManager sessionManager;
     private FullLeaderboardData leaderboardDataCache = null; // Cache the full response
     private String currentDifficultyKey = "easy"; // Default difficulty
@@ -75,8 +73,7 @@ public class LeaderboardActivity extends AppCompatActivity {
         // Optional: Initialize userRankTextView
         userRankTextView = findViewById(R.id.user_rank_text);
 
-        // Initialize Network and Session
-        apiService = RetrofitClient.getApiService(this);
+        // Initialize Session
         sessionManager = new SessionManager(this);
 
         // Initialize Adapter
@@ -136,37 +133,32 @@ public class LeaderboardActivity extends AppCompatActivity {
 
 
     private void fetchLeaderboardData() {
-        if (apiService == null) {
-            Log.e("LeaderboardActivity", "ApiService is null.");
-            Toast.makeText(this, "Error initializing network service.", Toast.LENGTH_SHORT).show();
-            return;
-        }
-
-        apiService.getLeaderboard().enqueue(new Callback<LeaderboardResponse>() {
+        // Cached rankings are displayed immediately; stale ones are refreshed in the background
+        LeaderboardRepository.getInstance(this).get(new CachedResource.Listener<LeaderboardResponse>() {
             @Override
-            public void onResponse(@NonNull Call<LeaderboardResponse> call, @NonNull Response<LeaderboardResponse> response) {
-                if (response.isSuccessful() && response.body() != null && "success".equals(response.body().getStatus())) {
-                    leaderboardDataCache = response.body().getData(); // Store the full data
-
-                    if (leaderboardDataCache != null) {
-                        // Display the initial list (e.g., Daily Easy)
-                        updateDisplayedList(); // Use defaults (easy, daily)
-                        updateTimeSpanButtonStyles(dailyButton); // Set Daily as selected initially
-                        updateDifficultyButtonStyles(easyButton); // Set Easy as selected initially
-                        updateRankUI(); // Display initial user rank
-                    } else {
-                        Log.w("LeaderboardActivity", "Leaderboard data received but was null.");
-                        Toast.makeText(LeaderboardActivity.this, "No leaderboard data available.", Toast.LENGTH_SHORT).show();
-                        adapter.updateData(new ArrayList<>()); // Show empty list
-                        userRankTextView.setVisibility(View.GONE);
-                    }
+            public void onData(@NonNull LeaderboardResponse data, boolean fromCache) {
+                leaderboardDataCache = data.getData(); // Store the full data
+
+                if (leaderboardDataCache != null) {
+                    // Display the list for the selected tabs (daily/easy initially)
+                    updateDisplayedList();
+                    updateTimeSpanButtonStyles(getSelectedButton(currentTimespanKey, dailyButton, weeklyButton, allTimeButton));
+                    updateDifficultyButtonStyles(getSelectedButton(currentDifficultyKey, easyButton, mediumButton, hardButton));
+                    updateRankUI(); // Display user rank
                 } else {
-                    handleApiError(response);
+                    Log.w("LeaderboardActivity", "Leaderboard data received but was null.");
+                    Toast.makeText(LeaderboardActivity.this, "No leaderboard data available.", Toast.LENGTH_SHORT).show();
+                    adapter.updateData(new ArrayList<>()); // Show empty list
+                    userRankTextView.setVisibility(View.GONE);
                 }
             }
 
             @Override
-            public void onFailure(@NonNull Call<LeaderboardResponse> call, @NonNull Throwable t) {
+            public void onError(Response<LeaderboardResponse> response, Throwable t) {
+                if (response != null) {
+                    handleApiError(response);
+                    return;
+                }
                 Log.e("LeaderboardActivity", "Network error fetching leaderboard: " + t.getMessage(), t);
                 Toast.makeText(LeaderboardActivity.this, "Network error. Please check connection.", Toast.LENGTH_SHORT).show();
                 adapter.updateData(new ArrayList<>()); // Show empty list on network error
@@ -300,15 +292,8 @@ public class LeaderboardActivity extends AppCompatActivity {
         BottomNavigationView bottomNavigationView = findViewById(R.id.bottom_navigation);
         bottomNavigationView.setSelectedItemId(R.id.navigation_ranks);
 
-        if (leaderboardDataCache == null) {
-            fetchLeaderboardData();
-        } else {
-            // Refresh display and button states with cached data
-            updateDisplayedList();
-            updateTimeSpanButtonStyles(getSelectedButton(currentTimespanKey, dailyButton, weeklyButton, allTimeButton));
-            updateDifficultyButtonStyles(getSelectedButton(currentDifficultyKey, easyButton, mediumButton, hardButton));
-            updateRankUI(); // Also refresh rank display
-        }
+        // Shows the cached rankings right away and refreshes them if they're stale
+        fetchLeaderboardData();
     }
 
     // Helper to find the correct button based on the current key
@@ -27,6 +27,7 @@ import com.example.sudoku.data.local.SessionManager; // Import SessionManager
 import com.example.sudoku.data.model.AuthResponse;
 import com.example.sudoku.data.model.LoginRequest;
 import com.example.sudoku.data.network.ApiService;
+import com.example.sudoku.data.network.BackendWarmup;
 import com.example.sudoku.data.network.RetrofitClient;
 
 import retrofit2.Call;
@@ -163,7 +164,14 @@ public class LoginFragment extends Fragment {
 
         // Show loading state (e.g., disable button)
         loginButton.setEnabled(false);
-        loginButton.setText("Logging in...");
+        BackendWarmup warmup = BackendWarmup.getInstance();
+        // A cold backend takes a while to answer: say so instead of looking stuck
+        loginButton.setText(warmup.isReady() ? "Logging in..." : "Waking up server...");
+        if (!warmup.isReady()) {
+            warmup.awaitReady(90_000, ready -> {
+                if (isAdded() && !loginButton.isEnabled()) loginButton.setText("Logging in...");
+            });
+        }
 
         // Create API request
         ApiService apiService = RetrofitClient.getApiService(requireContext());
@@ -18,6 +18,7 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.example.sudoku.data.local.SessionManager; // Import SessionManager
+import com.example.sudoku.data.network.BackendWarmup;
 
 public class MainActivity extends AppCompatActivity {
 
@@ -46,6 +47,9 @@ public class MainActivity extends AppCompatActivity {
             }
         });
 
+        // Wake the (possibly sleeping) backend while the splash plays, before login needs it
+        BackendWarmup.getInstance().start();
+
         fragmentContainer.setVisibility(View.GONE);
         Animation fadeIn = AnimationUtils.loadAnimation(this, R.anim.fade_in);
         splashScreen.startAnimation(fadeIn);
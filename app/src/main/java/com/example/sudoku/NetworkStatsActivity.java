@@ -0,0 +1,67 @@
+// Relative Path: app/src/main/java/com/example/sudoku/NetworkStatsActivity.java
+package com.example.sudoku;
+
+import android.os.Bundle;
+import android.widget.Button;
+import android.widget.TextView;
+
+import androidx.appcompat.app.AppCompatActivity;
+
+import com.example.sudoku.data.network.BackendWarmup;
+import com.example.sudoku.data.network.EndpointStats;
+import com.example.sudoku.data.network.RetrofitClient;
+import com.example.sudoku.data.repository.ChallengeActionBatcher;
+import com.example.sudoku.data.repository.ChallengeRepository;
+
+import java.util.List;
+
+/**
+ * Debug screen with the per-endpoint network statistics collected since app start (latency
+ * histogram, bytes, status codes) plus backend readiness and the HTTP cache, retry/circuit
+ * breaker, challenge sync and action batching, and coalescing counters.
+ * Opened by long-pressing the Profile title.
+ */
+public class NetworkStatsActivity extends AppCompatActivity {
+
+    private TextView statsText;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_network_stats);
+
+        statsText = findViewById(R.id.network_stats_text);
+        Button refreshButton = findViewById(R.id.network_stats_refresh_button);
+        Button resetButton = findViewById(R.id.network_stats_reset_button);
+
+        refreshButton.setOnClickListener(v -> showStats());
+        resetButton.setOnClickListener(v -> {
+            RetrofitClient.resetEndpointStats();
+            showStats();
+        });
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        showStats();
+    }
+
+    private void showStats() {
+        StringBuilder text = new StringBuilder();
+        text.append(BackendWarmup.getInstance().summary()).append('\n');
+        text.append("HTTP cache: ").append(RetrofitClient.getCacheStats()).append('\n');
+        text.append("Retries: ").append(RetrofitClient.getRetryStats()).append('\n');
+        text.append("Challenge syncs: ").append(ChallengeRepository.getInstance(this).summary()).append('\n');
+        text.append("Challenge actions: ").append(ChallengeActionBatcher.getInstance(this).summary()).append('\n');
+        text.append("Coalesced requests: ").append(RetrofitClient.getCoalescedRequestCount()).append("\n\n");
+        List<EndpointStats> endpoints = RetrofitClient.getEndpointStats();
+        if (endpoints.isEmpty()) {
+            text.append("No requests yet.");
+        }
+        for (EndpointStats endpoint : endpoints) {
+            text.append(endpoint.summary()).append("\n\n");
+        }
+        statsText.setText(text.toString());
+    }
+}
@@ -23,8 +23,11 @@ import com.example.sudoku.data.local.SessionManager;
 import com.example.sudoku.data.model.GameResponse; // Use GameResponse for history
 import com.example.sudoku.data.model.UserData;
 import com.example.sudoku.data.model.UserResponse;
-import com.example.sudoku.data.network.ApiService;
 import com.example.sudoku.data.network.RetrofitClient;
+import com.example.sudoku.data.repository.CachedResource;
+import com.example.sudoku.data.repository.GameHistoryPager;
+import com.example.sudoku.data.repository.Repositories;
+import com.example.sudoku.data.repository.UserRepository;
 import com.example.sudoku.utils.ProfileColorUtil;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.google.android.material.tabs.TabLayout;
@@ -33,8 +36,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
-import retrofit2.Call;
-import retrofit2.Callback;
 import retrofit2.Response;
 
 public class ProfileActivity extends AppCompatActivity {
@@ -52,12 +53,11 @@ public class ProfileActivity extends AppCompatActivity {
 
     // --- Data & Adapters ---
     private GameHistoryAdapter gameHistoryAdapter;
-    private List<GameResponse> gameHistoryList = new ArrayList<>();
+    private GameHistoryPager gameHistoryPager; // Loads history a page at a time as the user scrolls
     private boolean historyLoaded = false;
     private String currentUserId = null; // Store user ID
 
     // --- Services ---
-    private ApiService apiService;
     private SessionManager sessionManager;
 
     @Override
@@ -66,7 +66,6 @@ public class ProfileActivity extends AppCompatActivity {
         setContentView(R.layout.activity_profile);
 
         // Initialize Services
-        apiService = RetrofitClient.getApiService(this);
         sessionManager = new SessionManager(this);
         currentUserId = sessionManager.fetchUserId(); // Fetch user ID
 
@@ -76,14 +75,27 @@ public class ProfileActivity extends AppCompatActivity {
         // Setup History RecyclerView
         historyRecyclerView.setLayoutManager(new LinearLayoutManager(this));
         // *** MODIFIED: Pass currentUserId to adapter ***
-        gameHistoryAdapter = new GameHistoryAdapter(gameHistoryList, this, currentUserId);
+        gameHistoryAdapter = new GameHistoryAdapter(new ArrayList<>(), this, currentUserId);
         historyRecyclerView.setAdapter(gameHistoryAdapter);
+        gameHistoryPager = new GameHistoryPager(this, historyPageListener);
+        // Next history page when the user scrolls the list near the bottom of the loaded rows
+        historyRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                loadMoreHistoryIfNeeded();
+            }
+        });
 
         // Setup Listeners
         setupTabLayoutListener();
         setupLogoutButton();
         setupBottomNavigation();
         setupAchievementIconClicks(); // Setup achievement clicks (remains mock)
+        // Hidden entry to the network stats debug screen
+        findViewById(R.id.profile_header_text).setOnLongClickListener(v -> {
+            startActivity(new Intent(this, NetworkStatsActivity.class));
+            return true;
+        });
 
         // Load Data
         fetchUserProfile(); // Load user profile data initially
@@ -124,11 +136,6 @@ public class ProfileActivity extends AppCompatActivity {
 
 
     private void fetchUserProfile() {
-        if (apiService == null) {
-            Log.e("ProfileActivity", "ApiService is null. Cannot fetch profile.");
-            // Consider showing an error state or attempting re-initialization
-            return;
-        }
         // Check if user ID is available
         if (currentUserId == null) {
             Log.e("ProfileActivity", "User ID is null. Cannot fetch profile. Redirecting to login.");
@@ -137,29 +144,24 @@ public class ProfileActivity extends AppCompatActivity {
         }
 
         Log.d("ProfileActivity", "Fetching user profile for ID: " + currentUserId);
-        apiService.getUser().enqueue(new Callback<UserResponse>() { // Assuming getUser() uses the token implicitly
+        // Cached profile is shown immediately, a stale one is refreshed in the background
+        UserRepository.getInstance(this).get(new CachedResource.Listener<UserResponse>() {
             @Override
-            public void onResponse(@NonNull Call<UserResponse> call, @NonNull Response<UserResponse> response) {
-                if (response.isSuccessful() && response.body() != null && "success".equals(response.body().getStatus())) {
-                    UserData user = response.body().getMessage();
-                    if (user != null) {
-                        Log.d("ProfileActivity", "User profile fetched successfully for: " + user.getUsername());
-                        populateUI(user);
-                    } else {
-                        Log.w("ProfileActivity", "User data in response message is null");
-                        Toast.makeText(ProfileActivity.this, "Could not load profile details.", Toast.LENGTH_SHORT).show();
-                    }
-                } else {
-                    Log.e("ProfileActivity", "Failed to fetch user profile: " + response.code() + " - " + response.message());
-                    handleApiError(response);
-                }
+            public void onData(@NonNull UserResponse data, boolean fromCache) {
+                UserData user = data.getMessage();
+                Log.d("ProfileActivity", "User profile " + (fromCache ? "from cache" : "fetched") + " for: " + user.getUsername());
+                populateUI(user);
             }
 
             @Override
-            public void onFailure(@NonNull Call<UserResponse> call, @NonNull Throwable t) {
-                Log.e("ProfileActivity", "Network error fetching profile: " + t.getMessage(), t);
-                Toast.makeText(ProfileActivity.this, "Network error. Please check connection.", Toast.LENGTH_SHORT).show();
-                // Consider showing cached data or an error state
+            public void onError(Response<UserResponse> response, Throwable t) {
+                if (response != null) {
+                    Log.e("ProfileActivity", "Failed to fetch user profile: " + response.code() + " - " + response.message());
+                    handleApiError(response);
+                } else {
+                    Log.e("ProfileActivity", "Network error fetching profile: " + t.getMessage(), t);
+                    Toast.makeText(ProfileActivity.this, "Network error. Please check connection.", Toast.LENGTH_SHORT).show();
+                }
             }
         });
     }
@@ -170,42 +172,52 @@ public class ProfileActivity extends AppCompatActivity {
             // Optionally add a refresh mechanism if needed later
             return;
         }
-        if (apiService == null || currentUserId == null) {
-            Log.e("ProfileActivity", "ApiService or UserID null. Cannot fetch history.");
+        if (currentUserId == null) {
+            Log.e("ProfileActivity", "UserID null. Cannot fetch history.");
             return; // Don't proceed if prerequisites missing
         }
 
         Log.d("ProfileActivity", "Fetching game history...");
-        apiService.getGameHistory().enqueue(new Callback<List<GameResponse>>() {
-            @Override
-            public void onResponse(@NonNull Call<List<GameResponse>> call, @NonNull Response<List<GameResponse>> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    gameHistoryList = response.body();
-                    Log.d("ProfileActivity", "Game history fetched successfully. Count: " + gameHistoryList.size());
-                    // Update adapter on UI thread
-                    runOnUiThread(() -> {
-                        if(gameHistoryAdapter != null) {
-                            gameHistoryAdapter.updateData(gameHistoryList);
-                            Log.d("ProfileActivity", "Adapter updated with history data.");
-                        } else {
-                            Log.e("ProfileActivity", "gameHistoryAdapter is null when trying to update data.");
-                        }
-                    });
-                    historyLoaded = true;
-                } else {
-                    Log.e("ProfileActivity", "Failed to fetch game history: " + response.code() + " - " + response.message());
-                    handleApiError(response); // Use generic handler
-                    runOnUiThread(() -> { if (gameHistoryAdapter != null) gameHistoryAdapter.updateData(new ArrayList<>()); }); // Clear list on error
-                }
-            }
+        gameHistoryPager.refresh(false); // Cached first page right away, later pages on scroll
+    }
 
-            @Override
-            public void onFailure(@NonNull Call<List<GameResponse>> call, @NonNull Throwable t) {
-                Log.e("ProfileActivity", "Network error fetching game history: " + t.getMessage(), t);
+    private final GameHistoryPager.Listener historyPageListener = new GameHistoryPager.Listener() {
+        @Override
+        public void onFirstPage(@NonNull List<GameResponse> games, boolean hasMore) {
+            Log.d("ProfileActivity", "Game history first page. Count: " + games.size() + ", more: " + hasMore);
+            gameHistoryAdapter.updateData(games);
+            historyLoaded = true;
+            historyRecyclerView.post(ProfileActivity.this::loadMoreHistoryIfNeeded); // Page may not fill the screen
+        }
+
+        @Override
+        public void onNextPage(@NonNull List<GameResponse> games, boolean hasMore) {
+            gameHistoryAdapter.appendData(games);
+            historyRecyclerView.post(ProfileActivity.this::loadMoreHistoryIfNeeded);
+        }
+
+        @Override
+        public void onError(boolean firstPage, Response<?> response, Throwable t) {
+            if (response != null) {
+                Log.e("ProfileActivity", "Failed to fetch game history: " + response.code() + " - " + response.message());
+                handleApiError(response); // Use generic handler
+            } else {
+                Log.e("ProfileActivity", "Network error fetching game history: " + (t != null ? t.getMessage() : ""), t);
                 Toast.makeText(ProfileActivity.this, "Network error fetching history.", Toast.LENGTH_SHORT).show();
-                runOnUiThread(() -> { if (gameHistoryAdapter != null) gameHistoryAdapter.updateData(new ArrayList<>()); }); // Clear list on error
             }
-        });
+            if (firstPage) gameHistoryAdapter.updateData(new ArrayList<>()); // Clear list on error
+        }
+    };
+
+    // Asks for the next page once fewer than half a page of loaded rows are left below the visible ones
+    private void loadMoreHistoryIfNeeded() {
+        if (historyLayout.getVisibility() != View.VISIBLE || !gameHistoryPager.hasMore() || gameHistoryPager.isLoading()) return;
+        LinearLayoutManager layoutManager = (LinearLayoutManager) historyRecyclerView.getLayoutManager();
+        if (layoutManager == null) return;
+        int lastVisible = layoutManager.findLastVisibleItemPosition();
+        if (lastVisible >= gameHistoryAdapter.getItemCount() - GameHistoryPager.PAGE_SIZE / 2) {
+            gameHistoryPager.loadNextPage();
+        }
     }
 
 
@@ -313,6 +325,7 @@ public class ProfileActivity extends AppCompatActivity {
             Log.d("ProfileActivity", "Logout button clicked.");
             sessionManager.clear();
             RetrofitClient.clearInstance(); // Important to clear Retrofit instance with interceptor
+            Repositories.clearAll(ProfileActivity.this); // Cached profile, history, ranks and challenges
             Toast.makeText(ProfileActivity.this, "Logged out successfully", Toast.LENGTH_SHORT).show();
             Intent intent = new Intent(ProfileActivity.this, MainActivity.class);
             intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
@@ -358,6 +371,12 @@ public class ProfileActivity extends AppCompatActivity {
         });
     }
 
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (gameHistoryPager != null) gameHistoryPager.release();
+    }
+
     @Override
     protected void onResume() {
         super.onResume();
@@ -365,8 +384,8 @@ public class ProfileActivity extends AppCompatActivity {
         if (bottomNavigationView != null && bottomNavigationView.getSelectedItemId() != R.id.navigation_profile) {
             bottomNavigationView.setSelectedItemId(R.id.navigation_profile);
         }
-        // Optionally refresh profile data if it might change frequently
-        // fetchUserProfile();
+        // Cheap when the cached profile is fresh; refreshes it in the background otherwise
+        fetchUserProfile();
         // Refresh history only if the history tab is currently selected
         if (tabLayout != null && tabLayout.getSelectedTabPosition() == 2) {
             historyLoaded = false; // Allow refresh on resume if history tab is active
@@ -12,6 +12,8 @@ import android.view.View;
 import android.widget.Toast;
 import android.util.Log;
 
+import com.example.sudoku.core.Board;
+import com.example.sudoku.engine.HintEngine;
 
 public class SudokuBoardView extends View {
 
@@ -28,12 +30,14 @@ public class SudokuBoardView extends View {
     private int selectedRow = -1;
     private int selectedCol = -1;
 
-    private int[][] board = new int[9][9]; // Current state including user input
-    private boolean[][] isStartingCell = new boolean[9][9];
-    private String solutionString = null; // Store the solution for validation
+    private final Board board = new Board(); // Game state (values, starting cells, solution, errors)
     private final Rect textBounds = new Rect();
+    private OnBoardChangeListener boardChangeListener; // Notified after every applied move (autosave)
 
-    private int errorCount = 0; // Error counter
+    /** Called after the player changes the board (move, erase, hint, undo/redo). */
+    public interface OnBoardChangeListener {
+        void onBoardChanged();
+    }
 
 
     public SudokuBoardView(Context context, AttributeSet attrs) {
@@ -117,45 +121,14 @@ public class SudokuBoardView extends View {
 
     // Method to set the board from string, called when a new game starts OR restarts
     public void setBoard(String boardString, String solution) {
-        // Basic validation
-        if (boardString == null || boardString.length() != 81) {
+        if (!board.load(boardString, solution)) {
             Log.e("SudokuBoardView", "Invalid board string provided.");
-            // Reset board state
-            board = new int[9][9];
-            isStartingCell = new boolean[9][9];
-            solutionString = null;
-            errorCount = 0; // Reset error count
-            selectedRow = -1;
-            selectedCol = -1;
-            invalidate(); // Redraw with empty board
-            return;
-        }
-
-        // Validate solution string (can be null for challenges after modification)
-        if (solution != null && solution.length() != 81) {
+        } else if (solution != null && solution.length() != 81) {
             Log.w("SudokuBoardView", "Invalid solution string provided. Proceeding without solution validation.");
-            this.solutionString = null; // Treat invalid solution as null
         } else {
-            this.solutionString = solution;
-            Log.d("SudokuBoardView", "Board set. Solution is " + (this.solutionString != null ? "available." : "not available."));
-        }
-
-
-        int k = 0;
-        for (int i = 0; i < 9; i++) {
-            for (int j = 0; j < 9; j++) {
-                char c = boardString.charAt(k++);
-                if (c >= '1' && c <= '9') {
-                    board[i][j] = c - '0';
-                    isStartingCell[i][j] = true;
-                } else {
-                    board[i][j] = 0;
-                    isStartingCell[i][j] = false;
-                }
-            }
+            Log.d("SudokuBoardView", "Board set. Solution is " + (solution != null ? "available." : (board.hasSolution() ? "derived locally by solver." : "not available.")));
         }
-        // Reset state for a new/restarted board
-        errorCount = 0;
+        // Reset selection for a new/restarted board
         selectedRow = -1;
         selectedCol = -1;
         invalidate(); // Trigger redraw
@@ -164,47 +137,31 @@ public class SudokuBoardView extends View {
     /**
      * Loads a saved game state (current board) onto the view.
      * Assumes setBoard() was called previously with the initial puzzle.
+     * The error count is not changed here - it is restored externally via the Board.
      * @param stateString The 81-character string representing the saved state ('0' for empty).
      */
     public void loadCurrentState(String stateString) {
-        if (stateString == null || stateString.length() != 81) {
+        int recalculatedErrors = board.loadState(stateString);
+        if (recalculatedErrors < 0) {
             Log.e("SudokuBoardView", "Invalid current state string provided for loading.");
-            return; // Don't modify the board if state is invalid
-        }
-        // Solution should already be set via setBoard() before calling this
-
-        Log.d("SudokuBoardView", "Loading state: " + stateString);
-        int k = 0;
-        // *** DO NOT reset errorCount here - it will be set externally ***
-        // errorCount = 0;
-
-        // Recalculate errors purely based on loaded state (for logging/comparison if needed)
-        int recalculatedErrors = 0;
-
-        for (int i = 0; i < 9; i++) {
-            for (int j = 0; j < 9; j++) {
-                char c = stateString.charAt(k++);
-                if (!isStartingCell[i][j]) { // Only modify non-starting cells
-                    if (c >= '1' && c <= '9') {
-                        int num = c - '0';
-                        board[i][j] = num;
-                        // Recalculate errors based on loaded state if solution is available
-                        if (hasSolution()) {
-                            if (solutionString.charAt(i * 9 + j) - '0' != num) {
-                                recalculatedErrors++;
-                            }
-                        }
-                    } else {
-                        board[i][j] = 0; // Set empty if '0'
-                    }
-                }
-            }
+            return; // Board is unchanged if state is invalid
         }
         // Log the recalculated count, but don't overwrite the actual errorCount
         Log.d("SudokuBoardView", "State loaded. Recalculated error count based *only* on loaded state: " + recalculatedErrors);
         invalidate(); // Redraw with loaded state
     }
 
+    /**
+     * The board model rendered by this view. GameActivity reads game state from it directly.
+     */
+    public void setOnBoardChangeListener(OnBoardChangeListener listener) {
+        this.boardChangeListener = listener;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
 
     private void drawGrid(Canvas canvas) {
         float size = getWidth();
@@ -229,16 +186,17 @@ public class SudokuBoardView extends View {
 
         for (int row = 0; row < 9; row++) {
             for (int col = 0; col < 9; col++) {
-                if (board[row][col] != 0) {
-                    String text = String.valueOf(board[row][col]);
+                int value = board.getValue(row, col);
+                if (value != 0) {
+                    String text = String.valueOf(value);
                     Paint currentPaint;
 
                     // Determine which paint to use
-                    if (isStartingCell[row][col]) {
+                    if (board.isStartingCell(row, col)) {
                         currentPaint = textPaint; // Original puzzle numbers
                     } else {
                         // Check against solution ONLY if solution is available
-                        if (hasSolution() && solutionString.charAt(row * 9 + col) - '0' != board[row][col]) {
+                        if (board.isWrong(row, col)) {
                             currentPaint = errorTextPaint; // Incorrect user number
                         } else {
                             currentPaint = userTextPaint; // Correct or unvalidated user number
@@ -263,7 +221,7 @@ public class SudokuBoardView extends View {
 
         float size = getWidth();
         float cellSize = size / 9f;
-        int selectedValue = board[selectedRow][selectedCol];
+        int selectedValue = board.getValue(selectedRow, selectedCol);
 
         // Highlight row, column, and 3x3 box
         int boxStartRow = selectedRow - selectedRow % 3;
@@ -286,7 +244,7 @@ public class SudokuBoardView extends View {
         if (selectedValue != 0) {
             for (int r = 0; r < 9; r++) {
                 for (int c = 0; c < 9; c++) {
-                    if (board[r][c] == selectedValue) {
+                    if (board.getValue(r, c) == selectedValue) {
                         canvas.drawRect(c * cellSize, r * cellSize, (c + 1) * cellSize, (r + 1) * cellSize, sameNumberHighlightPaint);
                     }
                 }
@@ -299,8 +257,7 @@ public class SudokuBoardView extends View {
         canvas.drawRect(left, top, left + cellSize, top + cellSize, selectedCellPaint);
 
         // Optionally, highlight conflicting cell background (if selected cell has an error)
-        if (hasSolution() && !isStartingCell[selectedRow][selectedCol] && selectedValue != 0 &&
-                solutionString.charAt(selectedRow * 9 + selectedCol) - '0' != selectedValue) {
+        if (board.isWrong(selectedRow, selectedCol)) {
             canvas.drawRect(left, top, left + cellSize, top + cellSize, conflictingCellPaint); // Red background tint
         }
     }
@@ -343,45 +300,23 @@ public class SudokuBoardView extends View {
 
     public void setNumber(int number) {
         if (selectedRow != -1 && selectedCol != -1) {
-            if (isStartingCell[selectedRow][selectedCol]) {
+            int previousValue = board.getValue(selectedRow, selectedCol);
+            int previousErrors = board.getErrorCount();
+            Board.MoveResult result = board.setNumber(selectedRow, selectedCol, number);
+            if (result == Board.MoveResult.STARTING_CELL) {
                 Toast.makeText(getContext(), "Cannot change starting numbers.", Toast.LENGTH_SHORT).show();
-            } else {
-                int previousValue = board[selectedRow][selectedCol];
-                // Only proceed if the number is actually different
-                if (previousValue == number) return;
-
-                // --- Error Tracking Logic ---
-                // Only track errors if the solution is available
-                if (hasSolution()) {
-                    int correctValue = solutionString.charAt(selectedRow * 9 + selectedCol) - '0';
-                    boolean wasCorrect = (previousValue != 0 && previousValue == correctValue);
-                    boolean isNowCorrect = (number == correctValue);
-
-                    // Increment error count only if placing an incorrect number
-                    // where the cell was previously empty or correct.
-                    if (number != 0 && !isNowCorrect) {
-                        if (previousValue == 0 || wasCorrect) {
-                            errorCount++;
-                            Log.d("SudokuError", String.format("Incorrect number %d placed at (%d, %d). Correct: %d. Error count: %d",
-                                    number, selectedRow, selectedCol, correctValue, errorCount));
-                        } else {
-                            // Replacing one error with another - no change in error count
-                            Log.d("SudokuError", String.format("Replaced incorrect number %d with %d at (%d, %d). Correct: %d. Error count remains: %d",
-                                    previousValue, number, selectedRow, selectedCol, correctValue, errorCount));
-                        }
-                    }
-                    // If placing a correct number where it was previously incorrect,
-                    // the error count remains (errors are cumulative for the game session).
-                    else if (number != 0 && isNowCorrect && !wasCorrect && previousValue != 0) {
-                        Log.d("SudokuError", String.format("Corrected cell (%d, %d) with %d. Error count remains: %d",
-                                selectedRow, selectedCol, number, errorCount));
-                    }
+            } else if (result == Board.MoveResult.APPLIED) {
+                // --- Error Tracking Logging ---
+                if (board.getErrorCount() > previousErrors) {
+                    Log.d("SudokuError", String.format("Incorrect number %d placed at (%d, %d). Correct: %d. Error count: %d",
+                            number, selectedRow, selectedCol, board.getSolutionValue(selectedRow, selectedCol), board.getErrorCount()));
+                } else if (board.isWrong(selectedRow, selectedCol) && previousValue != 0) {
+                    // Replacing one error with another - no change in error count
+                    Log.d("SudokuError", String.format("Replaced incorrect number %d with %d at (%d, %d). Error count remains: %d",
+                            previousValue, number, selectedRow, selectedCol, board.getErrorCount()));
                 }
-                // --- End Error Tracking ---
-
-                // Update the board and redraw
-                board[selectedRow][selectedCol] = number;
-                invalidate();
+                invalidate(); // Redraw
+                notifyBoardChanged();
             }
         } else {
             Toast.makeText(getContext(), "Select a cell first.", Toast.LENGTH_SHORT).show();
@@ -391,124 +326,82 @@ public class SudokuBoardView extends View {
 
     public void eraseNumber() {
         if (selectedRow != -1 && selectedCol != -1) {
-            if (isStartingCell[selectedRow][selectedCol]) {
+            Board.MoveResult result = board.erase(selectedRow, selectedCol);
+            if (result == Board.MoveResult.STARTING_CELL) {
                 Toast.makeText(getContext(), "Cannot erase starting numbers.", Toast.LENGTH_SHORT).show();
-            } else {
-                int previousValue = board[selectedRow][selectedCol];
-                if (previousValue != 0) {
-                    // Erasing a number doesn't reduce the historical error count for the game.
-                    board[selectedRow][selectedCol] = 0; // Set to empty
-                    invalidate(); // Redraw
-                }
+            } else if (result == Board.MoveResult.APPLIED) {
+                // Erasing a number doesn't reduce the historical error count for the game.
+                invalidate(); // Redraw
+                notifyBoardChanged();
             }
         } else {
             Toast.makeText(getContext(), "Select a cell first.", Toast.LENGTH_SHORT).show();
         }
     }
 
+    /**
+     * Places a hinted digit and selects its cell so the player sees where it went.
+     * @return false if the hint couldn't be applied (starting cell or already filled in).
+     */
+    public boolean applyHint(HintEngine.Hint hint) {
+        Board.MoveResult result = board.applyHint(hint.getRow(), hint.getCol(), hint.getDigit());
+        if (result != Board.MoveResult.APPLIED) return false;
+        Log.d("SudokuBoardView", "Hint applied: " + hint.getDigit() + " at (" + hint.getRow() + ", " + hint.getCol() + ") via " + hint.getTechnique().getDisplayName());
+        return selectChangedCell(hint.getCell());
+    }
 
-    // Returns the current state of the board as a 2D array (defensive copy)
-    public int[][] getBoardState() {
-        int[][] copy = new int[9][9];
-        for (int i = 0; i < 9; i++) {
-            System.arraycopy(board[i], 0, copy[i], 0, 9);
-        }
-        return copy;
+    /**
+     * Reverts the last move and selects the cell it changed.
+     * @return false if there was nothing to undo.
+     */
+    public boolean undo() {
+        return selectChangedCell(board.undo());
     }
 
-    // Returns the current board state as an 81-character string
-    public String getBoardString() {
-        StringBuilder sb = new StringBuilder(81);
-        for (int i = 0; i < 9; i++) {
-            for (int j = 0; j < 9; j++) {
-                sb.append(board[i][j]); // Append number (0-9)
-            }
-        }
-        return sb.toString();
+    /**
+     * Re-applies the last undone move and selects the cell it changed.
+     * @return false if there was nothing to redo.
+     */
+    public boolean redo() {
+        return selectChangedCell(board.redo());
     }
 
-    // Checks if the current board state matches the solution string
-    public boolean isSolvedCorrectly() {
-        boolean isFull = isBoardFull();
-        if (!hasSolution()) {
-            // If no solution available (challenge mode), "correct" means "full"
-            Log.d("SudokuBoardView", "isSolvedCorrectly: Solution not available. Is full: " + isFull);
-            return isFull;
+    /**
+     * Restores the undo/redo history saved with the game. Call after loadCurrentState().
+     */
+    public void restoreJournal(String journalString) {
+        if (journalString == null || journalString.isEmpty()) return;
+        if (!board.restoreJournal(journalString)) {
+            Log.w("SudokuBoardView", "Saved move journal doesn't match the board state, undo history dropped.");
         }
-        // If solution is available, check if full AND matches solution
-        boolean matches = getBoardString().equals(solutionString);
-        Log.d("SudokuBoardView", "isSolvedCorrectly: Solution available. Is full: " + isFull + ", Matches solution: " + matches);
-        return isFull && matches;
     }
 
+    private boolean selectChangedCell(int cell) {
+        if (cell < 0) return false;
+        selectedRow = cell / 9;
+        selectedCol = cell % 9;
+        invalidate(); // Redraw with the changed cell highlighted
+        notifyBoardChanged(); // Hint, undo and redo all end up here
+        return true;
+    }
 
-    // Checks if all cells on the board are filled (non-zero)
-    public boolean isBoardFull() {
-        for (int i = 0; i < 9; i++) {
-            for (int j = 0; j < 9; j++) {
-                if (board[i][j] == 0) {
-                    return false; // Found an empty cell
-                }
-            }
+    private void notifyBoardChanged() {
+        if (boardChangeListener != null) {
+            boardChangeListener.onBoardChanged();
         }
-        return true; // No empty cells found
     }
 
     /**
      * Fills the non-starting cells with the correct solution. (DEBUG METHOD)
      */
     public void fillWithSolution() {
-        if (!hasSolution()) {
+        if (!board.fillWithSolution()) {
             Log.w("SudokuBoardView", "fillWithSolution called but no solution is available.");
             return;
         }
         Log.d("SudokuBoardView", "Filling board with solution (DEBUG).");
-        for (int i = 0; i < 9; i++) {
-            for (int j = 0; j < 9; j++) {
-                if (!isStartingCell[i][j]) { // Only fill user cells
-                    board[i][j] = solutionString.charAt(i * 9 + j) - '0';
-                }
-            }
-        }
-        errorCount = 0; // Reset errors when explicitly solving
         invalidate(); // Redraw with solution filled
-    }
-
-    /**
-     * Checks if a valid solution string is currently loaded.
-     * @return true if a solution is available, false otherwise.
-     */
-    public boolean hasSolution() {
-        return solutionString != null && solutionString.length() == 81;
-    }
-
-    /**
-     * Provides internal access to the solution string (e.g., for restarting).
-     * @return The solution string, or null if not available.
-     */
-    protected String getSolutionStringInternal() {
-        return solutionString;
-    }
-
-
-    /**
-     * Gets the current cumulative error count for this game session.
-     * Returns 0 if the solution is not available (e.g., during challenges).
-     * @return The number of incorrect placements made.
-     */
-    public int getErrorCount() {
-        // Return 0 if we can't validate against a solution
-        return hasSolution() ? errorCount : 0;
-    }
-
-    /**
-     * *** ADDED: Method to externally set the error count (used when loading a game) ***
-     * @param count The error count loaded from saved state.
-     */
-    public void setErrorCount(int count) {
-        this.errorCount = Math.max(0, count); // Ensure count is not negative
-        Log.d("SudokuBoardView", "Error count externally set to: " + this.errorCount);
+        notifyBoardChanged();
     }
 
 }
-
@@ -0,0 +1,225 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/local/PuzzlePrefetchPool.java
+package com.example.sudoku.data.local;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.data.model.PuzzleResponse;
+import com.example.sudoku.data.network.RetrofitClient;
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Keeps a few ready-to-play puzzles (new_game responses) per difficulty, so tapping a
+ * difficulty can start GameActivity without waiting for the backend.
+ * Refilled in the background after login and after each game start; persisted in
+ * SharedPreferences so the pool survives process death. Pooled games belong to the user
+ * who fetched them and are dropped when a different user (or nobody) is logged in.
+ * Pooled games exist on the backend but stay unstarted until their first update, so they are
+ * never the in_progress_game, and the ones dropped here are deleted by the backend
+ * (see ApiService#getNewGame).
+ * All methods must be called on the main thread (Retrofit callbacks also arrive there).
+ */
+public class PuzzlePrefetchPool {
+
+    private static final String TAG = "PuzzlePrefetchPool";
+    private static final String PREF_NAME = "SudokuArenaPuzzlePool";
+    private static final String KEY_OWNER = "owner_user_id";
+    private static final String KEY_POOL_PREFIX = "pool_";
+
+    public static final String[] DIFFICULTIES = {"easy", "medium", "hard"};
+    private static final int POOL_SIZE = 2;                         // Ready puzzles per difficulty
+    private static final long MAX_AGE_MS = 24L * 60 * 60 * 1000;    // Older games are discarded, well before the backend deletes them
+
+    private static PuzzlePrefetchPool instance;
+
+    private final Context appContext;
+    private final SharedPreferences prefs;
+    private final Gson gson = new Gson();
+    private final Type entryListType = new TypeToken<List<Entry>>() {}.getType();
+    private final Map<String, ArrayDeque<Entry>> pools = new HashMap<>();
+    private final Map<String, Integer> inFlight = new HashMap<>();
+    private String ownerUserId;
+
+    // One pooled puzzle and when it was fetched
+    private static class Entry {
+        @SerializedName("fetched_at")
+        long fetchedAt;
+
+        @SerializedName("puzzle")
+        PuzzleResponse puzzle;
+
+        Entry(long fetchedAt, PuzzleResponse puzzle) {
+            this.fetchedAt = fetchedAt;
+            this.puzzle = puzzle;
+        }
+    }
+
+    private PuzzlePrefetchPool(Context context) {
+        appContext = context.getApplicationContext();
+        prefs = appContext.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        ownerUserId = prefs.getString(KEY_OWNER, null);
+        for (String difficulty : DIFFICULTIES) {
+            pools.put(difficulty, load(difficulty));
+            inFlight.put(difficulty, 0);
+        }
+    }
+
+    public static synchronized PuzzlePrefetchPool getInstance(Context context) {
+        if (instance == null) {
+            instance = new PuzzlePrefetchPool(context);
+        }
+        return instance;
+    }
+
+    /**
+     * Takes a ready puzzle for a difficulty and starts refilling the pool.
+     * @return The puzzle, or null if the pool is empty (use the network instead).
+     */
+    @Nullable
+    public PuzzleResponse poll(String difficulty) {
+        ArrayDeque<Entry> pool = pools.get(difficulty);
+        if (pool == null || !checkOwner()) return null;
+        long now = System.currentTimeMillis();
+        Entry entry;
+        while ((entry = pool.pollFirst()) != null && now - entry.fetchedAt > MAX_AGE_MS) {
+            Log.d(TAG, "Dropping stale pooled game " + entry.puzzle.getGameId());
+        }
+        save(difficulty);
+        refill(difficulty);
+        if (entry == null) {
+            Log.d(TAG, "Pool empty for " + difficulty);
+            return null;
+        }
+        Log.d(TAG, "Serving pooled " + difficulty + " game " + entry.puzzle.getGameId() + " (" + pool.size() + " left)");
+        return entry.puzzle;
+    }
+
+    /**
+     * Adds a new_game response nobody played, e.g. one that arrived after DifficultyActivity
+     * gave up waiting and started an offline game. Ignored if the pool is full or the game was
+     * fetched for another session (the backend deletes unstarted games).
+     * @param userId The user logged in when the game was requested.
+     */
+    public void offer(String difficulty, @Nullable PuzzleResponse puzzle, @Nullable String userId) {
+        ArrayDeque<Entry> pool = pools.get(difficulty);
+        if (pool == null || !isPlayable(puzzle) || !checkOwner() || !ownerUserId.equals(userId) || pool.size() >= POOL_SIZE) return;
+        pool.addLast(new Entry(System.currentTimeMillis(), puzzle));
+        save(difficulty);
+        Log.d(TAG, "Pooled late " + difficulty + " game " + puzzle.getGameId() + " (" + pool.size() + " ready)");
+    }
+
+    /** Tops up every difficulty. Call after login / when the home screen opens. */
+    public void refillAll() {
+        for (String difficulty : DIFFICULTIES) {
+            refill(difficulty);
+        }
+    }
+
+    /** Requests new games until the pool (plus pending requests) reaches POOL_SIZE. */
+    public void refill(String difficulty) {
+        ArrayDeque<Entry> pool = pools.get(difficulty);
+        if (pool == null || !checkOwner()) return;
+        int missing = POOL_SIZE - pool.size() - inFlight.get(difficulty);
+        for (int i = 0; i < missing; i++) {
+            fetch(difficulty);
+        }
+    }
+
+    // --- Internal helpers ---
+
+    private void fetch(String difficulty) {
+        final String requestOwner = ownerUserId;
+        inFlight.put(difficulty, inFlight.get(difficulty) + 1);
+        RetrofitClient.getApiService(appContext).getNewGame(difficulty).enqueue(new Callback<PuzzleResponse>() {
+            @Override
+            public void onResponse(@NonNull Call<PuzzleResponse> call, @NonNull Response<PuzzleResponse> response) {
+                inFlight.put(difficulty, inFlight.get(difficulty) - 1);
+                PuzzleResponse puzzle = response.body();
+                if (!response.isSuccessful() || !isPlayable(puzzle)) {
+                    Log.w(TAG, "Prefetch of " + difficulty + " failed: " + response.code() + " - " + response.message());
+                    return;
+                }
+                if (requestOwner == null || !requestOwner.equals(ownerUserId)) {
+                    Log.d(TAG, "Discarding prefetched game of a previous session.");
+                    return;
+                }
+                pools.get(difficulty).addLast(new Entry(System.currentTimeMillis(), puzzle));
+                save(difficulty);
+                Log.d(TAG, "Prefetched " + difficulty + " game " + puzzle.getGameId() + " (" + pools.get(difficulty).size() + " ready)");
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<PuzzleResponse> call, @NonNull Throwable t) {
+                inFlight.put(difficulty, inFlight.get(difficulty) - 1);
+                Log.w(TAG, "Prefetch of " + difficulty + " failed: " + t.getMessage());
+            }
+        });
+    }
+
+    // Drops the pool if the logged-in user changed. Returns false if nobody is logged in.
+    private boolean checkOwner() {
+        String currentUserId = new SessionManager(appContext).fetchUserId();
+        if (currentUserId == null || !currentUserId.equals(ownerUserId)) {
+            if (ownerUserId != null || !isEmpty()) {
+                Log.d(TAG, "Session changed, clearing puzzle pool.");
+            }
+            ownerUserId = currentUserId;
+            for (String difficulty : DIFFICULTIES) {
+                pools.get(difficulty).clear();
+            }
+            prefs.edit().clear().putString(KEY_OWNER, currentUserId).apply();
+        }
+        return currentUserId != null;
+    }
+
+    private boolean isEmpty() {
+        for (ArrayDeque<Entry> pool : pools.values()) {
+            if (!pool.isEmpty()) return false;
+        }
+        return true;
+    }
+
+    // What GameActivity needs to open the board of a server game (started via GameActivity.KEY_PUZZLE_DATA)
+    private static boolean isPlayable(@Nullable PuzzleResponse puzzle) {
+        return puzzle != null && puzzle.getGameId() != null && puzzle.getBoardString() != null && puzzle.getBoardString().length() == 81;
+    }
+
+    private ArrayDeque<Entry> load(String difficulty) {
+        ArrayDeque<Entry> pool = new ArrayDeque<>();
+        String json = prefs.getString(KEY_POOL_PREFIX + difficulty, null);
+        if (json == null) return pool;
+        try {
+            List<Entry> entries = gson.fromJson(json, entryListType);
+            if (entries != null) {
+                for (Entry entry : entries) {
+                    if (entry != null && isPlayable(entry.puzzle)) pool.addLast(entry);
+                }
+            }
+        } catch (RuntimeException e) {
+            Log.e(TAG, "Corrupt saved pool for " + difficulty + ", discarding.", e);
+        }
+        return pool;
+    }
+
+    private void save(String difficulty) {
+        String json = gson.toJson(new ArrayList<>(pools.get(difficulty)), entryListType);
+        prefs.edit().putString(KEY_POOL_PREFIX + difficulty, json).apply();
+    }
+}
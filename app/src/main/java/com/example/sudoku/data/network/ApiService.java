@@ -2,6 +2,7 @@
 package com.example.sudoku.data.network;
 
 import com.example.sudoku.data.model.AuthResponse;
+import com.example.sudoku.data.model.GameHistoryPage;
 import com.example.sudoku.data.model.GameResponse;
 import com.example.sudoku.data.model.GameUpdateRequest; // Import GameUpdateRequest
 import com.example.sudoku.data.model.LeaderboardResponse;
@@ -10,6 +11,9 @@ import com.example.sudoku.data.model.PuzzleResponse;
 import com.example.sudoku.data.model.RegisterRequest;
 import com.example.sudoku.data.model.UpdateResponse; // Import UpdateResponse
 import com.example.sudoku.data.model.UserResponse;
+import com.example.sudoku.data.model.ChallengeBatchRequest;
+import com.example.sudoku.data.model.ChallengeBatchResponse;
+import com.example.sudoku.data.model.ChallengeChanges;
 import com.example.sudoku.data.model.ChallengeCompleteRequest;
 import com.example.sudoku.data.model.ChallengeCreateRequest;
 import com.example.sudoku.data.model.ChallengeRespondRequest;
@@ -21,6 +25,7 @@ import java.util.List;
 import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
 import retrofit2.http.POST;
 import retrofit2.http.PUT; // Import PUT
 import retrofit2.http.Path;
@@ -37,14 +42,21 @@ public interface ApiService {
     @GET("/api/user/")
     Call<UserResponse> getUser(); // Requires Auth Header provided by Interceptor
 
+    /**
+     * Creates a game. Until its first update_game it counts as unstarted: in_progress_game
+     * skips it and the backend deletes it after a while (PuzzlePrefetchPool creates games
+     * ahead of time and drops the ones it doesn't hand out).
+     */
     @GET("/api/game/new_game/{difficulty}")
     Call<PuzzleResponse> getNewGame(@Path("difficulty") String difficulty);
 
     // --- NEW ---
+    // Sent from WriteBehindQueue; the idempotency key is stable across retries of the same update
     @PUT("/api/game/update_game") // Use PUT for updates
-    Call<UpdateResponse> updateGame(@Body GameUpdateRequest gameUpdate); // Send update data in body
+    Call<UpdateResponse> updateGame(@Header("Idempotency-Key") String idempotencyKey, @Body GameUpdateRequest gameUpdate); // Send update data in body
 
     // --- New Endpoint for In-Progress Game ---
+    // Latest started (updated at least once) game that isn't completed
     @GET("/api/user/in_progress_game")
     Call<GameResponse> getInProgressGame();
 
@@ -54,6 +66,13 @@ public interface ApiService {
     @GET("/api/user/game_history")
     Call<List<GameResponse>> getGameHistory(); // Returns a list of completed games
 
+    /**
+     * One page of completed games, newest first, without the puzzle and board state.
+     * @param cursor next_cursor of the previous page, or null for the first page.
+     */
+    @GET("/api/user/game_history/page")
+    Call<GameHistoryPage> getGameHistoryPage(@Query("cursor") String cursor, @Query("limit") int limit);
+
     // --- NEW CHALLENGE ENDPOINTS ---
 
     /**
@@ -68,6 +87,13 @@ public interface ApiService {
     @GET("api/challenges/")
     Call<List<ChallengeResponse>> getChallenges();
 
+    /**
+     * The user's challenges changed since a previous sync (used by ChallengeRepository).
+     * @param since watermark of the previous sync, or null for all challenges.
+     */
+    @GET("api/challenges/changes")
+    Call<ChallengeChanges> getChallengeChanges(@Query("since") String since);
+
     /**
      * Accept or reject a pending challenge.
      */
@@ -77,11 +103,22 @@ public interface ApiService {
             @Body ChallengeRespondRequest respondRequest
     );
 
+    /**
+     * Accept or reject several challenges at once (sent by ChallengeActionBatcher).
+     * The idempotency key lets a lost response be retried without applying the actions twice.
+     */
+    @POST("api/challenges/respond_batch")
+    Call<ChallengeBatchResponse> respondToChallenges(
+            @Header("Idempotency-Key") String idempotencyKey,
+            @Body ChallengeBatchRequest batchRequest
+    );
+
     /**
      * Complete an accepted challenge (submits opponent's score).
      */
     @POST("api/challenges/{challenge_id}/complete")
     Call<ChallengeResponse> completeChallenge(
+            @Header("Idempotency-Key") String idempotencyKey,
             @Path("challenge_id") String challengeId,
             @Body ChallengeCompleteRequest completeRequest
     );
@@ -0,0 +1,239 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/network/BackendWarmup.java
+package com.example.sudoku.data.network;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * The backend (on Render) sleeps when idle and takes many seconds to answer the first
+ * request. This wakes it up early and tracks whether it is awake:
+ * - {@link #start()} (from the splash screen) sends a probe (GET api/health) right away,
+ *   retried with backoff while the backend is unreachable or still starting (5xx).
+ *   The probe uses the shared connection pool, so its TLS connection is reused by login.
+ * - {@link #observer} sees every backend response, so normal traffic keeps the state current.
+ * - Callers check {@link #getState()} or wait with {@link #awaitReady}, e.g. to tell the
+ *   user the server is waking up, or to keep showing cached data.
+ * The time from process start to the first successful response (any non-5xx answer) is
+ * recorded as a startup metric (see {@link #getTimeToFirstResponseMs()}).
+ * Listeners are called on the main thread.
+ */
+public class BackendWarmup {
+
+    private static final String TAG = "BackendWarmup";
+
+    /** Backend readiness as far as the app knows. */
+    public enum State {
+        /** Nothing sent yet, or the last answer is older than IDLE_SLEEP_MS (it may be asleep again). */
+        UNKNOWN,
+        /** Probe in flight or being retried. */
+        WAKING,
+        /** Answered recently. */
+        READY,
+        /** Gave up probing (offline, or the backend is down). The next ensureWarm() tries again. */
+        UNREACHABLE
+    }
+
+    /** Receives the outcome of {@link #awaitReady}. */
+    public interface Listener {
+        /** @param ready True if the backend answered, false on timeout or when probing gave up. */
+        void onResult(boolean ready);
+    }
+
+    static final long IDLE_SLEEP_MS = 10 * 60_000;   // Render idles a free service after 15 min
+    private static final long[] RETRY_DELAYS_MS = {2_000, 4_000, 8_000, 15_000, 30_000};
+
+    private static BackendWarmup instance;
+
+    private final OkHttpClient client = NetworkConfig.newClientBuilder().build(); // No auth or cache: just a ping
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final List<Listener> waiting = new ArrayList<>();
+
+    // Guarded by this
+    private State state = State.UNKNOWN;
+    private long lastResponseAt;        // SystemClock.elapsedRealtime() of the last good answer
+    private long lastLatencyMs = -1;    // Latency of that answer
+    private long timeToFirstResponseMs = -1;
+    private int attempt;
+    private Call probe;
+
+    private BackendWarmup() {
+    }
+
+    public static synchronized BackendWarmup getInstance() {
+        if (instance == null) {
+            instance = new BackendWarmup();
+        }
+        return instance;
+    }
+
+    /** Starts waking the backend unless it is known to be awake. Call as early as possible. */
+    public void start() {
+        ensureWarm();
+    }
+
+    /** Probes now if the backend may be asleep and no probe is running. */
+    public synchronized void ensureWarm() {
+        if (getState() == State.READY || state == State.WAKING) return;
+        attempt = 0;
+        state = State.WAKING;
+        sendProbe();
+    }
+
+    public synchronized State getState() {
+        if (state == State.READY && SystemClock.elapsedRealtime() - lastResponseAt > IDLE_SLEEP_MS) {
+            state = State.UNKNOWN; // Quiet for long enough to have gone back to sleep
+        }
+        return state;
+    }
+
+    public boolean isReady() {
+        return getState() == State.READY;
+    }
+
+    /** Latency of the last backend answer in ms, or -1. */
+    public synchronized long getLastLatencyMs() {
+        return lastLatencyMs;
+    }
+
+    /** Startup metric: ms from process start to the first successful backend response, or -1 if none yet. */
+    public synchronized long getTimeToFirstResponseMs() {
+        return timeToFirstResponseMs;
+    }
+
+    /**
+     * Calls the listener once the backend is ready (right away if it already is), or with
+     * false after timeoutMs or when probing gives up. Starts a probe if needed.
+     */
+    public void awaitReady(long timeoutMs, @NonNull Listener listener) {
+        synchronized (this) {
+            if (getState() != State.READY) {
+                waiting.add(listener);
+                mainHandler.postDelayed(() -> {
+                    boolean timedOut;
+                    synchronized (BackendWarmup.this) {
+                        timedOut = waiting.remove(listener);
+                    }
+                    if (timedOut) listener.onResult(false);
+                }, timeoutMs);
+                ensureWarm();
+                return;
+            }
+        }
+        mainHandler.post(() -> listener.onResult(true));
+    }
+
+    /** One-line summary for the network stats screen. */
+    public synchronized String summary() {
+        return "Backend " + getState() + ", last latency " + lastLatencyMs + " ms, first response "
+                + (timeToFirstResponseMs < 0 ? "pending" : timeToFirstResponseMs + " ms after start");
+    }
+
+    /**
+     * Network interceptor for the app's client: any answer from the backend application (not
+     * a 5xx from the hosting proxy while it starts) means it is awake.
+     */
+    public final Interceptor observer = chain -> {
+        long start = SystemClock.elapsedRealtime();
+        Response response = chain.proceed(chain.request());
+        if (response.code() < 500) onBackendAnswered(SystemClock.elapsedRealtime() - start);
+        return response;
+    };
+
+    private void sendProbe() {
+        Request request = new Request.Builder()
+                .url(RetrofitClient.BASE_URL + "api/health")
+                .header("Cache-Control", "no-store")
+                .build();
+        final long start = SystemClock.elapsedRealtime();
+        final Call call = client.newCall(request);
+        probe = call;
+        Log.d(TAG, "Probing backend (attempt " + (attempt + 1) + ")");
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(@NonNull Call c, @NonNull Response response) {
+                int code = response.code();
+                response.close();
+                synchronized (BackendWarmup.this) {
+                    if (probe == call) probe = null;
+                }
+                if (code < 500) { // 404 still means the app is up and serving
+                    Log.d(TAG, "Backend awake after " + (SystemClock.elapsedRealtime() - start) + " ms (HTTP " + code + ")");
+                    onBackendAnswered(SystemClock.elapsedRealtime() - start);
+                } else {
+                    retryLater("HTTP " + code);
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Call c, @NonNull IOException e) {
+                synchronized (BackendWarmup.this) {
+                    if (probe == call) probe = null;
+                }
+                retryLater(e.getMessage());
+            }
+        });
+    }
+
+    private void retryLater(String reason) {
+        synchronized (this) {
+            if (state == State.READY) return; // Other traffic got through meanwhile
+            if (attempt >= RETRY_DELAYS_MS.length) {
+                Log.w(TAG, "Backend unreachable, giving up: " + reason);
+                state = State.UNREACHABLE;
+            } else {
+                long delay = RETRY_DELAYS_MS[attempt++];
+                Log.d(TAG, "Probe failed (" + reason + "), retrying in " + delay + " ms");
+                mainHandler.postDelayed(this::retryProbe, delay);
+                return;
+            }
+        }
+        notifyWaiting(false);
+    }
+
+    private synchronized void retryProbe() {
+        if (state == State.WAKING && probe == null) sendProbe();
+    }
+
+    private void onBackendAnswered(long latencyMs) {
+        synchronized (this) {
+            lastResponseAt = SystemClock.elapsedRealtime();
+            lastLatencyMs = latencyMs;
+            state = State.READY;
+            if (timeToFirstResponseMs < 0) {
+                timeToFirstResponseMs = lastResponseAt - Process.getStartElapsedRealtime();
+                Log.i(TAG, "Startup metric: first backend response " + timeToFirstResponseMs + " ms after process start");
+            }
+            if (waiting.isEmpty()) return;
+        }
+        notifyWaiting(true);
+    }
+
+    private void notifyWaiting(boolean ready) {
+        mainHandler.post(() -> {
+            List<Listener> listeners;
+            synchronized (BackendWarmup.this) {
+                listeners = new ArrayList<>(waiting);
+                waiting.clear();
+            }
+            for (Listener listener : listeners) {
+                listener.onResult(ready);
+            }
+        });
+    }
+}
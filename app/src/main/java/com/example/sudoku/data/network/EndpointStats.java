@@ -0,0 +1,107 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/network/EndpointStats.java
+package com.example.sudoku.data.network;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counters of one endpoint since app start: a latency histogram (time to response headers),
+ * request/response body bytes and status codes. Filled by NetworkMetricsInterceptor.
+ * Thread-safe.
+ */
+public class EndpointStats {
+
+    /** Upper bounds (inclusive, ms) of the latency buckets; a last bucket takes the rest. */
+    static final long[] LATENCY_BOUNDS_MS = {50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000};
+
+    private final String name;
+    private final long[] latencyBuckets = new long[LATENCY_BOUNDS_MS.length + 1];
+    private long requests;
+    private long failures;        // No response (network error, timeout, canceled)
+    private long totalLatencyMs;
+    private long maxLatencyMs;
+    private long requestBytes;
+    private long responseBytes;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    synchronized void recordResponse(int code, long latencyMs, long requestBodyBytes) {
+        recordLatency(latencyMs, requestBodyBytes);
+        Long count = statusCounts.get(code);
+        statusCounts.put(code, count == null ? 1 : count + 1);
+    }
+
+    synchronized void recordFailure(long latencyMs, long requestBodyBytes) {
+        recordLatency(latencyMs, requestBodyBytes);
+        failures++;
+    }
+
+    synchronized void addResponseBytes(long bytes) {
+        responseBytes += bytes;
+    }
+
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    public synchronized long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /** Approximate latency percentile (upper bound of its bucket), e.g. 0.9 for p90; -1 without data. */
+    public synchronized long latencyPercentileMs(double percentile) {
+        if (requests == 0) return -1;
+        long rank = (long) Math.ceil(percentile * requests);
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BOUNDS_MS.length; i++) {
+            seen += latencyBuckets[i];
+            if (seen >= rank) return LATENCY_BOUNDS_MS[i];
+        }
+        return maxLatencyMs;
+    }
+
+    /** Multi-line summary for the network stats screen. */
+    public synchronized String summary() {
+        StringBuilder text = new StringBuilder(name).append('\n');
+        text.append(String.format(Locale.US, "  %d requests, %d failed | avg %d ms, p50 <= %d ms, p90 <= %d ms, max %d ms%n",
+                requests, failures, requests == 0 ? 0 : totalLatencyMs / requests,
+                latencyPercentileMs(0.5), latencyPercentileMs(0.9), maxLatencyMs));
+        text.append(String.format(Locale.US, "  sent %s, received %s (avg %s)%n",
+                formatBytes(requestBytes), formatBytes(responseBytes), formatBytes(requests == 0 ? 0 : responseBytes / requests)));
+        text.append("  status");
+        for (Map.Entry<Integer, Long> entry : statusCounts.entrySet()) {
+            text.append(' ').append(entry.getKey()).append(" x").append(entry.getValue());
+        }
+        text.append("\n  latency");
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            if (latencyBuckets[i] == 0) continue;
+            text.append(i < LATENCY_BOUNDS_MS.length ? " <=" + LATENCY_BOUNDS_MS[i] : " >" + LATENCY_BOUNDS_MS[i - 1])
+                    .append("ms x").append(latencyBuckets[i]);
+        }
+        return text.toString();
+    }
+
+    private void recordLatency(long latencyMs, long requestBodyBytes) {
+        requests++;
+        totalLatencyMs += latencyMs;
+        maxLatencyMs = Math.max(maxLatencyMs, latencyMs);
+        if (requestBodyBytes > 0) requestBytes += requestBodyBytes;
+        int bucket = 0;
+        while (bucket < LATENCY_BOUNDS_MS.length && latencyMs > LATENCY_BOUNDS_MS[bucket]) bucket++;
+        latencyBuckets[bucket]++;
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format(Locale.US, "%.1f KB", bytes / 1024.0);
+        return String.format(Locale.US, "%.1f MB", bytes / (1024.0 * 1024));
+    }
+}
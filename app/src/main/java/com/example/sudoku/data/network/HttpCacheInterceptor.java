@@ -0,0 +1,206 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/network/HttpCacheInterceptor.java
+package com.example.sudoku.data.network;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.Cache;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.CacheControl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Caching policy for the read-mostly GET endpoints (profile, game history, leaderboard) on
+ * top of the OkHttp disk cache.
+ * - Network interceptor part: gives those responses a private max-age (the backend sends no
+ *   Cache-Control), keeping any ETag so OkHttp revalidates with If-None-Match afterwards.
+ * - Application interceptor part: stale-while-revalidate (OkHttp itself doesn't do it). A
+ *   cached response up to STALE_WHILE_REVALIDATE_S past its max-age is returned right away
+ *   and refreshed in the background. If the network fails, any cached copy is served.
+ * - Successful writes (game updates, challenge actions) evict the cached GETs they affect.
+ * Hit/miss counters are logged and available from {@link #stats()}.
+ */
+public class HttpCacheInterceptor {
+
+    private static final String TAG = "HttpCache";
+    private static final int STALE_WHILE_REVALIDATE_S = 10 * 60;
+    private static final int STALE_IF_ERROR_S = 24 * 60 * 60;
+
+    private volatile Cache cache;         // The current session's cache, see setCache()
+    private volatile Call.Factory client; // For background revalidation, set once the client is built
+
+    // Every cacheable GET ends up in exactly one of these
+    private final AtomicInteger hits = new AtomicInteger();            // Fresh from disk, no network
+    private final AtomicInteger staleHits = new AtomicInteger();       // Stale from disk, revalidated in the background
+    private final AtomicInteger conditionalHits = new AtomicInteger(); // 304 Not Modified, body from disk
+    private final AtomicInteger misses = new AtomicInteger();          // Full download
+    private final AtomicInteger offlineHits = new AtomicInteger();     // Network failed, served from disk
+
+    public HttpCacheInterceptor(Cache cache) {
+        this.cache = cache;
+    }
+
+    public void setClient(Call.Factory client) {
+        this.client = client;
+    }
+
+    /** Switches to the cache of a new session (RetrofitClient gives each session its own). */
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    /** Max-age in seconds for a cacheable path, or -1 if responses must not be cached. */
+    static int maxAgeSeconds(String path) {
+        switch (path) {
+            case "/api/user/":              // Profile and stats
+            case "/api/user/game_history":
+            case "/api/user/game_history/page": // Each cursor is its own cache entry
+                return 30;
+            case "/api/leaderboard/":
+                return 60;
+            default:
+                return -1;
+        }
+    }
+
+    /** Application interceptor: cache first (with background refresh of stale entries), then network. */
+    public final Interceptor application = new Interceptor() {
+        @NonNull
+        @Override
+        public Response intercept(@NonNull Chain chain) throws IOException {
+            Request request = chain.request();
+            if (!"GET".equals(request.method())) {
+                Response response = chain.proceed(request);
+                if (response.isSuccessful()) evictAffected(request.url().encodedPath());
+                return response;
+            }
+            CacheControl requested = request.cacheControl();
+            if (maxAgeSeconds(request.url().encodedPath()) < 0 || requested.noCache() || requested.maxAgeSeconds() == 0) {
+                return chain.proceed(request); // Not cacheable, or a background revalidation
+            }
+
+            // 1. Cached copy, fresh or within the stale-while-revalidate window
+            Response cached = chain.proceed(request.newBuilder()
+                    .cacheControl(new CacheControl.Builder()
+                            .onlyIfCached()
+                            .maxStale(STALE_WHILE_REVALIDATE_S, TimeUnit.SECONDS)
+                            .build())
+                    .build());
+            if (cached.isSuccessful()) {
+                if (cached.header("Warning", "").startsWith("110")) { // OkHttp marks stale responses
+                    staleHits.incrementAndGet();
+                    revalidate(request);
+                } else {
+                    hits.incrementAndGet();
+                }
+                logStats(request);
+                return cached;
+            }
+            cached.close(); // 504 Unsatisfiable Request: nothing usable cached
+
+            // 2. Network (OkHttp sends If-None-Match itself when it has an older copy)
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                Response offline = chain.proceed(request.newBuilder()
+                        .cacheControl(new CacheControl.Builder()
+                                .onlyIfCached()
+                                .maxStale(STALE_IF_ERROR_S, TimeUnit.SECONDS)
+                                .build())
+                        .build());
+                if (!offline.isSuccessful()) {
+                    offline.close();
+                    throw e;
+                }
+                offlineHits.incrementAndGet();
+                Log.w(TAG, "Network failed, serving cached " + request.url().encodedPath());
+                logStats(request);
+                return offline;
+            }
+            if (response.cacheResponse() != null) {
+                conditionalHits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+            }
+            logStats(request);
+            return response;
+        }
+    };
+
+    /** Network interceptor: makes the cacheable responses cacheable. */
+    public final Interceptor network = new Interceptor() {
+        @NonNull
+        @Override
+        public Response intercept(@NonNull Chain chain) throws IOException {
+            Request request = chain.request();
+            Response response = chain.proceed(request);
+            int maxAge = maxAgeSeconds(request.url().encodedPath());
+            if (!"GET".equals(request.method()) || maxAge < 0 || response.header("Cache-Control") != null) {
+                return response; // Respect the backend's own caching headers if it ever sends them
+            }
+            return response.newBuilder()
+                    .removeHeader("Pragma")
+                    .header("Cache-Control", "private, max-age=" + maxAge)
+                    .build();
+        }
+    };
+
+    /** Counters since app start, e.g. "hits 12 (stale 3, 304 4, offline 0), misses 5, 81% from cache". */
+    public String stats() {
+        int fromCache = hits.get() + staleHits.get() + conditionalHits.get() + offlineHits.get();
+        int total = fromCache + misses.get();
+        return "hits " + fromCache + " (stale " + staleHits.get() + ", 304 " + conditionalHits.get() + ", offline " + offlineHits.get()
+                + "), misses " + misses.get() + ", " + (total == 0 ? 0 : fromCache * 100 / total) + "% from cache";
+    }
+
+    private void logStats(Request request) {
+        Log.d(TAG, request.url().encodedPath() + " | " + stats());
+    }
+
+    // Refreshes a stale entry; the next call gets the new copy (or a fresh 304'd one)
+    private void revalidate(Request request) {
+        Call.Factory factory = client;
+        if (factory == null) return;
+        // max-age=0 makes OkHttp revalidate: a conditional request (If-None-Match) if it has an ETag
+        Request revalidation = request.newBuilder()
+                .cacheControl(new CacheControl.Builder().maxAge(0, TimeUnit.SECONDS).build())
+                .build();
+        factory.newCall(revalidation).enqueue(new Callback() {
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                response.close(); // Reading isn't needed, OkHttp already updated the cache
+            }
+
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                Log.d(TAG, "Background revalidation failed: " + e.getMessage());
+            }
+        });
+    }
+
+    // A game or challenge change alters stats, history and rankings
+    private void evictAffected(String path) {
+        if (!path.startsWith("/api/game/") && !path.startsWith("/api/challenges/")) return;
+        try {
+            Iterator<String> urls = cache.urls();
+            while (urls.hasNext()) {
+                String url = urls.next();
+                if (url.endsWith("/api/user/") || url.contains("/api/user/game_history") || url.endsWith("/api/leaderboard/")) {
+                    urls.remove();
+                }
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Could not evict cached responses: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/network/NetworkMetricsInterceptor.java
+package com.example.sudoku.data.network;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import retrofit2.Invocation;
+
+/**
+ * Per-endpoint network statistics, cheap enough for release builds (unlike BODY logging,
+ * which buffers and logs every body). Installed as a network interceptor, so it sees what
+ * actually goes over the wire: cache hits aren't counted, 304s are, and byte counts are
+ * before decompression.
+ * - Latency is the time until the response headers arrive.
+ * - Request bytes come from the body's declared length; response bytes are counted as the
+ *   caller reads the body, so nothing is buffered or copied.
+ * Endpoints are named after their ApiService method (the same for every challenge id).
+ */
+public class NetworkMetricsInterceptor implements Interceptor {
+
+    private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+        EndpointStats stats = statsFor(request);
+        long requestBytes = requestBodyLength(request.body());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            stats.recordFailure(elapsedMs(start), requestBytes);
+            throw e;
+        }
+        stats.recordResponse(response.code(), elapsedMs(start), requestBytes);
+
+        ResponseBody body = response.body();
+        if (body == null) return response;
+        return response.newBuilder().body(new CountingResponseBody(body, stats)).build();
+    }
+
+    /** Snapshot of the endpoints seen so far, busiest first. */
+    public List<EndpointStats> snapshot() {
+        List<EndpointStats> all = new ArrayList<>(statsByEndpoint.values());
+        all.sort((a, b) -> Long.compare(b.getRequests(), a.getRequests()));
+        return all;
+    }
+
+    public void reset() {
+        statsByEndpoint.clear();
+    }
+
+    private EndpointStats statsFor(Request request) {
+        String name = endpointName(request);
+        EndpointStats stats = statsByEndpoint.get(name);
+        if (stats == null) {
+            EndpointStats created = new EndpointStats(name);
+            stats = statsByEndpoint.putIfAbsent(name, created);
+            if (stats == null) stats = created;
+        }
+        return stats;
+    }
+
+    // "GET getUser", or "GET /api/..." for requests not made through ApiService
+    static String endpointName(Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        if (invocation != null) return request.method() + " " + invocation.method().getName();
+        return request.method() + " " + request.url().encodedPath();
+    }
+
+    private static long requestBodyLength(@Nullable RequestBody body) {
+        if (body == null) return 0;
+        try {
+            return body.contentLength(); // -1 if unknown; the body is never written just to measure it
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    // Passes the body through, counting the bytes as they are read
+    private static final class CountingResponseBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private final EndpointStats stats;
+        private BufferedSource source;
+
+        CountingResponseBody(ResponseBody delegate, EndpointStats stats) {
+            this.delegate = delegate;
+            this.stats = stats;
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @NonNull
+        @Override
+        public BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                    private long read;
+                    private boolean recorded;
+
+                    @Override
+                    public long read(@NonNull Buffer sink, long byteCount) throws IOException {
+                        long n = super.read(sink, byteCount);
+                        if (n == -1) record();
+                        else read += n;
+                        return n;
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        record(); // Also counts bodies closed before the end
+                        super.close();
+                    }
+
+                    private void record() {
+                        if (recorded) return;
+                        recorded = true;
+                        stats.addResponseBytes(read);
+                    }
+                });
+            }
+            return source;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/network/RequestCoalescingInterceptor.java
+package com.example.sudoku.data.network;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Coalesces concurrent identical GETs (same URL, same user, same cache directives) into one
+ * HTTP exchange. The first call goes to the network; calls that arrive while it is running
+ * wait for it and get a copy of its response (or its error). Screens firing the same request
+ * from onCreate and onResume, or quick bottom-nav switches, then cost one round trip.
+ * GETs with side effects (new_game creates a game, see NetworkConfig.isSafeToRepeat) are never coalesced.
+ */
+public class RequestCoalescingInterceptor implements Interceptor {
+
+    private static final String TAG = "RequestCoalescing";
+
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger coalesced = new AtomicInteger(); // Calls served by another call's exchange
+
+    // The exchange of the first call, shared with the calls that join it
+    private static class InFlight {
+        final CountDownLatch done = new CountDownLatch(1);
+        Response response;   // Body already read into bodyBytes
+        byte[] bodyBytes;
+        MediaType contentType;
+        Throwable error;     // Anything the first call threw (IOException, or e.g. a RuntimeException from an interceptor)
+        boolean canceled;    // The first call was canceled: joiners go to the network themselves
+    }
+
+    /** Whether a request may share its exchange with identical ones. */
+    static boolean isCoalescable(Request request) {
+        return "GET".equals(request.method()) && NetworkConfig.isSafeToRepeat(request); // Not new_game: each call is a new game
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!isCoalescable(request)) return chain.proceed(request);
+
+        // Different users (tokens) and cache directives (e.g. background revalidation) never share
+        String key = request.url() + "|" + request.header("Authorization") + "|" + request.cacheControl();
+        InFlight mine = new InFlight();
+        InFlight leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            Response shared = join(chain, leader);
+            if (shared != null) return shared;
+            return chain.proceed(request); // Leader canceled or too slow: go on our own
+        }
+
+        try {
+            Response response = chain.proceed(request);
+            ResponseBody body = response.body();
+            mine.contentType = body != null ? body.contentType() : null;
+            mine.bodyBytes = body != null ? body.bytes() : new byte[0]; // JSON, small; closes the body
+            mine.response = response;
+            return copy(mine, request);
+        } catch (Throwable t) {
+            mine.error = t; // Set before the entry is removed and joiners are released
+            mine.canceled = chain.call().isCanceled();
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+            mine.done.countDown();
+        }
+    }
+
+    /** Number of calls that were served by another call's exchange since app start. */
+    public int coalescedCount() {
+        return coalesced.get();
+    }
+
+    // Waits for the leader; null means this call has to make its own request
+    private Response join(Chain chain, InFlight leader) throws IOException {
+        long timeoutMs = (long) chain.connectTimeoutMillis() + chain.writeTimeoutMillis() + chain.readTimeoutMillis();
+        try {
+            if (!leader.done.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+                Log.w(TAG, "Timed out waiting for identical request " + chain.request().url().encodedPath());
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for identical request", e);
+        }
+        if (leader.canceled) return null;
+        int count = coalesced.incrementAndGet();
+        Log.d(TAG, "Coalesced " + chain.request().url().encodedPath() + " (" + count + " coalesced so far)");
+        if (leader.error instanceof IOException) {
+            throw new IOException(leader.error.getMessage(), leader.error); // Same failure, this call's stack
+        }
+        if (leader.error instanceof RuntimeException) throw (RuntimeException) leader.error;
+        if (leader.error instanceof Error) throw (Error) leader.error;
+        if (leader.error != null || leader.response == null) {
+            throw new IOException("Identical request failed", leader.error);
+        }
+        return copy(leader, chain.request());
+    }
+
+    // A response of its own for every caller, each with an unread body
+    private static Response copy(InFlight exchange, Request request) {
+        return exchange.response.newBuilder()
+                .request(request)
+                .body(ResponseBody.create(exchange.bodyBytes, exchange.contentType))
+                .build();
+    }
+}
@@ -2,18 +2,53 @@
 package com.example.sudoku.data.network;
 
 import android.content.Context; // Import Context
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import com.example.sudoku.BuildConfig;
+import com.example.sudoku.data.model.ModelAdapters;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
+import okhttp3.Cache;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
 
 public class RetrofitClient {
 
     // Use "10.0.2.2" to connect from Android Emulator to localhost
-    private static final String BASE_URL = "https://sudokuapp-backend.onrender.com/";
-//    private static final String BASE_URL="http://10.0.2.2:3001/";
+    static final String BASE_URL = "https://sudokuapp-backend.onrender.com/";
+//    static final String BASE_URL="http://10.0.2.2:3001/";
     private static Retrofit retrofit = null;
     private static ApiService apiService = null; // Cache the ApiService
+    private static final long HTTP_CACHE_SIZE = 10L * 1024 * 1024; // 10 MB on disk
+    // Cached responses are keyed by URL, the same for every user, so each session gets its own
+    // directory under http_cache/ (its name is kept in KEY_CACHE_DIR, so the cache survives app
+    // restarts). clearInstance() retires it; retired directories are deleted on cacheCleaner.
+    private static final String CACHE_ROOT = "http_cache";
+    private static final String PREF_NAME = "SudokuArenaHttpCache";
+    private static final String KEY_CACHE_DIR = "session_dir";
+    private static Context appContext = null;
+    private static Cache httpCache = null;
+    private static HttpCacheInterceptor cacheInterceptor = null; // Its counters span the whole process
+    private static final ExecutorService cacheCleaner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "HttpCacheCleaner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Shares one exchange between concurrent identical GETs; its counter spans the whole process
+    private static final RequestCoalescingInterceptor coalescingInterceptor = new RequestCoalescingInterceptor();
+    // Per-endpoint latency, bytes and status codes, in every build type; also spans the whole process
+    private static final NetworkMetricsInterceptor metricsInterceptor = new NetworkMetricsInterceptor();
+    // Jittered retries and one circuit breaker for the backend; the breaker's state outlives logout
+    private static final RetryInterceptor retryInterceptor = new RetryInterceptor(new CircuitBreaker());
 
     /**
      * Gets the singleton ApiService instance.
@@ -22,23 +57,38 @@ public class RetrofitClient {
     public static ApiService getApiService(Context context) {
         if (apiService == null) {
             if (retrofit == null) {
-                // Create a logging interceptor to see request/response logs
-                HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-                logging.setLevel(HttpLoggingInterceptor.Level.BODY);
-
                 // --- Create the AuthInterceptor ---
                 // Pass application context to avoid memory leaks
                 AuthInterceptor authInterceptor = new AuthInterceptor(context.getApplicationContext());
 
-                OkHttpClient client = new OkHttpClient.Builder()
-                        .addInterceptor(logging)
+                // --- Disk cache + ETag revalidation for profile, history and leaderboard ---
+                if (httpCache == null) {
+                    httpCache = openSessionCache(context.getApplicationContext());
+                    if (cacheInterceptor == null) cacheInterceptor = new HttpCacheInterceptor(httpCache);
+                    else cacheInterceptor.setCache(httpCache);
+                }
+
+                // Shared pool/dispatcher, HTTP/2, per-endpoint-class timeouts, gzipped game updates
+                OkHttpClient.Builder builder = NetworkConfig.newClientBuilder()
+                        .cache(httpCache);
+                HttpLoggingInterceptor logging = createLoggingInterceptor();
+                if (logging != null) builder.addInterceptor(logging);
+                OkHttpClient client = builder
                         .addInterceptor(authInterceptor) // --- Add the AuthInterceptor ---
+                        .addInterceptor(coalescingInterceptor) // After auth: the token is part of the key
+                        .addInterceptor(cacheInterceptor.application)
+                        .addInterceptor(retryInterceptor) // After the cache: hits never wait, breaker failures fall back to it
+                        .addNetworkInterceptor(cacheInterceptor.network)
+                        .addNetworkInterceptor(metricsInterceptor) // Wire-level: no cache hits, compressed sizes
+                        .addNetworkInterceptor(BackendWarmup.getInstance().observer) // Every answer proves the backend is awake
                         .build();
+                cacheInterceptor.setClient(client);
 
                 retrofit = new Retrofit.Builder()
                         .baseUrl(BASE_URL)
                         .client(client)
-                        .addConverterFactory(GsonConverterFactory.create())
+                        // Streaming adapters for the response models instead of reflection
+                        .addConverterFactory(GsonConverterFactory.create(ModelAdapters.newGson()))
                         .build();
             }
             apiService = retrofit.create(ApiService.class);
@@ -46,13 +96,104 @@ public class RetrofitClient {
         return apiService;
     }
 
+    /**
+     * Request logging per build type (BuildConfig.NETWORK_LOG_LEVEL), or null for none.
+     * BODY and HEADERS buffer or print bodies and tokens, so release builds never log.
+     */
+    private static HttpLoggingInterceptor createLoggingInterceptor() {
+        if (!BuildConfig.DEBUG) return null;
+        HttpLoggingInterceptor.Level level = HttpLoggingInterceptor.Level.valueOf(BuildConfig.NETWORK_LOG_LEVEL);
+        if (level == HttpLoggingInterceptor.Level.NONE) return null;
+        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+        logging.setLevel(level);
+        logging.redactHeader("Authorization"); // Keep the bearer token out of logcat
+        return logging;
+    }
+
     /**
      * Clears the cached ApiService and Retrofit instances.
      * Call this on logout to reset the client.
      */
     public static void clearInstance() {
+        // The next client reuses NetworkConfig's connection pool, so warm connections survive logout
         retrofit = null;
         apiService = null;
+        // The cached responses belong to the previous session: the next client opens a new, empty
+        // directory, so the next user never reads them. No file I/O here (this runs on the main thread).
+        if (httpCache != null) {
+            final Cache retired = httpCache;
+            httpCache = null;
+            prefs().edit().remove(KEY_CACHE_DIR).apply();
+            cacheCleaner.execute(() -> {
+                try {
+                    // Not closed: calls of the old client may still be finishing, and a closed
+                    // Cache throws. Its directory is deleted when the next session's cache opens.
+                    retired.evictAll();
+                } catch (IOException e) {
+                    Log.w("RetrofitClient", "Could not clear HTTP cache: " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    // The session's cache (a new directory unless the session already has one); deletes the
+    // directories of earlier sessions in the background
+    private static Cache openSessionCache(Context context) {
+        appContext = context;
+        String dirName = prefs().getString(KEY_CACHE_DIR, null);
+        if (dirName == null) {
+            dirName = UUID.randomUUID().toString();
+            prefs().edit().putString(KEY_CACHE_DIR, dirName).apply();
+        }
+        final File root = new File(context.getCacheDir(), CACHE_ROOT);
+        final String current = dirName;
+        cacheCleaner.execute(() -> {
+            File[] entries = root.listFiles();
+            if (entries == null) return;
+            for (File entry : entries) {
+                if (!entry.getName().equals(current)) deleteRecursively(entry); // Also the files of the old single cache
+            }
+        });
+        return new Cache(new File(root, current), HTTP_CACHE_SIZE);
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) deleteRecursively(child);
+        }
+        if (!file.delete() && file.exists()) Log.w("RetrofitClient", "Could not delete " + file);
+    }
+
+    private static SharedPreferences prefs() {
+        return appContext.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    /** Number of requests that shared another identical request's exchange (for logs and debugging). */
+    public static int getCoalescedRequestCount() {
+        return coalescingInterceptor.coalescedCount();
+    }
+
+    /** Per-endpoint network statistics since app start, busiest first (for the network stats screen). */
+    public static List<EndpointStats> getEndpointStats() {
+        return metricsInterceptor.snapshot();
+    }
+
+    public static void resetEndpointStats() {
+        metricsInterceptor.reset();
+    }
+
+    /** Retry and circuit breaker counters since app start (for logs and debugging). */
+    public static String getRetryStats() {
+        CircuitBreaker breaker = retryInterceptor.getBreaker();
+        return "retries " + retryInterceptor.getRetryCount() + ", breaker " + breaker.getState()
+                + " (" + breaker.getRejectedCount() + " calls refused" + (breaker.getState() == CircuitBreaker.State.OPEN
+                ? ", next try in " + breaker.remainingCooldownMs() / 1000 + " s" : "") + ")";
+    }
+
+    /** HTTP cache hit/miss counters since app start (for logs and debugging). */
+    public static String getCacheStats() {
+        return cacheInterceptor != null ? cacheInterceptor.stats() : "cache not initialized";
     }
 }
 
@@ -0,0 +1,430 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/network/WriteBehindQueue.java
+package com.example.sudoku.data.network;
+
+import android.content.Context;
+import android.util.AtomicFile;
+import android.util.Log;
+
+import com.example.sudoku.core.StateDelta;
+import com.example.sudoku.data.local.SessionManager;
+import com.example.sudoku.data.model.ChallengeCompleteRequest;
+import com.example.sudoku.data.model.GameUpdateRequest;
+import com.example.sudoku.data.model.UpdateResponse;
+import com.example.sudoku.data.repository.Repositories;
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Response;
+
+/**
+ * Durable write-behind queue for game updates and challenge completions.
+ * Requests are written to a file before the enqueue call returns (a small file, so it is
+ * cheap enough for onStop/finish); a single background thread sends them with exponential backoff until the backend accepts or
+ * definitively rejects them. Each request keeps the same Idempotency-Key header across
+ * retries, so a retry after a lost response can't apply an update twice.
+ * Queued requests belong to the user who made them and are only sent while that user is
+ * logged in. Only the latest update per game is kept.
+ * Once the server has acknowledged a versioned state of a game, later updates only carry
+ * the changed cells and new journal entries (StateDelta); a 409 version mismatch falls back
+ * to the full state.
+ */
+public final class WriteBehindQueue {
+
+    private static final String TAG = "WriteBehindQueue";
+    private static final String FILE_NAME = "pending_updates.json";
+    private static final String BASES_FILE_NAME = "acked_game_states.json";
+    private static final int MAX_BASE_STATES = 8; // Acknowledged states kept for delta updates
+    private static final String TYPE_GAME_UPDATE = "game_update";
+    private static final String TYPE_CHALLENGE_COMPLETE = "challenge_complete";
+
+    private static final long INITIAL_BACKOFF_MS = 2_000;
+    private static final long MAX_BACKOFF_MS = 5 * 60_000;
+    private static final long MAX_AGE_MS = 7L * 24 * 60 * 60 * 1000; // Give up on week-old requests
+
+    private static WriteBehindQueue instance;
+
+    private final Context appContext;
+    private final AtomicFile file;
+    private final AtomicFile basesFile;
+    private final Gson gson = new Gson();
+    private final Random jitter = new Random();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, TAG);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The queue and its file are shared by the callers (enqueue) and the executor (send results).
+    // Held only for list changes and the file write, never while a request is being sent.
+    private final Object pendingLock = new Object();
+    private List<PendingRequest> pending;
+
+    // Only touched on the executor thread
+    private Map<String, BaseState> baseStates; // Game id -> last state the server acknowledged
+    private ScheduledFuture<?> scheduledDrain;
+
+    // One queued request, persisted as JSON
+    private static class PendingRequest {
+        @SerializedName("idempotency_key") String idempotencyKey;
+        @SerializedName("type") String type;
+        @SerializedName("owner_user_id") String ownerUserId;
+        @SerializedName("created_at") long createdAt;
+        @SerializedName("attempts") int attempts;
+        @SerializedName("next_attempt_at") long nextAttemptAt;
+        @SerializedName("game_update") GameUpdateRequest gameUpdate;
+        @SerializedName("challenge_id") String challengeId;
+        @SerializedName("challenge_complete") ChallengeCompleteRequest challengeComplete;
+    }
+
+    // A saved state the server acknowledged; game updates are sent as deltas against it
+    private static class BaseState {
+        @SerializedName("version") int version;
+        @SerializedName("current_state") String currentState;
+        @SerializedName("move_journal") String moveJournal;
+
+        BaseState(int version, String currentState, String moveJournal) {
+            this.version = version;
+            this.currentState = currentState;
+            this.moveJournal = moveJournal;
+        }
+    }
+
+    // Outcome of one send attempt
+    private enum Outcome { SENT, REJECTED, RETRY, UNAUTHORIZED }
+
+    private WriteBehindQueue(Context context) {
+        appContext = context.getApplicationContext();
+        file = new AtomicFile(new File(appContext.getFilesDir(), FILE_NAME));
+        basesFile = new AtomicFile(new File(appContext.getFilesDir(), BASES_FILE_NAME));
+    }
+
+    public static synchronized WriteBehindQueue getInstance(Context context) {
+        if (instance == null) {
+            instance = new WriteBehindQueue(context);
+        }
+        return instance;
+    }
+
+    /** Queues a game update (replacing any unsent update of the same game) and starts sending. */
+    public void enqueueGameUpdate(GameUpdateRequest request) {
+        enqueueGameUpdate(request, 0);
+    }
+
+    /**
+     * Queues a game update that may wait up to sendDelayMs before it is sent (autosaves).
+     * It is on disk when this returns, so a save from onStop survives the process being killed. A newer update for the same game replaces it but
+     * keeps the earlier send time, so frequent autosaves still go out at most once per delay.
+     */
+    public void enqueueGameUpdate(GameUpdateRequest request, long sendDelayMs) {
+        PendingRequest item = newRequest(TYPE_GAME_UPDATE);
+        item.gameUpdate = request;
+        item.nextAttemptAt = item.createdAt + sendDelayMs;
+        synchronized (pendingLock) {
+            load();
+            Iterator<PendingRequest> it = pending.iterator();
+            while (it.hasNext()) {
+                PendingRequest existing = it.next();
+                if (TYPE_GAME_UPDATE.equals(existing.type) && existing.gameUpdate != null
+                        && request.getGameId() != null && request.getGameId().equals(existing.gameUpdate.getGameId())) {
+                    if (existing.gameUpdate.wasCompleted() && !request.wasCompleted()) {
+                        Log.w(TAG, "Ignoring progress save for already completed game " + request.getGameId());
+                        return;
+                    }
+                    // Superseded by the newer state; keep its place in the backoff schedule
+                    item.attempts = existing.attempts;
+                    item.nextAttemptAt = Math.min(item.nextAttemptAt, existing.nextAttemptAt);
+                    it.remove();
+                }
+            }
+            add(item);
+        }
+        executor.execute(this::drain);
+    }
+
+    /** Queues a challenge completion and starts sending. */
+    public void enqueueChallengeCompletion(String challengeId, ChallengeCompleteRequest request) {
+        PendingRequest item = newRequest(TYPE_CHALLENGE_COMPLETE);
+        item.challengeId = challengeId;
+        item.challengeComplete = request;
+        synchronized (pendingLock) {
+            load();
+            add(item);
+        }
+        executor.execute(this::drain);
+    }
+
+    /**
+     * Records the state the server has for a game (e.g. from in_progress_game), so the first
+     * update after resuming can already be a delta. Ignored if the server sent no version.
+     */
+    public void rememberServerState(String gameId, Integer stateVersion, String currentState, String moveJournal) {
+        if (gameId == null || stateVersion == null || currentState == null) return;
+        executor.execute(() -> putBase(gameId, new BaseState(stateVersion, currentState, moveJournal)));
+    }
+
+    /**
+     * Sends everything now, e.g. on app start or after logging in again. Deferred autosaves
+     * are sent right away too; requests backing off after a failure keep their schedule.
+     */
+    public void drainSoon() {
+        executor.execute(() -> {
+            synchronized (pendingLock) {
+                load();
+                for (PendingRequest item : pending) {
+                    if (item.attempts == 0) item.nextAttemptAt = 0;
+                }
+            }
+            drain();
+        });
+    }
+
+    // --- Caller thread, holding pendingLock ---
+
+    private PendingRequest newRequest(String type) {
+        PendingRequest item = new PendingRequest();
+        item.idempotencyKey = UUID.randomUUID().toString();
+        item.type = type;
+        item.ownerUserId = new SessionManager(appContext).fetchUserId();
+        item.createdAt = System.currentTimeMillis();
+        return item;
+    }
+
+    private void add(PendingRequest item) {
+        pending.add(item);
+        persist();
+        Log.d(TAG, "Queued " + item.type + " " + item.idempotencyKey + " (" + pending.size() + " pending)");
+    }
+
+    // --- Executor thread ---
+
+    private void drain() {
+        if (scheduledDrain != null) {
+            scheduledDrain.cancel(false);
+            scheduledDrain = null;
+        }
+        String userId = new SessionManager(appContext).fetchUserId();
+        long now = System.currentTimeMillis();
+        long nextDue = Long.MAX_VALUE;
+
+        // Sent from a copy: new requests can be queued while one is being sent
+        List<PendingRequest> snapshot;
+        synchronized (pendingLock) {
+            load();
+            snapshot = new ArrayList<>(pending);
+        }
+        for (PendingRequest item : snapshot) {
+            if (now - item.createdAt > MAX_AGE_MS) {
+                Log.w(TAG, "Dropping expired " + item.type + " " + item.idempotencyKey);
+                remove(item);
+                continue;
+            }
+            if (userId == null || !userId.equals(item.ownerUserId)) continue; // Waits for its user
+            if (item.nextAttemptAt > now) {
+                nextDue = Math.min(nextDue, item.nextAttemptAt);
+                continue;
+            }
+
+            Outcome outcome = send(item);
+            if (outcome == Outcome.SENT || outcome == Outcome.REJECTED) {
+                remove(item); // Already gone if a newer update of the game replaced it meanwhile
+                if (outcome == Outcome.SENT && isResult(item)) {
+                    Repositories.invalidateAfterResult(appContext); // Screens refetch stats, history and ranks
+                }
+            } else if (outcome == Outcome.UNAUTHORIZED) {
+                // Keep everything until the user logs in again (drainSoon is called from HomeActivity)
+                Log.w(TAG, "Unauthorized, pausing until the next login.");
+                return;
+            } else {
+                synchronized (pendingLock) {
+                    item.attempts++;
+                    item.nextAttemptAt = now + backoffMillis(item.attempts);
+                    if (pending.contains(item)) persist();
+                }
+                nextDue = Math.min(nextDue, item.nextAttemptAt);
+                Log.d(TAG, "Retrying " + item.type + " " + item.idempotencyKey + " in " + (item.nextAttemptAt - now) + " ms");
+            }
+        }
+
+        if (nextDue != Long.MAX_VALUE) {
+            scheduledDrain = executor.schedule(this::drain, Math.max(0, nextDue - now), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Finished games and challenges change the user's stats; autosaves don't
+    private static boolean isResult(PendingRequest item) {
+        return TYPE_CHALLENGE_COMPLETE.equals(item.type) || (item.gameUpdate != null && item.gameUpdate.wasCompleted());
+    }
+
+    private Outcome send(PendingRequest item) {
+        ApiService api = RetrofitClient.getApiService(appContext);
+        try {
+            if (TYPE_GAME_UPDATE.equals(item.type)) {
+                return sendGameUpdate(api, item);
+            } else if (TYPE_CHALLENGE_COMPLETE.equals(item.type)) {
+                return outcomeOf(item, api.completeChallenge(item.idempotencyKey, item.challengeId, item.challengeComplete).execute());
+            }
+            Log.e(TAG, "Unknown queued request type " + item.type + ", dropping.");
+            return Outcome.REJECTED;
+        } catch (IOException e) {
+            Log.w(TAG, "Network error sending " + item.type + " " + item.idempotencyKey + ": " + e.getMessage());
+            return Outcome.RETRY;
+        } catch (RuntimeException e) {
+            Log.e(TAG, "Unexpected error sending " + item.type + ", dropping.", e);
+            return Outcome.REJECTED;
+        }
+    }
+
+    private Outcome sendGameUpdate(ApiService api, PendingRequest item) throws IOException {
+        GameUpdateRequest full = item.gameUpdate;
+        GameUpdateRequest body = toDelta(full);
+        Response<UpdateResponse> response = api.updateGame(item.idempotencyKey, body).execute();
+        if (body != full && response.code() == 409) {
+            // The server no longer has our base version: forget it and send the full state
+            Log.w(TAG, "State version mismatch for game " + full.getGameId() + ", resending full state.");
+            removeBase(full.getGameId());
+            body = full;
+            response = api.updateGame(item.idempotencyKey + "-full", full).execute();
+        }
+
+        Outcome outcome = outcomeOf(item, response);
+        if (outcome != Outcome.SENT) return outcome;
+        UpdateResponse result = response.body();
+        if (result == null || !"success".equals(result.getStatus())) {
+            Log.e(TAG, "Game update " + item.idempotencyKey + " not accepted by backend, dropping.");
+            return Outcome.REJECTED;
+        }
+        if (body != full) {
+            Log.d(TAG, "Delta update: " + gson.toJson(body).length() + " bytes instead of " + gson.toJson(full).length());
+        }
+        if (full.wasCompleted() || result.getStateVersion() == null) {
+            removeBase(full.getGameId()); // Finished, or the server doesn't do versions
+        } else {
+            putBase(full.getGameId(), new BaseState(result.getStateVersion(), full.getCurrentState(), full.getMoveJournal()));
+        }
+        return outcome;
+    }
+
+    // The update as deltas against the acknowledged state, or the update itself if there is none
+    private GameUpdateRequest toDelta(GameUpdateRequest full) {
+        loadBases();
+        BaseState base = full.getGameId() == null ? null : baseStates.get(full.getGameId());
+        if (base == null) return full;
+        String stateDelta = StateDelta.encodeBoard(base.currentState, full.getCurrentState());
+        String journalDelta = StateDelta.encodeJournal(base.moveJournal, full.getMoveJournal());
+        if (stateDelta == null || journalDelta == null) return full;
+        return full.withDelta(base.version, stateDelta, journalDelta);
+    }
+
+    private Outcome outcomeOf(PendingRequest item, Response<?> response) {
+        int code = response.code();
+        if (response.isSuccessful()) {
+            Log.d(TAG, "Sent " + item.type + " " + item.idempotencyKey + " after " + (item.attempts + 1) + " attempt(s)");
+            return Outcome.SENT;
+        }
+        if (code == 401) return Outcome.UNAUTHORIZED;
+        if (code == 408 || code == 429 || code >= 500) {
+            Log.w(TAG, "Backend busy (" + code + ") for " + item.type + " " + item.idempotencyKey);
+            return Outcome.RETRY;
+        }
+        Log.e(TAG, "Backend rejected " + item.type + " " + item.idempotencyKey + ": " + code + " - " + response.message());
+        return Outcome.REJECTED;
+    }
+
+    // 2 s, 4 s, 8 s ... capped at 5 minutes, with +-20% jitter so clients don't retry in lockstep
+    private long backoffMillis(int attempts) {
+        long delay = INITIAL_BACKOFF_MS << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, MAX_BACKOFF_MS);
+        return (long) (delay * (0.8 + 0.4 * jitter.nextDouble()));
+    }
+
+    private void remove(PendingRequest item) {
+        synchronized (pendingLock) {
+            if (pending.remove(item)) persist();
+        }
+    }
+
+    // Holding pendingLock
+    private void load() {
+        if (pending != null) return;
+        pending = new ArrayList<>();
+        try {
+            byte[] bytes = file.readFully();
+            List<PendingRequest> saved = gson.fromJson(new String(bytes, StandardCharsets.UTF_8),
+                    new TypeToken<List<PendingRequest>>() {}.getType());
+            if (saved != null) pending.addAll(saved);
+            Log.d(TAG, "Loaded " + pending.size() + " pending request(s).");
+        } catch (FileNotFoundException e) {
+            // Nothing queued yet
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Could not read pending requests, starting empty.", e);
+        }
+    }
+
+    private void loadBases() {
+        if (baseStates != null) return;
+        baseStates = new LinkedHashMap<>();
+        try {
+            Map<String, BaseState> saved = gson.fromJson(new String(basesFile.readFully(), StandardCharsets.UTF_8),
+                    new TypeToken<LinkedHashMap<String, BaseState>>() {}.getType());
+            if (saved != null) baseStates.putAll(saved);
+        } catch (FileNotFoundException e) {
+            // No acknowledged states yet
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Could not read acknowledged states, next updates are sent in full.", e);
+        }
+    }
+
+    private void putBase(String gameId, BaseState base) {
+        loadBases();
+        baseStates.remove(gameId); // Re-insert as the most recent
+        baseStates.put(gameId, base);
+        Iterator<String> oldest = baseStates.keySet().iterator();
+        while (baseStates.size() > MAX_BASE_STATES) {
+            oldest.next();
+            oldest.remove();
+        }
+        write(basesFile, gson.toJson(baseStates));
+    }
+
+    private void removeBase(String gameId) {
+        loadBases();
+        if (baseStates.remove(gameId) != null) {
+            write(basesFile, gson.toJson(baseStates));
+        }
+    }
+
+    // Holding pendingLock
+    private void persist() {
+        write(file, gson.toJson(pending));
+    }
+
+    private void write(AtomicFile target, String json) {
+        FileOutputStream out = null;
+        try {
+            out = target.startWrite();
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+            target.finishWrite(out);
+        } catch (IOException e) {
+            Log.e(TAG, "Could not save " + target.getBaseFile().getName(), e);
+            if (out != null) target.failWrite(out);
+        }
+    }
+}
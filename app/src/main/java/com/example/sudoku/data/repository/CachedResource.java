@@ -0,0 +1,248 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/repository/CachedResource.java
+package com.example.sudoku.data.repository;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.data.local.SessionManager;
+import com.example.sudoku.data.network.ApiService;
+import com.example.sudoku.data.network.RetrofitClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Process-wide, in-memory stale-while-revalidate cache of one GET endpoint.
+ * - A remembered value is handed to the listener right away (same call stack), so screens
+ *   can render it in their first frame.
+ * - If the value is older than its TTL (or a refresh is forced), it is refreshed in the
+ *   background and the listener gets the new value a second time.
+ * - Concurrent requests share the one call in flight instead of starting their own.
+ * The value belongs to the logged-in user and is dropped when the user changes.
+ * Main thread only (Retrofit delivers callbacks on the main thread).
+ */
+public abstract class CachedResource<T> {
+
+    /** Receives the data of a {@link #get} request. */
+    public interface Listener<T> {
+        /**
+         * @param data      The value.
+         * @param fromCache True for the remembered value, false for a fresh one from the backend.
+         */
+        void onData(@NonNull T data, boolean fromCache);
+
+        /**
+         * Only called if the listener hasn't received any data for this request, or asked
+         * for a forced refresh (and so waits for fresh data), or for 401.
+         * @param response The unsuccessful response, or null for a network error.
+         * @param t        The network error, or null for an unsuccessful response.
+         */
+        void onError(@Nullable Response<T> response, @Nullable Throwable t);
+    }
+
+    private final String tag;
+    private final Context appContext;
+    private final long ttlMs;
+
+    private T value;
+    private long fetchedAt;      // SystemClock.elapsedRealtime() of the last fetch, 0 = stale
+    private String ownerUserId;  // User the value belongs to
+    private Call<?> inFlight;    // Current call of the fetch in progress, null if none
+    private int fetchGeneration; // Bumped by clear(), so answers to abandoned fetches are ignored
+    private final List<Waiter<T>> waiters = new ArrayList<>();
+    private int sharedRequests;  // Requests served by a call that was already in flight
+
+    // A listener waiting for the call in flight
+    private static class Waiter<T> {
+        final Listener<T> listener;
+        final boolean hadData; // Already got the remembered value
+        final boolean forced;  // Pull to refresh: wants to hear about failures too
+
+        Waiter(Listener<T> listener, boolean hadData, boolean forced) {
+            this.listener = listener;
+            this.hadData = hadData;
+            this.forced = forced;
+        }
+    }
+
+    protected CachedResource(Context context, String tag, long ttlMs) {
+        this.appContext = context.getApplicationContext();
+        this.tag = tag;
+        this.ttlMs = ttlMs;
+    }
+
+    /** Receives the outcome of {@link #fetchValue} on the main thread. */
+    protected interface FetchCallback<T> {
+        void onResponse(@NonNull Response<T> response);
+
+        void onFailure(@NonNull Throwable t);
+
+        /**
+         * Reports a call the fetch goes on with after the one fetchValue returned (e.g. a
+         * fallback endpoint), so clear() cancels that one. Canceled at once if the fetch
+         * was already abandoned.
+         */
+        void continueWith(@NonNull Call<?> call);
+
+        /** Whether clear() abandoned this fetch: nothing it fetched may be kept. */
+        boolean isAbandoned();
+    }
+
+    /**
+     * Fetches a new value: usually just {@code return enqueue(apiService.getX(), callback)}, but
+     * the value may also be derived from other responses, e.g. changes merged into current.
+     * @param current The remembered value, or null.
+     * @return The call started, so clear() can cancel it.
+     */
+    protected abstract Call<?> fetchValue(ApiService apiService, @Nullable T current, FetchCallback<T> callback);
+
+    /** Sends a call whose body is the value itself. */
+    protected final Call<T> enqueue(Call<T> call, FetchCallback<T> callback) {
+        call.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(@NonNull Call<T> c, @NonNull Response<T> response) {
+                callback.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<T> c, @NonNull Throwable t) {
+                callback.onFailure(t);
+            }
+        });
+        return call;
+    }
+
+    /** Whether a successful response body is usable (e.g. status "success"); otherwise it's an error. */
+    protected boolean isValid(@NonNull T body) {
+        return true;
+    }
+
+    /** Same as get(false, listener). */
+    public void get(Listener<T> listener) {
+        get(false, listener);
+    }
+
+    /**
+     * Delivers the remembered value (if any) right away, then refreshes it if it is stale
+     * or forceRefresh is set.
+     * @param forceRefresh Fetch even if the remembered value is still fresh (pull to refresh).
+     */
+    public void get(boolean forceRefresh, Listener<T> listener) {
+        checkOwner();
+        boolean hasData = value != null;
+        if (hasData) {
+            listener.onData(value, true);
+            if (!forceRefresh && !isStale()) return;
+        }
+
+        waiters.add(new Waiter<>(listener, hasData, forceRefresh));
+        if (inFlight != null) {
+            sharedRequests++;
+            Log.d(tag, "Request joined the call in flight (" + sharedRequests + " shared so far).");
+            return;
+        }
+        fetch();
+    }
+
+    /** The remembered value (possibly stale), or null. */
+    @Nullable
+    public T peek() {
+        checkOwner();
+        return value;
+    }
+
+    /** Marks the value stale: it is still shown, but the next get() refreshes it. */
+    public void invalidate() {
+        fetchedAt = 0;
+    }
+
+    /** Forgets the value and abandons the call in flight (e.g. on logout). */
+    public void clear() {
+        value = null;
+        fetchedAt = 0;
+        ownerUserId = null;
+        fetchGeneration++;
+        if (inFlight != null) {
+            inFlight.cancel();
+            inFlight = null;
+        }
+        waiters.clear();
+    }
+
+    private boolean isStale() {
+        return fetchedAt == 0 || SystemClock.elapsedRealtime() - fetchedAt > ttlMs;
+    }
+
+    // Another user's data must never be shown
+    private void checkOwner() {
+        String userId = new SessionManager(appContext).fetchUserId();
+        if (ownerUserId != null && !ownerUserId.equals(userId)) {
+            Log.d(tag, "User changed, dropping the cached value.");
+            clear();
+        }
+        ownerUserId = userId;
+    }
+
+    private void fetch() {
+        final int generation = fetchGeneration;
+        inFlight = fetchValue(RetrofitClient.getApiService(appContext), value, new FetchCallback<T>() {
+            @Override
+            public void onResponse(@NonNull Response<T> response) {
+                if (generation != fetchGeneration) return; // Abandoned by clear()
+                inFlight = null;
+                T body = response.body();
+                if (response.isSuccessful() && body != null && isValid(body)) {
+                    value = body;
+                    fetchedAt = SystemClock.elapsedRealtime();
+                    for (Waiter<T> waiter : takeWaiters()) {
+                        waiter.listener.onData(body, false);
+                    }
+                } else {
+                    Log.e(tag, "Refresh failed: " + response.code() + " - " + response.message());
+                    if (response.code() == 401) value = null; // Session is gone, so is its data
+                    for (Waiter<T> waiter : takeWaiters()) {
+                        if (!waiter.hadData || waiter.forced || response.code() == 401) waiter.listener.onError(response, null);
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Throwable t) {
+                if (generation != fetchGeneration) return;
+                inFlight = null;
+                Log.e(tag, "Network error during refresh: " + t.getMessage());
+                for (Waiter<T> waiter : takeWaiters()) {
+                    if (!waiter.hadData || waiter.forced) waiter.listener.onError(null, t); // Others keep showing the cached value
+                }
+            }
+
+            @Override
+            public void continueWith(@NonNull Call<?> call) {
+                if (generation != fetchGeneration) {
+                    call.cancel();
+                    return;
+                }
+                inFlight = call;
+            }
+
+            @Override
+            public boolean isAbandoned() {
+                return generation != fetchGeneration;
+            }
+        });
+    }
+
+    private List<Waiter<T>> takeWaiters() {
+        List<Waiter<T>> taken = new ArrayList<>(waiters);
+        waiters.clear();
+        return taken;
+    }
+}
@@ -0,0 +1,282 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/repository/ChallengeActionBatcher.java
+package com.example.sudoku.data.repository;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.data.model.ChallengeBatchRequest;
+import com.example.sudoku.data.model.ChallengeBatchResponse;
+import com.example.sudoku.data.model.ChallengeRespondRequest;
+import com.example.sudoku.data.model.ChallengeResponse;
+import com.example.sudoku.data.network.ApiService;
+import com.example.sudoku.data.network.RetrofitClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Sends challenge accept/reject actions in batches.
+ * - An action shows up in ChallengeRepository's list right away (optimistically), so the
+ *   challenge leaves the incoming tab without waiting for the backend.
+ * - Rejects wait up to BATCH_WINDOW_MS for more taps and then go out as one
+ *   api/challenges/respond_batch request. An accept is sent at once (with any waiting
+ *   rejects), because the game starts from its result.
+ * - The backend's results replace the optimistic copies; a failed action puts back the
+ *   challenge as the backend has it (or as it was). No full reload of the list is needed.
+ * - If the backend has no batch endpoint (404/405), actions are sent one by one to
+ *   api/challenges/{id}/respond from then on.
+ * - Results go to the registered listeners, which the screen removes in onDestroy: this
+ *   singleton outlives it and must not hold on to it. Results nobody listens to are still
+ *   applied to the list.
+ * Main thread only.
+ */
+public class ChallengeActionBatcher {
+
+    private static final String TAG = "ChallengeActionBatcher";
+
+    static final long BATCH_WINDOW_MS = 1_500;
+    static final int MAX_BATCH_SIZE = 50;
+
+    /** Told the outcome of each action. */
+    public interface ActionListener {
+        /**
+         * @param action  "accept" or "reject".
+         * @param updated The challenge as the backend has it after the action.
+         */
+        void onActionConfirmed(@NonNull String action, @NonNull ChallengeResponse updated);
+
+        /**
+         * @param current The challenge as now shown (the backend's version if it sent one).
+         * @param detail  Why the action failed, if known.
+         */
+        void onActionFailed(@NonNull String action, @NonNull ChallengeResponse current, @Nullable String detail);
+    }
+
+    /** Told when ChallengeRepository's list changed locally (optimistic action or its result). */
+    public interface ChangeListener {
+        void onChallengesChanged();
+    }
+
+    // An action waiting to be sent or answered
+    private static class PendingAction {
+        final ChallengeResponse original; // As shown before the first action on it
+        final String action;
+
+        PendingAction(ChallengeResponse original, String action) {
+            this.original = original;
+            this.action = action;
+        }
+    }
+
+    private static ChallengeActionBatcher instance;
+
+    private final Context appContext;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<String, PendingAction> waiting = new LinkedHashMap<>(); // Challenge id -> action, in tap order
+    private final List<ChangeListener> listeners = new ArrayList<>();
+    private final List<ActionListener> actionListeners = new ArrayList<>();
+    private final Runnable flushRunnable = this::flush;
+    private boolean batchEndpointMissing;
+    private int requestsSent;
+    private int actionsSent;
+
+    private ChallengeActionBatcher(Context context) {
+        this.appContext = context.getApplicationContext();
+    }
+
+    public static synchronized ChallengeActionBatcher getInstance(Context context) {
+        if (instance == null) {
+            instance = new ChallengeActionBatcher(context);
+        }
+        return instance;
+    }
+
+    public void addListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(ChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void addActionListener(ActionListener listener) {
+        actionListeners.add(listener);
+    }
+
+    public void removeActionListener(ActionListener listener) {
+        actionListeners.remove(listener);
+    }
+
+    /**
+     * Applies an action locally and queues it for the backend. The outcome goes to the action listeners.
+     * @param action "accept" or "reject".
+     */
+    public void submit(@NonNull ChallengeResponse challenge, @NonNull String action) {
+        PendingAction previous = waiting.remove(challenge.getId()); // Changed its mind within the window
+        ChallengeResponse original = previous != null ? previous.original : challenge;
+        waiting.put(challenge.getId(), new PendingAction(original, action));
+        if (repository().replaceLocal(challenge.withStatus("accept".equals(action) ? "accepted" : "rejected"))) {
+            notifyChanged();
+        }
+
+        if ("accept".equals(action) || waiting.size() >= MAX_BATCH_SIZE) {
+            flush();
+        } else {
+            handler.removeCallbacks(flushRunnable);
+            handler.postDelayed(flushRunnable, BATCH_WINDOW_MS); // Each tap extends the window
+        }
+    }
+
+    /** Sends the waiting actions now (e.g. when the challenge screen is left). */
+    public void flush() {
+        handler.removeCallbacks(flushRunnable);
+        if (waiting.isEmpty()) return;
+        List<PendingAction> batch = new ArrayList<>(waiting.values());
+        waiting.clear();
+        if (batchEndpointMissing) {
+            sendOneByOne(batch);
+        } else {
+            sendBatch(batch);
+        }
+    }
+
+    /** Requests and actions sent since app start. */
+    public String summary() {
+        return actionsSent + " actions in " + requestsSent + " requests" + (batchEndpointMissing ? " (no batch endpoint)" : "");
+    }
+
+    private void sendBatch(final List<PendingAction> batch) {
+        List<ChallengeBatchRequest.Action> actions = new ArrayList<>();
+        for (PendingAction pending : batch) {
+            actions.add(new ChallengeBatchRequest.Action(pending.original.getId(), pending.action));
+        }
+        requestsSent++;
+        actionsSent += batch.size();
+        Log.d(TAG, "Sending " + batch.size() + " challenge actions in one request");
+        api().respondToChallenges(UUID.randomUUID().toString(), new ChallengeBatchRequest(actions))
+                .enqueue(new Callback<ChallengeBatchResponse>() {
+                    @Override
+                    public void onResponse(@NonNull Call<ChallengeBatchResponse> call, @NonNull Response<ChallengeBatchResponse> response) {
+                        if (response.code() == 404 || response.code() == 405) {
+                            Log.w(TAG, "No batch endpoint (" + response.code() + "), sending actions one by one");
+                            batchEndpointMissing = true;
+                            requestsSent--;
+                            actionsSent -= batch.size();
+                            sendOneByOne(batch);
+                            return;
+                        }
+                        ChallengeBatchResponse body = response.body();
+                        if (!response.isSuccessful() || body == null) {
+                            Log.e(TAG, "Batch failed: " + response.code() + " - " + response.message());
+                            failAll(batch, "Server error (" + response.code() + ")");
+                            return;
+                        }
+                        Map<String, ChallengeBatchResponse.Result> results = new HashMap<>();
+                        for (ChallengeBatchResponse.Result result : body.getResults()) {
+                            results.put(result.getChallengeId(), result);
+                        }
+                        for (PendingAction pending : batch) {
+                            ChallengeBatchResponse.Result result = results.get(pending.original.getId());
+                            if (result != null && result.isSuccess() && result.getChallenge() != null) {
+                                confirm(pending, result.getChallenge());
+                            } else {
+                                fail(pending, result != null ? result.getChallenge() : null,
+                                        result != null ? result.getDetail() : "No result from server");
+                            }
+                        }
+                        notifyChanged();
+                    }
+
+                    @Override
+                    public void onFailure(@NonNull Call<ChallengeBatchResponse> call, @NonNull Throwable t) {
+                        Log.e(TAG, "Network error sending challenge actions: " + t.getMessage(), t);
+                        failAll(batch, "Network error");
+                    }
+                });
+    }
+
+    // Fallback for a backend without the batch endpoint
+    private void sendOneByOne(List<PendingAction> batch) {
+        for (final PendingAction pending : batch) {
+            requestsSent++;
+            actionsSent++;
+            api().respondToChallenge(pending.original.getId(), new ChallengeRespondRequest(pending.action))
+                    .enqueue(new Callback<ChallengeResponse>() {
+                        @Override
+                        public void onResponse(@NonNull Call<ChallengeResponse> call, @NonNull Response<ChallengeResponse> response) {
+                            if (response.isSuccessful() && response.body() != null) {
+                                confirm(pending, response.body());
+                            } else {
+                                Log.e(TAG, "Challenge action failed: " + response.code() + " - " + response.message());
+                                fail(pending, null, errorDetail(response));
+                            }
+                            notifyChanged();
+                        }
+
+                        @Override
+                        public void onFailure(@NonNull Call<ChallengeResponse> call, @NonNull Throwable t) {
+                            Log.e(TAG, "Network error sending challenge action: " + t.getMessage(), t);
+                            fail(pending, null, "Network error");
+                            notifyChanged();
+                        }
+                    });
+        }
+    }
+
+    private void confirm(PendingAction pending, ChallengeResponse updated) {
+        repository().replaceLocal(updated);
+        for (ActionListener listener : new ArrayList<>(actionListeners)) {
+            listener.onActionConfirmed(pending.action, updated);
+        }
+    }
+
+    private void fail(PendingAction pending, @Nullable ChallengeResponse current, @Nullable String detail) {
+        ChallengeResponse shown = current != null ? current : pending.original;
+        repository().replaceLocal(shown);
+        for (ActionListener listener : new ArrayList<>(actionListeners)) {
+            listener.onActionFailed(pending.action, shown, detail);
+        }
+    }
+
+    private void failAll(List<PendingAction> batch, String detail) {
+        for (PendingAction pending : batch) {
+            fail(pending, null, detail);
+        }
+        notifyChanged();
+    }
+
+    private void notifyChanged() {
+        for (ChangeListener listener : new ArrayList<>(listeners)) {
+            listener.onChallengesChanged();
+        }
+    }
+
+    private static String errorDetail(Response<?> response) {
+        try {
+            return response.errorBody() != null ? response.errorBody().string() : response.message();
+        } catch (Exception e) {
+            return response.message();
+        }
+    }
+
+    private ChallengeRepository repository() {
+        return ChallengeRepository.getInstance(appContext);
+    }
+
+    private ApiService api() {
+        return RetrofitClient.getApiService(appContext);
+    }
+}
@@ -0,0 +1,143 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/repository/ChallengeRepository.java
+package com.example.sudoku.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.data.local.SessionManager;
+import com.example.sudoku.data.model.ChallengeChanges;
+import com.example.sudoku.data.model.ChallengeResponse;
+import com.example.sudoku.data.network.ApiService;
+
+import java.util.List;
+
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * The user's incoming and outgoing challenges, kept in a ChallengeStore.
+ * The first fetch downloads them all (GET api/challenges/changes without a watermark);
+ * later refreshes only download what changed since the last one and merge it in.
+ * Backends without the changes endpoint (404) get full reloads of GET api/challenges/.
+ */
+public class ChallengeRepository extends CachedResource<ChallengeStore> {
+
+    private static final String TAG = "ChallengeRepository";
+    private static final long TTL_MS = 30_000; // Other players create and answer challenges
+
+    private static ChallengeRepository instance;
+
+    private final Context appContext;
+    private boolean changesEndpointMissing;
+    private int fullSyncs;
+    private int deltaSyncs;
+
+    private ChallengeRepository(Context context) {
+        super(context, TAG, TTL_MS);
+        this.appContext = context.getApplicationContext();
+    }
+
+    public static synchronized ChallengeRepository getInstance(Context context) {
+        if (instance == null) {
+            instance = new ChallengeRepository(context);
+        }
+        return instance;
+    }
+
+    /**
+     * Puts a changed challenge in place of the remembered one with the same id (nothing
+     * happens if there is no remembered store or it doesn't have that challenge).
+     * @return Whether the store changed.
+     */
+    public boolean replaceLocal(ChallengeResponse updated) {
+        ChallengeStore store = peek();
+        return store != null && updated != null && store.replace(updated);
+    }
+
+    /** Full and incremental syncs since app start. */
+    public String summary() {
+        return fullSyncs + " full, " + deltaSyncs + " incremental" + (changesEndpointMissing ? " (no changes endpoint)" : "");
+    }
+
+    @Override
+    protected Call<?> fetchValue(ApiService apiService, @Nullable ChallengeStore current, FetchCallback<ChallengeStore> callback) {
+        if (changesEndpointMissing) return fetchFull(apiService, current, callback);
+        final String since = current != null ? current.getWatermark() : null;
+        Call<ChallengeChanges> call = apiService.getChallengeChanges(since);
+        call.enqueue(new Callback<ChallengeChanges>() {
+            @Override
+            public void onResponse(@NonNull Call<ChallengeChanges> c, @NonNull Response<ChallengeChanges> response) {
+                if (response.code() == 404) {
+                    Log.w(TAG, "No changes endpoint, falling back to full reloads");
+                    changesEndpointMissing = true;
+                    callback.continueWith(fetchFull(apiService, current, callback));
+                    return;
+                }
+                ChallengeChanges changes = response.body();
+                if (!response.isSuccessful() || changes == null) {
+                    callback.onResponse(failed(response));
+                    return;
+                }
+                ChallengeStore store = current;
+                if (store == null || changes.isFull() || since == null) {
+                    store = newStore();
+                    store.replaceAll(changes.getChanges(), changes.getWatermark());
+                    fullSyncs++;
+                } else {
+                    store.merge(changes.getChanges(), changes.getRemovedIds(), changes.getWatermark());
+                    deltaSyncs++;
+                }
+                Log.d(TAG, (changes.isFull() ? "Full sync: " : "Incremental sync: ") + changes.getChanges().size() + " challenges, "
+                        + changes.getRemovedIds().size() + " removed, " + store.size() + " in store");
+                callback.onResponse(Response.success(store, response.raw()));
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<ChallengeChanges> c, @NonNull Throwable t) {
+                callback.onFailure(t);
+            }
+        });
+        return call;
+    }
+
+    // Whole list, for backends without the changes endpoint
+    private Call<?> fetchFull(ApiService apiService, @Nullable ChallengeStore current, FetchCallback<ChallengeStore> callback) {
+        Call<List<ChallengeResponse>> call = apiService.getChallenges();
+        call.enqueue(new Callback<List<ChallengeResponse>>() {
+            @Override
+            public void onResponse(@NonNull Call<List<ChallengeResponse>> c, @NonNull Response<List<ChallengeResponse>> response) {
+                List<ChallengeResponse> list = response.body();
+                if (!response.isSuccessful() || list == null) {
+                    callback.onResponse(failed(response));
+                    return;
+                }
+                ChallengeStore store = newStore();
+                store.replaceAll(list, null);
+                fullSyncs++;
+                callback.onResponse(Response.success(store, response.raw()));
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<List<ChallengeResponse>> c, @NonNull Throwable t) {
+                callback.onFailure(t);
+            }
+        });
+        return call;
+    }
+
+    private ChallengeStore newStore() {
+        return new ChallengeStore(new SessionManager(appContext).fetchUserId());
+    }
+
+    // Passes an unsuccessful response (or one without a body) on to CachedResource's error handling
+    private static Response<ChallengeStore> failed(Response<?> response) {
+        if (response.isSuccessful()) return Response.success(null, response.raw());
+        ResponseBody body = response.errorBody();
+        return Response.error(body != null ? body : ResponseBody.create(new byte[0], null), response.raw());
+    }
+}
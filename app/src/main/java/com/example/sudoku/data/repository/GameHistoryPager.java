@@ -0,0 +1,171 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/repository/GameHistoryPager.java
+package com.example.sudoku.data.repository;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.data.model.GameHistoryPage;
+import com.example.sudoku.data.model.GameResponse;
+import com.example.sudoku.data.network.RetrofitClient;
+
+import java.util.List;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Paging source for the history list (GET api/user/game_history/page). The first page comes
+ * from GameHistoryRepository (cached, so it shows right away); the screen asks for the next
+ * page with {@link #loadNextPage()} as the user scrolls near the end of the loaded rows.
+ * Only one page is loaded at a time, so memory and time to the first row don't depend on
+ * how many games the user has played.
+ * If the backend has no page endpoint, the repository keeps the whole list and later pages
+ * are cut from it here (posted, so rows are never added from inside a scroll callback).
+ * One per screen, main thread only.
+ */
+public class GameHistoryPager {
+
+    private static final String TAG = "GameHistoryPager";
+    public static final int PAGE_SIZE = 20;
+
+    /** Receives the pages. */
+    public interface Listener {
+        /**
+         * The first page: replaces all rows (also when a cached first page is refreshed).
+         * @param hasMore Whether there are more pages to load.
+         */
+        void onFirstPage(@NonNull List<GameResponse> games, boolean hasMore);
+
+        /** A later page: appended to the rows. */
+        void onNextPage(@NonNull List<GameResponse> games, boolean hasMore);
+
+        /**
+         * @param firstPage Whether the first page failed (nothing to show) or a later one.
+         * @param response  The unsuccessful response, or null for a network error.
+         * @param t         The network error, or null for an unsuccessful response.
+         */
+        void onError(boolean firstPage, @Nullable Response<?> response, @Nullable Throwable t);
+    }
+
+    private final Context appContext;
+    private final Listener listener;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    private String nextCursor;          // Cursor of the next page, null if there is none
+    private boolean firstPageLoaded;
+    private Call<GameHistoryPage> inFlight; // Next-page call
+    private Runnable localInFlight;     // Next page cut from the repository's full list
+    private int generation;             // Bumped by refresh() and release(); older callbacks are ignored
+
+    public GameHistoryPager(Context context, Listener listener) {
+        this.appContext = context.getApplicationContext();
+        this.listener = listener;
+    }
+
+    /**
+     * Starts over from the first page. Cached rows are delivered right away (same call stack).
+     * @param forceRefresh Fetch the first page even if the cached one is still fresh.
+     */
+    public void refresh(boolean forceRefresh) {
+        cancelNextPage();
+        final int requested = ++generation;
+        GameHistoryRepository.getInstance(appContext).get(forceRefresh, new CachedResource.Listener<GameHistoryPage>() {
+            @Override
+            public void onData(@NonNull GameHistoryPage page, boolean fromCache) {
+                if (requested != generation) return;
+                // A refreshed first page restarts the list: later pages may have shifted
+                cancelNextPage();
+                firstPageLoaded = true;
+                nextCursor = page.getNextCursor();
+                Log.d(TAG, "First page " + (fromCache ? "from cache" : "fetched") + ": " + page.getItems().size() + " games, more: " + page.hasMore());
+                listener.onFirstPage(page.getItems(), page.hasMore());
+            }
+
+            @Override
+            public void onError(@Nullable Response<GameHistoryPage> response, @Nullable Throwable t) {
+                if (requested != generation) return;
+                listener.onError(true, response, t);
+            }
+        });
+    }
+
+    /** Loads the page after the loaded rows, unless one is loading or there is none. */
+    public void loadNextPage() {
+        if (!firstPageLoaded || nextCursor == null || isLoading()) return;
+        final int requested = generation;
+        GameHistoryRepository repository = GameHistoryRepository.getInstance(appContext);
+        if (repository.isPageEndpointMissing()) {
+            final GameHistoryPage page = repository.localPage(nextCursor, PAGE_SIZE);
+            if (page == null) return; // Full list cleared (logout); refresh() starts over
+            localInFlight = new Runnable() {
+                @Override
+                public void run() {
+                    if (localInFlight != this || requested != generation) return;
+                    localInFlight = null;
+                    nextCursor = page.getNextCursor();
+                    listener.onNextPage(page.getItems(), page.hasMore());
+                }
+            };
+            handler.post(localInFlight);
+            return;
+        }
+        final Call<GameHistoryPage> call = RetrofitClient.getApiService(appContext).getGameHistoryPage(nextCursor, PAGE_SIZE);
+        inFlight = call;
+        call.enqueue(new Callback<GameHistoryPage>() {
+            @Override
+            public void onResponse(@NonNull Call<GameHistoryPage> c, @NonNull Response<GameHistoryPage> response) {
+                if (call != inFlight || requested != generation) return;
+                inFlight = null;
+                GameHistoryPage page = response.body();
+                if (response.isSuccessful() && page != null) {
+                    nextCursor = page.getNextCursor();
+                    Log.d(TAG, "Next page: " + page.getItems().size() + " games, more: " + page.hasMore());
+                    listener.onNextPage(page.getItems(), page.hasMore());
+                } else {
+                    Log.e(TAG, "Next page failed: " + response.code() + " - " + response.message());
+                    listener.onError(false, response, null); // nextCursor is kept, scrolling retries
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<GameHistoryPage> c, @NonNull Throwable t) {
+                if (call != inFlight || requested != generation) return;
+                inFlight = null;
+                Log.e(TAG, "Network error loading next page: " + t.getMessage());
+                listener.onError(false, null, t);
+            }
+        });
+    }
+
+    /** Whether there are pages after the loaded rows. */
+    public boolean hasMore() {
+        return !firstPageLoaded || nextCursor != null;
+    }
+
+    public boolean isLoading() {
+        return inFlight != null || localInFlight != null;
+    }
+
+    /** Stops delivering pages (e.g. in onDestroy). refresh() starts again. */
+    public void release() {
+        generation++;
+        cancelNextPage();
+    }
+
+    private void cancelNextPage() {
+        if (localInFlight != null) {
+            handler.removeCallbacks(localInFlight);
+            localInFlight = null;
+        }
+        if (inFlight != null) {
+            inFlight.cancel();
+            inFlight = null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/repository/GameHistoryRepository.java
+package com.example.sudoku.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.data.model.GameHistoryPage;
+import com.example.sudoku.data.model.GameResponse;
+import com.example.sudoku.data.network.ApiService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * The first page of the user's completed games (GET api/user/game_history/page), so the
+ * history tab renders its first rows right away. Later pages are loaded by GameHistoryPager.
+ * Backends without the page endpoint (404/405) get the whole list (GET api/user/game_history)
+ * instead; it is kept here and cut into pages on the client, with the offset as the cursor.
+ * Only changes when a game ends.
+ */
+public class GameHistoryRepository extends CachedResource<GameHistoryPage> {
+
+    private static final String TAG = "GameHistoryRepository";
+    private static final long TTL_MS = 60_000;
+
+    private static GameHistoryRepository instance;
+
+    private boolean pageEndpointMissing;
+    private List<GameResponse> fullHistory; // Fallback only: the whole list from the last fetch
+
+    private GameHistoryRepository(Context context) {
+        super(context, TAG, TTL_MS);
+    }
+
+    public static synchronized GameHistoryRepository getInstance(Context context) {
+        if (instance == null) {
+            instance = new GameHistoryRepository(context);
+        }
+        return instance;
+    }
+
+    /** Whether later pages must come from {@link #localPage} instead of the backend. */
+    public boolean isPageEndpointMissing() {
+        return pageEndpointMissing;
+    }
+
+    /**
+     * A page of the full list fetched by the fallback.
+     * @param cursor next_cursor of the previous page (an offset), or null for the first page.
+     * @return The page, or null if there is no full list (not fetched yet, or cleared).
+     */
+    @Nullable
+    public GameHistoryPage localPage(@Nullable String cursor, int limit) {
+        if (fullHistory == null) return null;
+        int from = cursor == null ? 0 : Math.min(Integer.parseInt(cursor), fullHistory.size());
+        int to = Math.min(from + limit, fullHistory.size());
+        return new GameHistoryPage(new ArrayList<>(fullHistory.subList(from, to)), to < fullHistory.size() ? Integer.toString(to) : null);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        fullHistory = null;
+    }
+
+    @Override
+    protected Call<?> fetchValue(ApiService apiService, @Nullable GameHistoryPage current, FetchCallback<GameHistoryPage> callback) {
+        if (pageEndpointMissing) return fetchFullHistory(apiService, callback);
+        Call<GameHistoryPage> call = apiService.getGameHistoryPage(null, GameHistoryPager.PAGE_SIZE);
+        call.enqueue(new Callback<GameHistoryPage>() {
+            @Override
+            public void onResponse(@NonNull Call<GameHistoryPage> c, @NonNull Response<GameHistoryPage> response) {
+                if (response.code() == 404 || response.code() == 405) {
+                    Log.w(TAG, "No page endpoint (" + response.code() + "), paging the full history on the client");
+                    pageEndpointMissing = true;
+                    callback.continueWith(fetchFullHistory(apiService, callback));
+                    return;
+                }
+                callback.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<GameHistoryPage> c, @NonNull Throwable t) {
+                callback.onFailure(t);
+            }
+        });
+        return call;
+    }
+
+    private Call<?> fetchFullHistory(ApiService apiService, FetchCallback<GameHistoryPage> callback) {
+        Call<List<GameResponse>> call = apiService.getGameHistory();
+        call.enqueue(new Callback<List<GameResponse>>() {
+            @Override
+            public void onResponse(@NonNull Call<List<GameResponse>> c, @NonNull Response<List<GameResponse>> response) {
+                List<GameResponse> games = response.body();
+                if (!response.isSuccessful() || games == null) {
+                    callback.onResponse(failed(response));
+                    return;
+                }
+                if (callback.isAbandoned()) return; // Cleared meanwhile (e.g. logout): it may be the previous user's list
+                fullHistory = games;
+                callback.onResponse(Response.success(localPage(null, GameHistoryPager.PAGE_SIZE), response.raw()));
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<List<GameResponse>> c, @NonNull Throwable t) {
+                callback.onFailure(t);
+            }
+        });
+        return call;
+    }
+
+    // Passes an unsuccessful response (or one without a body) on to CachedResource's error handling
+    private static Response<GameHistoryPage> failed(Response<?> response) {
+        if (response.isSuccessful()) return Response.success(null, response.raw());
+        ResponseBody body = response.errorBody();
+        return Response.error(body != null ? body : ResponseBody.create(new byte[0], null), response.raw());
+    }
+}
@@ -0,0 +1,43 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/repository/LeaderboardRepository.java
+package com.example.sudoku.data.repository;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.data.model.LeaderboardResponse;
+import com.example.sudoku.data.network.ApiService;
+
+import retrofit2.Call;
+
+/**
+ * All leaderboard categories plus the user's ranks (GET api/leaderboard/).
+ */
+public class LeaderboardRepository extends CachedResource<LeaderboardResponse> {
+
+    private static final long TTL_MS = 60_000; // Rankings move slowly
+
+    private static LeaderboardRepository instance;
+
+    private LeaderboardRepository(Context context) {
+        super(context, "LeaderboardRepository", TTL_MS);
+    }
+
+    public static synchronized LeaderboardRepository getInstance(Context context) {
+        if (instance == null) {
+            instance = new LeaderboardRepository(context);
+        }
+        return instance;
+    }
+
+    @Override
+    protected Call<?> fetchValue(ApiService apiService, @Nullable LeaderboardResponse current, FetchCallback<LeaderboardResponse> callback) {
+        return enqueue(apiService.getLeaderboard(), callback);
+    }
+
+    @Override
+    protected boolean isValid(@NonNull LeaderboardResponse body) {
+        return "success".equals(body.getStatus());
+    }
+}
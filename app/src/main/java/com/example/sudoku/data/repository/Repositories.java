@@ -0,0 +1,38 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/repository/Repositories.java
+package com.example.sudoku.data.repository;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * Invalidation shared by all repositories.
+ */
+public final class Repositories {
+
+    private Repositories() {
+        // Static helpers only
+    }
+
+    /**
+     * A game result or challenge change reached the backend: stats, history, rankings and
+     * challenges are stale. Safe to call from any thread.
+     */
+    public static void invalidateAfterResult(Context context) {
+        final Context appContext = context.getApplicationContext();
+        new Handler(Looper.getMainLooper()).post(() -> {
+            UserRepository.getInstance(appContext).invalidate();
+            GameHistoryRepository.getInstance(appContext).invalidate();
+            LeaderboardRepository.getInstance(appContext).invalidate();
+            ChallengeRepository.getInstance(appContext).invalidate();
+        });
+    }
+
+    /** Forgets all cached data (logout). Main thread only. */
+    public static void clearAll(Context context) {
+        UserRepository.getInstance(context).clear();
+        GameHistoryRepository.getInstance(context).clear();
+        LeaderboardRepository.getInstance(context).clear();
+        ChallengeRepository.getInstance(context).clear();
+    }
+}
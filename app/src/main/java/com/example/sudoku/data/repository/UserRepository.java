@@ -0,0 +1,43 @@
+// Relative Path: app/src/main/java/com/example/sudoku/data/repository/UserRepository.java
+package com.example.sudoku.data.repository;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.data.model.UserResponse;
+import com.example.sudoku.data.network.ApiService;
+
+import retrofit2.Call;
+
+/**
+ * The logged-in user's profile and stats (GET api/user/), shared by the home and profile screens.
+ */
+public class UserRepository extends CachedResource<UserResponse> {
+
+    private static final long TTL_MS = 30_000;
+
+    private static UserRepository instance;
+
+    private UserRepository(Context context) {
+        super(context, "UserRepository", TTL_MS);
+    }
+
+    public static synchronized UserRepository getInstance(Context context) {
+        if (instance == null) {
+            instance = new UserRepository(context);
+        }
+        return instance;
+    }
+
+    @Override
+    protected Call<?> fetchValue(ApiService apiService, @Nullable UserResponse current, FetchCallback<UserResponse> callback) {
+        return enqueue(apiService.getUser(), callback);
+    }
+
+    @Override
+    protected boolean isValid(@NonNull UserResponse body) {
+        return body.getMessage() != null;
+    }
+}
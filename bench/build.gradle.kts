@@ -0,0 +1,38 @@
+plugins {
+    java
+}
+
+// Pure-JVM JMH benchmarks for the game logic and network settings in :core.
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    implementation(project(":core"))
+    implementation(libs.jmh.core)
+    implementation("com.squareup.okhttp3:mockwebserver:4.9.3") // Local HTTPS/HTTP2 server for ConnectionReuseBenchmark
+    implementation("com.squareup.okhttp3:okhttp-tls:4.9.3")
+    annotationProcessor(libs.jmh.generator.annprocess)
+}
+
+// Runs all benchmarks and writes machine-readable results to build/results/jmh/results.json.
+// Pass -Pjmh.include=<regex> to run a subset, e.g. ./gradlew :bench:jmh -Pjmh.include=Solver
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks and writes JSON results."
+    dependsOn(tasks.named("classes"))
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val resultFile = layout.buildDirectory.file("results/jmh/results.json")
+    outputs.file(resultFile)
+    outputs.upToDateWhen { false }
+
+    val include = providers.gradleProperty("jmh.include").orElse(".*")
+    argumentProviders.add(CommandLineArgumentProvider {
+        val file = resultFile.get().asFile
+        file.parentFile.mkdirs()
+        listOf(include.get(), "-rf", "json", "-rff", file.absolutePath)
+    })
+}
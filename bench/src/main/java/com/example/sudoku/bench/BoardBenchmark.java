@@ -0,0 +1,99 @@
+// Relative Path: bench/src/main/java/com/example/sudoku/bench/BoardBenchmark.java
+package com.example.sudoku.bench;
+
+import com.example.sudoku.core.Board;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board string parsing, serialization and validation on the core Board model
+ * (what SudokuBoardView.setBoard/loadCurrentState and GameActivity's submit/save paths use).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({"easy", "medium", "hard"})
+    public String difficulty;
+
+    @Param({"2000"})
+    public int corpusSize;
+
+    private PuzzleCorpus corpus;
+    private String[] halfwayStates; // Saved-game states with about half the empty cells filled
+    private Board state;
+    private Board solvedState;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        corpus = PuzzleCorpus.create(difficulty, corpusSize, 42L);
+        halfwayStates = new String[corpus.size()];
+        for (int i = 0; i < corpus.size(); i++) {
+            String board = corpus.board(i);
+            String solution = corpus.solution(i);
+            char[] chars = board.toCharArray();
+            for (int cell = 0; cell < 81; cell += 2) {
+                if (chars[cell] == '0') chars[cell] = solution.charAt(cell);
+            }
+            halfwayStates[i] = new String(chars);
+        }
+        state = new Board();
+        state.load(corpus.board(0), corpus.solution(0));
+        state.loadState(halfwayStates[0]);
+        solvedState = new Board();
+        solvedState.load(corpus.board(0), corpus.solution(0));
+        solvedState.loadState(corpus.solution(0));
+        index = 0;
+    }
+
+    private int next() {
+        int i = index;
+        index = (i + 1) % corpus.size();
+        return i;
+    }
+
+    @Benchmark
+    public boolean load() {
+        int i = next();
+        return state.load(corpus.board(i), corpus.solution(i));
+    }
+
+    @Benchmark
+    public int loadAndLoadState() {
+        int i = next();
+        state.load(corpus.board(i), corpus.solution(i));
+        return state.loadState(halfwayStates[i]);
+    }
+
+    @Benchmark
+    public String toBoardString() {
+        return state.toBoardString();
+    }
+
+    @Benchmark
+    public boolean isSolvedCorrectlyIncomplete() {
+        return state.isSolvedCorrectly();
+    }
+
+    @Benchmark
+    public boolean isSolvedCorrectlySolved() {
+        return solvedState.isSolvedCorrectly();
+    }
+}
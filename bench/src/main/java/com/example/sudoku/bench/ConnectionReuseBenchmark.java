@@ -0,0 +1,184 @@
+// Relative Path: bench/src/main/java/com/example/sudoku/bench/ConnectionReuseBenchmark.java
+package com.example.sudoku.bench;
+
+import com.example.sudoku.data.network.NetworkConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.X509TrustManager;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.tls.HandshakeCertificates;
+import okhttp3.tls.HeldCertificate;
+
+/**
+ * Connection reuse against a local HTTPS MockWebServer (HTTP/2 or HTTP/1.1), with a default
+ * OkHttpClient vs. NetworkConfig's client. Like RetrofitClient, a new client is built for
+ * every session (logout/login rebuilds it); a session is SESSION_REQUESTS sequential GETs,
+ * a burst is BURST_REQUESTS concurrent GETs. Both variants get the same TLS socket factory
+ * instance (the test certificate), so only the client settings differ.
+ * The reuse rate (calls that didn't open a connection) is printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionReuseBenchmark {
+
+    private static final int SESSION_REQUESTS = 10;
+    private static final int BURST_REQUESTS = 8;
+    private static final String BODY = "{\"status\":\"success\",\"message\":{\"id\":\"" + "0".repeat(36) + "\",\"username\":\"player\"," + "\"padding\":\"" + "x".repeat(2000) + "\"}}";
+
+    @Param({"default", "tuned"})
+    public String client;
+
+    @Param({"h2", "http1"})
+    public String protocol;
+
+    private MockWebServer server;
+    private SSLSocketFactory sslSocketFactory;
+    private X509TrustManager trustManager;
+    private OkHttpClient burstClient;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final EventListener counter = new EventListener() {
+        @Override
+        public void callStart(Call call) {
+            calls.incrementAndGet();
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress address, Proxy proxy) {
+            connections.incrementAndGet();
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String localhost = InetAddress.getByName("localhost").getCanonicalHostName();
+        HeldCertificate certificate = new HeldCertificate.Builder().addSubjectAlternativeName(localhost).build();
+        HandshakeCertificates serverCertificates = new HandshakeCertificates.Builder().heldCertificate(certificate).build();
+        HandshakeCertificates clientCertificates = new HandshakeCertificates.Builder().addTrustedCertificate(certificate.certificate()).build();
+        sslSocketFactory = clientCertificates.sslSocketFactory(); // A new one per call
+        trustManager = clientCertificates.trustManager();
+
+        server = new MockWebServer();
+        server.useHttps(serverCertificates.sslSocketFactory(), false);
+        server.setProtocols("h2".equals(protocol)
+                ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                : Arrays.asList(Protocol.HTTP_1_1));
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setBody(BODY).setHeader("Content-Type", "application/json");
+            }
+        });
+        server.start();
+        burstClient = newClient();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printReuse() {
+        int callCount = calls.getAndSet(0);
+        int connectionCount = connections.getAndSet(0);
+        System.out.printf(Locale.US, "%n  [%s/%s] %d calls, %d connections opened, %.1f%% reused%n",
+                client, protocol, callCount, connectionCount,
+                callCount == 0 ? 0.0 : 100.0 * (callCount - connectionCount) / callCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    /** A fresh client (as after logout), then SESSION_REQUESTS sequential GETs. */
+    @Benchmark
+    public int session() throws IOException {
+        OkHttpClient session = newClient();
+        int bytes = 0;
+        for (int i = 0; i < SESSION_REQUESTS; i++) {
+            bytes += get(session, "/api/user/");
+        }
+        return bytes;
+    }
+
+    /** BURST_REQUESTS concurrent GETs (a screen loading its data) on a long-lived client. */
+    @Benchmark
+    public int burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BURST_REQUESTS);
+        AtomicInteger bytes = new AtomicInteger();
+        for (int i = 0; i < BURST_REQUESTS; i++) {
+            burstClient.newCall(request("/api/leaderboard/")).enqueue(new Callback() {
+                @Override
+                public void onResponse(Call call, Response response) throws IOException {
+                    try (Response r = response) {
+                        bytes.addAndGet(r.body().bytes().length);
+                    }
+                    done.countDown();
+                }
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(30, TimeUnit.SECONDS);
+        return bytes.get();
+    }
+
+    private OkHttpClient newClient() {
+        OkHttpClient.Builder builder = "tuned".equals(client) ? NetworkConfig.newClientBuilder() : new OkHttpClient.Builder();
+        return builder
+                .sslSocketFactory(sslSocketFactory, trustManager)
+                .eventListener(counter)
+                .build();
+    }
+
+    private int get(OkHttpClient okHttpClient, String path) throws IOException {
+        try (Response response = okHttpClient.newCall(request(path)).execute()) {
+            return response.body().bytes().length;
+        }
+    }
+
+    private Request request(String path) {
+        return new Request.Builder().url(server.url(path)).build();
+    }
+}
@@ -0,0 +1,77 @@
+// Relative Path: bench/src/main/java/com/example/sudoku/bench/GeneratorBenchmark.java
+package com.example.sudoku.bench;
+
+import com.example.sudoku.engine.HintEngine;
+import com.example.sudoku.engine.PuzzleGenerator;
+import com.example.sudoku.engine.Units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-device puzzle generation (must stay well under 100 ms per puzzle) and the logical
+ * hint/rating ladder it grades with.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"easy", "medium", "hard"})
+    public String difficulty;
+
+    private PuzzleGenerator generator;
+    private HintEngine hintEngine;
+    private int[][] boards;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        generator = new PuzzleGenerator(new Random(42L));
+        hintEngine = new HintEngine();
+        PuzzleCorpus corpus = PuzzleCorpus.create(difficulty, 256, 42L);
+        boards = new int[corpus.size()][81];
+        for (int i = 0; i < corpus.size(); i++) {
+            Units.parse(corpus.board(i), boards[i]);
+        }
+        index = 0;
+    }
+
+    @Benchmark
+    public PuzzleGenerator.Puzzle generate() {
+        return generator.generate(difficulty);
+    }
+
+    @Benchmark
+    public HintEngine.Hint findHint() {
+        int[] board = next();
+        return hintEngine.findHint(board);
+    }
+
+    @Benchmark
+    public HintEngine.Technique rate() {
+        int[] board = next();
+        return hintEngine.rate(board);
+    }
+
+    private int[] next() {
+        int[] board = boards[index];
+        index = (index + 1) % boards.length;
+        return board;
+    }
+}
@@ -0,0 +1,193 @@
+// Relative Path: bench/src/main/java/com/example/sudoku/bench/JsonParsingBenchmark.java
+package com.example.sudoku.bench;
+
+import com.example.sudoku.data.model.GameResponse;
+import com.example.sudoku.data.model.LeaderboardResponse;
+import com.example.sudoku.data.model.ModelAdapters;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response parsing as Retrofit's Gson converter does it (one adapter per type, read from a
+ * character stream), with Gson's reflective adapters vs. the streaming ModelAdapters.
+ * Payloads: a leaderboard with LEADERBOARD_ENTRIES players per difficulty and time span,
+ * and a game history of HISTORY_GAMES games.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonParsingBenchmark {
+
+    private static final int LEADERBOARD_ENTRIES = 500; // x 3 difficulties x 3 time spans
+    private static final int HISTORY_GAMES = 1000;
+    private static final String[] DIFFICULTIES = {"easy", "medium", "hard"};
+    private static final TypeToken<List<GameResponse>> HISTORY_TYPE = new TypeToken<List<GameResponse>>() {};
+
+    private final Gson reflectiveGson = new Gson();
+    private final Gson streamingGson = ModelAdapters.newGson();
+
+    private TypeAdapter<LeaderboardResponse> reflectiveLeaderboard;
+    private TypeAdapter<LeaderboardResponse> streamingLeaderboard;
+    private TypeAdapter<List<GameResponse>> reflectiveHistory;
+    private TypeAdapter<List<GameResponse>> streamingHistory;
+
+    private String leaderboardJson;
+    private String historyJson;
+
+    @Setup
+    public void setUp() {
+        // Looked up once, like Retrofit does per service method
+        reflectiveLeaderboard = reflectiveGson.getAdapter(LeaderboardResponse.class);
+        streamingLeaderboard = streamingGson.getAdapter(LeaderboardResponse.class);
+        reflectiveHistory = reflectiveGson.getAdapter(HISTORY_TYPE);
+        streamingHistory = streamingGson.getAdapter(HISTORY_TYPE);
+
+        Random random = new Random(42L);
+        leaderboardJson = leaderboard(random).toString();
+        historyJson = history(random).toString();
+    }
+
+    @Benchmark
+    public LeaderboardResponse leaderboardReflective() throws IOException {
+        return parse(reflectiveGson, reflectiveLeaderboard, leaderboardJson);
+    }
+
+    @Benchmark
+    public LeaderboardResponse leaderboardStreaming() throws IOException {
+        return parse(streamingGson, streamingLeaderboard, leaderboardJson);
+    }
+
+    @Benchmark
+    public List<GameResponse> historyReflective() throws IOException {
+        return parse(reflectiveGson, reflectiveHistory, historyJson);
+    }
+
+    @Benchmark
+    public List<GameResponse> historyStreaming() throws IOException {
+        return parse(streamingGson, streamingHistory, historyJson);
+    }
+
+    // First use of a Gson instance (app start): the reflective adapters introspect every model class
+    @Benchmark
+    public Object adapterSetupReflective() {
+        Gson gson = new Gson();
+        return new Object[]{gson.getAdapter(LeaderboardResponse.class), gson.getAdapter(HISTORY_TYPE)};
+    }
+
+    @Benchmark
+    public Object adapterSetupStreaming() {
+        Gson gson = ModelAdapters.newGson();
+        return new Object[]{gson.getAdapter(LeaderboardResponse.class), gson.getAdapter(HISTORY_TYPE)};
+    }
+
+    // Same steps as GsonResponseBodyConverter.convert()
+    private static <T> T parse(Gson gson, TypeAdapter<T> adapter, String json) throws IOException {
+        return adapter.read(gson.newJsonReader(new StringReader(json)));
+    }
+
+    // --- Payloads shaped like the backend's responses ---
+
+    private static JsonObject leaderboard(Random random) {
+        JsonObject topPlayers = new JsonObject();
+        JsonObject userRanks = new JsonObject();
+        for (String difficulty : DIFFICULTIES) {
+            JsonObject category = new JsonObject();
+            JsonObject ranks = new JsonObject();
+            for (String span : new String[]{"daily", "weekly", "all_time"}) {
+                JsonArray entries = new JsonArray();
+                for (int rank = 1; rank <= LEADERBOARD_ENTRIES; rank++) {
+                    JsonObject entry = new JsonObject();
+                    entry.addProperty("user_id", new UUID(random.nextLong(), random.nextLong()).toString());
+                    entry.addProperty("username", "player" + random.nextInt(100_000));
+                    entry.addProperty("total_score", (LEADERBOARD_ENTRIES - rank + 1) * 100);
+                    entry.addProperty("rank", rank);
+                    entries.add(entry);
+                }
+                category.add(span, entries);
+                JsonObject own = new JsonObject();
+                own.addProperty("total_score", random.nextInt(50_000));
+                own.addProperty("rank", 1 + random.nextInt(LEADERBOARD_ENTRIES));
+                ranks.add(span, own);
+            }
+            topPlayers.add(difficulty, category);
+            userRanks.add(difficulty, ranks);
+        }
+        JsonObject data = new JsonObject();
+        data.add("top_players", topPlayers);
+        data.add("user_ranks", userRanks);
+        JsonObject response = new JsonObject();
+        response.addProperty("status", "success");
+        response.addProperty("message", "Leaderboard retrieved");
+        response.add("data", data);
+        return response;
+    }
+
+    private static JsonArray history(Random random) {
+        JsonArray games = new JsonArray();
+        for (int i = 0; i < HISTORY_GAMES; i++) {
+            String difficulty = DIFFICULTIES[random.nextInt(DIFFICULTIES.length)];
+            String id = new UUID(random.nextLong(), random.nextLong()).toString();
+            boolean challenge = random.nextInt(5) == 0;
+            JsonObject puzzle = new JsonObject();
+            puzzle.addProperty("id", new UUID(random.nextLong(), random.nextLong()).toString());
+            puzzle.addProperty("difficulty", difficulty);
+            puzzle.addProperty("board_string", board(random, true));
+            puzzle.addProperty("solution_string", board(random, false));
+
+            JsonObject game = new JsonObject();
+            game.addProperty("id", id);
+            game.addProperty("difficulty", difficulty);
+            game.addProperty("was_completed", true);
+            game.addProperty("duration_seconds", 120 + random.nextInt(1800));
+            game.addProperty("errors_made", random.nextInt(6));
+            game.addProperty("hints_used", random.nextInt(4));
+            game.addProperty("final_score", random.nextInt(5000));
+            game.addProperty("completed_at", "2025-05-" + (10 + random.nextInt(18)) + "T12:34:56.789012");
+            game.addProperty("current_state", board(random, false));
+            game.add("puzzle", puzzle);
+            game.addProperty("is_challenge", challenge);
+            if (challenge) {
+                game.addProperty("opponent_username", "player" + random.nextInt(100_000));
+                game.addProperty("challenger_username", "player" + random.nextInt(100_000));
+                game.addProperty("winner_id", id);
+                game.addProperty("opponent_duration", 120 + random.nextInt(1800));
+                game.addProperty("challenger_duration", 120 + random.nextInt(1800));
+            }
+            games.add(game);
+        }
+        return games;
+    }
+
+    // Random digits; only the size and shape of the payload matter here
+    private static String board(Random random, boolean withBlanks) {
+        StringBuilder sb = new StringBuilder(81);
+        for (int i = 0; i < 81; i++) {
+            sb.append(withBlanks && random.nextBoolean() ? 0 : 1 + random.nextInt(9));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,70 @@
+// Relative Path: bench/src/main/java/com/example/sudoku/bench/PuzzleCorpus.java
+package com.example.sudoku.bench;
+
+import com.example.sudoku.engine.PuzzleGenerator;
+
+import java.util.Random;
+
+/**
+ * Deterministic benchmark corpus.
+ * Puzzles come from the app's own PuzzleGenerator with a fixed seed, so every puzzle has its
+ * own solution grid and is graded the way the app grades it (puzzles that miss the requested
+ * grade are skipped). The same seed always produces the same corpus.
+ * 2000 hard puzzles take a few seconds to build; it happens once per trial setup.
+ */
+public final class PuzzleCorpus {
+
+    public static final String[] DIFFICULTIES = {PuzzleGenerator.EASY, PuzzleGenerator.MEDIUM, PuzzleGenerator.HARD};
+
+    private static final int MAX_ATTEMPTS_PER_PUZZLE = 20; // generate() settles for another grade only rarely
+
+    private final String[] boards;
+    private final String[] solutions;
+
+    private PuzzleCorpus(String[] boards, String[] solutions) {
+        this.boards = boards;
+        this.solutions = solutions;
+    }
+
+    /**
+     * Builds a corpus of {@code size} puzzles for one difficulty.
+     * @param difficulty "easy", "medium" or "hard".
+     */
+    public static PuzzleCorpus create(String difficulty, int size, long seed) {
+        checkDifficulty(difficulty);
+        String[] boards = new String[size];
+        String[] solutions = new String[size];
+        PuzzleGenerator generator = new PuzzleGenerator(new Random(seed));
+        for (int i = 0; i < size; i++) {
+            PuzzleGenerator.Puzzle puzzle = generator.generate(difficulty);
+            for (int attempt = 1; !difficulty.equals(puzzle.getDifficulty()); attempt++) {
+                if (attempt == MAX_ATTEMPTS_PER_PUZZLE) {
+                    throw new IllegalStateException("Generator keeps missing " + difficulty + " puzzles");
+                }
+                puzzle = generator.generate(difficulty);
+            }
+            boards[i] = puzzle.getBoardString();
+            solutions[i] = puzzle.getSolutionString();
+        }
+        return new PuzzleCorpus(boards, solutions);
+    }
+
+    public int size() {
+        return boards.length;
+    }
+
+    public String board(int index) {
+        return boards[index];
+    }
+
+    public String solution(int index) {
+        return solutions[index];
+    }
+
+    private static void checkDifficulty(String difficulty) {
+        for (String known : DIFFICULTIES) {
+            if (known.equals(difficulty)) return;
+        }
+        throw new IllegalArgumentException("Unknown difficulty: " + difficulty);
+    }
+}
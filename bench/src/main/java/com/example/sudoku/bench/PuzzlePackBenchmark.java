@@ -0,0 +1,79 @@
+// Relative Path: bench/src/main/java/com/example/sudoku/bench/PuzzlePackBenchmark.java
+package com.example.sudoku.bench;
+
+import com.example.sudoku.core.PuzzlePack;
+import com.example.sudoku.core.PuzzlePackWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random puzzle lookup from a memory-mapped puzzle pack (board + solution strings, as
+ * handed to SudokuBoardView.setBoard).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PuzzlePackBenchmark {
+
+    private static final int PUZZLES_PER_DIFFICULTY = 10_000;
+
+    private File packFile;
+    private PuzzlePack pack;
+    private int[] cells;
+    private Random random;
+
+    @Setup
+    public void setUp() throws IOException {
+        PuzzlePackWriter writer = new PuzzlePackWriter();
+        for (String difficulty : PuzzleCorpus.DIFFICULTIES) {
+            PuzzleCorpus corpus = PuzzleCorpus.create(difficulty, PUZZLES_PER_DIFFICULTY, 42L);
+            for (int i = 0; i < corpus.size(); i++) {
+                writer.add(difficulty, corpus.board(i), corpus.solution(i));
+            }
+        }
+        packFile = File.createTempFile("puzzles", ".pack");
+        try (OutputStream out = new FileOutputStream(packFile)) {
+            writer.writeTo(out);
+        }
+        pack = PuzzlePack.open(packFile);
+        cells = new int[81];
+        random = new Random(42L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        packFile.delete();
+    }
+
+    @Benchmark
+    public String[] randomPuzzleStrings() {
+        int index = pack.randomIndex("medium", random);
+        return new String[]{pack.board("medium", index), pack.solution("medium", index)};
+    }
+
+    @Benchmark
+    public int[] randomPuzzleCells() {
+        pack.readBoard("hard", pack.randomIndex("hard", random), cells);
+        return cells;
+    }
+}
@@ -0,0 +1,56 @@
+// Relative Path: bench/src/main/java/com/example/sudoku/bench/ScoreBenchmark.java
+package com.example.sudoku.bench;
+
+import com.example.sudoku.engine.ScoreCalculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Score calculation (GameActivity.calculateScore) over a spread of times, errors and difficulties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBenchmark {
+
+    private static final String[] DIFFICULTY_NAMES = {"easy", "Medium", "HARD", "unknown", null};
+    private static final int SAMPLES = 1024; // Power of two for cheap wrap-around
+
+    private final int[] times = new int[SAMPLES];
+    private final int[] errors = new int[SAMPLES];
+    private final String[] difficulties = new String[SAMPLES];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        for (int i = 0; i < SAMPLES; i++) {
+            times[i] = random.nextInt(3600);
+            errors[i] = random.nextInt(10);
+            difficulties[i] = DIFFICULTY_NAMES[random.nextInt(DIFFICULTY_NAMES.length)];
+        }
+        index = 0;
+    }
+
+    @Benchmark
+    public int calculateScore() {
+        int i = index;
+        index = (i + 1) & (SAMPLES - 1);
+        return ScoreCalculator.calculateScore(times[i], errors[i], difficulties[i]);
+    }
+}
@@ -0,0 +1,69 @@
+// Relative Path: bench/src/main/java/com/example/sudoku/bench/SolverBenchmark.java
+package com.example.sudoku.bench;
+
+import com.example.sudoku.engine.BitmaskSolver;
+import com.example.sudoku.engine.DlxSolver;
+import com.example.sudoku.engine.SudokuSolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Head-to-head solver throughput over the puzzle corpus. Each invocation solves the next
+ * puzzle in the corpus, so the score is the average over all puzzles of a difficulty.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+
+    @Param({"easy", "medium", "hard"})
+    public String difficulty;
+
+    @Param({"bitmask", "dlx"})
+    public String solverType;
+
+    @Param({"2000"})
+    public int corpusSize;
+
+    private PuzzleCorpus corpus;
+    private SudokuSolver solver;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        corpus = PuzzleCorpus.create(difficulty, corpusSize, 42L);
+        solver = "dlx".equals(solverType) ? new DlxSolver() : new BitmaskSolver();
+        index = 0;
+    }
+
+    private String nextBoard() {
+        String board = corpus.board(index);
+        index = (index + 1) % corpus.size();
+        return board;
+    }
+
+    @Benchmark
+    public String solve() {
+        return solver.solve(nextBoard());
+    }
+
+    @Benchmark
+    public int countSolutionsUpToTwo() {
+        return solver.countSolutions(nextBoard(), 2);
+    }
+}
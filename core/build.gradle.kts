@@ -0,0 +1,16 @@
+plugins {
+    `java-library`
+}
+
+// Platform-free game logic (board model, solvers, scoring), the backend API models with
+// their Gson type adapters and the OkHttp client settings, shared by the app and the JVM tools.
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    api("com.google.code.gson:gson:2.8.5") // Same version Retrofit's converter brings into the app
+    api("com.squareup.okhttp3:okhttp:4.9.3") // Same version the app's logging-interceptor brings in
+    testImplementation(libs.junit)
+}
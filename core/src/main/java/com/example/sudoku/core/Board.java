@@ -0,0 +1,428 @@
+// Relative Path: core/src/main/java/com/example/sudoku/core/Board.java
+package com.example.sudoku.core;
+
+import com.example.sudoku.engine.BitmaskSolver;
+
+/**
+ * Platform-free Sudoku board state: cell values, starting (given) cells, the solution used
+ * for validation, the cumulative error count of the current game session and the undo/redo
+ * {@link MoveJournal}.
+ * SudokuBoardView renders this model and GameActivity drives it, so all of the game logic
+ * can run (and be benchmarked) on a plain JVM.
+ */
+public final class Board {
+
+    /** Outcome of a move on the board. */
+    public enum MoveResult {
+        APPLIED,       // The cell changed
+        NO_CHANGE,     // The cell already had that value
+        STARTING_CELL  // Starting numbers can't be changed
+    }
+
+    // Cells are indexed 0-80 in row-major order, same as the board strings
+    private final byte[] values = new byte[81];      // Current state including user input, 0 = empty
+    private final byte[] solution = new byte[81];    // Parsed solution digits (valid when hasSolution)
+    private long givenLow;                           // Starting cell bits for cells 0-63
+    private long givenHigh;                          // Starting cell bits for cells 64-80
+
+    // How many times each digit appears per unit (index unit * 9 + digit - 1), plus the
+    // derived masks of digits present. Counts are needed because users may place duplicates.
+    private final byte[] rowCounts = new byte[81];
+    private final byte[] colCounts = new byte[81];
+    private final byte[] boxCounts = new byte[81];
+    private final int[] rowMask = new int[9];
+    private final int[] colMask = new int[9];
+    private final int[] boxMask = new int[9];
+
+    private int filledCount;                         // Non-empty cells
+    private int correctCount;                        // Cells matching the solution
+    private String solutionString = null;            // Solution used for validation (may be null)
+    private int errorCount = 0;                      // Cumulative errors, never decreases during a game
+    private BitmaskSolver solver;                    // Created on first use
+    private final MoveJournal journal = new MoveJournal(); // Undo/redo history of user moves
+
+    /**
+     * Sets the board from a puzzle string, called when a new game starts OR restarts.
+     * If no valid solution is given, the solution is derived locally when the puzzle is unique.
+     * Reuses the existing arrays, so restarting doesn't allocate.
+     * @param boardString 81-character puzzle ('0' for empty).
+     * @param solution 81-character solution, or null if not available (e.g. challenges).
+     * @return false if the board string is invalid; the board is then reset to empty.
+     */
+    public boolean load(String boardString, String solution) {
+        clear();
+        journal.clear();
+        if (boardString == null || boardString.length() != 81) {
+            return false;
+        }
+
+        // Treat an invalid solution as missing
+        String validSolution = (solution != null && solution.length() == 81) ? solution : null;
+
+        // No usable solution: solve locally, but only trust a unique solution
+        if (validSolution == null) {
+            if (solver == null) solver = new BitmaskSolver();
+            if (solver.countSolutions(boardString, 2) == 1) {
+                validSolution = solver.solve(boardString);
+            }
+        }
+        setSolution(validSolution);
+
+        for (int cell = 0; cell < 81; cell++) {
+            char c = boardString.charAt(cell);
+            if (c >= '1' && c <= '9') {
+                if (cell < 64) givenLow |= 1L << cell;
+                else givenHigh |= 1L << (cell - 64);
+                put(cell, c - '0');
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Loads a saved game state on top of the starting cells set by {@link #load}.
+     * The error count is NOT changed; it is restored separately with {@link #setErrorCount}.
+     * @param stateString 81-character saved state ('0' for empty).
+     * @return The number of wrong cells in the loaded state (0 if no solution), or -1 if the state is invalid.
+     */
+    public int loadState(String stateString) {
+        if (stateString == null || stateString.length() != 81) {
+            return -1;
+        }
+        int recalculatedErrors = 0;
+        for (int cell = 0; cell < 81; cell++) {
+            if (isGiven(cell)) continue; // Only modify non-starting cells
+            char c = stateString.charAt(cell);
+            int num = (c >= '1' && c <= '9') ? c - '0' : 0;
+            put(cell, num);
+            if (num != 0 && hasSolution() && solution[cell] != num) {
+                recalculatedErrors++;
+            }
+        }
+        return recalculatedErrors;
+    }
+
+    /**
+     * Places a number in a cell and updates the error count.
+     * An error is counted when a wrong number is placed in a cell that was empty or correct;
+     * replacing one wrong number with another, or fixing a mistake, doesn't change the count.
+     */
+    public MoveResult setNumber(int row, int col, int number) {
+        int cell = row * 9 + col;
+        if (isGiven(cell)) return MoveResult.STARTING_CELL;
+        int previousValue = values[cell];
+        if (previousValue == number) return MoveResult.NO_CHANGE;
+
+        boolean newError = false;
+        if (hasSolution() && number != 0) {
+            int correctValue = solution[cell];
+            boolean wasCorrect = previousValue != 0 && previousValue == correctValue;
+            if (number != correctValue && (previousValue == 0 || wasCorrect)) {
+                errorCount++;
+                newError = true;
+            }
+        }
+        int kind = number == 0 ? MoveJournal.KIND_ERASE : MoveJournal.KIND_PLACE;
+        journal.record(MoveJournal.pack(cell, previousValue, number, newError, kind));
+        put(cell, number);
+        return MoveResult.APPLIED;
+    }
+
+    /**
+     * Clears a cell. Erasing doesn't reduce the historical error count for the game.
+     */
+    public MoveResult erase(int row, int col) {
+        int cell = row * 9 + col;
+        if (isGiven(cell)) return MoveResult.STARTING_CELL;
+        if (values[cell] == 0) return MoveResult.NO_CHANGE;
+        journal.record(MoveJournal.pack(cell, values[cell], 0, false, MoveJournal.KIND_ERASE));
+        put(cell, 0);
+        return MoveResult.APPLIED;
+    }
+
+    /**
+     * Places a hinted digit. Recorded in the journal as a hint so it can be undone like any
+     * other move; hints never count as errors.
+     */
+    public MoveResult applyHint(int row, int col, int digit) {
+        int cell = row * 9 + col;
+        if (isGiven(cell)) return MoveResult.STARTING_CELL;
+        int previousValue = values[cell];
+        if (previousValue == digit) return MoveResult.NO_CHANGE;
+        journal.record(MoveJournal.pack(cell, previousValue, digit, false, MoveJournal.KIND_HINT));
+        put(cell, digit);
+        return MoveResult.APPLIED;
+    }
+
+    /**
+     * Reverts the last applied move. Errors stay counted: the error count is cumulative,
+     * so undoing a wrong number doesn't refund it (and redoing it doesn't count it twice).
+     * @return The cell (0-80) that changed, or -1 if there is nothing to undo.
+     */
+    public int undo() {
+        int entry = journal.undo();
+        if (entry == -1) return -1;
+        int cell = MoveJournal.cell(entry);
+        put(cell, MoveJournal.oldValue(entry));
+        return cell;
+    }
+
+    /**
+     * Re-applies the last undone move.
+     * @return The cell (0-80) that changed, or -1 if there is nothing to redo.
+     */
+    public int redo() {
+        int entry = journal.redo();
+        if (entry == -1) return -1;
+        int cell = MoveJournal.cell(entry);
+        put(cell, MoveJournal.newValue(entry));
+        return cell;
+    }
+
+    public boolean canUndo() {
+        return journal.canUndo();
+    }
+
+    public boolean canRedo() {
+        return journal.canRedo();
+    }
+
+    /** The move journal serialized for the saved game state (see {@link MoveJournal#serialize()}). */
+    public String getJournalString() {
+        return journal.serialize();
+    }
+
+    /**
+     * Restores a saved move journal. Call after {@link #loadState}; the journal is only kept if
+     * replaying it backwards and forwards matches the current board, otherwise it is dropped
+     * and undo simply starts from the current state.
+     * @return true if the journal was restored.
+     */
+    public boolean restoreJournal(String journalString) {
+        if (!journal.deserialize(journalString) || !isJournalConsistent()) {
+            journal.clear();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Fills the non-starting cells with the solution and resets the error count. (DEBUG)
+     * @return false if no solution is available.
+     */
+    public boolean fillWithSolution() {
+        if (!hasSolution()) return false;
+        for (int cell = 0; cell < 81; cell++) {
+            if (!isGiven(cell)) put(cell, solution[cell]);
+        }
+        errorCount = 0;
+        journal.clear();
+        return true;
+    }
+
+    // --- Queries ---
+
+    public int getValue(int row, int col) {
+        return values[row * 9 + col];
+    }
+
+    public boolean isStartingCell(int row, int col) {
+        return isGiven(row * 9 + col);
+    }
+
+    /** True if the cell holds a user number that doesn't match the solution. */
+    public boolean isWrong(int row, int col) {
+        int cell = row * 9 + col;
+        int value = values[cell];
+        return value != 0 && !isGiven(cell) && hasSolution() && solution[cell] != value;
+    }
+
+    /**
+     * True if placing {@code digit} at the cell would repeat a digit already in its row,
+     * column or box (the cell's own current value is not counted). O(1).
+     */
+    public boolean conflicts(int row, int col, int digit) {
+        if (digit < 1 || digit > 9) return false;
+        int bit = 1 << (digit - 1);
+        int box = (row / 3) * 3 + col / 3;
+        if (((rowMask[row] | colMask[col] | boxMask[box]) & bit) == 0) return false;
+        int own = values[row * 9 + col] == digit ? 1 : 0;
+        int d = digit - 1;
+        return rowCounts[row * 9 + d] > own || colCounts[col * 9 + d] > own || boxCounts[box * 9 + d] > own;
+    }
+
+    /** True if the cell's current value is repeated in its row, column or box. */
+    public boolean hasConflict(int row, int col) {
+        int value = values[row * 9 + col];
+        return value != 0 && conflicts(row, col, value);
+    }
+
+    /** Mask of digits (bit d-1 for digit d) present in a row. */
+    public int getRowMask(int row) {
+        return rowMask[row];
+    }
+
+    /** Mask of digits (bit d-1 for digit d) present in a column. */
+    public int getColMask(int col) {
+        return colMask[col];
+    }
+
+    /** Mask of digits (bit d-1 for digit d) present in a box (0-8, row-major). */
+    public int getBoxMask(int box) {
+        return boxMask[box];
+    }
+
+    /** Solution digit for a cell; only valid when {@link #hasSolution()} is true. */
+    public int getSolutionValue(int row, int col) {
+        return solution[row * 9 + col];
+    }
+
+    public boolean hasSolution() {
+        return solutionString != null;
+    }
+
+    /** The solution string, or null if not available. */
+    public String getSolutionString() {
+        return solutionString;
+    }
+
+    /**
+     * Cumulative error count for this game session; 0 if there is no solution to validate against.
+     */
+    public int getErrorCount() {
+        return hasSolution() ? errorCount : 0;
+    }
+
+    /** Restores the error count (used when loading a saved game). Negative values become 0. */
+    public void setErrorCount(int count) {
+        errorCount = Math.max(0, count);
+    }
+
+    /** True if no cell is empty. O(1). */
+    public boolean isFull() {
+        return filledCount == 81;
+    }
+
+    /**
+     * True if the board matches the solution. Without a solution (challenge mode),
+     * "correct" means "full". O(1).
+     */
+    public boolean isSolvedCorrectly() {
+        if (!hasSolution()) return isFull();
+        return correctCount == 81;
+    }
+
+    /** The current state as an 81-character string ('0' for empty). */
+    public String toBoardString() {
+        char[] chars = new char[81];
+        for (int cell = 0; cell < 81; cell++) {
+            chars[cell] = (char) ('0' + values[cell]);
+        }
+        return new String(chars);
+    }
+
+    /** Defensive copy of the current state as a 2D array. */
+    public int[][] copyValues() {
+        int[][] copy = new int[9][9];
+        for (int cell = 0; cell < 81; cell++) {
+            copy[cell / 9][cell % 9] = values[cell];
+        }
+        return copy;
+    }
+
+    /**
+     * Copies the cell values into a flat array (row-major, 0 for empty), e.g. for the hint engine.
+     * @param clearWrong If true, user numbers that don't match the solution are copied as empty.
+     */
+    public void copyCells(int[] out, boolean clearWrong) {
+        boolean check = clearWrong && hasSolution();
+        for (int cell = 0; cell < 81; cell++) {
+            int value = values[cell];
+            out[cell] = (check && value != 0 && solution[cell] != value) ? 0 : value;
+        }
+    }
+
+    // --- Internal state updates ---
+
+    private boolean isGiven(int cell) {
+        return cell < 64 ? (givenLow & (1L << cell)) != 0 : (givenHigh & (1L << (cell - 64))) != 0;
+    }
+
+    // Checks the journal against the current values: walking back over the applied moves and
+    // forward over the redoable ones must always find the expected old/new values
+    private boolean isJournalConsistent() {
+        byte[] scratch = values.clone();
+        for (int i = journal.getCursor() - 1; i >= 0; i--) {
+            int entry = journal.get(i);
+            int cell = MoveJournal.cell(entry);
+            if (isGiven(cell) || scratch[cell] != MoveJournal.newValue(entry)) return false;
+            scratch[cell] = (byte) MoveJournal.oldValue(entry);
+        }
+        System.arraycopy(values, 0, scratch, 0, 81);
+        for (int i = journal.getCursor(); i < journal.size(); i++) {
+            int entry = journal.get(i);
+            int cell = MoveJournal.cell(entry);
+            if (isGiven(cell) || scratch[cell] != MoveJournal.oldValue(entry)) return false;
+            scratch[cell] = (byte) MoveJournal.newValue(entry);
+        }
+        return true;
+    }
+
+    private void clear() {
+        for (int cell = 0; cell < 81; cell++) {
+            values[cell] = 0;
+            rowCounts[cell] = 0;
+            colCounts[cell] = 0;
+            boxCounts[cell] = 0;
+        }
+        for (int i = 0; i < 9; i++) {
+            rowMask[i] = 0;
+            colMask[i] = 0;
+            boxMask[i] = 0;
+        }
+        givenLow = 0;
+        givenHigh = 0;
+        filledCount = 0;
+        correctCount = 0;
+        solutionString = null;
+        errorCount = 0;
+    }
+
+    private void setSolution(String validSolution) {
+        solutionString = validSolution;
+        if (validSolution == null) return;
+        for (int cell = 0; cell < 81; cell++) {
+            solution[cell] = (byte) (validSolution.charAt(cell) - '0');
+        }
+    }
+
+    // Writes a value and updates the unit counts/masks and the filled/correct counters
+    private void put(int cell, int value) {
+        int old = values[cell];
+        if (old == value) return;
+        int row = cell / 9;
+        int col = cell % 9;
+        int box = (row / 3) * 3 + col / 3;
+        boolean checkSolution = solutionString != null;
+        if (old != 0) {
+            int d = old - 1;
+            if (--rowCounts[row * 9 + d] == 0) rowMask[row] &= ~(1 << d);
+            if (--colCounts[col * 9 + d] == 0) colMask[col] &= ~(1 << d);
+            if (--boxCounts[box * 9 + d] == 0) boxMask[box] &= ~(1 << d);
+            filledCount--;
+            if (checkSolution && solution[cell] == old) correctCount--;
+        }
+        if (value != 0) {
+            int d = value - 1;
+            rowCounts[row * 9 + d]++;
+            colCounts[col * 9 + d]++;
+            boxCounts[box * 9 + d]++;
+            rowMask[row] |= 1 << d;
+            colMask[col] |= 1 << d;
+            boxMask[box] |= 1 << d;
+            filledCount++;
+            if (checkSolution && solution[cell] == value) correctCount++;
+        }
+        values[cell] = (byte) value;
+    }
+}
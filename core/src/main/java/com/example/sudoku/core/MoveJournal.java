@@ -0,0 +1,192 @@
+// Relative Path: core/src/main/java/com/example/sudoku/core/MoveJournal.java
+package com.example.sudoku.core;
+
+/**
+ * Undo/redo history of a game, one packed int per move:
+ * bits 0-6 cell (0-80), 7-10 old value, 11-14 new value, 15 error counted, 16-17 kind.
+ * Entries live in a primitive ring buffer that grows on demand up to {@link #MAX_ENTRIES};
+ * after that the oldest moves are dropped. Recording, undo and redo are O(1) and don't allocate
+ * (apart from the occasional growth), and a long game only costs a few kilobytes.
+ */
+public final class MoveJournal {
+
+    public static final int KIND_PLACE = 0;
+    public static final int KIND_ERASE = 1;
+    public static final int KIND_HINT = 2;
+
+    public static final int MAX_ENTRIES = 4096; // Power of two, ~16 KB at most
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int ENTRY_BITS = 18;   // Used bits per packed entry
+    private static final String ALPHABET =       // URL-safe base64 digits, 3 per entry
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    private int[] entries = new int[INITIAL_CAPACITY];
+    private int head;    // Buffer index of the oldest entry
+    private int size;    // Recorded entries (applied + redoable)
+    private int cursor;  // Applied entries; entries[cursor..size) can be redone
+
+    // --- Packing ---
+
+    public static int pack(int cell, int oldValue, int newValue, boolean errorCounted, int kind) {
+        return cell | (oldValue << 7) | (newValue << 11) | ((errorCounted ? 1 : 0) << 15) | (kind << 16);
+    }
+
+    public static int cell(int entry) {
+        return entry & 0x7F;
+    }
+
+    public static int oldValue(int entry) {
+        return (entry >>> 7) & 0xF;
+    }
+
+    public static int newValue(int entry) {
+        return (entry >>> 11) & 0xF;
+    }
+
+    public static boolean errorCounted(int entry) {
+        return ((entry >>> 15) & 1) != 0;
+    }
+
+    public static int kind(int entry) {
+        return (entry >>> 16) & 0x3;
+    }
+
+    // --- Recording ---
+
+    /**
+     * Records a new move. Any moves that could still be redone are discarded.
+     */
+    public void record(int entry) {
+        size = cursor;
+        if (size == entries.length) {
+            if (entries.length < MAX_ENTRIES) {
+                grow();
+            } else {
+                // Full: overwrite the oldest move
+                head = (head + 1) & (entries.length - 1);
+                size--;
+                cursor--;
+            }
+        }
+        entries[(head + size) & (entries.length - 1)] = entry;
+        size++;
+        cursor = size;
+    }
+
+    public boolean canUndo() {
+        return cursor > 0;
+    }
+
+    public boolean canRedo() {
+        return cursor < size;
+    }
+
+    /**
+     * Steps back one move.
+     * @return The packed entry to revert (apply its old value), or -1 if there is nothing to undo.
+     */
+    public int undo() {
+        if (cursor == 0) return -1;
+        cursor--;
+        return entries[(head + cursor) & (entries.length - 1)];
+    }
+
+    /**
+     * Steps forward one move.
+     * @return The packed entry to re-apply (apply its new value), or -1 if there is nothing to redo.
+     */
+    public int redo() {
+        if (cursor == size) return -1;
+        int entry = entries[(head + cursor) & (entries.length - 1)];
+        cursor++;
+        return entry;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        cursor = 0;
+    }
+
+    /** Number of recorded moves (applied and redoable). */
+    public int size() {
+        return size;
+    }
+
+    /** Number of applied moves (how many times undo can be called). */
+    public int getCursor() {
+        return cursor;
+    }
+
+    /** The i-th recorded move, oldest first (0 <= i < size). */
+    public int get(int index) {
+        return entries[(head + index) & (entries.length - 1)];
+    }
+
+    private void grow() {
+        int[] bigger = new int[entries.length * 2];
+        for (int i = 0; i < size; i++) {
+            bigger[i] = entries[(head + i) & (entries.length - 1)];
+        }
+        entries = bigger;
+        head = 0;
+    }
+
+    // --- Serialization (for the saved game state) ---
+
+    /**
+     * Encodes the journal as "<cursor>:<entries>", three base64 digits per move.
+     */
+    public String serialize() {
+        StringBuilder sb = new StringBuilder(8 + size * 3);
+        sb.append(cursor).append(':');
+        for (int i = 0; i < size; i++) {
+            int entry = get(i);
+            for (int shift = ENTRY_BITS - 6; shift >= 0; shift -= 6) {
+                sb.append(ALPHABET.charAt((entry >>> shift) & 0x3F));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Replaces the journal contents with a string produced by {@link #serialize()}.
+     * @return false if the string is malformed; the journal is then left empty.
+     */
+    public boolean deserialize(String data) {
+        clear();
+        if (data == null) return false;
+        int colon = data.indexOf(':');
+        if (colon <= 0 || (data.length() - colon - 1) % 3 != 0) return false;
+        int count = (data.length() - colon - 1) / 3;
+        int savedCursor;
+        try {
+            savedCursor = Integer.parseInt(data.substring(0, colon));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (savedCursor < 0 || savedCursor > count || count > MAX_ENTRIES) return false;
+
+        while (entries.length < count) grow();
+        for (int i = 0; i < count; i++) {
+            int entry = 0;
+            for (int k = 0; k < 3; k++) {
+                int digit = ALPHABET.indexOf(data.charAt(colon + 1 + i * 3 + k));
+                if (digit < 0) {
+                    clear();
+                    return false;
+                }
+                entry = (entry << 6) | digit;
+            }
+            if (cell(entry) > 80 || oldValue(entry) > 9 || newValue(entry) > 9 || kind(entry) > KIND_HINT) {
+                clear();
+                return false;
+            }
+            entries[i] = entry;
+        }
+        size = count;
+        cursor = savedCursor;
+        return true;
+    }
+}
@@ -0,0 +1,150 @@
+// Relative Path: core/src/main/java/com/example/sudoku/core/PuzzlePack.java
+package com.example.sudoku.core;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Random;
+
+/**
+ * Read-only view of a binary puzzle pack (written by {@link PuzzlePackWriter}).
+ * The file is memory-mapped, so opening is cheap and picking a puzzle is an O(1) offset
+ * calculation; the board and solution strings are decoded straight from the mapped bytes.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * Header, 32 bytes:
+ *   0  magic "SDKP"
+ *   4  u16 version (1)
+ *   6  u16 record size (52)
+ *   8  3 x {u32 first record, u32 record count} for easy, medium, hard
+ * Records, 52 bytes each, sorted by difficulty:
+ *   0  41 bytes: solution digits, two cells per byte (high nibble first)
+ *   41 11 bytes: given-cell bitmap, cell i in byte i / 8, bit i % 8
+ * </pre>
+ * Thread-safe: all reads use absolute positions on the shared buffer.
+ */
+public final class PuzzlePack {
+
+    public static final String[] DIFFICULTIES = {"easy", "medium", "hard"};
+
+    static final int MAGIC = 0x53444B50; // "SDKP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int SOLUTION_BYTES = 41;
+    static final int GIVEN_BYTES = 11;
+    static final int RECORD_SIZE = SOLUTION_BYTES + GIVEN_BYTES;
+
+    private final ByteBuffer buffer;
+    private final int[] first = new int[DIFFICULTIES.length];
+    private final int[] count = new int[DIFFICULTIES.length];
+
+    private PuzzlePack(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a puzzle pack.");
+        }
+        if (buffer.getShort(4) != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IOException("Unsupported puzzle pack version.");
+        }
+        long records = (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            first[i] = buffer.getInt(8 + i * 8);
+            count[i] = buffer.getInt(12 + i * 8);
+            if (first[i] < 0 || count[i] < 0 || (long) first[i] + count[i] > records) {
+                throw new IOException("Corrupt puzzle pack index.");
+            }
+        }
+    }
+
+    /**
+     * Maps a pack file. The mapping stays valid after this returns; there is nothing to close.
+     * (java.io based so it also works on Android below API 26.)
+     */
+    public static PuzzlePack open(File file) throws IOException {
+        try (FileInputStream in = new FileInputStream(file); FileChannel channel = in.getChannel()) {
+            return map(channel, 0, channel.size());
+        }
+    }
+
+    /**
+     * Maps a pack stored inside a larger file, e.g. an uncompressed Android asset
+     * (AssetFileDescriptor start offset and length).
+     */
+    public static PuzzlePack map(FileChannel channel, long offset, long length) throws IOException {
+        return new PuzzlePack(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+    }
+
+    /** Wraps pack bytes that are already in memory. */
+    public static PuzzlePack wrap(ByteBuffer buffer) throws IOException {
+        return new PuzzlePack(buffer.slice());
+    }
+
+    /** Number of puzzles of a difficulty (0 for unknown difficulties). */
+    public int count(String difficulty) {
+        int d = indexOf(difficulty);
+        return d < 0 ? 0 : count[d];
+    }
+
+    /** Index (within its difficulty) of a random puzzle, or -1 if there are none. */
+    public int randomIndex(String difficulty, Random random) {
+        int n = count(difficulty);
+        return n == 0 ? -1 : random.nextInt(n);
+    }
+
+    /** The 81-character puzzle ('0' for empty), as SudokuBoardView.setBoard expects. */
+    public String board(String difficulty, int index) {
+        int base = recordOffset(difficulty, index);
+        char[] chars = new char[81];
+        for (int cell = 0; cell < 81; cell++) {
+            chars[cell] = isGiven(base, cell) ? (char) ('0' + digit(base, cell)) : '0';
+        }
+        return new String(chars);
+    }
+
+    /** The 81-character solution. */
+    public String solution(String difficulty, int index) {
+        int base = recordOffset(difficulty, index);
+        char[] chars = new char[81];
+        for (int cell = 0; cell < 81; cell++) {
+            chars[cell] = (char) ('0' + digit(base, cell));
+        }
+        return new String(chars);
+    }
+
+    /** Decodes a puzzle into cell values (0 for empty) without allocating. */
+    public void readBoard(String difficulty, int index, int[] out) {
+        int base = recordOffset(difficulty, index);
+        for (int cell = 0; cell < 81; cell++) {
+            out[cell] = isGiven(base, cell) ? digit(base, cell) : 0;
+        }
+    }
+
+    // --- Internal helpers ---
+
+    private int recordOffset(String difficulty, int index) {
+        int d = indexOf(difficulty);
+        if (d < 0 || index < 0 || index >= count[d]) {
+            throw new IndexOutOfBoundsException("No " + difficulty + " puzzle at index " + index);
+        }
+        return HEADER_SIZE + (first[d] + index) * RECORD_SIZE;
+    }
+
+    private int digit(int base, int cell) {
+        int packed = buffer.get(base + (cell >> 1));
+        return (cell & 1) == 0 ? (packed >> 4) & 0xF : packed & 0xF;
+    }
+
+    private boolean isGiven(int base, int cell) {
+        return (buffer.get(base + SOLUTION_BYTES + (cell >> 3)) & (1 << (cell & 7))) != 0;
+    }
+
+    static int indexOf(String difficulty) {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equals(difficulty)) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,85 @@
+// Relative Path: core/src/main/java/com/example/sudoku/core/PuzzlePackWriter.java
+package com.example.sudoku.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Builds a binary puzzle pack (see {@link PuzzlePack} for the layout).
+ * Puzzles can be added in any order; they are grouped by difficulty when written.
+ */
+public final class PuzzlePackWriter {
+
+    private final ByteArrayOutputStream[] records = new ByteArrayOutputStream[PuzzlePack.DIFFICULTIES.length];
+    private final int[] counts = new int[PuzzlePack.DIFFICULTIES.length];
+    private final byte[] record = new byte[PuzzlePack.RECORD_SIZE];
+
+    public PuzzlePackWriter() {
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new ByteArrayOutputStream();
+        }
+    }
+
+    /**
+     * Adds a puzzle.
+     * @param difficulty "easy", "medium" or "hard".
+     * @param boardString 81-character puzzle ('0' or '.' for empty).
+     * @param solutionString 81-character solution matching the givens.
+     * @throws IllegalArgumentException if the difficulty is unknown or the strings are invalid.
+     */
+    public void add(String difficulty, String boardString, String solutionString) {
+        int d = PuzzlePack.indexOf(difficulty);
+        if (d < 0) {
+            throw new IllegalArgumentException("Unknown difficulty: " + difficulty);
+        }
+        if (boardString == null || boardString.length() != 81 || solutionString == null || solutionString.length() != 81) {
+            throw new IllegalArgumentException("Board and solution must be 81 characters.");
+        }
+        Arrays.fill(record, (byte) 0);
+        for (int cell = 0; cell < 81; cell++) {
+            char s = solutionString.charAt(cell);
+            if (s < '1' || s > '9') {
+                throw new IllegalArgumentException("Solution must only contain digits 1-9.");
+            }
+            char b = boardString.charAt(cell);
+            if (b >= '1' && b <= '9') {
+                if (b != s) {
+                    throw new IllegalArgumentException("Given at cell " + cell + " doesn't match the solution.");
+                }
+                record[PuzzlePack.SOLUTION_BYTES + (cell >> 3)] |= (byte) (1 << (cell & 7));
+            }
+            int digit = s - '0';
+            record[cell >> 1] |= (byte) ((cell & 1) == 0 ? digit << 4 : digit);
+        }
+        records[d].write(record, 0, record.length);
+        counts[d]++;
+    }
+
+    /** Number of puzzles added so far. */
+    public int size() {
+        int total = 0;
+        for (int count : counts) total += count;
+        return total;
+    }
+
+    /** Writes the header and all records. */
+    public void writeTo(OutputStream out) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(PuzzlePack.HEADER_SIZE);
+        header.putInt(PuzzlePack.MAGIC);
+        header.putShort((short) PuzzlePack.VERSION);
+        header.putShort((short) PuzzlePack.RECORD_SIZE);
+        int first = 0;
+        for (int count : counts) {
+            header.putInt(first);
+            header.putInt(count);
+            first += count;
+        }
+        out.write(header.array());
+        for (ByteArrayOutputStream group : records) {
+            group.writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+// Relative Path: core/src/main/java/com/example/sudoku/core/StateDelta.java
+package com.example.sudoku.core;
+
+/**
+ * Compact deltas between two saved game states, so an update can carry only what changed
+ * since the state the server last acknowledged instead of the full board and undo journal.
+ * Shared by the app (encoding) and the stand-in server (applying).
+ *
+ * Board delta: 2 URL-safe base64 digits per changed cell, encoding cell * 10 + value
+ * (value 0 = empty). An empty string means no cell changed.
+ * Journal delta: "cursor:keep:suffix" - the new cursor, how many characters of the base
+ * journal's entries are kept, and the entry characters appended after them
+ * (see {@link MoveJournal#serialize()}).
+ */
+public final class StateDelta {
+
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    private static final int CELLS = 81;
+    private static final int CHARS_PER_ENTRY = 3; // MoveJournal packs one entry into 3 digits
+
+    private StateDelta() {
+        // Static helpers only
+    }
+
+    /**
+     * Cells that differ between two 81-character board strings.
+     * @return The delta, or null if either string is not a valid board (send the full state).
+     */
+    public static String encodeBoard(String base, String current) {
+        if (!isBoard(base) || !isBoard(current)) return null;
+        StringBuilder sb = new StringBuilder();
+        for (int cell = 0; cell < CELLS; cell++) {
+            char value = current.charAt(cell);
+            if (value != base.charAt(cell)) {
+                int packed = cell * 10 + (value - '0');
+                sb.append(ALPHABET.charAt(packed >> 6)).append(ALPHABET.charAt(packed & 0x3F));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Applies a board delta to the base board.
+     * @throws IllegalArgumentException if the base or the delta is malformed.
+     */
+    public static String applyBoard(String base, String delta) {
+        if (!isBoard(base) || delta == null || delta.length() % 2 != 0) {
+            throw new IllegalArgumentException("Malformed board delta.");
+        }
+        char[] cells = base.toCharArray();
+        for (int i = 0; i < delta.length(); i += 2) {
+            int high = ALPHABET.indexOf(delta.charAt(i));
+            int low = ALPHABET.indexOf(delta.charAt(i + 1));
+            int packed = (high << 6) | low;
+            if (high < 0 || low < 0 || packed >= CELLS * 10) {
+                throw new IllegalArgumentException("Malformed board delta.");
+            }
+            cells[packed / 10] = (char) ('0' + packed % 10);
+        }
+        return new String(cells);
+    }
+
+    /**
+     * Journal entries appended since the base journal (null/empty base = no history yet).
+     * Undone-and-replaced moves are covered too: only the common prefix is kept.
+     * @return The delta, or null if current is not a serialized journal (send it in full).
+     */
+    public static String encodeJournal(String base, String current) {
+        int colon = current == null ? -1 : current.indexOf(':');
+        if (colon < 0) return null;
+        String baseEntries = entries(base);
+        String currentEntries = current.substring(colon + 1);
+        int keep = 0;
+        int max = Math.min(baseEntries.length(), currentEntries.length());
+        while (keep < max && baseEntries.charAt(keep) == currentEntries.charAt(keep)) keep++;
+        keep -= keep % CHARS_PER_ENTRY; // Whole entries only
+        return current.substring(0, colon) + ':' + keep + ':' + currentEntries.substring(keep);
+    }
+
+    /**
+     * Applies a journal delta to the base journal.
+     * @throws IllegalArgumentException if the delta is malformed or doesn't fit the base.
+     */
+    public static String applyJournal(String base, String delta) {
+        int first = delta == null ? -1 : delta.indexOf(':');
+        int second = first < 0 ? -1 : delta.indexOf(':', first + 1);
+        if (second < 0) throw new IllegalArgumentException("Malformed journal delta.");
+        String baseEntries = entries(base);
+        int keep;
+        try {
+            keep = Integer.parseInt(delta.substring(first + 1, second));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed journal delta.");
+        }
+        if (keep < 0 || keep > baseEntries.length()) {
+            throw new IllegalArgumentException("Journal delta doesn't match the base journal.");
+        }
+        return delta.substring(0, first) + ':' + baseEntries.substring(0, keep) + delta.substring(second + 1);
+    }
+
+    private static String entries(String journal) {
+        int colon = journal == null ? -1 : journal.indexOf(':');
+        return colon < 0 ? "" : journal.substring(colon + 1);
+    }
+
+    private static boolean isBoard(String state) {
+        if (state == null || state.length() != CELLS) return false;
+        for (int i = 0; i < CELLS; i++) {
+            char c = state.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+}
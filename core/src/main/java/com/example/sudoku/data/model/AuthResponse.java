@@ -0,0 +1,81 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/AuthResponse.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+// This class matches the backend's AuthResponse schema
+public class AuthResponse {
+    private String status;
+    private String message;
+    private String token;
+
+    // *** ADDED userId field ***
+    @SerializedName("userId") // Ensure this matches the JSON key from the backend
+    private String userId;
+
+    // Getters
+    public String getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    // Setters (if needed)
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+    // *** ADDED getter for userId ***
+    public String getUserId() {
+        return userId;
+    }
+
+    static final TypeAdapter<AuthResponse> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<AuthResponse> {
+        @Override
+        public void write(JsonWriter out, AuthResponse value) throws IOException {
+            out.beginObject();
+            out.name("status").value(value.status);
+            out.name("message").value(value.message);
+            out.name("token").value(value.token);
+            out.name("userId").value(value.userId);
+            out.endObject();
+        }
+
+        @Override
+        public AuthResponse read(JsonReader in) throws IOException {
+            AuthResponse value = new AuthResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "status": value.status = JsonFields.nextString(in); break;
+                    case "message": value.message = JsonFields.nextString(in); break;
+                    case "token": value.token = JsonFields.nextString(in); break;
+                    case "userId": value.userId = JsonFields.nextString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/ChallengeBatchRequest.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Body of api/challenges/respond_batch: several accept/reject actions in one request
+public class ChallengeBatchRequest {
+
+    public static class Action {
+        @SerializedName("challenge_id")
+        private String challengeId;
+
+        @SerializedName("action")
+        private String action; // "accept" or "reject"
+
+        public Action(String challengeId, String action) {
+            this.challengeId = challengeId;
+            this.action = action;
+        }
+
+        public String getChallengeId() { return challengeId; }
+        public String getAction() { return action; }
+    }
+
+    @SerializedName("actions")
+    private List<Action> actions;
+
+    public ChallengeBatchRequest(List<Action> actions) {
+        this.actions = new ArrayList<>(actions);
+    }
+
+    public List<Action> getActions() { return actions; }
+}
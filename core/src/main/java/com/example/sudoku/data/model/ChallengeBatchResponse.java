@@ -0,0 +1,101 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/ChallengeBatchResponse.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+// Response of api/challenges/respond_batch: one result per action, in request order.
+// Actions are applied independently, so some may fail while others succeed.
+public class ChallengeBatchResponse {
+
+    public static class Result {
+        @SerializedName("challenge_id")
+        private String challengeId;
+
+        @SerializedName("status")
+        private String status; // "success" or "error"
+
+        @SerializedName("detail")
+        private String detail; // Why it failed (e.g. no longer pending)
+
+        @SerializedName("challenge")
+        private ChallengeResponse challenge; // The challenge after the action; its current state on failure, if it exists
+
+        public String getChallengeId() { return challengeId; }
+        public String getStatus() { return status; }
+        public String getDetail() { return detail; }
+        public ChallengeResponse getChallenge() { return challenge; }
+        public boolean isSuccess() { return "success".equalsIgnoreCase(status); }
+    }
+
+    @SerializedName("results")
+    private List<Result> results;
+
+    public List<Result> getResults() { return results != null ? results : Collections.emptyList(); }
+
+    // Created per Gson by ModelAdapters, like ChallengeResponse's (whose dates use the Gson's date adapter)
+    static final class GsonAdapter extends TypeAdapter<ChallengeBatchResponse> {
+        private final TypeAdapter<ChallengeResponse> challengeAdapter;
+        private final TypeAdapter<Result> resultAdapter = new TypeAdapter<Result>() {
+            @Override
+            public void write(JsonWriter out, Result value) throws IOException {
+                out.beginObject();
+                out.name("challenge_id").value(value.challengeId);
+                out.name("status").value(value.status);
+                out.name("detail").value(value.detail);
+                out.name("challenge");
+                challengeAdapter.write(out, value.challenge);
+                out.endObject();
+            }
+
+            @Override
+            public Result read(JsonReader in) throws IOException {
+                Result value = new Result();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "challenge_id": value.challengeId = JsonFields.nextString(in); break;
+                        case "status": value.status = JsonFields.nextString(in); break;
+                        case "detail": value.detail = JsonFields.nextString(in); break;
+                        case "challenge": value.challenge = challengeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+                return value;
+            }
+        }.nullSafe();
+
+        GsonAdapter(TypeAdapter<ChallengeResponse> challengeAdapter) {
+            this.challengeAdapter = challengeAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, ChallengeBatchResponse value) throws IOException {
+            out.beginObject();
+            out.name("results");
+            JsonFields.writeList(out, value.results, resultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ChallengeBatchResponse read(JsonReader in) throws IOException {
+            ChallengeBatchResponse value = new ChallengeBatchResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "results": value.results = JsonFields.nextList(in, resultAdapter); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
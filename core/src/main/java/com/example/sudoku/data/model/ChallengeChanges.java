@@ -0,0 +1,85 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/ChallengeChanges.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+// Response of api/challenges/changes: the user's challenges changed after the `since`
+// watermark, and the watermark to send next time. Without `since` (or with one the server
+// no longer knows) it is a full snapshot and `full` is true.
+public class ChallengeChanges {
+
+    @SerializedName("changes")
+    private List<ChallengeResponse> changes;
+
+    @SerializedName("removed_ids")
+    private List<String> removedIds; // Challenges the user no longer sees
+
+    @SerializedName("watermark")
+    private String watermark; // Opaque; pass back as "since"
+
+    @SerializedName("full")
+    private boolean full;
+
+    // Getters
+    public List<ChallengeResponse> getChanges() { return changes != null ? changes : Collections.emptyList(); }
+    public List<String> getRemovedIds() { return removedIds != null ? removedIds : Collections.emptyList(); }
+    public String getWatermark() { return watermark; }
+    public boolean isFull() { return full; }
+
+    // Created per Gson by ModelAdapters, like ChallengeResponse's (whose dates use the Gson's date adapter)
+    static final class GsonAdapter extends TypeAdapter<ChallengeChanges> {
+        private final TypeAdapter<ChallengeResponse> challengeAdapter;
+
+        GsonAdapter(TypeAdapter<ChallengeResponse> challengeAdapter) {
+            this.challengeAdapter = challengeAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, ChallengeChanges value) throws IOException {
+            out.beginObject();
+            out.name("changes");
+            JsonFields.writeList(out, value.changes, challengeAdapter);
+            out.name("removed_ids");
+            JsonFields.writeList(out, value.removedIds, STRING_ADAPTER);
+            out.name("watermark").value(value.watermark);
+            out.name("full").value(value.full);
+            out.endObject();
+        }
+
+        @Override
+        public ChallengeChanges read(JsonReader in) throws IOException {
+            ChallengeChanges value = new ChallengeChanges();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "changes": value.changes = JsonFields.nextList(in, challengeAdapter); break;
+                    case "removed_ids": value.removedIds = JsonFields.nextList(in, STRING_ADAPTER); break;
+                    case "watermark": value.watermark = JsonFields.nextString(in); break;
+                    case "full": value.full = JsonFields.nextBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static final TypeAdapter<String> STRING_ADAPTER = new TypeAdapter<String>() {
+        @Override
+        public void write(JsonWriter out, String value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public String read(JsonReader in) throws IOException {
+            return JsonFields.nextString(in);
+        }
+    };
+}
@@ -0,0 +1,91 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/ChallengePuzzle.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Serializable; // Import Serializable
+
+// Make Serializable if passed via Intents (though it's nested in ChallengeResponse which is)
+public class ChallengePuzzle implements Serializable { // Implement Serializable
+    @SerializedName("id")
+    private String id;
+
+    @SerializedName("difficulty")
+    private String difficulty;
+
+    @SerializedName("board_string")
+    private String boardString;
+
+    // *** ADDED solutionString field ***
+    @SerializedName("solution_string")
+    private String solutionString;
+
+    // --- Getters ---
+    public String getId() {
+        return id;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public String getBoardString() {
+        return boardString;
+    }
+
+    // *** ADDED getter for solutionString ***
+    public String getSolutionString() {
+        return solutionString;
+    }
+
+    // --- Optional Setters ---
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public void setBoardString(String boardString) {
+        this.boardString = boardString;
+    }
+
+    public void setSolutionString(String solutionString) {
+        this.solutionString = solutionString;
+    }
+
+    static final TypeAdapter<ChallengePuzzle> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<ChallengePuzzle> {
+        @Override
+        public void write(JsonWriter out, ChallengePuzzle value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("difficulty").value(value.difficulty);
+            out.name("board_string").value(value.boardString);
+            out.name("solution_string").value(value.solutionString);
+            out.endObject();
+        }
+
+        @Override
+        public ChallengePuzzle read(JsonReader in) throws IOException {
+            ChallengePuzzle value = new ChallengePuzzle();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": value.id = JsonFields.nextString(in); break;
+                    case "difficulty": value.difficulty = JsonFields.nextString(in); break;
+                    case "board_string": value.boardString = JsonFields.nextString(in); break;
+                    case "solution_string": value.solutionString = JsonFields.nextString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
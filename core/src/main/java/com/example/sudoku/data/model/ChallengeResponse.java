@@ -0,0 +1,166 @@
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Date;
+
+public class ChallengeResponse {
+    @SerializedName("id")
+    private String id;
+
+    @SerializedName("puzzle_id")
+    private String puzzleId;
+
+    @SerializedName("challenger_id")
+    private String challengerId;
+
+    @SerializedName("opponent_id")
+    private String opponentId;
+
+    @SerializedName("status")
+    private String status;
+
+    @SerializedName("challenger_duration")
+    private int challengerDuration;
+
+    @SerializedName("opponent_duration")
+    private Integer opponentDuration;
+
+    @SerializedName("winner_id")
+    private String winnerId;
+
+    @SerializedName("created_at")
+    private Date createdAt;
+
+    @SerializedName("expires_at")
+    private Date expiresAt;
+
+    @SerializedName("completed_at")
+    private Date completedAt;
+
+    @SerializedName("updated_at")
+    private Date updatedAt; // Last change of any field (sent by backends with incremental sync)
+
+    @SerializedName("puzzle")
+    private ChallengePuzzle puzzle;
+
+    @SerializedName("challenger")
+    private ChallengeUser challenger;
+
+    @SerializedName("opponent")
+    private ChallengeUser opponent;
+
+    @SerializedName("winner")
+    private ChallengeUser winner;
+
+    // Getters
+    public String getId() { return id; }
+    public String getPuzzleId() { return puzzleId; }
+    public String getChallengerId() { return challengerId; }
+    public String getOpponentId() { return opponentId; }
+    public String getStatus() { return status; }
+    public int getChallengerDuration() { return challengerDuration; }
+    public Integer getOpponentDuration() { return opponentDuration; }
+    public String getWinnerId() { return winnerId; }
+    public Date getCreatedAt() { return createdAt; }
+    public Date getExpiresAt() { return expiresAt; }
+    public Date getCompletedAt() { return completedAt; }
+    public Date getUpdatedAt() { return updatedAt; }
+    public ChallengePuzzle getPuzzle() { return puzzle; }
+    public ChallengeUser getChallenger() { return challenger; }
+    public ChallengeUser getOpponent() { return opponent; }
+    public ChallengeUser getWinner() { return winner; }
+
+    /** A copy with another status, for showing an action locally before the server confirms it. */
+    public ChallengeResponse withStatus(String newStatus) {
+        ChallengeResponse copy = new ChallengeResponse();
+        copy.id = id;
+        copy.puzzleId = puzzleId;
+        copy.challengerId = challengerId;
+        copy.opponentId = opponentId;
+        copy.status = newStatus;
+        copy.challengerDuration = challengerDuration;
+        copy.opponentDuration = opponentDuration;
+        copy.winnerId = winnerId;
+        copy.createdAt = createdAt;
+        copy.expiresAt = expiresAt;
+        copy.completedAt = completedAt;
+        copy.updatedAt = updatedAt;
+        copy.puzzle = puzzle;
+        copy.challenger = challenger;
+        copy.opponent = opponent;
+        copy.winner = winner;
+        return copy;
+    }
+
+    // Created per Gson by ModelAdapters, dates are delegated to the Gson's date adapter
+    static final class GsonAdapter extends TypeAdapter<ChallengeResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GsonAdapter(TypeAdapter<Date> dateAdapter) {
+            this.dateAdapter = dateAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, ChallengeResponse value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("puzzle_id").value(value.puzzleId);
+            out.name("challenger_id").value(value.challengerId);
+            out.name("opponent_id").value(value.opponentId);
+            out.name("status").value(value.status);
+            out.name("challenger_duration").value(value.challengerDuration);
+            out.name("opponent_duration").value(value.opponentDuration);
+            out.name("winner_id").value(value.winnerId);
+            out.name("created_at");
+            dateAdapter.write(out, value.createdAt);
+            out.name("expires_at");
+            dateAdapter.write(out, value.expiresAt);
+            out.name("completed_at");
+            dateAdapter.write(out, value.completedAt);
+            out.name("updated_at");
+            dateAdapter.write(out, value.updatedAt);
+            out.name("puzzle");
+            ChallengePuzzle.ADAPTER.write(out, value.puzzle);
+            out.name("challenger");
+            ChallengeUser.ADAPTER.write(out, value.challenger);
+            out.name("opponent");
+            ChallengeUser.ADAPTER.write(out, value.opponent);
+            out.name("winner");
+            ChallengeUser.ADAPTER.write(out, value.winner);
+            out.endObject();
+        }
+
+        @Override
+        public ChallengeResponse read(JsonReader in) throws IOException {
+            ChallengeResponse value = new ChallengeResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": value.id = JsonFields.nextString(in); break;
+                    case "puzzle_id": value.puzzleId = JsonFields.nextString(in); break;
+                    case "challenger_id": value.challengerId = JsonFields.nextString(in); break;
+                    case "opponent_id": value.opponentId = JsonFields.nextString(in); break;
+                    case "status": value.status = JsonFields.nextString(in); break;
+                    case "challenger_duration": value.challengerDuration = JsonFields.nextInt(in); break;
+                    case "opponent_duration": value.opponentDuration = JsonFields.nextInteger(in); break;
+                    case "winner_id": value.winnerId = JsonFields.nextString(in); break;
+                    case "created_at": value.createdAt = dateAdapter.read(in); break;
+                    case "expires_at": value.expiresAt = dateAdapter.read(in); break;
+                    case "completed_at": value.completedAt = dateAdapter.read(in); break;
+                    case "updated_at": value.updatedAt = dateAdapter.read(in); break;
+                    case "puzzle": value.puzzle = ChallengePuzzle.ADAPTER.read(in); break;
+                    case "challenger": value.challenger = ChallengeUser.ADAPTER.read(in); break;
+                    case "opponent": value.opponent = ChallengeUser.ADAPTER.read(in); break;
+                    case "winner": value.winner = ChallengeUser.ADAPTER.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+public class ChallengeUser {
+    @SerializedName("id")
+    private String id;
+
+    @SerializedName("username")
+    private String username;
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    static final TypeAdapter<ChallengeUser> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<ChallengeUser> {
+        @Override
+        public void write(JsonWriter out, ChallengeUser value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("username").value(value.username);
+            out.endObject();
+        }
+
+        @Override
+        public ChallengeUser read(JsonReader in) throws IOException {
+            ChallengeUser value = new ChallengeUser();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": value.id = JsonFields.nextString(in); break;
+                    case "username": value.username = JsonFields.nextString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
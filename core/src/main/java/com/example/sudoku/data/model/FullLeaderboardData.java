@@ -0,0 +1,53 @@
+// Matches FullLeaderboardData in backend leaderboard_schema.py
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Map;
+
+public class FullLeaderboardData {
+
+    @SerializedName("top_players")
+    private Map<String, LeaderboardCategoryData> topPlayers; // Keys: "easy", "medium", "hard"
+
+    @SerializedName("user_ranks")
+    private Map<String, UserRankCategoryData> userRanks; // Keys: "easy", "medium", "hard"
+
+    // Getters
+    public Map<String, LeaderboardCategoryData> getTopPlayers() { return topPlayers; }
+    public Map<String, UserRankCategoryData> getUserRanks() { return userRanks; }
+
+    // Optional: Add setters if needed
+
+    static final TypeAdapter<FullLeaderboardData> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<FullLeaderboardData> {
+        @Override
+        public void write(JsonWriter out, FullLeaderboardData value) throws IOException {
+            out.beginObject();
+            out.name("top_players");
+            JsonFields.writeMap(out, value.topPlayers, LeaderboardCategoryData.ADAPTER);
+            out.name("user_ranks");
+            JsonFields.writeMap(out, value.userRanks, UserRankCategoryData.ADAPTER);
+            out.endObject();
+        }
+
+        @Override
+        public FullLeaderboardData read(JsonReader in) throws IOException {
+            FullLeaderboardData value = new FullLeaderboardData();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "top_players": value.topPlayers = JsonFields.nextMap(in, LeaderboardCategoryData.ADAPTER); break;
+                    case "user_ranks": value.userRanks = JsonFields.nextMap(in, UserRankCategoryData.ADAPTER); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
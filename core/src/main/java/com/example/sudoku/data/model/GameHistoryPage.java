@@ -0,0 +1,65 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/GameHistoryPage.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+// Response of /api/user/game_history/page: one page of completed games, newest first.
+// The games are summaries: no puzzle, current_state or move_journal.
+public class GameHistoryPage {
+
+    @SerializedName("items")
+    private List<GameResponse> items;
+
+    @SerializedName("next_cursor")
+    private String nextCursor; // Pass as "cursor" to get the next page; null (or absent) on the last page
+
+    GameHistoryPage() {
+        // For the type adapter
+    }
+
+    // A page cut from a full history list on the client (backends without the page endpoint)
+    public GameHistoryPage(List<GameResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<GameResponse> getItems() { return items != null ? items : Collections.emptyList(); }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasMore() { return nextCursor != null; }
+
+    static final TypeAdapter<GameHistoryPage> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<GameHistoryPage> {
+        @Override
+        public void write(JsonWriter out, GameHistoryPage value) throws IOException {
+            out.beginObject();
+            out.name("items");
+            JsonFields.writeList(out, value.items, GameResponse.ADAPTER);
+            out.name("next_cursor").value(value.nextCursor);
+            out.endObject();
+        }
+
+        @Override
+        public GameHistoryPage read(JsonReader in) throws IOException {
+            GameHistoryPage value = new GameHistoryPage();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "items": value.items = JsonFields.nextList(in, GameResponse.ADAPTER); break;
+                    case "next_cursor": value.nextCursor = JsonFields.nextString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
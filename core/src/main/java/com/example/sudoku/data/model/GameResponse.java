@@ -0,0 +1,172 @@
+// core/src/main/java/com/example/sudoku/data/model/GameResponse.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Serializable; // Import Serializable
+
+// Represents the response from /api/user/in_progress_game
+// Implements Serializable to be passed via Intent extras
+public class GameResponse implements Serializable {
+
+    @SerializedName("id")
+    private String id; // Game ID
+
+    @SerializedName("difficulty")
+    private String difficulty;
+
+    @SerializedName("was_completed")
+    private boolean wasCompleted;
+
+    @SerializedName("duration_seconds")
+    private int durationSeconds;
+
+    @SerializedName("errors_made")
+    private int errorsMade;
+
+    @SerializedName("hints_used")
+    private int hintsUsed;
+
+    @SerializedName("final_score")
+    private int finalScore;
+
+    @SerializedName("completed_at")
+    private String completedAt; // Will likely be null for in-progress games
+
+    // *** ADDED: Field to hold the saved board state ***
+    @SerializedName("current_state")
+    private String currentState;
+
+    @SerializedName("move_journal")
+    private String moveJournal; // Undo/redo history saved with the state (may be null)
+
+    @SerializedName("state_version")
+    private Integer stateVersion; // Version of current_state, base for delta updates (may be null)
+
+    @SerializedName("puzzle")
+    private PuzzleResponse puzzle; // Nested puzzle details
+
+    // --- Fields Specific to Challenges (Expected from modified backend) ---
+    @SerializedName("is_challenge") // Flag to distinguish
+    private boolean isChallenge;
+
+    @SerializedName("opponent_username")
+    private String opponentUsername; // Username of the opponent
+
+    @SerializedName("challenger_username") // Username of the challenger (useful if user was opponent)
+    private String challengerUsername;
+
+    @SerializedName("winner_id") // ID of the winner (can be null if backend doesn't provide easily)
+    private String winnerId;
+
+    @SerializedName("opponent_duration") // Opponent's time (if available)
+    private Integer opponentDuration;
+
+    @SerializedName("challenger_duration") // Challenger's time (if available)
+    private Integer challengerDuration;
+
+    // *** ADDED IDs ***
+    @SerializedName("challenger_id")
+    private String challengerId;
+
+    @SerializedName("opponent_id")
+    private String opponentId;
+
+
+    // Getters
+    public String getId() { return id; }
+    public String getDifficulty() { return difficulty; }
+    public boolean wasCompleted() { return wasCompleted; }
+    public int getDurationSeconds() { return durationSeconds; }
+    public int getErrorsMade() { return errorsMade; }
+    public int getHintsUsed() { return hintsUsed; }
+    public int getFinalScore() { return finalScore; }
+    public String getCompletedAt() { return completedAt; }
+    public PuzzleResponse getPuzzle() { return puzzle; }
+
+    // *** ADDED: Getter for current state ***
+    public String getCurrentState() { return currentState; }
+    public String getMoveJournal() { return moveJournal; }
+    public Integer getStateVersion() { return stateVersion; }
+
+    // Getters for new challenge fields
+    public boolean isChallenge() { return isChallenge; }
+    public String getOpponentUsername() { return opponentUsername; }
+    public String getChallengerUsername() { return challengerUsername; }
+    public String getWinnerId() { return winnerId; }
+    public Integer getOpponentDuration() { return opponentDuration; }
+    public Integer getChallengerDuration() { return challengerDuration; }
+
+    // *** ADDED Getters for IDs ***
+    public String getChallengerId() { return challengerId; }
+    public String getOpponentId() { return opponentId; }
+
+    // No Setters needed if only used for receiving data
+
+    static final TypeAdapter<GameResponse> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<GameResponse> {
+        @Override
+        public void write(JsonWriter out, GameResponse value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("difficulty").value(value.difficulty);
+            out.name("was_completed").value(value.wasCompleted);
+            out.name("duration_seconds").value(value.durationSeconds);
+            out.name("errors_made").value(value.errorsMade);
+            out.name("hints_used").value(value.hintsUsed);
+            out.name("final_score").value(value.finalScore);
+            out.name("completed_at").value(value.completedAt);
+            out.name("current_state").value(value.currentState);
+            out.name("move_journal").value(value.moveJournal);
+            out.name("state_version").value(value.stateVersion);
+            out.name("puzzle");
+            PuzzleResponse.ADAPTER.write(out, value.puzzle);
+            out.name("is_challenge").value(value.isChallenge);
+            out.name("opponent_username").value(value.opponentUsername);
+            out.name("challenger_username").value(value.challengerUsername);
+            out.name("winner_id").value(value.winnerId);
+            out.name("opponent_duration").value(value.opponentDuration);
+            out.name("challenger_duration").value(value.challengerDuration);
+            out.name("challenger_id").value(value.challengerId);
+            out.name("opponent_id").value(value.opponentId);
+            out.endObject();
+        }
+
+        @Override
+        public GameResponse read(JsonReader in) throws IOException {
+            GameResponse value = new GameResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": value.id = JsonFields.nextString(in); break;
+                    case "difficulty": value.difficulty = JsonFields.nextString(in); break;
+                    case "was_completed": value.wasCompleted = JsonFields.nextBoolean(in); break;
+                    case "duration_seconds": value.durationSeconds = JsonFields.nextInt(in); break;
+                    case "errors_made": value.errorsMade = JsonFields.nextInt(in); break;
+                    case "hints_used": value.hintsUsed = JsonFields.nextInt(in); break;
+                    case "final_score": value.finalScore = JsonFields.nextInt(in); break;
+                    case "completed_at": value.completedAt = JsonFields.nextString(in); break;
+                    case "current_state": value.currentState = JsonFields.nextString(in); break;
+                    case "move_journal": value.moveJournal = JsonFields.nextString(in); break;
+                    case "state_version": value.stateVersion = JsonFields.nextInteger(in); break;
+                    case "puzzle": value.puzzle = PuzzleResponse.ADAPTER.read(in); break;
+                    case "is_challenge": value.isChallenge = JsonFields.nextBoolean(in); break;
+                    case "opponent_username": value.opponentUsername = JsonFields.nextString(in); break;
+                    case "challenger_username": value.challengerUsername = JsonFields.nextString(in); break;
+                    case "winner_id": value.winnerId = JsonFields.nextString(in); break;
+                    case "opponent_duration": value.opponentDuration = JsonFields.nextInteger(in); break;
+                    case "challenger_duration": value.challengerDuration = JsonFields.nextInteger(in); break;
+                    case "challenger_id": value.challengerId = JsonFields.nextString(in); break;
+                    case "opponent_id": value.opponentId = JsonFields.nextString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
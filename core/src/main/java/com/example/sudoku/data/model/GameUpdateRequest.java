@@ -1,4 +1,4 @@
-// Sudoku-App/app/src/main/java/com/example/sudoku/data/model/GameUpdateRequest.java
+// core/src/main/java/com/example/sudoku/data/model/GameUpdateRequest.java
 package com.example.sudoku.data.model;
 
 import com.google.gson.annotations.SerializedName;
@@ -37,6 +37,21 @@ public class GameUpdateRequest {
     @SerializedName("current_state")
     private String currentState;
 
+    // Serialized undo/redo journal, so undo survives quitting and resuming the game
+    @SerializedName("move_journal")
+    private String moveJournal;
+
+    // Delta mode (see StateDelta): sent instead of current_state/move_journal once the server
+    // has acknowledged a state version. Omitted (null) in full mode.
+    @SerializedName("base_version")
+    private Integer baseVersion;
+
+    @SerializedName("state_delta")
+    private String stateDelta;
+
+    @SerializedName("move_journal_delta")
+    private String moveJournalDelta;
+
     // --- Empty Constructor (Added) ---
     public GameUpdateRequest() {
         // Default constructor
@@ -81,6 +96,10 @@ public class GameUpdateRequest {
         this.currentState = currentState;
     }
 
+    public void setMoveJournal(String moveJournal) {
+        this.moveJournal = moveJournal;
+    }
+
     // Constructor (Updated)
     public GameUpdateRequest(String gameId, String difficulty, boolean wasCompleted, int durationSeconds, int errorsMade, int hintsUsed, int finalScore, String completedAt, String currentState) {
         this.gameId = gameId;
@@ -94,6 +113,18 @@ public class GameUpdateRequest {
         this.currentState = currentState;
     }
 
+    /**
+     * Copy of this update that carries deltas against an acknowledged state version instead
+     * of the full board and journal.
+     */
+    public GameUpdateRequest withDelta(int baseVersion, String stateDelta, String moveJournalDelta) {
+        GameUpdateRequest copy = new GameUpdateRequest(gameId, difficulty, wasCompleted, durationSeconds, errorsMade, hintsUsed, finalScore, completedAt, null);
+        copy.baseVersion = baseVersion;
+        copy.stateDelta = stateDelta;
+        copy.moveJournalDelta = moveJournalDelta;
+        return copy;
+    }
+
     // Getters (and potentially setters if needed)
     public String getGameId() { return gameId; }
     public String getDifficulty() { return difficulty; }
@@ -105,5 +136,9 @@ public class GameUpdateRequest {
     public String getCompletedAt() { return completedAt; }
     // *** ADDED: Getter for current state ***
     public String getCurrentState() { return currentState; }
+    public String getMoveJournal() { return moveJournal; }
+    public Integer getBaseVersion() { return baseVersion; }
+    public String getStateDelta() { return stateDelta; }
+    public String getMoveJournalDelta() { return moveJournalDelta; }
 
 }
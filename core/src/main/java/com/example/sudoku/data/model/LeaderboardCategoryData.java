@@ -0,0 +1,60 @@
+// Matches LeaderboardCategoryData in backend leaderboard_schema.py
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+
+public class LeaderboardCategoryData {
+
+    @SerializedName("daily")
+    private List<LeaderboardEntryResponse> daily;
+
+    @SerializedName("weekly")
+    private List<LeaderboardEntryResponse> weekly;
+
+    @SerializedName("all_time")
+    private List<LeaderboardEntryResponse> allTime;
+
+    // Getters
+    public List<LeaderboardEntryResponse> getDaily() { return daily; }
+    public List<LeaderboardEntryResponse> getWeekly() { return weekly; }
+    public List<LeaderboardEntryResponse> getAllTime() { return allTime; }
+
+    // Optional: Add setters if needed
+
+    static final TypeAdapter<LeaderboardCategoryData> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<LeaderboardCategoryData> {
+        @Override
+        public void write(JsonWriter out, LeaderboardCategoryData value) throws IOException {
+            out.beginObject();
+            out.name("daily");
+            JsonFields.writeList(out, value.daily, LeaderboardEntryResponse.ADAPTER);
+            out.name("weekly");
+            JsonFields.writeList(out, value.weekly, LeaderboardEntryResponse.ADAPTER);
+            out.name("all_time");
+            JsonFields.writeList(out, value.allTime, LeaderboardEntryResponse.ADAPTER);
+            out.endObject();
+        }
+
+        @Override
+        public LeaderboardCategoryData read(JsonReader in) throws IOException {
+            LeaderboardCategoryData value = new LeaderboardCategoryData();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "daily": value.daily = JsonFields.nextList(in, LeaderboardEntryResponse.ADAPTER); break;
+                    case "weekly": value.weekly = JsonFields.nextList(in, LeaderboardEntryResponse.ADAPTER); break;
+                    case "all_time": value.allTime = JsonFields.nextList(in, LeaderboardEntryResponse.ADAPTER); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
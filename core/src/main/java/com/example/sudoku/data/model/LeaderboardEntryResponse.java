@@ -0,0 +1,63 @@
+// Matches LeaderboardEntry in backend leaderboard_schema.py
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.UUID;
+
+public class LeaderboardEntryResponse {
+
+    @SerializedName("user_id")
+    private UUID userId; // Keep as UUID if backend sends it, or String
+
+    @SerializedName("username")
+    private String username;
+
+    @SerializedName("total_score")
+    private int totalScore;
+
+    @SerializedName("rank")
+    private int rank;
+
+    // Getters
+    public UUID getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public int getTotalScore() { return totalScore; }
+    public int getRank() { return rank; }
+
+    // Optional: Add setters if needed
+
+    static final TypeAdapter<LeaderboardEntryResponse> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<LeaderboardEntryResponse> {
+        @Override
+        public void write(JsonWriter out, LeaderboardEntryResponse value) throws IOException {
+            out.beginObject();
+            out.name("user_id").value(value.userId != null ? value.userId.toString() : null);
+            out.name("username").value(value.username);
+            out.name("total_score").value(value.totalScore);
+            out.name("rank").value(value.rank);
+            out.endObject();
+        }
+
+        @Override
+        public LeaderboardEntryResponse read(JsonReader in) throws IOException {
+            LeaderboardEntryResponse value = new LeaderboardEntryResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "user_id": value.userId = JsonFields.nextUuid(in); break;
+                    case "username": value.username = JsonFields.nextString(in); break;
+                    case "total_score": value.totalScore = JsonFields.nextInt(in); break;
+                    case "rank": value.rank = JsonFields.nextInt(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
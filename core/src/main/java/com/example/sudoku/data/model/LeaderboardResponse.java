@@ -0,0 +1,58 @@
+// Matches LeaderboardResponse in backend leaderboard_schema.py
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+public class LeaderboardResponse {
+
+    @SerializedName("status")
+    private String status;
+
+    @SerializedName("message")
+    private String message;
+
+    @SerializedName("data")
+    private FullLeaderboardData data;
+
+    // Getters
+    public String getStatus() { return status; }
+    public String getMessage() { return message; }
+    public FullLeaderboardData getData() { return data; }
+
+    // Optional: Add setters if needed
+
+    static final TypeAdapter<LeaderboardResponse> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<LeaderboardResponse> {
+        @Override
+        public void write(JsonWriter out, LeaderboardResponse value) throws IOException {
+            out.beginObject();
+            out.name("status").value(value.status);
+            out.name("message").value(value.message);
+            out.name("data");
+            FullLeaderboardData.ADAPTER.write(out, value.data);
+            out.endObject();
+        }
+
+        @Override
+        public LeaderboardResponse read(JsonReader in) throws IOException {
+            LeaderboardResponse value = new LeaderboardResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "status": value.status = JsonFields.nextString(in); break;
+                    case "message": value.message = JsonFields.nextString(in); break;
+                    case "data": value.data = FullLeaderboardData.ADAPTER.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
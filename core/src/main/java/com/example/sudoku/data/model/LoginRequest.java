@@ -1,4 +1,4 @@
-// Relative Path: Sudoku-App/app/src/main/java/com/example/sudoku/data/model/LoginRequest.java
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/LoginRequest.java
 package com.example.sudoku.data.model;
 
 // This class matches the backend's UserLogin schema
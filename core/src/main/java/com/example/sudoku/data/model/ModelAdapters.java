@@ -0,0 +1,67 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/ModelAdapters.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+import java.util.Date;
+
+/**
+ * Hand-written streaming type adapters for the backend response models. Gson's default
+ * reflective adapters build a field map per class and set fields through reflection; these
+ * read the JSON tokens straight into the fields instead (see the GsonAdapter in each model).
+ * Lists of models (e.g. game history) go through Gson's collection adapter, which then uses
+ * these for the elements. Request models still use reflection.
+ *
+ * Usage: new GsonBuilder().registerTypeAdapterFactory(ModelAdapters.FACTORY).create(),
+ * or {@link #newGson()}.
+ */
+public final class ModelAdapters implements TypeAdapterFactory {
+
+    public static final ModelAdapters FACTORY = new ModelAdapters();
+
+    private ModelAdapters() {
+    }
+
+    /** A Gson with the model adapters registered. */
+    public static Gson newGson() {
+        return new GsonBuilder().registerTypeAdapterFactory(FACTORY).create();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        TypeAdapter<?> adapter;
+        if (raw == GameResponse.class) adapter = GameResponse.ADAPTER;
+        else if (raw == GameHistoryPage.class) adapter = GameHistoryPage.ADAPTER;
+        else if (raw == PuzzleResponse.class) adapter = PuzzleResponse.ADAPTER;
+        else if (raw == UserResponse.class) adapter = UserResponse.ADAPTER;
+        else if (raw == UserData.class) adapter = UserData.ADAPTER;
+        else if (raw == UserBase.class) adapter = UserBase.ADAPTER;
+        else if (raw == AuthResponse.class) adapter = AuthResponse.ADAPTER;
+        else if (raw == UpdateResponse.class) adapter = UpdateResponse.ADAPTER;
+        else if (raw == LeaderboardResponse.class) adapter = LeaderboardResponse.ADAPTER;
+        else if (raw == FullLeaderboardData.class) adapter = FullLeaderboardData.ADAPTER;
+        else if (raw == LeaderboardCategoryData.class) adapter = LeaderboardCategoryData.ADAPTER;
+        else if (raw == LeaderboardEntryResponse.class) adapter = LeaderboardEntryResponse.ADAPTER;
+        else if (raw == UserRankCategoryData.class) adapter = UserRankCategoryData.ADAPTER;
+        else if (raw == UserRankEntry.class) adapter = UserRankEntry.ADAPTER;
+        else if (raw == ChallengePuzzle.class) adapter = ChallengePuzzle.ADAPTER;
+        else if (raw == ChallengeUser.class) adapter = ChallengeUser.ADAPTER;
+        else if (raw == ChallengeResponse.class) {
+            // Dates keep Gson's own (configurable) date parsing
+            adapter = new ChallengeResponse.GsonAdapter(gson.getAdapter(Date.class)).nullSafe();
+        } else if (raw == ChallengeBatchResponse.class) {
+            adapter = new ChallengeBatchResponse.GsonAdapter(gson.getAdapter(ChallengeResponse.class)).nullSafe();
+        } else if (raw == ChallengeChanges.class) {
+            adapter = new ChallengeChanges.GsonAdapter(gson.getAdapter(ChallengeResponse.class)).nullSafe();
+        } else {
+            return null; // Not a response model: Gson's default handling
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+}
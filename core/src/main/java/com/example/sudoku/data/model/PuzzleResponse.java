@@ -0,0 +1,117 @@
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+// Make it Serializable to pass between Activities
+public class PuzzleResponse implements Serializable {
+
+    @SerializedName("id") // Puzzle ID
+    private String id;
+
+    @SerializedName("gameId") // Add this field
+    private String gameId;
+
+    @SerializedName("difficulty")
+    private String difficulty;
+
+    @SerializedName("board_string")
+    private String boardString;
+
+    @SerializedName("solution_string")
+    private String solutionString;
+
+    // True for puzzles made on-device by PuzzleGenerator (no server game record, not ranked)
+    private boolean generatedLocally;
+
+    // --- Getters ---
+    public String getId() {
+        return id;
+    }
+
+    // Add getter for gameId
+    public String getGameId() {
+        return gameId;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public String getBoardString() {
+        return boardString;
+    }
+
+    public String getSolutionString() {
+        return solutionString;
+    }
+
+    public boolean isGeneratedLocally() {
+        return generatedLocally;
+    }
+
+    // --- Setters (Optional, but good practice if needed) ---
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
+    public void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public void setBoardString(String boardString) {
+        this.boardString = boardString;
+    }
+
+    public void setSolutionString(String solutionString) {
+        this.solutionString = solutionString;
+    }
+
+    public void setGeneratedLocally(boolean generatedLocally) {
+        this.generatedLocally = generatedLocally;
+    }
+
+    static final TypeAdapter<PuzzleResponse> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<PuzzleResponse> {
+        @Override
+        public void write(JsonWriter out, PuzzleResponse value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("gameId").value(value.gameId);
+            out.name("difficulty").value(value.difficulty);
+            out.name("board_string").value(value.boardString);
+            out.name("solution_string").value(value.solutionString);
+            out.name("generatedLocally").value(value.generatedLocally);
+            out.endObject();
+        }
+
+        @Override
+        public PuzzleResponse read(JsonReader in) throws IOException {
+            PuzzleResponse value = new PuzzleResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": value.id = JsonFields.nextString(in); break;
+                    case "gameId": value.gameId = JsonFields.nextString(in); break;
+                    case "difficulty": value.difficulty = JsonFields.nextString(in); break;
+                    case "board_string": value.boardString = JsonFields.nextString(in); break;
+                    case "solution_string": value.solutionString = JsonFields.nextString(in); break;
+                    case "generatedLocally": value.generatedLocally = JsonFields.nextBoolean(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
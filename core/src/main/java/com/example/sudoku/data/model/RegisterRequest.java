@@ -1,4 +1,4 @@
-// Relative Path: Sudoku-App/app/src/main/java/com/example/sudoku/data/model/RegisterRequest.java
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/RegisterRequest.java
 package com.example.sudoku.data.model;
 
 // This class matches the backend's CreateUser schema
@@ -0,0 +1,64 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/UpdateResponse.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+// Corresponds to UpdateResponse schema in backend
+public class UpdateResponse {
+
+    @SerializedName("message")
+    private String message;
+
+    @SerializedName("status")
+    private String status; // "success", "error" or "version_mismatch" (HTTP 409, resend full state)
+
+    @SerializedName("state_version")
+    private Integer stateVersion; // Version of the saved state, base for the next delta (null if unsupported)
+
+    // Getters
+    public String getMessage() {
+        return message;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getStateVersion() {
+        return stateVersion;
+    }
+
+    static final TypeAdapter<UpdateResponse> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<UpdateResponse> {
+        @Override
+        public void write(JsonWriter out, UpdateResponse value) throws IOException {
+            out.beginObject();
+            out.name("message").value(value.message);
+            out.name("status").value(value.status);
+            out.name("state_version").value(value.stateVersion);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateResponse read(JsonReader in) throws IOException {
+            UpdateResponse value = new UpdateResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "message": value.message = JsonFields.nextString(in); break;
+                    case "status": value.status = JsonFields.nextString(in); break;
+                    case "state_version": value.stateVersion = JsonFields.nextInteger(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/UserBase.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Serializable; // Implement Serializable if needed for passing via Intent
+
+public class UserBase implements Serializable { // Make Serializable if passing whole object
+
+    @SerializedName("id")
+    private String id; // Keep as String as UUIDs are often serialized as strings
+
+    @SerializedName("username")
+    private String username;
+
+    @SerializedName("email")
+    private String email; // Included as per backend schema, but might not be displayed
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    // Setters (Optional)
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    static final TypeAdapter<UserBase> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<UserBase> {
+        @Override
+        public void write(JsonWriter out, UserBase value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("username").value(value.username);
+            out.name("email").value(value.email);
+            out.endObject();
+        }
+
+        @Override
+        public UserBase read(JsonReader in) throws IOException {
+            UserBase value = new UserBase();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": value.id = JsonFields.nextString(in); break;
+                    case "username": value.username = JsonFields.nextString(in); break;
+                    case "email": value.email = JsonFields.nextString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
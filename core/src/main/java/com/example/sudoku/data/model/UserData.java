@@ -0,0 +1,114 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/UserData.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * POJO for the "message" object inside UserResponse.
+ * This class MUST match the backend's src/Schemas/user_schema.py -> UserData
+ */
+public class UserData {
+
+    @SerializedName("id")
+    private String id;
+
+    @SerializedName("username")
+    private String username;
+
+    @SerializedName("email")
+    private String email;
+
+    @SerializedName("total_games_played")
+    private int total_games_played;
+
+    @SerializedName("total_score")
+    private int total_score;
+
+    // --- ADDED MISSING FIELDS ---
+    @SerializedName("best_score_easy")
+    private int best_score_easy;
+
+    @SerializedName("best_score_medium")
+    private int best_score_medium;
+
+    @SerializedName("best_score_hard")
+    private int best_score_hard;
+
+    // --- GETTERS ---
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public int getTotal_games_played() {
+        return total_games_played;
+    }
+
+    public int getTotal_score() {
+        return total_score;
+    }
+
+    // --- ADDED MISSING GETTERS ---
+    public int getBest_score_easy() {
+        return best_score_easy;
+    }
+
+    public int getBest_score_medium() {
+        return best_score_medium;
+    }
+
+    public int getBest_score_hard() {
+        return best_score_hard;
+    }
+
+    static final TypeAdapter<UserData> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<UserData> {
+        @Override
+        public void write(JsonWriter out, UserData value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("username").value(value.username);
+            out.name("email").value(value.email);
+            out.name("total_games_played").value(value.total_games_played);
+            out.name("total_score").value(value.total_score);
+            out.name("best_score_easy").value(value.best_score_easy);
+            out.name("best_score_medium").value(value.best_score_medium);
+            out.name("best_score_hard").value(value.best_score_hard);
+            out.endObject();
+        }
+
+        @Override
+        public UserData read(JsonReader in) throws IOException {
+            UserData value = new UserData();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": value.id = JsonFields.nextString(in); break;
+                    case "username": value.username = JsonFields.nextString(in); break;
+                    case "email": value.email = JsonFields.nextString(in); break;
+                    case "total_games_played": value.total_games_played = JsonFields.nextInt(in); break;
+                    case "total_score": value.total_score = JsonFields.nextInt(in); break;
+                    case "best_score_easy": value.best_score_easy = JsonFields.nextInt(in); break;
+                    case "best_score_medium": value.best_score_medium = JsonFields.nextInt(in); break;
+                    case "best_score_hard": value.best_score_hard = JsonFields.nextInt(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+// Matches UserRankCategoryData in backend leaderboard_schema.py
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+public class UserRankCategoryData {
+
+    @SerializedName("daily")
+    private UserRankEntry daily;
+
+    @SerializedName("weekly")
+    private UserRankEntry weekly;
+
+    @SerializedName("all_time")
+    private UserRankEntry allTime;
+
+    // Getters
+    public UserRankEntry getDaily() { return daily; }
+    public UserRankEntry getWeekly() { return weekly; }
+    public UserRankEntry getAllTime() { return allTime; }
+
+    // Optional: Add setters if needed
+
+    static final TypeAdapter<UserRankCategoryData> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<UserRankCategoryData> {
+        @Override
+        public void write(JsonWriter out, UserRankCategoryData value) throws IOException {
+            out.beginObject();
+            out.name("daily");
+            UserRankEntry.ADAPTER.write(out, value.daily);
+            out.name("weekly");
+            UserRankEntry.ADAPTER.write(out, value.weekly);
+            out.name("all_time");
+            UserRankEntry.ADAPTER.write(out, value.allTime);
+            out.endObject();
+        }
+
+        @Override
+        public UserRankCategoryData read(JsonReader in) throws IOException {
+            UserRankCategoryData value = new UserRankCategoryData();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "daily": value.daily = UserRankEntry.ADAPTER.read(in); break;
+                    case "weekly": value.weekly = UserRankEntry.ADAPTER.read(in); break;
+                    case "all_time": value.allTime = UserRankEntry.ADAPTER.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
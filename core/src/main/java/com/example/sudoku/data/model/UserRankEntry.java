@@ -0,0 +1,51 @@
+// Matches UserRankEntry in backend leaderboard_schema.py
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+public class UserRankEntry {
+
+    @SerializedName("total_score")
+    private int totalScore;
+
+    @SerializedName("rank")
+    private int rank;
+
+    // Getters
+    public int getTotalScore() { return totalScore; }
+    public int getRank() { return rank; }
+
+    // Optional: Add setters if needed
+
+    static final TypeAdapter<UserRankEntry> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<UserRankEntry> {
+        @Override
+        public void write(JsonWriter out, UserRankEntry value) throws IOException {
+            out.beginObject();
+            out.name("total_score").value(value.totalScore);
+            out.name("rank").value(value.rank);
+            out.endObject();
+        }
+
+        @Override
+        public UserRankEntry read(JsonReader in) throws IOException {
+            UserRankEntry value = new UserRankEntry();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "total_score": value.totalScore = JsonFields.nextInt(in); break;
+                    case "rank": value.rank = JsonFields.nextInt(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/model/UserResponse.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+// This POJO matches the UserResponse schema in user_schema.py
+public class UserResponse {
+    private String status;
+    private UserData message; // The backend schema nests the UserData under "message"
+
+    // Getters
+    public String getStatus() {
+        return status;
+    }
+
+    public UserData getMessage() {
+        return message;
+    }
+
+    static final TypeAdapter<UserResponse> ADAPTER = new GsonAdapter().nullSafe();
+
+    static final class GsonAdapter extends TypeAdapter<UserResponse> {
+        @Override
+        public void write(JsonWriter out, UserResponse value) throws IOException {
+            out.beginObject();
+            out.name("status").value(value.status);
+            out.name("message");
+            UserData.ADAPTER.write(out, value.message);
+            out.endObject();
+        }
+
+        @Override
+        public UserResponse read(JsonReader in) throws IOException {
+            UserResponse value = new UserResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "status": value.status = JsonFields.nextString(in); break;
+                    case "message": value.message = UserData.ADAPTER.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/network/CircuitBreaker.java
+package com.example.sudoku.data.network;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calling a backend that keeps failing.
+ * - CLOSED: calls go through; FAILURE_THRESHOLD failures in a row open the breaker.
+ * - OPEN: calls are refused for the cooldown, so the app falls back to cached data right
+ *   away instead of piling retries (and pull-to-refresh taps) onto a backend that is down.
+ * - HALF_OPEN: after the cooldown one trial call goes through. Success closes the breaker;
+ *   failure opens it again with twice the cooldown (up to MAX_COOLDOWN_MS).
+ * Thread-safe.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    static final int FAILURE_THRESHOLD = 5;
+    static final long BASE_COOLDOWN_MS = 15_000;
+    static final long MAX_COOLDOWN_MS = 2 * 60_000;
+
+    private final LongSupplier clock; // ms
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long cooldownMs = BASE_COOLDOWN_MS;
+    private long openedAt;
+    private boolean trialInFlight;
+    private int rejected;
+
+    public CircuitBreaker() {
+        this(System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Whether a call may go out now. In HALF_OPEN only the first caller gets true (the
+     * trial); it must then report onSuccess() or onFailure().
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= cooldownMs) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.CLOSED) return true;
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+        rejected++;
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        cooldownMs = BASE_COOLDOWN_MS;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            cooldownMs = Math.min(cooldownMs * 2, MAX_COOLDOWN_MS);
+            open();
+            return;
+        }
+        if (++consecutiveFailures >= FAILURE_THRESHOLD && state == State.CLOSED) {
+            open();
+        }
+    }
+
+    /** A trial call ended without a verdict (e.g. canceled): let the next call try. */
+    public synchronized void onAbandoned() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /** Ms until an open breaker lets a trial call through (0 if not open). */
+    public synchronized long remainingCooldownMs() {
+        return state == State.OPEN ? Math.max(0, cooldownMs - (clock.getAsLong() - openedAt)) : 0;
+    }
+
+    /** Calls refused while open, since app start. */
+    public synchronized int getRejectedCount() {
+        return rejected;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,26 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/network/CircuitOpenException.java
+package com.example.sudoku.data.network;
+
+import java.io.IOException;
+
+/**
+ * A call refused without touching the network because the circuit breaker is open.
+ * An IOException, so it reaches Retrofit's onFailure and the HTTP cache's offline fallback
+ * like any network error.
+ */
+public class CircuitOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryInMs;
+
+    public CircuitOpenException(long retryInMs) {
+        super("Backend unavailable, not retrying for " + (retryInMs + 999) / 1000 + " s");
+        this.retryInMs = retryInMs;
+    }
+
+    /** Ms until the breaker lets a call through again. */
+    public long getRetryInMs() {
+        return retryInMs;
+    }
+}
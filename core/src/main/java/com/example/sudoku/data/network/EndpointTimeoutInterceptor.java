@@ -0,0 +1,27 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/network/EndpointTimeoutInterceptor.java
+package com.example.sudoku.data.network;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Applies the timeouts of the request's endpoint class (NetworkConfig.classify) to the call.
+ * Must be an application interceptor: OkHttp only lets those change timeouts.
+ */
+public class EndpointTimeoutInterceptor implements Interceptor {
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        NetworkConfig.EndpointClass endpointClass = NetworkConfig.classify(request);
+        return chain
+                .withConnectTimeout(endpointClass.connectTimeoutS, TimeUnit.SECONDS)
+                .withReadTimeout(endpointClass.readTimeoutS, TimeUnit.SECONDS)
+                .withWriteTimeout(endpointClass.writeTimeoutS, TimeUnit.SECONDS)
+                .proceed(request);
+    }
+}
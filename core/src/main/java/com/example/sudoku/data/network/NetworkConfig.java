@@ -0,0 +1,115 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/network/NetworkConfig.java
+package com.example.sudoku.data.network;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+/**
+ * OkHttp settings for talking to the backend, shared by every client the app builds.
+ * - One base client for the whole process; every client is derived from it with newBuilder().
+ *   RetrofitClient rebuilds its client on logout, and the warm (TLS, HTTP/2) connections in
+ *   the shared pool stay usable. A pool alone isn't enough: OkHttp only reuses a connection
+ *   for the same TLS socket factory, and each separately built client creates its own.
+ * - HTTP/2 first, so concurrent calls share one connection.
+ * - Timeouts per endpoint class (see {@link EndpointClass}), applied per call by
+ *   EndpointTimeoutInterceptor.
+ * - Game updates are sent gzipped (GzipRequestInterceptor). Responses are already gzipped:
+ *   OkHttp asks for it and decompresses transparently.
+ * Platform-free, so the JVM benchmarks use the same settings as the app.
+ */
+public final class NetworkConfig {
+
+    /** Kinds of calls with their own timeouts. */
+    public enum EndpointClass {
+        /** Reads that should be quick (profile, history, leaderboard, challenges). */
+        FAST_READ(10, 15, 10),
+        /** Game and challenge writes: larger bodies, server-side work. */
+        WRITE(15, 30, 30),
+        /** First calls of a session (health probe, login, register, new game): may wake the backend up, which takes up to a minute. */
+        COLD_START(30, 90, 30);
+
+        public final int connectTimeoutS;
+        public final int readTimeoutS;
+        public final int writeTimeoutS;
+
+        EndpointClass(int connectTimeoutS, int readTimeoutS, int writeTimeoutS) {
+            this.connectTimeoutS = connectTimeoutS;
+            this.readTimeoutS = readTimeoutS;
+            this.writeTimeoutS = writeTimeoutS;
+        }
+    }
+
+    static final int MAX_IDLE_CONNECTIONS = 6; // At least MAX_REQUESTS_PER_HOST, or a burst closes what it just opened
+    static final int KEEP_ALIVE_MINUTES = 5;
+    static final int MAX_REQUESTS = 16;
+    static final int MAX_REQUESTS_PER_HOST = 6; // One backend host; 6 covers a screen's parallel loads
+
+    private static final ConnectionPool CONNECTION_POOL = new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES);
+    private static final GzipRequestInterceptor GZIP_INTERCEPTOR = new GzipRequestInterceptor("/api/game/update_game");
+    private static final OkHttpClient BASE_CLIENT = createBaseClient();
+
+    private NetworkConfig() {
+        // Static helpers only
+    }
+
+    /**
+     * A client builder with the shared pool and dispatcher, HTTP/2, per-endpoint-class
+     * timeouts and request gzip. Callers add their own interceptors.
+     */
+    public static OkHttpClient.Builder newClientBuilder() {
+        return BASE_CLIENT.newBuilder();
+    }
+
+    /** The endpoint class of a request to the backend. */
+    public static EndpointClass classify(Request request) {
+        String path = request.url().encodedPath();
+        if (path.startsWith("/api/auth/") || path.startsWith("/api/game/new_game/") || "/api/health".equals(path)) {
+            return EndpointClass.COLD_START;
+        }
+        return "GET".equals(request.method()) ? EndpointClass.FAST_READ : EndpointClass.WRITE;
+    }
+
+    /**
+     * Whether sending a request again can't change anything on the backend: GET and HEAD,
+     * except new_game, which creates a game per call. Only such requests are retried without
+     * an Idempotency-Key (RetryInterceptor) or shared between callers (RequestCoalescingInterceptor).
+     */
+    public static boolean isSafeToRepeat(Request request) {
+        String method = request.method();
+        return ("GET".equals(method) || "HEAD".equals(method))
+                && !request.url().encodedPath().startsWith("/api/game/new_game/");
+    }
+
+    /** The process-wide pool, e.g. to look at idle/total connection counts. */
+    public static ConnectionPool connectionPool() {
+        return CONNECTION_POOL;
+    }
+
+    /** Whether game updates are still sent gzipped (turned off if the server rejects gzip). */
+    public static boolean isRequestGzipEnabled() {
+        return GZIP_INTERCEPTOR.isEnabled();
+    }
+
+    private static OkHttpClient createBaseClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+        EndpointClass defaults = EndpointClass.FAST_READ; // Overridden per call by the timeout interceptor
+        return new OkHttpClient.Builder()
+                .connectionPool(CONNECTION_POOL)
+                .dispatcher(dispatcher)
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(defaults.connectTimeoutS, TimeUnit.SECONDS)
+                .readTimeout(defaults.readTimeoutS, TimeUnit.SECONDS)
+                .writeTimeout(defaults.writeTimeoutS, TimeUnit.SECONDS)
+                .addInterceptor(new EndpointTimeoutInterceptor())
+                .addInterceptor(GZIP_INTERCEPTOR)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/network/RetryInterceptor.java
+package com.example.sudoku.data.network;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Central retry and circuit breaker for backend calls (application interceptor).
+ * - GETs are retried on network errors and 429/502/503/504, with the jittered backoff of
+ *   their endpoint class (RetryPolicy). Retry-After is honored. new_game is the exception:
+ *   it creates a game, so a retry after a lost response would create a second one
+ *   (see NetworkConfig.isSafeToRepeat).
+ * - Other requests are retried only if they carry an Idempotency-Key header, so a retry
+ *   after a lost response can't apply a write twice. Everything else gets one attempt.
+ * - Network errors and 5xx count as failures for the CircuitBreaker. While it is open,
+ *   calls fail at once with CircuitOpenException, and callers fall back to cached data
+ *   (HttpCacheInterceptor serves its disk copy on IOExceptions).
+ * Place it after the cache interceptor, so cache hits never count or wait. Requests that
+ * only ask the cache (only-if-cached) pass straight through.
+ */
+public class RetryInterceptor implements Interceptor {
+
+    private final CircuitBreaker breaker;
+    private final AtomicInteger retries = new AtomicInteger();
+
+    public RetryInterceptor(CircuitBreaker breaker) {
+        this.breaker = breaker;
+    }
+
+    public CircuitBreaker getBreaker() {
+        return breaker;
+    }
+
+    /** Retries sent since app start. */
+    public int getRetryCount() {
+        return retries.get();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (request.cacheControl().onlyIfCached()) {
+            return chain.proceed(request); // Answered by the cache, never by the network
+        }
+        RetryPolicy policy = RetryPolicy.forClass(NetworkConfig.classify(request));
+        int maxAttempts = isRetryable(request) ? policy.getMaxAttempts() : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            if (!breaker.allowRequest()) {
+                throw new CircuitOpenException(breaker.remainingCooldownMs());
+            }
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                if (chain.call().isCanceled()) {
+                    breaker.onAbandoned(); // Says nothing about the backend
+                    throw e;
+                }
+                breaker.onFailure();
+                if (attempt >= maxAttempts) throw e;
+                backOff(chain, policy.delayMs(attempt, -1));
+                continue;
+            }
+
+            int code = response.code();
+            if (code >= 500) breaker.onFailure();
+            else breaker.onSuccess(); // Also 4xx and 429: the backend is up and answering
+            if (!isRetryableStatus(code) || attempt >= maxAttempts) return response;
+            long retryAfterMs = retryAfterMs(response);
+            response.close();
+            backOff(chain, policy.delayMs(attempt, retryAfterMs));
+        }
+    }
+
+    static boolean isRetryable(Request request) {
+        return NetworkConfig.isSafeToRepeat(request) || request.header("Idempotency-Key") != null;
+    }
+
+    static boolean isRetryableStatus(int code) {
+        return code == 429 || code == 502 || code == 503 || code == 504;
+    }
+
+    // Retry-After in seconds (the HTTP-date form isn't used by our backend), or -1
+    private static long retryAfterMs(Response response) {
+        String value = response.header("Retry-After");
+        if (value == null) return -1;
+        try {
+            return Math.max(0, Long.parseLong(value.trim())) * 1000;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void backOff(Chain chain, long delayMs) throws IOException {
+        retries.incrementAndGet();
+        try {
+            Thread.sleep(delayMs); // On an OkHttp worker thread (or the caller's, for execute())
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+        if (chain.call().isCanceled()) throw new IOException("Canceled");
+    }
+}
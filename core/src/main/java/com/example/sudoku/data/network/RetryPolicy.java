@@ -0,0 +1,52 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/network/RetryPolicy.java
+package com.example.sudoku.data.network;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How often and how long to wait before retrying a failed call: exponential backoff with
+ * full jitter (a random delay between 0 and the exponential cap), so clients that failed
+ * together don't retry together.
+ */
+public final class RetryPolicy {
+
+    /** Quick reads: a couple of fast retries. */
+    public static final RetryPolicy FAST_READ = new RetryPolicy(3, 300, 3_000);
+    /** Writes (only with an idempotency key): the server may be busy, back off more. */
+    public static final RetryPolicy WRITE = new RetryPolicy(3, 1_000, 8_000);
+    /** Calls that may be waking the backend: each attempt already waits long. */
+    public static final RetryPolicy COLD_START = new RetryPolicy(2, 2_000, 10_000);
+
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMs, long maxDelayMs) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    public static RetryPolicy forClass(NetworkConfig.EndpointClass endpointClass) {
+        switch (endpointClass) {
+            case WRITE: return WRITE;
+            case COLD_START: return COLD_START;
+            default: return FAST_READ;
+        }
+    }
+
+    /** Attempts in total, the first one included. */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Delay before retry number `retry` (1 for the first retry).
+     * @param retryAfterMs The server's Retry-After in ms, or -1. Used as a lower bound.
+     */
+    public long delayMs(int retry, long retryAfterMs) {
+        long cap = Math.min(maxDelayMs, baseDelayMs << Math.min(retry - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+        return Math.min(Math.max(delay, retryAfterMs), maxDelayMs);
+    }
+}
@@ -0,0 +1,124 @@
+// Relative Path: core/src/main/java/com/example/sudoku/data/repository/ChallengeStore.java
+package com.example.sudoku.data.repository;
+
+import com.example.sudoku.data.model.ChallengeResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One user's challenges by id, with what the two tabs of the challenge screen show kept
+ * up to date as challenges are merged in:
+ * - incoming: sent to the user and still pending;
+ * - outgoing: sent by the user and pending or accepted.
+ * Counts are O(1) and the tab lists are built once per change, so switching tabs doesn't
+ * filter the whole list again. Challenges keep the order they were first seen in.
+ * Not thread-safe: the app uses it from the main thread only.
+ */
+public class ChallengeStore {
+
+    private final String userId;
+    private final Map<String, ChallengeResponse> byId = new LinkedHashMap<>();
+    private final Map<String, ChallengeResponse> incoming = new LinkedHashMap<>();
+    private final Map<String, ChallengeResponse> outgoing = new LinkedHashMap<>();
+    private String watermark; // Of the last sync, null before the first one
+
+    // Built on demand, dropped when the indexes change
+    private List<ChallengeResponse> incomingList;
+    private List<ChallengeResponse> outgoingList;
+
+    public ChallengeStore(String userId) {
+        this.userId = userId;
+    }
+
+    /** Replaces everything (full snapshot). The watermark is null from backends without incremental sync. */
+    public void replaceAll(Collection<ChallengeResponse> challenges, String newWatermark) {
+        byId.clear();
+        incoming.clear();
+        outgoing.clear();
+        watermark = null; // An older one doesn't describe the new snapshot
+        merge(challenges, Collections.emptyList(), newWatermark);
+    }
+
+    /** Adds or replaces challenges by id and drops removed ones (changes since the last sync). A null watermark keeps the current one. */
+    public void merge(Collection<ChallengeResponse> changes, Collection<String> removedIds, String newWatermark) {
+        for (String id : removedIds) {
+            byId.remove(id);
+            incoming.remove(id);
+            outgoing.remove(id);
+        }
+        for (ChallengeResponse challenge : changes) {
+            put(challenge);
+        }
+        if (newWatermark != null) watermark = newWatermark;
+        incomingList = null;
+        outgoingList = null;
+    }
+
+    /**
+     * Puts one changed challenge in place of the one with the same id (a local change, e.g.
+     * an action the server is about to confirm). Doesn't touch the watermark.
+     * @return Whether the store has that challenge.
+     */
+    public boolean replace(ChallengeResponse challenge) {
+        if (challenge.getId() == null || !byId.containsKey(challenge.getId())) return false;
+        put(challenge);
+        incomingList = null;
+        outgoingList = null;
+        return true;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public boolean isEmpty() {
+        return byId.isEmpty();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public int incomingCount() {
+        return incoming.size();
+    }
+
+    public int outgoingCount() {
+        return outgoing.size();
+    }
+
+    /** The incoming tab (unmodifiable). */
+    public List<ChallengeResponse> incoming() {
+        if (incomingList == null) incomingList = Collections.unmodifiableList(new ArrayList<>(incoming.values()));
+        return incomingList;
+    }
+
+    /** The outgoing tab (unmodifiable). */
+    public List<ChallengeResponse> outgoing() {
+        if (outgoingList == null) outgoingList = Collections.unmodifiableList(new ArrayList<>(outgoing.values()));
+        return outgoingList;
+    }
+
+    private void put(ChallengeResponse challenge) {
+        String id = challenge.getId();
+        if (id == null) return;
+        byId.put(id, challenge);
+        String status = challenge.getStatus();
+        boolean pending = "pending".equalsIgnoreCase(status);
+        if (userId != null && userId.equalsIgnoreCase(challenge.getOpponentId()) && pending) {
+            incoming.put(id, challenge);
+        } else {
+            incoming.remove(id);
+        }
+        if (userId != null && userId.equalsIgnoreCase(challenge.getChallengerId()) && (pending || "accepted".equalsIgnoreCase(status))) {
+            outgoing.put(id, challenge);
+        } else {
+            outgoing.remove(id);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+// Relative Path: core/src/main/java/com/example/sudoku/engine/BitmaskSolver.java
+package com.example.sudoku.engine;
+
+import static com.example.sudoku.engine.Units.ALL_DIGITS;
+import static com.example.sudoku.engine.Units.BOX_OF;
+import static com.example.sudoku.engine.Units.COL_OF;
+import static com.example.sudoku.engine.Units.ROW_OF;
+import static com.example.sudoku.engine.Units.UNITS;
+
+/**
+ * Constraint-propagation solver.
+ * Keeps the used digits of every row, column and box as 9-bit masks, fills naked and
+ * hidden singles until nothing changes, then branches on the cell with the fewest
+ * candidates (MRV). All working arrays are allocated once per instance, so repeated
+ * calls do not allocate apart from the returned solution string.
+ * Instances are not thread-safe; use one per thread.
+ */
+public final class BitmaskSolver implements SudokuSolver {
+
+    private final int[] grid = new int[81];     // Current values, 0 = empty
+    private final int[] rowUsed = new int[9];
+    private final int[] colUsed = new int[9];
+    private final int[] boxUsed = new int[9];
+    private final int[] trail = new int[81];    // Cells placed since load, for undo
+    private int trailSize;
+
+    private final int[] solution = new int[81]; // First solution found
+    private boolean solutionFound;
+
+    @Override
+    public String solve(String boardString) {
+        Units.parse(boardString, grid);
+        if (!load(grid) || search(1) == 0) {
+            return null;
+        }
+        return Units.format(solution);
+    }
+
+    @Override
+    public int countSolutions(String boardString, int limit) {
+        Units.parse(boardString, grid);
+        return load(grid) ? search(Math.max(1, limit)) : 0;
+    }
+
+    /**
+     * Solves a board in place without allocating.
+     * @param cells 81 values, 0 for empty. Filled with the solution on success.
+     * @return true if a solution was found, false if the board is unsolvable.
+     */
+    public boolean solve(int[] cells) {
+        if (!load(cells) || search(1) == 0) {
+            return false;
+        }
+        System.arraycopy(solution, 0, cells, 0, 81);
+        return true;
+    }
+
+    /**
+     * Counts solutions of a board without allocating (the input is not modified).
+     * @param cells 81 values, 0 for empty.
+     * @param limit Maximum number of solutions to look for.
+     */
+    public int countSolutions(int[] cells, int limit) {
+        return load(cells) ? search(Math.max(1, limit)) : 0;
+    }
+
+    /**
+     * Returns the candidate mask (bits for digits 1-9) of a cell for the board loaded by
+     * the last call, or 0 for a filled cell.
+     */
+    public int candidatesAt(int cell) {
+        return grid[cell] != 0 ? 0 : candidates(cell);
+    }
+
+    // --- Internal search ---
+
+    // Resets all masks and places the givens. Returns false if two givens conflict.
+    private boolean load(int[] cells) {
+        for (int i = 0; i < 9; i++) {
+            rowUsed[i] = 0;
+            colUsed[i] = 0;
+            boxUsed[i] = 0;
+        }
+        trailSize = 0;
+        solutionFound = false;
+        for (int cell = 0; cell < 81; cell++) {
+            int value = cells[cell];
+            grid[cell] = 0;
+            if (value < 1 || value > 9) continue;
+            int bit = 1 << (value - 1);
+            if ((candidates(cell) & bit) == 0) {
+                return false; // Duplicate given in a row, column or box
+            }
+            grid[cell] = value;
+            rowUsed[ROW_OF[cell]] |= bit;
+            colUsed[COL_OF[cell]] |= bit;
+            boxUsed[BOX_OF[cell]] |= bit;
+        }
+        trailSize = 0; // Givens are never undone
+        return true;
+    }
+
+    private int candidates(int cell) {
+        return ~(rowUsed[ROW_OF[cell]] | colUsed[COL_OF[cell]] | boxUsed[BOX_OF[cell]]) & ALL_DIGITS;
+    }
+
+    private void place(int cell, int bit) {
+        grid[cell] = Integer.numberOfTrailingZeros(bit) + 1;
+        rowUsed[ROW_OF[cell]] |= bit;
+        colUsed[COL_OF[cell]] |= bit;
+        boxUsed[BOX_OF[cell]] |= bit;
+        trail[trailSize++] = cell;
+    }
+
+    private void undoTo(int mark) {
+        while (trailSize > mark) {
+            int cell = trail[--trailSize];
+            int clear = ~(1 << (grid[cell] - 1));
+            rowUsed[ROW_OF[cell]] &= clear;
+            colUsed[COL_OF[cell]] &= clear;
+            boxUsed[BOX_OF[cell]] &= clear;
+            grid[cell] = 0;
+        }
+    }
+
+    // Fills naked and hidden singles until a fixed point. Returns false on contradiction.
+    private boolean propagate() {
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+
+            // Naked singles: cells with exactly one candidate
+            for (int cell = 0; cell < 81; cell++) {
+                if (grid[cell] != 0) continue;
+                int cand = candidates(cell);
+                if (cand == 0) return false;
+                if ((cand & (cand - 1)) == 0) {
+                    place(cell, cand);
+                    progress = true;
+                }
+            }
+
+            // Hidden singles: digits with exactly one possible cell in a unit
+            for (int u = 0; u < 27; u++) {
+                int[] unit = UNITS[u];
+                int placed = 0, once = 0, twice = 0;
+                for (int cell : unit) {
+                    if (grid[cell] != 0) {
+                        placed |= 1 << (grid[cell] - 1);
+                    } else {
+                        int cand = candidates(cell);
+                        twice |= once & cand;
+                        once |= cand;
+                    }
+                }
+                if ((once | placed) != ALL_DIGITS) return false; // A digit has nowhere to go
+                int singles = once & ~twice & ~placed;
+                while (singles != 0) {
+                    int bit = singles & -singles;
+                    singles ^= bit;
+                    int target = -1;
+                    for (int cell : unit) {
+                        if (grid[cell] == 0 && (candidates(cell) & bit) != 0) {
+                            target = cell;
+                            break;
+                        }
+                    }
+                    if (target < 0) return false; // Cell was taken by another hidden single
+                    place(target, bit);
+                    progress = true;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int search(int limit) {
+        int mark = trailSize;
+        if (!propagate()) {
+            undoTo(mark);
+            return 0;
+        }
+
+        // Pick the empty cell with the fewest candidates (MRV)
+        int best = -1;
+        int bestCount = 10;
+        for (int cell = 0; cell < 81; cell++) {
+            if (grid[cell] != 0) continue;
+            int count = Integer.bitCount(candidates(cell));
+            if (count < bestCount) {
+                best = cell;
+                bestCount = count;
+                if (count == 2) break; // Can't do better after propagation
+            }
+        }
+
+        if (best < 0) { // Board is full
+            if (!solutionFound) {
+                System.arraycopy(grid, 0, solution, 0, 81);
+                solutionFound = true;
+            }
+            undoTo(mark);
+            return 1;
+        }
+
+        int found = 0;
+        int cand = candidates(best);
+        while (cand != 0 && found < limit) {
+            int bit = cand & -cand;
+            cand ^= bit;
+            int branchMark = trailSize;
+            place(best, bit);
+            found += search(limit - found);
+            undoTo(branchMark);
+        }
+        undoTo(mark);
+        return found;
+    }
+}
@@ -0,0 +1,230 @@
+// Relative Path: core/src/main/java/com/example/sudoku/engine/DlxSolver.java
+package com.example.sudoku.engine;
+
+import static com.example.sudoku.engine.Units.BOX_OF;
+import static com.example.sudoku.engine.Units.COL_OF;
+import static com.example.sudoku.engine.Units.ROW_OF;
+
+/**
+ * Dancing Links (Algorithm X) exact-cover solver.
+ * Sudoku is encoded as 729 candidate rows (cell x digit) over 324 constraint columns
+ * (cell filled, row has digit, column has digit, box has digit). The whole link
+ * structure lives in preallocated int arrays built once in the constructor; solving
+ * covers the givens, searches, and uncovers everything again, so the structure is
+ * reused across calls. Mainly intended for solution counting / uniqueness checks.
+ * Instances are not thread-safe; use one per thread.
+ */
+public final class DlxSolver implements SudokuSolver {
+
+    private static final int COLUMNS = 324;
+    private static final int ROWS = 729;
+    private static final int ROOT = 0;
+    private static final int FIRST_NODE = COLUMNS + 1; // Headers occupy 1..324
+    private static final int NODE_COUNT = FIRST_NODE + ROWS * 4;
+
+    // Link arrays: index 0 is the root, 1..324 the column headers, then 4 nodes per row
+    private final int[] left = new int[NODE_COUNT];
+    private final int[] right = new int[NODE_COUNT];
+    private final int[] up = new int[NODE_COUNT];
+    private final int[] down = new int[NODE_COUNT];
+    private final int[] column = new int[NODE_COUNT];
+    private final int[] rowOf = new int[NODE_COUNT];     // Candidate row (cell * 9 + digit - 1)
+    private final int[] size = new int[COLUMNS + 1];
+
+    private final int[] givenNodes = new int[81];       // First node of each selected given row
+    private final int[] chosen = new int[81];           // Row node chosen at each search depth
+    private final int[] cells = new int[81];
+    private final int[] solution = new int[81];
+    private boolean solutionFound;
+
+    public DlxSolver() {
+        for (int c = 0; c <= COLUMNS; c++) {
+            left[c] = c == 0 ? COLUMNS : c - 1;
+            right[c] = c == COLUMNS ? 0 : c + 1;
+            up[c] = c;
+            down[c] = c;
+            column[c] = c;
+        }
+        int node = FIRST_NODE;
+        for (int r = 0; r < ROWS; r++) {
+            int cell = r / 9;
+            int d = r % 9;
+            int[] constraints = {
+                    cell,
+                    81 + ROW_OF[cell] * 9 + d,
+                    162 + COL_OF[cell] * 9 + d,
+                    243 + BOX_OF[cell] * 9 + d
+            };
+            for (int k = 0; k < 4; k++) {
+                int n = node + k;
+                int c = constraints[k] + 1;
+                // Circular row links among this row's four nodes
+                left[n] = node + (k + 3) % 4;
+                right[n] = node + (k + 1) % 4;
+                // Append at the bottom of the column
+                column[n] = c;
+                rowOf[n] = r;
+                up[n] = up[c];
+                down[n] = c;
+                down[up[c]] = n;
+                up[c] = n;
+                size[c]++;
+            }
+            node += 4;
+        }
+    }
+
+    @Override
+    public String solve(String boardString) {
+        Units.parse(boardString, cells);
+        if (run(cells, 1) == 0) {
+            return null;
+        }
+        return Units.format(solution);
+    }
+
+    @Override
+    public int countSolutions(String boardString, int limit) {
+        Units.parse(boardString, cells);
+        return run(cells, Math.max(1, limit));
+    }
+
+    /**
+     * Counts solutions of a board without allocating (the input is not modified).
+     * @param grid 81 values, 0 for empty.
+     * @param limit Maximum number of solutions to look for.
+     */
+    public int countSolutions(int[] grid, int limit) {
+        return run(grid, Math.max(1, limit));
+    }
+
+    /**
+     * Solves a board in place without allocating.
+     * @param grid 81 values, 0 for empty. Filled with the solution on success.
+     * @return true if a solution was found.
+     */
+    public boolean solve(int[] grid) {
+        if (run(grid, 1) == 0) {
+            return false;
+        }
+        System.arraycopy(solution, 0, grid, 0, 81);
+        return true;
+    }
+
+    // --- Internal search ---
+
+    private int run(int[] grid, int limit) {
+        solutionFound = false;
+        int givens = 0;
+        int found = 0;
+        boolean valid = true;
+
+        // Select the row of every given; a conflict shows up as an already covered column
+        for (int cell = 0; cell < 81 && valid; cell++) {
+            int value = grid[cell];
+            if (value < 1 || value > 9) continue;
+            int first = FIRST_NODE + (cell * 9 + value - 1) * 4;
+            for (int k = 0; k < 4; k++) {
+                if (isCovered(column[first + k])) {
+                    valid = false;
+                    break;
+                }
+            }
+            if (valid) {
+                selectRow(first);
+                givenNodes[givens++] = first;
+            }
+        }
+
+        if (valid) {
+            found = search(0, limit);
+            if (solutionFound) {
+                // Search results only hold the chosen rows; merge them with the givens
+                for (int cell = 0; cell < 81; cell++) {
+                    int value = grid[cell];
+                    if (value >= 1 && value <= 9) solution[cell] = value;
+                }
+            }
+        }
+
+        // Restore the full structure for the next call
+        while (givens > 0) {
+            unselectRow(givenNodes[--givens]);
+        }
+        return found;
+    }
+
+    private int search(int depth, int limit) {
+        if (right[ROOT] == ROOT) {
+            if (!solutionFound) {
+                for (int i = 0; i < depth; i++) {
+                    int r = rowOf[chosen[i]];
+                    solution[r / 9] = r % 9 + 1;
+                }
+                solutionFound = true;
+            }
+            return 1;
+        }
+
+        // Choose the column with the fewest remaining rows
+        int best = right[ROOT];
+        for (int c = right[best]; c != ROOT; c = right[c]) {
+            if (size[c] < size[best]) {
+                best = c;
+                if (size[c] <= 1) break;
+            }
+        }
+        if (size[best] == 0) {
+            return 0;
+        }
+
+        cover(best);
+        int found = 0;
+        for (int r = down[best]; r != best && found < limit; r = down[r]) {
+            chosen[depth] = r;
+            for (int j = right[r]; j != r; j = right[j]) cover(column[j]);
+            found += search(depth + 1, limit - found);
+            for (int j = left[r]; j != r; j = left[j]) uncover(column[j]);
+        }
+        uncover(best);
+        return found;
+    }
+
+    private boolean isCovered(int c) {
+        return right[left[c]] != c;
+    }
+
+    private void selectRow(int node) {
+        cover(column[node]);
+        for (int j = right[node]; j != node; j = right[j]) cover(column[j]);
+    }
+
+    private void unselectRow(int node) {
+        for (int j = left[node]; j != node; j = left[j]) uncover(column[j]);
+        uncover(column[node]);
+    }
+
+    private void cover(int c) {
+        right[left[c]] = right[c];
+        left[right[c]] = left[c];
+        for (int i = down[c]; i != c; i = down[i]) {
+            for (int j = right[i]; j != i; j = right[j]) {
+                down[up[j]] = down[j];
+                up[down[j]] = up[j];
+                size[column[j]]--;
+            }
+        }
+    }
+
+    private void uncover(int c) {
+        for (int i = up[c]; i != c; i = up[i]) {
+            for (int j = left[i]; j != i; j = left[j]) {
+                size[column[j]]++;
+                down[up[j]] = j;
+                up[down[j]] = j;
+            }
+        }
+        right[left[c]] = c;
+        left[right[c]] = c;
+    }
+}
@@ -0,0 +1,378 @@
+// Relative Path: core/src/main/java/com/example/sudoku/engine/HintEngine.java
+package com.example.sudoku.engine;
+
+import static com.example.sudoku.engine.Units.ALL_DIGITS;
+import static com.example.sudoku.engine.Units.BOX_OF;
+import static com.example.sudoku.engine.Units.COL_OF;
+import static com.example.sudoku.engine.Units.PEERS;
+import static com.example.sudoku.engine.Units.ROW_OF;
+import static com.example.sudoku.engine.Units.UNITS;
+
+import java.util.Locale;
+
+/**
+ * Finds the next logically deducible cell the way a player would, working only from
+ * candidate bitmasks (never from the solution), so every hint can be explained.
+ * Techniques are tried from easiest to hardest: singles first; if there are none,
+ * the first elimination technique that removes a candidate is applied and the
+ * singles are checked again.
+ * The same ladder also rates whole puzzles for the generator ({@link #rate}).
+ * All working arrays are allocated once per instance; a hint takes a few microseconds.
+ * Instances are not thread-safe; use one per thread.
+ */
+public final class HintEngine {
+
+    /** Solving techniques, easiest first. */
+    public enum Technique {
+        NAKED_SINGLE("Naked Single"),
+        HIDDEN_SINGLE("Hidden Single"),
+        POINTING_PAIR("Pointing Pair"),
+        BOX_LINE_REDUCTION("Box/Line Reduction"),
+        NAKED_PAIR("Naked Pair"),
+        HIDDEN_PAIR("Hidden Pair"),
+        X_WING("X-Wing");
+
+        private final String displayName;
+
+        Technique(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    /** A deducible placement and the reasoning behind it. */
+    public static final class Hint {
+        private final int cell;
+        private final int digit;
+        private final Technique placement;  // NAKED_SINGLE or HIDDEN_SINGLE
+        private final Technique technique;  // Hardest technique needed (placement if no eliminations)
+        private final int unit;             // Unit of a hidden single (0-26), -1 otherwise
+
+        Hint(int cell, int digit, Technique placement, Technique technique, int unit) {
+            this.cell = cell;
+            this.digit = digit;
+            this.placement = placement;
+            this.technique = technique;
+            this.unit = unit;
+        }
+
+        public int getCell() { return cell; }
+        public int getRow() { return cell / 9; }
+        public int getCol() { return cell % 9; }
+        public int getDigit() { return digit; }
+        public Technique getPlacement() { return placement; }
+        public Technique getTechnique() { return technique; }
+
+        /** Short explanation for the player, e.g. "5 is the only candidate left at row 3, column 4 (Naked Single)." */
+        public String getDescription() {
+            String where = String.format(Locale.US, "row %d, column %d", getRow() + 1, getCol() + 1);
+            String text;
+            if (placement == Technique.HIDDEN_SINGLE) {
+                text = String.format(Locale.US, "%s is the only place for %d in its %s", where, digit, unitName(unit));
+            } else {
+                text = String.format(Locale.US, "%d is the only candidate left at %s", digit, where);
+            }
+            if (technique != placement) {
+                text += " after " + technique.getDisplayName() + " eliminations";
+            }
+            return text + " (" + placement.getDisplayName() + ").";
+        }
+
+        private static String unitName(int unit) {
+            if (unit < 9) return "row";
+            if (unit < 18) return "column";
+            return "box";
+        }
+    }
+
+    private final int[] grid = new int[81];  // Current values, 0 = empty
+    private final int[] cand = new int[81];  // Candidate masks of empty cells, 0 for filled cells
+    private int foundCell;
+    private int foundDigit;
+    private int foundUnit;
+
+    /**
+     * Finds the next logical placement for a board.
+     * @param cells 81 values, 0 for empty (not modified). Wrong user entries should be
+     *              cleared first, or the deductions will follow from them.
+     * @return The hint, or null if the board is invalid, full, or needs techniques beyond X-Wing.
+     */
+    public Hint findHint(int[] cells) {
+        if (!load(cells)) return null;
+        Technique hardest = null;
+        while (true) {
+            Technique placement = findSingle();
+            if (placement != null) {
+                Technique technique = hardest != null ? hardest : placement;
+                return new Hint(foundCell, foundDigit, placement, technique, foundUnit);
+            }
+            Technique elimination = eliminate();
+            if (elimination == null) return null;
+            if (hardest == null || elimination.ordinal() > hardest.ordinal()) {
+                hardest = elimination;
+            }
+        }
+    }
+
+    /**
+     * Solves a puzzle with the technique ladder only (no guessing) and reports the hardest
+     * technique it needed, which is what PuzzleGenerator grades difficulty by.
+     * @param cells 81 values, 0 for empty (not modified).
+     * @return The hardest technique used, or null if the board is invalid or can't be solved
+     *         without techniques beyond X-Wing.
+     */
+    public Technique rate(int[] cells) {
+        if (!load(cells)) return null;
+        int empty = 0;
+        for (int cell = 0; cell < 81; cell++) {
+            if (grid[cell] == 0) empty++;
+        }
+        Technique hardest = Technique.NAKED_SINGLE;
+        while (empty > 0) {
+            Technique step = findSingle();
+            if (step != null) {
+                if (!place(foundCell, foundDigit)) return null;
+                empty--;
+            } else {
+                step = eliminate();
+                if (step == null) return null;
+            }
+            if (step.ordinal() > hardest.ordinal()) hardest = step;
+        }
+        return hardest;
+    }
+
+    // --- Setup ---
+
+    // Copies the board and computes candidates. Returns false on conflicting digits or a dead cell.
+    private boolean load(int[] cells) {
+        for (int cell = 0; cell < 81; cell++) {
+            int value = cells[cell];
+            grid[cell] = value;
+            cand[cell] = 0;
+        }
+        for (int cell = 0; cell < 81; cell++) {
+            int value = grid[cell];
+            int used = 0;
+            for (int peer : PEERS[cell]) {
+                used |= grid[peer] != 0 ? Units.bit(grid[peer]) : 0;
+            }
+            if (value != 0) {
+                if ((used & Units.bit(value)) != 0) return false; // Duplicate digit
+            } else {
+                cand[cell] = ALL_DIGITS & ~used;
+                if (cand[cell] == 0) return false; // No digit fits
+            }
+        }
+        return true;
+    }
+
+    // --- Placements ---
+
+    private Technique findSingle() {
+        for (int cell = 0; cell < 81; cell++) {
+            int mask = cand[cell];
+            if (mask != 0 && (mask & (mask - 1)) == 0) {
+                found(cell, Units.digit(mask), -1);
+                return Technique.NAKED_SINGLE;
+            }
+        }
+        for (int unit = 0; unit < 27; unit++) {
+            for (int d = 1; d <= 9; d++) {
+                int positions = positions(unit, Units.bit(d));
+                if (Integer.bitCount(positions) == 1) {
+                    found(UNITS[unit][Integer.numberOfTrailingZeros(positions)], d, unit);
+                    return Technique.HIDDEN_SINGLE;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void found(int cell, int digit, int unit) {
+        foundCell = cell;
+        foundDigit = digit;
+        foundUnit = unit;
+    }
+
+    // Fills a cell and removes the digit from its peers. Returns false if a peer runs out of candidates.
+    private boolean place(int cell, int digit) {
+        int bit = Units.bit(digit);
+        grid[cell] = digit;
+        cand[cell] = 0;
+        boolean valid = true;
+        for (int peer : PEERS[cell]) {
+            if (remove(peer, bit) && cand[peer] == 0) valid = false;
+        }
+        return valid;
+    }
+
+    // --- Eliminations (each returns true if it removed at least one candidate) ---
+
+    private Technique eliminate() {
+        if (pointingPairs()) return Technique.POINTING_PAIR;
+        if (boxLineReduction()) return Technique.BOX_LINE_REDUCTION;
+        if (nakedPairs()) return Technique.NAKED_PAIR;
+        if (hiddenPairs()) return Technique.HIDDEN_PAIR;
+        if (xWing()) return Technique.X_WING;
+        return null;
+    }
+
+    // A digit confined to one row/column inside a box can't appear elsewhere in that row/column
+    private boolean pointingPairs() {
+        boolean changed = false;
+        for (int box = 0; box < 9; box++) {
+            int[] boxCells = UNITS[18 + box];
+            for (int d = 1; d <= 9; d++) {
+                int bit = Units.bit(d);
+                int positions = positions(18 + box, bit);
+                if (Integer.bitCount(positions) < 2) continue;
+                int first = boxCells[Integer.numberOfTrailingZeros(positions)];
+                if (sameLine(boxCells, positions, ROW_OF, ROW_OF[first])) {
+                    changed |= removeOutsideBox(ROW_OF[first], box, bit);
+                } else if (sameLine(boxCells, positions, COL_OF, COL_OF[first])) {
+                    changed |= removeOutsideBox(9 + COL_OF[first], box, bit);
+                }
+            }
+        }
+        return changed;
+    }
+
+    // A digit confined to one box inside a row/column can't appear elsewhere in that box
+    private boolean boxLineReduction() {
+        boolean changed = false;
+        for (int line = 0; line < 18; line++) {
+            int[] lineCells = UNITS[line];
+            for (int d = 1; d <= 9; d++) {
+                int bit = Units.bit(d);
+                int positions = positions(line, bit);
+                if (Integer.bitCount(positions) < 2) continue;
+                int box = BOX_OF[lineCells[Integer.numberOfTrailingZeros(positions)]];
+                if (!sameLine(lineCells, positions, BOX_OF, box)) continue;
+                for (int cell : UNITS[18 + box]) {
+                    if (!inUnit(cell, line)) changed |= remove(cell, bit);
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Two cells of a unit with the same two candidates own those digits in the unit
+    private boolean nakedPairs() {
+        boolean changed = false;
+        for (int unit = 0; unit < 27; unit++) {
+            int[] cells = UNITS[unit];
+            for (int i = 0; i < 9; i++) {
+                int mask = cand[cells[i]];
+                if (Integer.bitCount(mask) != 2) continue;
+                for (int j = i + 1; j < 9; j++) {
+                    if (cand[cells[j]] != mask) continue;
+                    for (int k = 0; k < 9; k++) {
+                        if (k != i && k != j) changed |= remove(cells[k], mask);
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Two digits that only fit in the same two cells of a unit leave no room for other digits there
+    private boolean hiddenPairs() {
+        boolean changed = false;
+        for (int unit = 0; unit < 27; unit++) {
+            int[] cells = UNITS[unit];
+            for (int d1 = 1; d1 <= 9; d1++) {
+                int positions = positions(unit, Units.bit(d1));
+                if (Integer.bitCount(positions) != 2) continue;
+                for (int d2 = d1 + 1; d2 <= 9; d2++) {
+                    if (positions(unit, Units.bit(d2)) != positions) continue;
+                    int keep = Units.bit(d1) | Units.bit(d2);
+                    for (int p = positions; p != 0; p &= p - 1) {
+                        changed |= remove(cells[Integer.numberOfTrailingZeros(p)], ~keep & ALL_DIGITS);
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    // A digit confined to the same two columns in two rows (or vice versa) can't appear
+    // elsewhere in those columns (rows)
+    private boolean xWing() {
+        boolean changed = false;
+        for (int d = 1; d <= 9; d++) {
+            int bit = Units.bit(d);
+            changed |= xWing(bit, 0, 9);  // Base rows, eliminate in columns
+            changed |= xWing(bit, 9, 0);  // Base columns, eliminate in rows
+        }
+        return changed;
+    }
+
+    private boolean xWing(int bit, int baseOffset, int coverOffset) {
+        boolean changed = false;
+        for (int a = 0; a < 9; a++) {
+            int positions = positions(baseOffset + a, bit);
+            if (Integer.bitCount(positions) != 2) continue;
+            for (int b = a + 1; b < 9; b++) {
+                if (positions(baseOffset + b, bit) != positions) continue;
+                // positions holds the two cover lines; clear the digit from every other base line
+                for (int p = positions; p != 0; p &= p - 1) {
+                    int[] cover = UNITS[coverOffset + Integer.numberOfTrailingZeros(p)];
+                    for (int i = 0; i < 9; i++) {
+                        if (i != a && i != b) changed |= remove(cover[i], bit);
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    // --- Helpers ---
+
+    // Bit i set if UNITS[unit][i] is empty and has the digit as a candidate.
+    // Returns 0 if the digit is already placed in the unit.
+    private int positions(int unit, int bit) {
+        int[] cells = UNITS[unit];
+        int positions = 0;
+        for (int i = 0; i < 9; i++) {
+            int cell = cells[i];
+            if (grid[cell] != 0) {
+                if (Units.bit(grid[cell]) == bit) return 0;
+            } else if ((cand[cell] & bit) != 0) {
+                positions |= 1 << i;
+            }
+        }
+        return positions;
+    }
+
+    // True if all positions of the unit lie in the same row/column/box (given by lookup)
+    private static boolean sameLine(int[] cells, int positions, int[] lookup, int expected) {
+        for (int p = positions; p != 0; p &= p - 1) {
+            if (lookup[cells[Integer.numberOfTrailingZeros(p)]] != expected) return false;
+        }
+        return true;
+    }
+
+    private boolean removeOutsideBox(int line, int box, int bit) {
+        boolean changed = false;
+        for (int cell : UNITS[line]) {
+            if (BOX_OF[cell] != box) changed |= remove(cell, bit);
+        }
+        return changed;
+    }
+
+    private static boolean inUnit(int cell, int unit) {
+        if (unit < 9) return ROW_OF[cell] == unit;
+        if (unit < 18) return COL_OF[cell] == unit - 9;
+        return BOX_OF[cell] == unit - 18;
+    }
+
+    private boolean remove(int cell, int bits) {
+        if ((cand[cell] & bits) == 0) return false;
+        cand[cell] &= ~bits;
+        return true;
+    }
+}
@@ -0,0 +1,167 @@
+// Relative Path: core/src/main/java/com/example/sudoku/engine/PuzzleGenerator.java
+package com.example.sudoku.engine;
+
+import java.util.Random;
+
+/**
+ * On-device puzzle generator.
+ * Builds a random solved grid, removes clues in symmetric pairs while the solution stays
+ * unique, then grades the result by the hardest technique the HintEngine ladder needs:
+ * naked singles only = easy, up to hidden singles and line/box interactions = medium,
+ * pairs, X-Wing or beyond = hard. A puzzle takes a few milliseconds.
+ * Instances are not thread-safe; use one per thread.
+ */
+public final class PuzzleGenerator {
+
+    public static final String EASY = "easy";
+    public static final String MEDIUM = "medium";
+    public static final String HARD = "hard";
+
+    private static final int MAX_ATTEMPTS = 50; // Per generate() call before settling for the closest grade
+
+    /** A generated puzzle in the same string format as PuzzleResponse. */
+    public static final class Puzzle {
+        private final String boardString;
+        private final String solutionString;
+        private final String difficulty;
+        private final HintEngine.Technique hardestTechnique; // null if the ladder can't solve it
+        private final int clues;
+
+        Puzzle(String boardString, String solutionString, String difficulty, HintEngine.Technique hardestTechnique, int clues) {
+            this.boardString = boardString;
+            this.solutionString = solutionString;
+            this.difficulty = difficulty;
+            this.hardestTechnique = hardestTechnique;
+            this.clues = clues;
+        }
+
+        public String getBoardString() { return boardString; }
+        public String getSolutionString() { return solutionString; }
+        public String getDifficulty() { return difficulty; }
+        public HintEngine.Technique getHardestTechnique() { return hardestTechnique; }
+        public int getClues() { return clues; }
+    }
+
+    private final Random random;
+    private final BitmaskSolver solver = new BitmaskSolver();
+    private final HintEngine grader = new HintEngine();
+    private final int[] solution = new int[81];
+    private final int[] cells = new int[81];
+    private final int[] order = new int[41];    // Cell pairs (c, 80 - c) in removal order
+
+    public PuzzleGenerator() {
+        this(new Random());
+    }
+
+    /** Use a seeded Random for reproducible puzzles. */
+    public PuzzleGenerator(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Generates a unique-solution puzzle of the requested difficulty.
+     * If no puzzle of that grade turns up within the attempt budget, the closest one is returned
+     * (check {@link Puzzle#getDifficulty()}).
+     * @param difficulty "easy", "medium" or "hard" (anything else is treated as medium).
+     */
+    public Puzzle generate(String difficulty) {
+        int target = rank(difficulty);
+        Puzzle best = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Puzzle puzzle = generateOnce(minClues(target));
+            int rank = rank(puzzle.getDifficulty());
+            if (rank == target) return puzzle;
+            if (best == null || Math.abs(rank - target) < Math.abs(rank(best.getDifficulty()) - target)) {
+                best = puzzle;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Generates one unique-solution puzzle, keeping at least {@code minClues} givens, and grades it.
+     */
+    public Puzzle generateOnce(int minClues) {
+        fillRandomSolution();
+        System.arraycopy(solution, 0, cells, 0, 81);
+        int clues = 81;
+
+        // Remove symmetric pairs in random order, keeping only removals that stay unique
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        for (int i = 0; i < order.length && clues > minClues; i++) {
+            int a = order[i];
+            int b = 80 - a;
+            int removed = a == b ? 1 : 2;
+            if (clues - removed < minClues) continue;
+            cells[a] = 0;
+            cells[b] = 0;
+            if (solver.countSolutions(cells, 2) == 1) {
+                clues -= removed;
+            } else {
+                cells[a] = solution[a];
+                cells[b] = solution[b];
+            }
+        }
+
+        HintEngine.Technique hardest = grader.rate(cells);
+        return new Puzzle(Units.format(cells), Units.format(solution), grade(hardest), hardest, clues);
+    }
+
+    /**
+     * Difficulty name for the hardest technique a puzzle needs (null = needs more than the ladder).
+     */
+    public static String grade(HintEngine.Technique hardest) {
+        if (hardest == null) return HARD;
+        switch (hardest) {
+            case NAKED_SINGLE:
+                return EASY;
+            case HIDDEN_SINGLE:
+            case POINTING_PAIR:
+            case BOX_LINE_REDUCTION:
+                return MEDIUM;
+            default:
+                return HARD;
+        }
+    }
+
+    // --- Internal helpers ---
+
+    // Random digits in the three independent diagonal boxes, then solve the rest
+    private void fillRandomSolution() {
+        for (int i = 0; i < 81; i++) solution[i] = 0;
+        int[] digits = new int[9];
+        for (int box = 0; box < 9; box += 4) {
+            for (int i = 0; i < 9; i++) digits[i] = i + 1;
+            for (int i = 8; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = digits[i];
+                digits[i] = digits[j];
+                digits[j] = tmp;
+            }
+            int[] boxCells = Units.UNITS[18 + box];
+            for (int i = 0; i < 9; i++) solution[boxCells[i]] = digits[i];
+        }
+        solver.solve(solution); // Always solvable: the diagonal boxes don't share units
+    }
+
+    private static int rank(String difficulty) {
+        if (EASY.equals(difficulty)) return 0;
+        if (HARD.equals(difficulty)) return 2;
+        return 1;
+    }
+
+    // Easy puzzles keep more givens; medium and hard dig as far as uniqueness allows
+    private static int minClues(int rank) {
+        switch (rank) {
+            case 0: return 36;
+            case 1: return 28;
+            default: return 17;
+        }
+    }
+}
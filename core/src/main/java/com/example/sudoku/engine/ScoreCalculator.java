@@ -0,0 +1,48 @@
+// Relative Path: core/src/main/java/com/example/sudoku/engine/ScoreCalculator.java
+package com.example.sudoku.engine;
+
+import java.util.Locale;
+
+/**
+ * Score formula for completed standard games (moved out of GameActivity so it can be
+ * benchmarked and reused off the UI layer).
+ */
+public final class ScoreCalculator {
+
+    public static final int MIN_SCORE = 50;
+
+    private ScoreCalculator() {
+        // Static helpers only
+    }
+
+    /**
+     * Base score for a difficulty name ("easy", "medium", "hard"; anything else gets the default).
+     */
+    public static int baseScore(String difficulty) {
+        String lowerCaseDifficulty = (difficulty != null) ? difficulty.toLowerCase(Locale.ROOT) : "unknown";
+        switch (lowerCaseDifficulty) {
+            case "easy": return 1500;
+            case "medium": return 2500;
+            case "hard": return 4000;
+            default: return 2000;
+        }
+    }
+
+    /** Two points per second after the first 30 seconds. */
+    public static int timePenalty(int timeSeconds) {
+        return Math.max(0, (timeSeconds - 30) * 2);
+    }
+
+    /** 100 points per error. */
+    public static int errorPenalty(int errors) {
+        return errors * 100;
+    }
+
+    /**
+     * Final score, never lower than {@link #MIN_SCORE}.
+     */
+    public static int calculateScore(int timeSeconds, int errors, String difficulty) {
+        int finalScore = baseScore(difficulty) - timePenalty(timeSeconds) - errorPenalty(errors);
+        return Math.max(MIN_SCORE, finalScore);
+    }
+}
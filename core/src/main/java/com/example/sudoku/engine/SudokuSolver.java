@@ -0,0 +1,35 @@
+// Relative Path: core/src/main/java/com/example/sudoku/engine/SudokuSolver.java
+package com.example.sudoku.engine;
+
+/**
+ * Common board-string interface for all solver engines.
+ * Boards use the same 81-character format as PuzzleResponse.getBoardString():
+ * '1'-'9' for givens, anything else ('0', '.') for an empty cell.
+ */
+public interface SudokuSolver {
+
+    /**
+     * Solves the given board.
+     * @param boardString 81-character puzzle string.
+     * @return The 81-character solution string, or null if the board has no solution.
+     * @throws IllegalArgumentException if the board string is null or not 81 characters long.
+     */
+    String solve(String boardString);
+
+    /**
+     * Counts solutions of the given board, stopping as soon as {@code limit} is reached.
+     * Use a limit of 2 to distinguish "no solution", "unique" and "multiple".
+     * @param boardString 81-character puzzle string.
+     * @param limit Maximum number of solutions to look for (must be >= 1).
+     * @return The number of solutions found, never more than {@code limit}.
+     * @throws IllegalArgumentException if the board string is null or not 81 characters long.
+     */
+    int countSolutions(String boardString, int limit);
+
+    /**
+     * Checks whether the board has exactly one solution.
+     */
+    default boolean hasUniqueSolution(String boardString) {
+        return countSolutions(boardString, 2) == 1;
+    }
+}
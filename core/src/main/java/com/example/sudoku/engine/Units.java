@@ -0,0 +1,81 @@
+// Relative Path: core/src/main/java/com/example/sudoku/engine/Units.java
+package com.example.sudoku.engine;
+
+/**
+ * Precomputed geometry tables for the 9x9 grid, shared by the engine classes.
+ * Cells are indexed 0-80 in row-major order (same order as the board strings).
+ * Digits are stored as bit masks: digit d is bit (1 << (d - 1)).
+ */
+public final class Units {
+
+    public static final int ALL_DIGITS = 0x1FF; // Bits for digits 1-9
+
+    public static final int[] ROW_OF = new int[81];
+    public static final int[] COL_OF = new int[81];
+    public static final int[] BOX_OF = new int[81];
+
+    // 27 units of 9 cells: rows 0-8, columns 9-17, boxes 18-26
+    public static final int[][] UNITS = new int[27][9];
+
+    // The 20 other cells sharing a row, column or box with each cell
+    public static final int[][] PEERS = new int[81][20];
+
+    static {
+        for (int cell = 0; cell < 81; cell++) {
+            int row = cell / 9;
+            int col = cell % 9;
+            int box = (row / 3) * 3 + col / 3;
+            ROW_OF[cell] = row;
+            COL_OF[cell] = col;
+            BOX_OF[cell] = box;
+            UNITS[row][col] = cell;
+            UNITS[9 + col][row] = cell;
+            UNITS[18 + box][(row % 3) * 3 + col % 3] = cell;
+        }
+        for (int cell = 0; cell < 81; cell++) {
+            int n = 0;
+            for (int other = 0; other < 81; other++) {
+                if (other != cell && (ROW_OF[other] == ROW_OF[cell] || COL_OF[other] == COL_OF[cell] || BOX_OF[other] == BOX_OF[cell])) {
+                    PEERS[cell][n++] = other;
+                }
+            }
+        }
+    }
+
+    private Units() {
+        // Static tables only
+    }
+
+    /** Returns the mask bit for a digit 1-9. */
+    public static int bit(int digit) {
+        return 1 << (digit - 1);
+    }
+
+    /** Returns the digit (1-9) for a single-bit mask. */
+    public static int digit(int bit) {
+        return Integer.numberOfTrailingZeros(bit) + 1;
+    }
+
+    /**
+     * Parses an 81-character board string into cell values (0 for empty).
+     * @throws IllegalArgumentException if the string is null or not 81 characters long.
+     */
+    public static void parse(String boardString, int[] out) {
+        if (boardString == null || boardString.length() != 81) {
+            throw new IllegalArgumentException("Board string must be 81 characters.");
+        }
+        for (int i = 0; i < 81; i++) {
+            char c = boardString.charAt(i);
+            out[i] = (c >= '1' && c <= '9') ? c - '0' : 0;
+        }
+    }
+
+    /** Formats 81 cell values as a board string ('0' for empty). */
+    public static String format(int[] grid) {
+        char[] chars = new char[81];
+        for (int i = 0; i < 81; i++) {
+            chars[i] = (char) ('0' + grid[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,162 @@
+// Relative Path: core/src/test/java/com/example/sudoku/core/BoardTest.java
+package com.example.sudoku.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.example.sudoku.engine.KnownPuzzles.AMBIGUOUS;
+import static com.example.sudoku.engine.KnownPuzzles.EASY;
+import static com.example.sudoku.engine.KnownPuzzles.EASY_SOLUTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BoardTest {
+
+    private Board board;
+
+    @Before
+    public void setUp() {
+        board = new Board();
+        assertTrue(board.load(EASY, EASY_SOLUTION));
+    }
+
+    @Test
+    public void loadsGivens() {
+        assertEquals(EASY, board.toBoardString());
+        assertTrue(board.isStartingCell(0, 0));
+        assertFalse(board.isStartingCell(0, 2));
+        assertEquals(Board.MoveResult.STARTING_CELL, board.setNumber(0, 0, 1));
+        assertEquals(Board.MoveResult.STARTING_CELL, board.erase(0, 0));
+        assertEquals(5, board.getValue(0, 0));
+    }
+
+    @Test
+    public void rejectsInvalidBoardString() {
+        assertFalse(board.load(EASY.substring(1), null));
+        assertEquals(repeatZero(), board.toBoardString());
+        assertFalse(board.isStartingCell(0, 0));
+    }
+
+    @Test
+    public void derivesUniqueSolution() {
+        assertTrue(board.load(EASY, null));
+        assertEquals(EASY_SOLUTION, board.getSolutionString());
+        assertTrue(board.load(EASY, "too short"));
+        assertEquals(EASY_SOLUTION, board.getSolutionString());
+    }
+
+    @Test
+    public void ambiguousPuzzleHasNoSolution() {
+        assertTrue(board.load(AMBIGUOUS, null));
+        assertFalse(board.hasSolution());
+        board.setNumber(0, 0, 1);
+        assertEquals(0, board.getErrorCount()); // Nothing to validate against
+        assertFalse(board.isWrong(0, 0));
+    }
+
+    @Test
+    public void countsErrorsOncePerMistake() {
+        // Cell (0, 2) is 4 in the solution
+        assertEquals(Board.MoveResult.APPLIED, board.setNumber(0, 2, 1));
+        assertEquals(1, board.getErrorCount());
+        assertTrue(board.isWrong(0, 2));
+        board.setNumber(0, 2, 2); // Wrong replaced by wrong
+        assertEquals(1, board.getErrorCount());
+        board.setNumber(0, 2, 4); // Fixed
+        assertFalse(board.isWrong(0, 2));
+        board.setNumber(0, 2, 1); // Correct replaced by wrong
+        assertEquals(2, board.getErrorCount());
+        board.erase(0, 2);
+        assertEquals(2, board.getErrorCount()); // Never refunded
+        assertEquals(Board.MoveResult.NO_CHANGE, board.erase(0, 2));
+    }
+
+    @Test
+    public void tracksConflictsWithDuplicates() {
+        // Row 0 already has a 5 at (0, 0)
+        assertTrue(board.conflicts(0, 2, 5));
+        assertFalse(board.conflicts(0, 2, 4));
+        board.setNumber(0, 2, 5);
+        assertTrue(board.hasConflict(0, 2));
+        board.setNumber(0, 3, 5); // Third 5 in the row
+        board.erase(0, 2);
+        assertTrue(board.hasConflict(0, 3)); // Still two 5s: counts, not just masks
+        board.erase(0, 3);
+        assertFalse(board.conflicts(0, 2, 4));
+        assertTrue(board.conflicts(0, 2, 5));
+    }
+
+    @Test
+    public void masksFollowMoves() {
+        int row0 = bit(5) | bit(3) | bit(7);
+        assertEquals(row0, board.getRowMask(0));
+        board.setNumber(0, 2, 4);
+        assertEquals(row0 | bit(4), board.getRowMask(0));
+        assertTrue((board.getColMask(2) & bit(4)) != 0);
+        assertTrue((board.getBoxMask(0) & bit(4)) != 0);
+        board.erase(0, 2);
+        assertEquals(row0, board.getRowMask(0));
+    }
+
+    @Test
+    public void solvedWhenEveryCellMatches() {
+        for (int cell = 0; cell < 81; cell++) {
+            if (!board.isStartingCell(cell / 9, cell % 9)) {
+                assertFalse(board.isSolvedCorrectly());
+                board.setNumber(cell / 9, cell % 9, EASY_SOLUTION.charAt(cell) - '0');
+            }
+        }
+        assertTrue(board.isFull());
+        assertTrue(board.isSolvedCorrectly());
+        assertEquals(0, board.getErrorCount());
+
+        board.setNumber(8, 0, 1); // Wrong (3)
+        assertTrue(board.isFull());
+        assertFalse(board.isSolvedCorrectly());
+    }
+
+    @Test
+    public void loadStateCountsWrongCells() {
+        char[] state = EASY.toCharArray();
+        state[2] = '4'; // Correct
+        state[3] = '1'; // Wrong (6)
+        state[0] = '9'; // Given: ignored
+        assertEquals(1, board.loadState(new String(state)));
+        assertEquals(5, board.getValue(0, 0));
+        assertEquals(4, board.getValue(0, 2));
+        assertEquals(0, board.getErrorCount()); // Restored separately
+        assertEquals(-1, board.loadState("123"));
+    }
+
+    @Test
+    public void copyCellsCanDropWrongNumbers() {
+        board.setNumber(0, 2, 4);
+        board.setNumber(0, 3, 1);
+        int[] cells = new int[81];
+        board.copyCells(cells, true);
+        assertEquals(4, cells[2]);
+        assertEquals(0, cells[3]);
+        board.copyCells(cells, false);
+        assertEquals(1, cells[3]);
+    }
+
+    @Test
+    public void fillWithSolutionResetsErrors() {
+        board.setNumber(0, 2, 1);
+        assertTrue(board.fillWithSolution());
+        assertEquals(EASY_SOLUTION, board.toBoardString());
+        assertEquals(0, board.getErrorCount());
+        assertFalse(board.canUndo());
+        assertNull(new Board().getSolutionString());
+    }
+
+    private static int bit(int digit) {
+        return 1 << (digit - 1);
+    }
+
+    private static String repeatZero() {
+        return new String(new char[81]).replace('\0', '0');
+    }
+}
@@ -0,0 +1,168 @@
+// Relative Path: core/src/test/java/com/example/sudoku/core/MoveJournalTest.java
+package com.example.sudoku.core;
+
+import org.junit.Test;
+
+import static com.example.sudoku.engine.KnownPuzzles.EASY;
+import static com.example.sudoku.engine.KnownPuzzles.EASY_SOLUTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MoveJournalTest {
+
+    @Test
+    public void packsAllFields() {
+        int entry = MoveJournal.pack(80, 9, 3, true, MoveJournal.KIND_HINT);
+        assertEquals(80, MoveJournal.cell(entry));
+        assertEquals(9, MoveJournal.oldValue(entry));
+        assertEquals(3, MoveJournal.newValue(entry));
+        assertTrue(MoveJournal.errorCounted(entry));
+        assertEquals(MoveJournal.KIND_HINT, MoveJournal.kind(entry));
+    }
+
+    @Test
+    public void undoAndRedoWalkTheMoves() {
+        MoveJournal journal = new MoveJournal();
+        assertEquals(-1, journal.undo());
+        int first = MoveJournal.pack(0, 0, 1, false, MoveJournal.KIND_PLACE);
+        int second = MoveJournal.pack(1, 0, 2, false, MoveJournal.KIND_PLACE);
+        journal.record(first);
+        journal.record(second);
+
+        assertEquals(second, journal.undo());
+        assertEquals(first, journal.undo());
+        assertFalse(journal.canUndo());
+        assertEquals(first, journal.redo());
+        assertEquals(second, journal.redo());
+        assertEquals(-1, journal.redo());
+    }
+
+    @Test
+    public void recordingDiscardsRedo() {
+        MoveJournal journal = new MoveJournal();
+        journal.record(MoveJournal.pack(0, 0, 1, false, MoveJournal.KIND_PLACE));
+        journal.record(MoveJournal.pack(1, 0, 2, false, MoveJournal.KIND_PLACE));
+        journal.undo();
+        int replacement = MoveJournal.pack(2, 0, 3, false, MoveJournal.KIND_PLACE);
+        journal.record(replacement);
+        assertFalse(journal.canRedo());
+        assertEquals(2, journal.size());
+        assertEquals(replacement, journal.undo());
+    }
+
+    @Test
+    public void dropsOldestWhenFull() {
+        MoveJournal journal = new MoveJournal();
+        for (int i = 0; i < MoveJournal.MAX_ENTRIES + 10; i++) {
+            journal.record(MoveJournal.pack(i % 81, 0, i % 9 + 1, false, MoveJournal.KIND_PLACE));
+        }
+        assertEquals(MoveJournal.MAX_ENTRIES, journal.size());
+        assertEquals(10 % 81, MoveJournal.cell(journal.get(0))); // Moves 0-9 dropped
+        int undone = 0;
+        while (journal.undo() != -1) undone++;
+        assertEquals(MoveJournal.MAX_ENTRIES, undone);
+    }
+
+    @Test
+    public void serializeRoundTrip() {
+        MoveJournal journal = new MoveJournal();
+        for (int i = 0; i < 100; i++) {
+            journal.record(MoveJournal.pack(i % 81, i % 10, (i + 1) % 10, i % 3 == 0, i % 3));
+        }
+        journal.undo();
+        journal.undo();
+        String data = journal.serialize();
+        assertTrue(data.startsWith("98:"));
+        assertTrue(data.matches("\\d+:[A-Za-z0-9_-]*"));
+
+        MoveJournal restored = new MoveJournal();
+        assertTrue(restored.deserialize(data));
+        assertEquals(journal.size(), restored.size());
+        assertEquals(journal.getCursor(), restored.getCursor());
+        for (int i = 0; i < journal.size(); i++) {
+            assertEquals(journal.get(i), restored.get(i));
+        }
+        assertEquals(data, restored.serialize());
+    }
+
+    @Test
+    public void emptyJournalRoundTrip() {
+        MoveJournal restored = new MoveJournal();
+        assertTrue(restored.deserialize(new MoveJournal().serialize()));
+        assertEquals(0, restored.size());
+    }
+
+    @Test
+    public void rejectsMalformedData() {
+        MoveJournal journal = new MoveJournal();
+        journal.record(MoveJournal.pack(0, 0, 1, false, MoveJournal.KIND_PLACE));
+        String good = journal.serialize();
+        String[] bad = {null, "", "AAA", ":AAA", "x:AAA", "2:AAA", "-1:AAA", "1:AA", "1:A*A",
+                "1:" + encode(MoveJournal.pack(81, 0, 1, false, MoveJournal.KIND_PLACE))}; // Cell 81
+        for (String data : bad) {
+            assertFalse(data, journal.deserialize(data));
+            assertEquals(0, journal.size());
+        }
+        assertTrue(journal.deserialize(good));
+    }
+
+    @Test
+    public void boardUndoRedoRestoresValues() {
+        Board board = new Board();
+        board.load(EASY, EASY_SOLUTION);
+        board.setNumber(0, 2, 1);
+        board.setNumber(0, 2, 4);
+        board.erase(0, 2);
+        board.applyHint(0, 3, 6);
+
+        assertEquals(3, board.undo());
+        assertEquals(2, board.undo());
+        assertEquals(4, board.getValue(0, 2));
+        assertEquals(2, board.undo());
+        assertEquals(1, board.getValue(0, 2));
+        assertEquals(1, board.getErrorCount()); // Undo doesn't refund errors
+        assertEquals(2, board.redo());
+        assertEquals(4, board.getValue(0, 2));
+        assertEquals(1, board.getErrorCount()); // ...and redo doesn't count them twice
+    }
+
+    @Test
+    public void boardRestoresSavedJournal() {
+        Board board = new Board();
+        board.load(EASY, EASY_SOLUTION);
+        board.setNumber(0, 2, 4);
+        board.setNumber(0, 3, 6);
+        board.undo();
+        String state = board.toBoardString();
+        String journal = board.getJournalString();
+
+        Board resumed = new Board();
+        resumed.load(EASY, EASY_SOLUTION);
+        resumed.loadState(state);
+        assertTrue(resumed.restoreJournal(journal));
+        assertEquals(3, resumed.redo());
+        assertEquals(6, resumed.getValue(0, 3));
+        resumed.undo();
+        assertEquals(2, resumed.undo());
+        assertEquals(EASY, resumed.toBoardString());
+    }
+
+    @Test
+    public void boardDropsJournalThatDoesNotMatchState() {
+        Board board = new Board();
+        board.load(EASY, EASY_SOLUTION);
+        board.setNumber(0, 2, 4);
+        String journal = board.getJournalString();
+
+        Board other = new Board();
+        other.load(EASY, EASY_SOLUTION); // State without the move
+        assertFalse(other.restoreJournal(journal));
+        assertFalse(other.canUndo());
+    }
+
+    private static String encode(int entry) {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        return "" + alphabet.charAt((entry >>> 12) & 0x3F) + alphabet.charAt((entry >>> 6) & 0x3F) + alphabet.charAt(entry & 0x3F);
+    }
+}
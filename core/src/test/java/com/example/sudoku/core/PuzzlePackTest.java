@@ -0,0 +1,141 @@
+// Relative Path: core/src/test/java/com/example/sudoku/core/PuzzlePackTest.java
+package com.example.sudoku.core;
+
+import com.example.sudoku.engine.PuzzleGenerator;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.sudoku.engine.KnownPuzzles.EASY;
+import static com.example.sudoku.engine.KnownPuzzles.EASY_SOLUTION;
+import static com.example.sudoku.engine.KnownPuzzles.HARD;
+import static com.example.sudoku.engine.KnownPuzzles.HARD_SOLUTION;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class PuzzlePackTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void writeReadRoundTrip() throws IOException {
+        PuzzlePackWriter writer = new PuzzlePackWriter();
+        // Added out of difficulty order on purpose
+        writer.add("hard", HARD, HARD_SOLUTION);
+        writer.add("easy", EASY, EASY_SOLUTION);
+        writer.add("hard", EASY, EASY_SOLUTION);
+        assertEquals(3, writer.size());
+
+        PuzzlePack pack = PuzzlePack.wrap(ByteBuffer.wrap(toBytes(writer)));
+        assertEquals(1, pack.count("easy"));
+        assertEquals(0, pack.count("medium"));
+        assertEquals(2, pack.count("hard"));
+        assertEquals(0, pack.count("expert"));
+        assertEquals(EASY, pack.board("easy", 0));
+        assertEquals(EASY_SOLUTION, pack.solution("easy", 0));
+        assertEquals(HARD, pack.board("hard", 0));
+        assertEquals(HARD_SOLUTION, pack.solution("hard", 0));
+        assertEquals(EASY, pack.board("hard", 1));
+        assertEquals(-1, pack.randomIndex("medium", new Random(1)));
+    }
+
+    @Test
+    public void generatedPuzzlesRoundTripThroughFile() throws IOException {
+        PuzzleGenerator generator = new PuzzleGenerator(new Random(7));
+        PuzzlePackWriter writer = new PuzzlePackWriter();
+        List<PuzzleGenerator.Puzzle> puzzles = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            PuzzleGenerator.Puzzle puzzle = generator.generateOnce(26);
+            puzzles.add(puzzle);
+            writer.add("medium", puzzle.getBoardString(), puzzle.getSolutionString());
+        }
+        File file = tmp.newFile("puzzles.pack");
+        try (OutputStream out = new FileOutputStream(file)) {
+            writer.writeTo(out);
+        }
+        assertEquals(PuzzlePack.HEADER_SIZE + 30L * PuzzlePack.RECORD_SIZE, file.length());
+
+        PuzzlePack pack = PuzzlePack.open(file);
+        int[] cells = new int[81];
+        for (int i = 0; i < puzzles.size(); i++) {
+            assertEquals(puzzles.get(i).getBoardString(), pack.board("medium", i));
+            assertEquals(puzzles.get(i).getSolutionString(), pack.solution("medium", i));
+            pack.readBoard("medium", i, cells);
+            assertArrayEquals(digits(puzzles.get(i).getBoardString()), cells);
+        }
+    }
+
+    @Test
+    public void acceptsDotsForEmptyCells() throws IOException {
+        PuzzlePackWriter writer = new PuzzlePackWriter();
+        writer.add("easy", EASY.replace('0', '.'), EASY_SOLUTION);
+        assertEquals(EASY, PuzzlePack.wrap(ByteBuffer.wrap(toBytes(writer))).board("easy", 0));
+    }
+
+    @Test
+    public void writerRejectsInvalidPuzzles() {
+        PuzzlePackWriter writer = new PuzzlePackWriter();
+        String wrongGiven = "6" + EASY.substring(1); // Solution has 5
+        String[][] bad = {
+                {"expert", EASY, EASY_SOLUTION},
+                {"easy", EASY.substring(1), EASY_SOLUTION},
+                {"easy", EASY, EASY_SOLUTION.replace('9', '0')},
+                {"easy", wrongGiven, EASY_SOLUTION},
+        };
+        for (String[] args : bad) {
+            try {
+                writer.add(args[0], args[1], args[2]);
+                fail("Accepted " + Arrays.toString(args));
+            } catch (IllegalArgumentException expected) {
+                // Rejected
+            }
+        }
+        assertEquals(0, writer.size());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFiles() throws IOException {
+        PuzzlePack.wrap(ByteBuffer.wrap(new byte[64]));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsIndexPastEndOfFile() throws IOException {
+        PuzzlePackWriter writer = new PuzzlePackWriter();
+        writer.add("easy", EASY, EASY_SOLUTION);
+        byte[] bytes = toBytes(writer);
+        PuzzlePack.wrap(ByteBuffer.wrap(bytes, 0, bytes.length - 1)); // Truncated record
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsIndexOutOfRange() throws IOException {
+        PuzzlePackWriter writer = new PuzzlePackWriter();
+        writer.add("easy", EASY, EASY_SOLUTION);
+        PuzzlePack.wrap(ByteBuffer.wrap(toBytes(writer))).board("easy", 1);
+    }
+
+    private static byte[] toBytes(PuzzlePackWriter writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static int[] digits(String board) {
+        int[] cells = new int[81];
+        for (int i = 0; i < 81; i++) cells[i] = board.charAt(i) - '0';
+        return cells;
+    }
+}
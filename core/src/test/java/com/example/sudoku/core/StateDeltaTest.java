@@ -0,0 +1,141 @@
+// Relative Path: core/src/test/java/com/example/sudoku/core/StateDeltaTest.java
+package com.example.sudoku.core;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.example.sudoku.engine.KnownPuzzles.EASY;
+import static com.example.sudoku.engine.KnownPuzzles.EASY_SOLUTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StateDeltaTest {
+
+    @Test
+    public void boardDeltaAppliesToFullState() {
+        Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            char[] base = EASY.toCharArray();
+            char[] current = EASY.toCharArray();
+            for (int i = 0; i < 20; i++) {
+                base[random.nextInt(81)] = (char) ('0' + random.nextInt(10));
+                current[random.nextInt(81)] = (char) ('0' + random.nextInt(10));
+            }
+            String delta = StateDelta.encodeBoard(new String(base), new String(current));
+            assertEquals(new String(current), StateDelta.applyBoard(new String(base), delta));
+        }
+    }
+
+    @Test
+    public void boardDeltaOnlyCarriesChangedCells() {
+        assertEquals("", StateDelta.encodeBoard(EASY, EASY));
+        char[] current = EASY.toCharArray();
+        current[80] = '0'; // Last cell, largest packed value
+        current[2] = '4';
+        String delta = StateDelta.encodeBoard(EASY, new String(current));
+        assertEquals(4, delta.length());
+        assertEquals(new String(current), StateDelta.applyBoard(EASY, delta));
+        assertEquals(EASY_SOLUTION, StateDelta.applyBoard(EASY, StateDelta.encodeBoard(EASY, EASY_SOLUTION)));
+    }
+
+    @Test
+    public void invalidBoardsAreSentInFull() {
+        assertNull(StateDelta.encodeBoard(null, EASY));
+        assertNull(StateDelta.encodeBoard(EASY, EASY.substring(1)));
+        assertNull(StateDelta.encodeBoard(EASY, EASY.replace('0', '.')));
+    }
+
+    @Test
+    public void malformedBoardDeltaIsRejected() {
+        String[] bad = {null, "A", "**", "__"}; // "__" decodes past cell 80
+        for (String delta : bad) {
+            try {
+                StateDelta.applyBoard(EASY, delta);
+                fail("Accepted " + delta);
+            } catch (IllegalArgumentException expected) {
+                // Rejected
+            }
+        }
+    }
+
+    @Test
+    public void journalDeltaAppliesToFullJournal() {
+        Board board = new Board();
+        board.load(EASY, EASY_SOLUTION);
+        String empty = board.getJournalString();
+        board.setNumber(0, 2, 4);
+        board.setNumber(0, 3, 6);
+        String base = board.getJournalString();
+        board.setNumber(0, 5, 8);
+        board.applyHint(0, 6, 9);
+        String current = board.getJournalString();
+
+        assertApplies(base, current);
+        assertApplies(null, current); // No saved journal yet
+        assertApplies(empty, current);
+        assertApplies(current, current);
+    }
+
+    @Test
+    public void journalDeltaCoversUndoneAndReplacedMoves() {
+        Board board = new Board();
+        board.load(EASY, EASY_SOLUTION);
+        board.setNumber(0, 2, 4);
+        board.setNumber(0, 3, 6);
+        board.setNumber(0, 5, 8);
+        String base = board.getJournalString();
+        board.undo();
+        board.undo();
+        assertApplies(base, board.getJournalString()); // Only the cursor moved
+        board.setNumber(1, 1, 7); // Replaces the two undone moves
+        String current = board.getJournalString();
+        String delta = StateDelta.encodeJournal(base, current);
+        assertTrue(delta, delta.startsWith("2:3:")); // Keeps the first entry only
+        assertApplies(base, current);
+    }
+
+    @Test
+    public void deltaStateMatchesFullStateAfterEachMove() {
+        // What the stand-in server does: keep applying deltas to the acknowledged state
+        Board board = new Board();
+        board.load(EASY, EASY_SOLUTION);
+        Random random = new Random(11);
+        String ackedState = board.toBoardString();
+        String ackedJournal = board.getJournalString();
+        for (int move = 0; move < 300; move++) {
+            int cell = random.nextInt(81);
+            if (random.nextInt(5) == 0) {
+                board.undo();
+            } else {
+                board.setNumber(cell / 9, cell % 9, random.nextInt(10));
+            }
+            String state = board.toBoardString();
+            String journal = board.getJournalString();
+            ackedState = StateDelta.applyBoard(ackedState, StateDelta.encodeBoard(ackedState, state));
+            ackedJournal = StateDelta.applyJournal(ackedJournal, StateDelta.encodeJournal(ackedJournal, journal));
+            assertEquals(state, ackedState);
+            assertEquals(journal, ackedJournal);
+        }
+    }
+
+    @Test
+    public void malformedJournalDeltaIsRejected() {
+        assertNull(StateDelta.encodeJournal("0:", "not a journal"));
+        String[] bad = {null, "1", "1:AAA", "1:x:AAA", "1:-3:AAA", "1:99:AAA"};
+        for (String delta : bad) {
+            try {
+                StateDelta.applyJournal("1:AAA", delta);
+                fail("Accepted " + delta);
+            } catch (IllegalArgumentException expected) {
+                // Rejected
+            }
+        }
+    }
+
+    private static void assertApplies(String base, String current) {
+        assertEquals(current, StateDelta.applyJournal(base, StateDelta.encodeJournal(base, current)));
+    }
+}
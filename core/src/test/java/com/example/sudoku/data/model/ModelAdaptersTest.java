@@ -0,0 +1,286 @@
+// Relative Path: core/src/test/java/com/example/sudoku/data/model/ModelAdaptersTest.java
+package com.example.sudoku.data.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The hand-written adapters must give the same objects as Gson's reflective ones, which the
+ * models were written for. Objects are compared field by field (through reflection), so a
+ * field an adapter misses or misspells shows up as a difference.
+ */
+public class ModelAdaptersTest {
+
+    // Every model ModelAdapters has an adapter for
+    private static final Class<?>[] MODELS = {
+            GameResponse.class, GameHistoryPage.class, PuzzleResponse.class, UserResponse.class,
+            UserData.class, UserBase.class, AuthResponse.class, UpdateResponse.class,
+            LeaderboardResponse.class, FullLeaderboardData.class, LeaderboardCategoryData.class,
+            LeaderboardEntryResponse.class, UserRankCategoryData.class, UserRankEntry.class,
+            ChallengePuzzle.class, ChallengeUser.class, ChallengeResponse.class,
+            ChallengeBatchResponse.class, ChallengeChanges.class,
+    };
+
+    private final Gson reflective = new Gson();
+    private final Gson adapters = ModelAdapters.newGson();
+    private int nextValue = 1;
+
+    @Test
+    public void everyModelHasAnAdapter() {
+        for (Class<?> model : MODELS) {
+            assertNotNull(model.getSimpleName(), ModelAdapters.FACTORY.create(adapters, TypeToken.get(model)));
+        }
+    }
+
+    @Test
+    public void everyFieldIsRead() {
+        // A payload with every field of the model (and of the models inside it) set to a distinct value
+        for (Class<?> model : MODELS) {
+            String json = sample(model).toString();
+            Object expected = reflective.fromJson(json, model);
+            assertNoNullFields(expected, model.getSimpleName());
+            assertSameFields(expected, adapters.fromJson(json, model), model.getSimpleName());
+        }
+    }
+
+    @Test
+    public void everyFieldIsWritten() {
+        for (Class<?> model : MODELS) {
+            Object value = reflective.fromJson(sample(model).toString(), model);
+            assertEquals(model.getSimpleName(), reflective.toJsonTree(value), adapters.toJsonTree(value));
+
+            // Round trip through the adapters, read back both ways
+            String written = adapters.toJson(value);
+            assertSameFields(value, adapters.fromJson(written, model), model.getSimpleName());
+            assertSameFields(value, reflective.fromJson(written, model), model.getSimpleName());
+        }
+    }
+
+    @Test
+    public void nullsAndMissingFields() {
+        String json = "{\"id\":\"g1\",\"difficulty\":null,\"was_completed\":null,\"duration_seconds\":null,"
+                + "\"opponent_duration\":null,\"puzzle\":null,\"completed_at\":null}";
+        GameResponse game = assertSameParse(json, GameResponse.class);
+        assertEquals("g1", game.getId());
+        assertNull(game.getPuzzle());
+        assertNull(game.getOpponentDuration());
+        assertEquals(0, game.getDurationSeconds());
+
+        assertSameParse("{}", GameResponse.class);
+        assertSameParse("{\"puzzle\":{}}", GameResponse.class);
+        assertNull(adapters.fromJson("null", GameResponse.class));
+        assertSameParse("{\"results\":null}", ChallengeBatchResponse.class);
+        assertSameParse("{\"changes\":[],\"removed_ids\":null,\"watermark\":null,\"full\":null}", ChallengeChanges.class);
+    }
+
+    @Test
+    public void numbersAndBooleansSentAsStrings() {
+        String json = "{\"id\":42,\"was_completed\":\"true\",\"duration_seconds\":\"125\",\"errors_made\":\"2\","
+                + "\"final_score\":1500,\"opponent_duration\":\"300\",\"is_challenge\":\"false\",\"state_version\":\"7\"}";
+        GameResponse game = assertSameParse(json, GameResponse.class);
+        assertEquals("42", game.getId());
+        assertEquals(125, game.getDurationSeconds());
+        assertEquals(Integer.valueOf(300), game.getOpponentDuration());
+
+        assertSameParse("{\"status\":\"success\",\"state_version\":\"3\"}", UpdateResponse.class);
+        assertSameParse("{\"user_id\":\"" + UUID.randomUUID() + "\",\"total_score\":\"900\",\"rank\":\"1\"}", LeaderboardEntryResponse.class);
+    }
+
+    @Test
+    public void unknownFieldsAreSkipped() {
+        String json = "{\"id\":\"p1\",\"extra\":{\"nested\":[1,{\"deep\":true}],\"x\":null},\"tags\":[\"a\"],"
+                + "\"board_string\":\"" + repeat('0', 81) + "\",\"later\":1.5}";
+        PuzzleResponse puzzle = assertSameParse(json, PuzzleResponse.class);
+        assertEquals("p1", puzzle.getId());
+        assertEquals(81, puzzle.getBoardString().length());
+    }
+
+    @Test
+    public void leaderboardMaps() {
+        String entry = "{\"user_id\":\"%s\",\"username\":\"%s\",\"total_score\":%d,\"rank\":%d}";
+        String category = "{\"daily\":[" + String.format(entry, UUID.randomUUID(), "ann", 900, 1) + ","
+                + String.format(entry, UUID.randomUUID(), "bob", 850, 2) + "],\"weekly\":[],\"all_time\":null}";
+        String json = "{\"status\":\"success\",\"message\":\"ok\",\"data\":{"
+                + "\"top_players\":{\"easy\":" + category + ",\"medium\":" + category + ",\"hard\":null},"
+                + "\"user_ranks\":{\"easy\":{\"daily\":{\"total_score\":120,\"rank\":\"14\"},\"weekly\":null},\"hard\":{}}}}";
+        LeaderboardResponse response = assertSameParse(json, LeaderboardResponse.class);
+        Map<String, LeaderboardCategoryData> topPlayers = response.getData().getTopPlayers();
+        assertEquals(3, topPlayers.size());
+        assertNull(topPlayers.get("hard"));
+        assertEquals(2, topPlayers.get("easy").getDaily().size());
+        assertEquals(14, response.getData().getUserRanks().get("easy").getDaily().getRank());
+    }
+
+    @Test
+    public void challengeDates() {
+        String json = "{\"id\":\"c1\",\"status\":\"pending\",\"challenger_duration\":321,"
+                + "\"created_at\":\"2026-10-18T09:15:00Z\",\"expires_at\":\"2026-10-25T09:15:00.123+02:00\","
+                + "\"completed_at\":null,\"challenger\":{\"id\":\"u1\",\"username\":\"ann\"},\"opponent\":null}";
+        ChallengeResponse challenge = assertSameParse(json, ChallengeResponse.class);
+        assertEquals(1_792_314_900_000L, challenge.getCreatedAt().getTime());
+        assertEquals(1_792_314_900_000L + 7 * 86_400_000 - 2 * 3_600_000 + 123, challenge.getExpiresAt().getTime());
+        assertNull(challenge.getCompletedAt());
+        assertNull(challenge.getUpdatedAt());
+
+        // Inside the other challenge models, and in lists
+        String changes = "{\"changes\":[" + json + "," + json + "],\"removed_ids\":[\"c2\"],\"watermark\":\"w9\",\"full\":true}";
+        assertSameParse(changes, ChallengeChanges.class);
+        String batch = "{\"results\":[{\"challenge_id\":\"c1\",\"status\":\"success\",\"challenge\":" + json + "},"
+                + "{\"challenge_id\":\"c2\",\"status\":\"error\",\"detail\":\"Not pending\",\"challenge\":null}]}";
+        assertSameParse(batch, ChallengeBatchResponse.class);
+        Type listType = new TypeToken<List<ChallengeResponse>>() {}.getType();
+        assertSameFields(reflective.fromJson("[" + json + ",null]", listType), adapters.fromJson("[" + json + ",null]", listType), "list");
+    }
+
+    @Test
+    public void roundTripKeepsEverything() {
+        String json = "{\"status\":\"success\",\"message\":{\"id\":\"u1\",\"username\":\"ann\",\"email\":null,"
+                + "\"total_games_played\":\"12\",\"total_score\":3400}}";
+        UserResponse user = assertSameParse(json, UserResponse.class);
+        UserResponse copy = adapters.fromJson(adapters.toJson(user), UserResponse.class);
+        assertSameFields(user, copy, "UserResponse");
+
+        PuzzleResponse local = new PuzzleResponse();
+        local.setBoardString(repeat('0', 81));
+        local.setGeneratedLocally(true); // Never sent by the backend, but kept when passed around as JSON
+        assertSameFields(local, adapters.fromJson(adapters.toJson(local), PuzzleResponse.class), "PuzzleResponse");
+    }
+
+    // --- Helpers ---
+
+    private <T> T assertSameParse(String json, Class<T> type) {
+        T expected = reflective.fromJson(json, type);
+        T actual = adapters.fromJson(json, type);
+        assertSameFields(expected, actual, type.getSimpleName());
+        return actual;
+    }
+
+    // Compares models field by field, lists and maps element by element (whatever their
+    // implementation class), anything else with equals()
+    private static void assertSameFields(Object expected, Object actual, String path) {
+        if (expected == null || actual == null) {
+            assertEquals(path, expected, actual);
+            return;
+        }
+        if (expected instanceof List) {
+            List<?> expectedList = (List<?>) expected;
+            List<?> actualList = (List<?>) actual;
+            assertEquals(path + ".size", expectedList.size(), actualList.size());
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertSameFields(expectedList.get(i), actualList.get(i), path + "[" + i + "]");
+            }
+        } else if (expected instanceof Map) {
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            assertEquals(path + ".keys", expectedMap.keySet(), actualMap.keySet());
+            for (Object key : expectedMap.keySet()) {
+                assertSameFields(expectedMap.get(key), actualMap.get(key), path + "[" + key + "]");
+            }
+        } else if (isModel(expected.getClass())) {
+            assertEquals(path, expected.getClass(), actual.getClass());
+            for (Field field : fields(expected.getClass())) {
+                assertSameFields(get(field, expected), get(field, actual), path + "." + field.getName());
+            }
+        } else {
+            assertEquals(path, expected, actual);
+        }
+    }
+
+    private static void assertNoNullFields(Object value, String path) {
+        assertNotNull(path, value);
+        if (value instanceof List) {
+            for (Object element : (List<?>) value) assertNoNullFields(element, path + "[]");
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) assertNoNullFields(entry.getValue(), path + "[" + entry.getKey() + "]");
+        } else if (isModel(value.getClass())) {
+            for (Field field : fields(value.getClass())) assertNoNullFields(get(field, value), path + "." + field.getName());
+        }
+    }
+
+    // A JSON value for a field type: models get every field, other types a value no other field has
+    private JsonElement sample(Type type) {
+        Class<?> raw = type instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) type).getRawType() : (Class<?>) type;
+        int value = nextValue++;
+        if (raw == String.class) return new JsonPrimitive("text-" + value);
+        if (raw == int.class || raw == Integer.class) return new JsonPrimitive(value);
+        if (raw == boolean.class || raw == Boolean.class) return new JsonPrimitive(true);
+        if (raw == UUID.class) return new JsonPrimitive(new UUID(0, value).toString());
+        if (raw == Date.class) return new JsonPrimitive(String.format("2026-10-18T09:%02d:%02dZ", value / 60 % 60, value % 60));
+        if (raw == List.class) {
+            Type element = ((ParameterizedType) type).getActualTypeArguments()[0];
+            JsonArray array = new JsonArray();
+            array.add(sample(element));
+            array.add(sample(element));
+            return array;
+        }
+        if (raw == Map.class) {
+            Type valueType = ((ParameterizedType) type).getActualTypeArguments()[1];
+            JsonObject object = new JsonObject();
+            object.add("easy", sample(valueType));
+            object.add("hard", sample(valueType));
+            return object;
+        }
+        if (isModel(raw)) {
+            JsonObject object = new JsonObject();
+            for (Field field : fields(raw)) {
+                SerializedName name = field.getAnnotation(SerializedName.class);
+                object.add(name != null ? name.value() : field.getName(), sample(field.getGenericType()));
+            }
+            return object;
+        }
+        throw new AssertionError("No sample for " + type);
+    }
+
+    private static boolean isModel(Class<?> type) {
+        return type.getName().startsWith(ModelAdaptersTest.class.getPackage().getName() + ".");
+    }
+
+    // The fields Gson's reflective adapter reads and writes
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+            field.setAccessible(true);
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private static Object get(Field field, Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
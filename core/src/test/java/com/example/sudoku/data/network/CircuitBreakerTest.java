@@ -0,0 +1,100 @@
+// Relative Path: core/src/test/java/com/example/sudoku/data/network/CircuitBreakerTest.java
+package com.example.sudoku.data.network;
+
+import org.junit.Test;
+
+import static com.example.sudoku.data.network.CircuitBreaker.BASE_COOLDOWN_MS;
+import static com.example.sudoku.data.network.CircuitBreaker.FAILURE_THRESHOLD;
+import static com.example.sudoku.data.network.CircuitBreaker.MAX_COOLDOWN_MS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CircuitBreakerTest {
+
+    private long now = 1_000_000;
+    private final CircuitBreaker breaker = new CircuitBreaker(() -> now);
+
+    @Test
+    public void opensAfterThresholdFailuresInARow() {
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) {
+            assertTrue(breaker.allowRequest());
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+        assertEquals(2, breaker.getRejectedCount());
+        assertEquals(BASE_COOLDOWN_MS, breaker.remainingCooldownMs());
+        now += 5_000;
+        assertEquals(BASE_COOLDOWN_MS - 5_000, breaker.remainingCooldownMs());
+    }
+
+    @Test
+    public void successResetsTheFailureCount() {
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) breaker.onFailure();
+        breaker.onSuccess();
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    public void onlyOneTrialCallWhenHalfOpen() {
+        open();
+        now += BASE_COOLDOWN_MS;
+        assertTrue(breaker.allowRequest()); // The trial
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+        assertEquals(0, breaker.remainingCooldownMs());
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    public void abandonedTrialLetsTheNextCallTry() {
+        open();
+        now += BASE_COOLDOWN_MS;
+        assertTrue(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+        breaker.onAbandoned(); // E.g. the trial call was canceled
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    public void failedTrialDoublesTheCooldownUpToTheCap() {
+        open();
+        long expected = BASE_COOLDOWN_MS;
+        for (int trial = 0; trial < 6; trial++) {
+            now += expected - 1;
+            assertFalse("Open for " + expected + " ms", breaker.allowRequest());
+            now += 1;
+            assertTrue(breaker.allowRequest());
+            breaker.onFailure();
+            expected = Math.min(expected * 2, MAX_COOLDOWN_MS);
+            assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+            assertEquals(expected, breaker.remainingCooldownMs());
+        }
+        assertEquals(MAX_COOLDOWN_MS, expected);
+
+        // A successful trial starts over from the base cooldown
+        now += MAX_COOLDOWN_MS;
+        assertTrue(breaker.allowRequest());
+        breaker.onSuccess();
+        open();
+        assertEquals(BASE_COOLDOWN_MS, breaker.remainingCooldownMs());
+    }
+
+    private void open() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+}
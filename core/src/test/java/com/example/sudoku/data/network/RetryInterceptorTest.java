@@ -0,0 +1,58 @@
+// Relative Path: core/src/test/java/com/example/sudoku/data/network/RetryInterceptorTest.java
+package com.example.sudoku.data.network;
+
+import org.junit.Test;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RetryInterceptorTest {
+
+    private static final String BASE = "https://backend.example/";
+    private static final RequestBody BODY = RequestBody.create("{}", MediaType.get("application/json"));
+
+    @Test
+    public void readsAreRetried() {
+        assertTrue(RetryInterceptor.isRetryable(get("api/user/")));
+        assertTrue(RetryInterceptor.isRetryable(get("api/user/game_history/page?limit=20")));
+        assertTrue(RetryInterceptor.isRetryable(new Request.Builder().url(BASE + "api/health").head().build()));
+    }
+
+    @Test
+    public void newGameIsNotRetried() {
+        // A GET, but each call creates a game
+        Request newGame = get("api/game/new_game/easy");
+        assertFalse(NetworkConfig.isSafeToRepeat(newGame));
+        assertFalse(RetryInterceptor.isRetryable(newGame));
+        assertEquals(NetworkConfig.EndpointClass.COLD_START, NetworkConfig.classify(newGame)); // Still gets the long timeouts
+    }
+
+    @Test
+    public void writesNeedAnIdempotencyKey() {
+        Request plain = new Request.Builder().url(BASE + "api/challenges/").post(BODY).build();
+        assertFalse(NetworkConfig.isSafeToRepeat(plain));
+        assertFalse(RetryInterceptor.isRetryable(plain));
+        Request keyed = new Request.Builder().url(BASE + "api/game/update_game").put(BODY).header("Idempotency-Key", "k1").build();
+        assertTrue(RetryInterceptor.isRetryable(keyed));
+        assertFalse(NetworkConfig.isSafeToRepeat(keyed)); // Only the key makes it safe, so it isn't coalesced either
+    }
+
+    @Test
+    public void onlyOverloadAndGatewayErrorsAreRetried() {
+        for (int code : new int[] {429, 502, 503, 504}) {
+            assertTrue(String.valueOf(code), RetryInterceptor.isRetryableStatus(code));
+        }
+        for (int code : new int[] {200, 304, 400, 401, 404, 409, 500}) {
+            assertFalse(String.valueOf(code), RetryInterceptor.isRetryableStatus(code));
+        }
+    }
+
+    private static Request get(String path) {
+        return new Request.Builder().url(BASE + path).build();
+    }
+}
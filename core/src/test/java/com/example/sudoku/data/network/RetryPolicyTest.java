@@ -0,0 +1,65 @@
+// Relative Path: core/src/test/java/com/example/sudoku/data/network/RetryPolicyTest.java
+package com.example.sudoku.data.network;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RetryPolicyTest {
+
+    private static final int SAMPLES = 2_000;
+
+    private final RetryPolicy policy = new RetryPolicy(5, 100, 1_000);
+
+    @Test
+    public void delayStaysWithinTheExponentialCap() {
+        long[] caps = {100, 200, 400, 800, 1_000, 1_000};
+        for (int retry = 1; retry <= caps.length; retry++) {
+            Set<Long> seen = new HashSet<>();
+            for (int i = 0; i < SAMPLES; i++) {
+                long delay = policy.delayMs(retry, -1);
+                assertTrue(retry + ": " + delay, delay >= 0 && delay <= caps[retry - 1]);
+                seen.add(delay);
+            }
+            assertTrue("Delays are jittered", seen.size() > 10);
+        }
+    }
+
+    @Test
+    public void delayHonorsRetryAfter() {
+        for (int retry = 1; retry <= 4; retry++) {
+            for (int i = 0; i < SAMPLES; i++) {
+                long delay = policy.delayMs(retry, 600);
+                assertTrue(retry + ": " + delay, delay >= 600 && delay <= 1_000);
+            }
+        }
+    }
+
+    @Test
+    public void retryAfterBeyondTheCapIsCapped() {
+        for (int i = 0; i < SAMPLES; i++) {
+            assertEquals(1_000, policy.delayMs(1, 30_000));
+        }
+    }
+
+    @Test
+    public void largeRetryCountsDoNotOverflow() {
+        for (int i = 0; i < SAMPLES; i++) {
+            long delay = policy.delayMs(64, -1);
+            assertTrue(String.valueOf(delay), delay >= 0 && delay <= 1_000);
+        }
+    }
+
+    @Test
+    public void policyPerEndpointClass() {
+        assertSame(RetryPolicy.FAST_READ, RetryPolicy.forClass(NetworkConfig.EndpointClass.FAST_READ));
+        assertSame(RetryPolicy.WRITE, RetryPolicy.forClass(NetworkConfig.EndpointClass.WRITE));
+        assertSame(RetryPolicy.COLD_START, RetryPolicy.forClass(NetworkConfig.EndpointClass.COLD_START));
+        assertEquals(2, RetryPolicy.COLD_START.getMaxAttempts());
+    }
+}
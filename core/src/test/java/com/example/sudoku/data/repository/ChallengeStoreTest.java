@@ -0,0 +1,149 @@
+// Relative Path: core/src/test/java/com/example/sudoku/data/repository/ChallengeStoreTest.java
+package com.example.sudoku.data.repository;
+
+import com.example.sudoku.data.model.ChallengeResponse;
+import com.example.sudoku.data.model.ModelAdapters;
+import com.google.gson.Gson;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ChallengeStoreTest {
+
+    private static final String ME = "user-1";
+    private static final String OTHER = "user-2";
+
+    private final Gson gson = ModelAdapters.newGson();
+    private ChallengeStore store;
+
+    @Before
+    public void setUp() {
+        store = new ChallengeStore(ME);
+    }
+
+    @Test
+    public void classifiesIncomingAndOutgoing() {
+        store.replaceAll(Arrays.asList(
+                challenge("a", OTHER, ME, "pending"),   // Incoming
+                challenge("b", OTHER, ME, "accepted"),  // Answered, in neither tab
+                challenge("c", ME, OTHER, "pending"),   // Outgoing
+                challenge("d", ME, OTHER, "accepted"),  // Outgoing until completed
+                challenge("e", ME, OTHER, "completed"),
+                challenge("f", "USER-2", "USER-1", "PENDING")), "w1"); // Ids and status ignore case
+
+        assertEquals(6, store.size());
+        assertEquals(Arrays.asList("a", "f"), ids(store.incoming()));
+        assertEquals(Arrays.asList("c", "d"), ids(store.outgoing()));
+        assertEquals(2, store.incomingCount());
+        assertEquals(2, store.outgoingCount());
+        assertEquals("w1", store.getWatermark());
+    }
+
+    @Test
+    public void withoutUserNothingIsInTheTabs() {
+        ChallengeStore anonymous = new ChallengeStore(null);
+        anonymous.replaceAll(Collections.singletonList(challenge("a", OTHER, ME, "pending")), null);
+        assertEquals(1, anonymous.size());
+        assertTrue(anonymous.incoming().isEmpty());
+        assertTrue(anonymous.outgoing().isEmpty());
+    }
+
+    @Test
+    public void mergeUpdatesAddsAndRemoves() {
+        store.replaceAll(Arrays.asList(
+                challenge("a", OTHER, ME, "pending"),
+                challenge("b", OTHER, ME, "pending"),
+                challenge("c", ME, OTHER, "pending")), "w1");
+
+        store.merge(Arrays.asList(
+                challenge("a", OTHER, ME, "rejected"), // Leaves incoming
+                challenge("d", OTHER, ME, "pending")), // New
+                Collections.singletonList("c"), "w2");
+
+        assertEquals(3, store.size());
+        assertEquals(Arrays.asList("b", "d"), ids(store.incoming()));
+        assertTrue(store.outgoing().isEmpty());
+        assertEquals("w2", store.getWatermark());
+    }
+
+    @Test
+    public void removalOfUnknownIdIsIgnored() {
+        store.replaceAll(Collections.singletonList(challenge("a", OTHER, ME, "pending")), "w1");
+        store.merge(Collections.emptyList(), Collections.singletonList("zzz"), "w2");
+        assertEquals(1, store.size());
+        assertEquals(1, store.incomingCount());
+    }
+
+    @Test
+    public void nullWatermarkKeepsTheLastOne() {
+        store.replaceAll(Collections.emptyList(), "w1");
+        store.merge(Collections.singletonList(challenge("a", OTHER, ME, "pending")), Collections.emptyList(), null);
+        assertEquals("w1", store.getWatermark());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void replaceAllResetsEverything() {
+        store.replaceAll(Arrays.asList(challenge("a", OTHER, ME, "pending"), challenge("b", ME, OTHER, "pending")), "w1");
+        store.replaceAll(Collections.singletonList(challenge("c", OTHER, ME, "pending")), null);
+        assertEquals(Collections.singletonList("c"), ids(store.incoming()));
+        assertTrue(store.outgoing().isEmpty());
+        assertEquals(1, store.size());
+        assertNull(store.getWatermark()); // Full reload without incremental sync
+    }
+
+    @Test
+    public void replaceOnlyTouchesKnownChallenges() {
+        store.replaceAll(Collections.singletonList(challenge("a", OTHER, ME, "pending")), "w1");
+        ChallengeResponse unknown = challenge("x", OTHER, ME, "pending");
+        assertFalse(store.replace(unknown));
+        assertEquals(1, store.size());
+
+        ChallengeResponse accepted = store.incoming().get(0).withStatus("accepted");
+        assertTrue(store.replace(accepted));
+        assertTrue(store.incoming().isEmpty());
+        assertEquals(1, store.size());
+        assertEquals("w1", store.getWatermark());
+    }
+
+    @Test
+    public void tabListsAreCachedUntilAChange() {
+        store.replaceAll(Collections.singletonList(challenge("a", OTHER, ME, "pending")), "w1");
+        List<ChallengeResponse> incoming = store.incoming();
+        assertSame(incoming, store.incoming());
+        try {
+            incoming.clear();
+            fail("Tab list is modifiable");
+        } catch (UnsupportedOperationException expected) {
+            // Unmodifiable
+        }
+
+        store.merge(Collections.singletonList(challenge("b", OTHER, ME, "pending")), Collections.emptyList(), "w2");
+        assertEquals(1, incoming.size()); // The old list is a snapshot
+        assertEquals(Arrays.asList("a", "b"), ids(store.incoming()));
+    }
+
+    private ChallengeResponse challenge(String id, String challengerId, String opponentId, String status) {
+        String json = "{\"id\":\"" + id + "\",\"challenger_id\":\"" + challengerId + "\",\"opponent_id\":\""
+                + opponentId + "\",\"status\":\"" + status + "\",\"challenger_duration\":120}";
+        return gson.fromJson(json, ChallengeResponse.class);
+    }
+
+    private static List<String> ids(List<ChallengeResponse> challenges) {
+        List<String> ids = new ArrayList<>();
+        for (ChallengeResponse challenge : challenges) ids.add(challenge.getId());
+        return ids;
+    }
+}
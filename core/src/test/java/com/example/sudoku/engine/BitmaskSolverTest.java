@@ -0,0 +1,58 @@
+// Relative Path: core/src/test/java/com/example/sudoku/engine/BitmaskSolverTest.java
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static com.example.sudoku.engine.KnownPuzzles.AMBIGUOUS;
+import static com.example.sudoku.engine.KnownPuzzles.CONFLICTING;
+import static com.example.sudoku.engine.KnownPuzzles.EASY;
+import static com.example.sudoku.engine.KnownPuzzles.HARD;
+import static com.example.sudoku.engine.KnownPuzzles.HARD_SOLUTION;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BitmaskSolverTest extends SudokuSolverContractTest {
+
+    @Override
+    protected SudokuSolver newSolver() {
+        return new BitmaskSolver();
+    }
+
+    private static int digits(int... digits) {
+        int mask = 0;
+        for (int digit : digits) mask |= 1 << (digit - 1);
+        return mask;
+    }
+
+    @Test
+    public void solvesCellsInPlace() {
+        int[] cells = cells(HARD);
+        assertTrue(new BitmaskSolver().solve(cells));
+        assertArrayEquals(cells(HARD_SOLUTION), cells);
+    }
+
+    @Test
+    public void unsolvableCellsAreLeftAlone() {
+        int[] cells = cells(CONFLICTING);
+        assertFalse(new BitmaskSolver().solve(cells));
+        assertArrayEquals(cells(CONFLICTING), cells);
+    }
+
+    @Test
+    public void countingDoesNotModifyCells() {
+        int[] cells = cells(AMBIGUOUS);
+        assertEquals(2, new BitmaskSolver().countSolutions(cells, 2));
+        assertArrayEquals(cells(AMBIGUOUS), cells);
+    }
+
+    @Test
+    public void candidatesOfLoadedBoard() {
+        BitmaskSolver solver = new BitmaskSolver();
+        solver.countSolutions(cells(EASY), 1);
+        assertEquals(0, solver.candidatesAt(0)); // Given 5
+        // Cell 2 (row 0, col 2): row has 3, 5, 7, column 8, box 3, 5, 6, 8, 9 -> 1, 2 or 4
+        assertEquals(digits(1, 2, 4), solver.candidatesAt(2));
+    }
+}
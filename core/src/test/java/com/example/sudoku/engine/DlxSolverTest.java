@@ -0,0 +1,67 @@
+// Relative Path: core/src/test/java/com/example/sudoku/engine/DlxSolverTest.java
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static com.example.sudoku.engine.KnownPuzzles.AMBIGUOUS;
+import static com.example.sudoku.engine.KnownPuzzles.CONFLICTING;
+import static com.example.sudoku.engine.KnownPuzzles.EASY;
+import static com.example.sudoku.engine.KnownPuzzles.EASY_SOLUTION;
+import static com.example.sudoku.engine.KnownPuzzles.HARD;
+import static com.example.sudoku.engine.KnownPuzzles.HARD_SOLUTION;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DlxSolverTest extends SudokuSolverContractTest {
+
+    @Override
+    protected SudokuSolver newSolver() {
+        return new DlxSolver();
+    }
+
+    @Test
+    public void solvesCellsInPlace() {
+        int[] cells = cells(HARD);
+        assertTrue(new DlxSolver().solve(cells));
+        assertArrayEquals(cells(HARD_SOLUTION), cells);
+    }
+
+    @Test
+    public void unsolvableCellsAreLeftAlone() {
+        int[] cells = cells(CONFLICTING);
+        assertFalse(new DlxSolver().solve(cells));
+        assertArrayEquals(cells(CONFLICTING), cells);
+    }
+
+    @Test
+    public void countingDoesNotModifyCells() {
+        int[] cells = cells(AMBIGUOUS);
+        assertEquals(2, new DlxSolver().countSolutions(cells, 2));
+        assertArrayEquals(cells(AMBIGUOUS), cells);
+    }
+
+    // The link structure is covered and uncovered on every call, so it must be intact afterwards
+    @Test
+    public void linksAreRestoredAfterEachCall() {
+        DlxSolver solver = new DlxSolver();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, solver.countSolutions(CONFLICTING, 2));
+            assertEquals(2, solver.countSolutions(AMBIGUOUS, 2));
+            assertEquals(EASY_SOLUTION, solver.solve(EASY));
+        }
+    }
+
+    @Test
+    public void agreesWithBitmaskSolver() {
+        DlxSolver dlx = new DlxSolver();
+        BitmaskSolver bitmask = new BitmaskSolver();
+        PuzzleGenerator generator = new PuzzleGenerator(new java.util.Random(42));
+        for (int i = 0; i < 20; i++) {
+            String board = generator.generateOnce(24).getBoardString();
+            assertEquals(bitmask.countSolutions(board, 2), dlx.countSolutions(board, 2));
+            assertEquals(bitmask.solve(board), dlx.solve(board));
+        }
+    }
+}
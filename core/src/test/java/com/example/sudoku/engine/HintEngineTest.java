@@ -0,0 +1,110 @@
+// Relative Path: core/src/test/java/com/example/sudoku/engine/HintEngineTest.java
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.example.sudoku.engine.KnownPuzzles.CONFLICTING;
+import static com.example.sudoku.engine.KnownPuzzles.EASY;
+import static com.example.sudoku.engine.KnownPuzzles.EASY_SOLUTION;
+import static com.example.sudoku.engine.KnownPuzzles.HARD;
+import static com.example.sudoku.engine.KnownPuzzles.HARD_SOLUTION;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HintEngineTest {
+
+    private final HintEngine engine = new HintEngine();
+
+    @Test
+    public void lastEmptyCellIsANakedSingle() {
+        int[] cells = cells(EASY_SOLUTION);
+        cells[40] = 0;
+        HintEngine.Hint hint = engine.findHint(cells);
+        assertNotNull(hint);
+        assertEquals(40, hint.getCell());
+        assertEquals(4, hint.getRow());
+        assertEquals(4, hint.getCol());
+        assertEquals(EASY_SOLUTION.charAt(40) - '0', hint.getDigit());
+        assertEquals(HintEngine.Technique.NAKED_SINGLE, hint.getPlacement());
+        assertEquals(HintEngine.Technique.NAKED_SINGLE, hint.getTechnique());
+        assertEquals("5 is the only candidate left at row 5, column 5 (Naked Single).", hint.getDescription());
+    }
+
+    @Test
+    public void hintsSolveThePuzzle() {
+        int[] cells = cells(EASY);
+        int hints = 0;
+        HintEngine.Hint hint;
+        while ((hint = engine.findHint(cells)) != null) {
+            assertEquals("Wrong hint at cell " + hint.getCell(), EASY_SOLUTION.charAt(hint.getCell()) - '0', hint.getDigit());
+            assertEquals(0, cells[hint.getCell()]);
+            cells[hint.getCell()] = hint.getDigit();
+            hints++;
+        }
+        assertEquals(51, hints); // One per empty cell
+        assertEquals(EASY_SOLUTION, Units.format(cells));
+    }
+
+    @Test
+    public void boardIsNotModified() {
+        int[] cells = cells(EASY);
+        int[] copy = cells.clone();
+        engine.findHint(cells);
+        engine.rate(cells);
+        assertArrayEquals(copy, cells);
+    }
+
+    @Test
+    public void noHintForFullOrInvalidBoards() {
+        assertNull(engine.findHint(cells(EASY_SOLUTION)));
+        assertNull(engine.findHint(cells(CONFLICTING)));
+        assertNull(engine.rate(cells(CONFLICTING)));
+    }
+
+    @Test
+    public void hintsBeyondTheLadderAreStillCorrect() {
+        // Needs more than X-Wing: the engine may give a few hints, then none
+        int[] cells = cells(HARD);
+        assertNull(engine.rate(cells));
+        HintEngine.Hint hint;
+        while ((hint = engine.findHint(cells)) != null) {
+            assertEquals(HARD_SOLUTION.charAt(hint.getCell()) - '0', hint.getDigit());
+            cells[hint.getCell()] = hint.getDigit();
+        }
+        assertTrue(Arrays.stream(cells).anyMatch(v -> v == 0));
+    }
+
+    @Test
+    public void ratingMatchesTheHintsNeeded() {
+        assertEquals(HintEngine.Technique.NAKED_SINGLE, engine.rate(cells(EASY_SOLUTION)));
+        PuzzleGenerator generator = new PuzzleGenerator(new Random(5));
+        for (int i = 0; i < 20; i++) {
+            PuzzleGenerator.Puzzle puzzle = generator.generateOnce(24);
+            int[] cells = cells(puzzle.getBoardString());
+            HintEngine.Technique rating = engine.rate(cells);
+            assertEquals(puzzle.getHardestTechnique(), rating);
+            if (rating == null) continue;
+
+            // Solvable by the ladder: hints alone finish it, and none needs more than the rating
+            HintEngine.Hint hint;
+            while ((hint = engine.findHint(cells)) != null) {
+                assertEquals(puzzle.getSolutionString().charAt(hint.getCell()) - '0', hint.getDigit());
+                assertTrue(hint.getTechnique().ordinal() <= rating.ordinal());
+                cells[hint.getCell()] = hint.getDigit();
+            }
+            assertEquals(puzzle.getSolutionString(), Units.format(cells));
+        }
+    }
+
+    private static int[] cells(String board) {
+        int[] cells = new int[81];
+        Units.parse(board, cells);
+        return cells;
+    }
+}
@@ -0,0 +1,24 @@
+// Relative Path: core/src/test/java/com/example/sudoku/engine/KnownPuzzles.java
+package com.example.sudoku.engine;
+
+/** Published puzzles with their (unique) solutions, shared by the engine and board tests. */
+public final class KnownPuzzles {
+
+    // Wikipedia's example puzzle
+    public static final String EASY = "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    public static final String EASY_SOLUTION = "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    // Arto Inkala's "world's hardest sudoku" (needs deep search)
+    public static final String HARD = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    public static final String HARD_SOLUTION = "812753649943682175675491283154237896369845721287169534521974368438526917796318452";
+
+    // EASY with its first row cleared: still solvable, no longer unique
+    public static final String AMBIGUOUS = "000000000" + EASY.substring(9);
+
+    // Two 5s in the first row
+    public static final String CONFLICTING = "55" + EASY.substring(2);
+
+    private KnownPuzzles() {
+        // Constants only
+    }
+}
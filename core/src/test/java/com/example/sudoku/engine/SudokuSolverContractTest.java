@@ -0,0 +1,91 @@
+// Relative Path: core/src/test/java/com/example/sudoku/engine/SudokuSolverContractTest.java
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static com.example.sudoku.engine.KnownPuzzles.AMBIGUOUS;
+import static com.example.sudoku.engine.KnownPuzzles.CONFLICTING;
+import static com.example.sudoku.engine.KnownPuzzles.EASY;
+import static com.example.sudoku.engine.KnownPuzzles.EASY_SOLUTION;
+import static com.example.sudoku.engine.KnownPuzzles.HARD;
+import static com.example.sudoku.engine.KnownPuzzles.HARD_SOLUTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** What every SudokuSolver engine must do; one subclass per engine. */
+public abstract class SudokuSolverContractTest {
+
+    protected abstract SudokuSolver newSolver();
+
+    @Test
+    public void solvesKnownPuzzles() {
+        SudokuSolver solver = newSolver();
+        assertEquals(EASY_SOLUTION, solver.solve(EASY));
+        assertEquals(HARD_SOLUTION, solver.solve(HARD));
+    }
+
+    @Test
+    public void solvedBoardIsItsOwnSolution() {
+        assertEquals(EASY_SOLUTION, newSolver().solve(EASY_SOLUTION));
+    }
+
+    @Test
+    public void acceptsDotsForEmptyCells() {
+        assertEquals(EASY_SOLUTION, newSolver().solve(EASY.replace('0', '.')));
+    }
+
+    @Test
+    public void countsUniqueSolution() {
+        SudokuSolver solver = newSolver();
+        assertEquals(1, solver.countSolutions(HARD, 2));
+        assertTrue(solver.hasUniqueSolution(EASY));
+    }
+
+    @Test
+    public void detectsMultipleSolutions() {
+        SudokuSolver solver = newSolver();
+        assertEquals(2, solver.countSolutions(AMBIGUOUS, 2));
+        assertFalse(solver.hasUniqueSolution(AMBIGUOUS));
+        assertEquals(2, solver.countSolutions(repeat('0', 81), 2));
+    }
+
+    @Test
+    public void stopsCountingAtLimit() {
+        assertEquals(5, newSolver().countSolutions(repeat('0', 81), 5));
+    }
+
+    @Test
+    public void conflictingGivensHaveNoSolution() {
+        SudokuSolver solver = newSolver();
+        assertNull(solver.solve(CONFLICTING));
+        assertEquals(0, solver.countSolutions(CONFLICTING, 2));
+    }
+
+    @Test
+    public void instanceCanBeReused() {
+        SudokuSolver solver = newSolver();
+        assertNull(solver.solve(CONFLICTING));
+        assertEquals(2, solver.countSolutions(AMBIGUOUS, 2));
+        assertEquals(HARD_SOLUTION, solver.solve(HARD));
+        assertEquals(EASY_SOLUTION, solver.solve(EASY));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsShortBoardString() {
+        newSolver().solve(EASY.substring(1));
+    }
+
+    static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        java.util.Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    static int[] cells(String board) {
+        int[] cells = new int[81];
+        Units.parse(board, cells);
+        return cells;
+    }
+}
@@ -21,3 +21,6 @@ dependencyResolutionManagement {
 
 rootProject.name = "Sudoku"
 include(":app")
+include(":core")
+include(":bench")
+include(":tools")
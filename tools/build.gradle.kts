@@ -0,0 +1,37 @@
+plugins {
+    application
+}
+
+// Pure-JVM command-line tools for building puzzle pools from the :core engines.
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    implementation(project(":core"))
+    implementation("com.google.code.gson:gson:2.8.5") // Same version Retrofit's converter brings into the app
+}
+
+// ./gradlew :tools:run --args="--count 100000 --difficulty mixed --out puzzles.json"
+application {
+    mainClass.set("com.example.sudoku.tools.BatchGenerator")
+}
+
+// Converts a JSON puzzle list into a binary puzzle pack:
+// ./gradlew :tools:packPuzzles --args="--in puzzles.json --out puzzles.pack"
+tasks.register<JavaExec>("packPuzzles") {
+    group = "application"
+    description = "Writes a binary puzzle pack from a JSON puzzle list."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.sudoku.tools.PackTool")
+}
+
+// In-memory stand-in for the backend (http://10.0.2.2:3001/ from the emulator):
+// ./gradlew :tools:standInServer --args="--port 3001"
+tasks.register<JavaExec>("standInServer") {
+    group = "application"
+    description = "Runs the in-memory stand-in backend server."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.sudoku.tools.StandInServer")
+}
@@ -0,0 +1,235 @@
+// Relative Path: tools/src/main/java/com/example/sudoku/tools/BatchGenerator.java
+package com.example.sudoku.tools;
+
+import com.example.sudoku.engine.DlxSolver;
+import com.example.sudoku.engine.PuzzleGenerator;
+import com.example.sudoku.engine.Units;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates, uniqueness-checks and grades puzzles on all cores for seeding puzzle pools.
+ * Work is split into fixed-size chunks, each with its own seeded generator, and run as a
+ * parallel stream inside a ForkJoinPool of the requested size. Chunks are written in order,
+ * so the same seed gives the same file no matter how many threads are used.
+ *
+ * Output is a JSON array in the PuzzleResponse shape:
+ * [{"difficulty": "hard", "board_string": "...", "solution_string": "..."}, ...]
+ *
+ * Usage: BatchGenerator [--count N] [--difficulty easy|medium|hard|mixed] [--threads N]
+ *                       [--seed N] [--out FILE] [--scaling]
+ * --scaling runs the same batch with 1, 2, 4 ... threads and prints puzzles/sec per core.
+ */
+public final class BatchGenerator {
+
+    static final String MIXED = "mixed";
+    private static final int CHUNK_SIZE = 64;         // Puzzles per fork-join task
+    private static final int CHUNKS_PER_BATCH = 256;  // Chunks kept in memory between writes
+    private static final String[] DIFFICULTIES = {PuzzleGenerator.EASY, PuzzleGenerator.MEDIUM, PuzzleGenerator.HARD};
+
+    private final int count;
+    private final String difficulty;
+    private final long seed;
+
+    /** Totals of one run. */
+    static final class Stats {
+        final int[] perDifficulty = new int[DIFFICULTIES.length];
+        int rejected;     // Graded differently than requested, or failed the uniqueness cross-check
+        long elapsedNanos;
+
+        int total() {
+            int total = 0;
+            for (int n : perDifficulty) total += n;
+            return total;
+        }
+
+        double puzzlesPerSecond() {
+            return total() / (elapsedNanos / 1e9);
+        }
+    }
+
+    // Puzzles of one chunk: {difficulty, board, solution}
+    private static final class Chunk {
+        final String[][] puzzles;
+        int rejected;
+
+        Chunk(int size) {
+            puzzles = new String[size][];
+        }
+    }
+
+    BatchGenerator(int count, String difficulty, long seed) {
+        this.count = count;
+        this.difficulty = difficulty;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int count = 1000;
+        String difficulty = MIXED;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 42L;
+        String out = null;
+        boolean scaling = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--count": count = Integer.parseInt(args[++i]); break;
+                case "--difficulty": difficulty = args[++i].toLowerCase(Locale.US); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--out": out = args[++i]; break;
+                case "--scaling": scaling = true; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.err.println("Usage: BatchGenerator [--count N] [--difficulty easy|medium|hard|mixed] [--threads N] [--seed N] [--out FILE] [--scaling]");
+                    System.exit(2);
+                    return;
+            }
+        }
+        if (!MIXED.equals(difficulty) && indexOf(difficulty) < 0) {
+            System.err.println("Unknown difficulty: " + difficulty);
+            System.exit(2);
+            return;
+        }
+
+        BatchGenerator generator = new BatchGenerator(count, difficulty, seed);
+        if (scaling) {
+            generator.runScaling(threads);
+            return;
+        }
+        if (out != null) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8)) {
+                report(generator.run(threads, writer), threads);
+            }
+            System.out.println("Wrote " + out);
+        } else {
+            report(generator.run(threads, null), threads);
+        }
+    }
+
+    /**
+     * Generates the batch on a pool of {@code threads} workers.
+     * @param writer Destination for the JSON array, or null to only measure.
+     */
+    Stats run(int threads, Writer writer) throws IOException, InterruptedException, ExecutionException {
+        Stats stats = new Stats();
+        int chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        boolean first = true;
+        long start = System.nanoTime();
+        try {
+            if (writer != null) writer.write("[\n");
+            for (int batchStart = 0; batchStart < chunkCount; batchStart += CHUNKS_PER_BATCH) {
+                int batchEnd = Math.min(chunkCount, batchStart + CHUNKS_PER_BATCH);
+                int from = batchStart;
+                List<Chunk> chunks = pool.submit(() -> IntStream.range(from, batchEnd)
+                        .parallel()
+                        .mapToObj(this::generateChunk)
+                        .collect(Collectors.toList())).get();
+                for (Chunk chunk : chunks) {
+                    stats.rejected += chunk.rejected;
+                    for (String[] puzzle : chunk.puzzles) {
+                        stats.perDifficulty[indexOf(puzzle[0])]++;
+                        if (writer != null) {
+                            if (!first) writer.write(",\n");
+                            writePuzzle(writer, puzzle);
+                            first = false;
+                        }
+                    }
+                }
+            }
+            if (writer != null) writer.write("\n]\n");
+        } finally {
+            pool.shutdown();
+        }
+        stats.elapsedNanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    // Runs the batch with 1, 2, 4 ... maxThreads workers and prints how throughput scales
+    private void runScaling(int maxThreads) throws Exception {
+        run(maxThreads, null); // Warm up the JIT before measuring
+        System.out.println(String.format(Locale.US, "%8s %12s %14s %9s", "threads", "puzzles/s", "per core", "speedup"));
+        double single = 0;
+        for (int threads = 1; threads <= maxThreads; threads = nextThreadCount(threads, maxThreads)) {
+            Stats stats = run(threads, null);
+            double rate = stats.puzzlesPerSecond();
+            if (threads == 1) single = rate;
+            System.out.println(String.format(Locale.US, "%8d %12.0f %14.0f %8.2fx", threads, rate, rate / cores(threads), rate / single));
+        }
+    }
+
+    private Chunk generateChunk(int chunkIndex) {
+        int size = Math.min(CHUNK_SIZE, count - chunkIndex * CHUNK_SIZE);
+        Chunk chunk = new Chunk(size);
+        // Seed per chunk (not per thread) so the output doesn't depend on scheduling
+        PuzzleGenerator generator = new PuzzleGenerator(new Random(seed * 0x9E3779B97F4A7C15L + chunkIndex));
+        DlxSolver checker = new DlxSolver(); // Independent engine for the uniqueness cross-check
+        int[] cells = new int[81];
+        int filled = 0;
+        while (filled < size) {
+            PuzzleGenerator.Puzzle puzzle = MIXED.equals(difficulty)
+                    ? generator.generateOnce(17)
+                    : generator.generate(difficulty);
+            if (!MIXED.equals(difficulty) && !difficulty.equals(puzzle.getDifficulty())) {
+                chunk.rejected++;
+                continue;
+            }
+            Units.parse(puzzle.getBoardString(), cells);
+            if (checker.countSolutions(cells, 2) != 1) {
+                chunk.rejected++;
+                continue;
+            }
+            chunk.puzzles[filled++] = new String[]{puzzle.getDifficulty(), puzzle.getBoardString(), puzzle.getSolutionString()};
+        }
+        return chunk;
+    }
+
+    private static void writePuzzle(Writer writer, String[] puzzle) throws IOException {
+        // Values are digits and fixed difficulty names, so no JSON escaping is needed
+        writer.write("  {\"difficulty\": \"");
+        writer.write(puzzle[0]);
+        writer.write("\", \"board_string\": \"");
+        writer.write(puzzle[1]);
+        writer.write("\", \"solution_string\": \"");
+        writer.write(puzzle[2]);
+        writer.write("\"}");
+    }
+
+    private static void report(Stats stats, int threads) {
+        double rate = stats.puzzlesPerSecond();
+        System.out.println(String.format(Locale.US,
+                "Generated %d puzzles (easy %d, medium %d, hard %d, rejected %d) in %.2f s on %d threads: %.0f puzzles/s, %.0f puzzles/s per core",
+                stats.total(), stats.perDifficulty[0], stats.perDifficulty[1], stats.perDifficulty[2], stats.rejected,
+                stats.elapsedNanos / 1e9, threads, rate, rate / cores(threads)));
+    }
+
+    // Threads beyond the available processors don't add cores
+    private static int cores(int threads) {
+        return Math.min(threads, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static int nextThreadCount(int threads, int maxThreads) {
+        if (threads == maxThreads) return maxThreads + 1;
+        return Math.min(threads * 2, maxThreads);
+    }
+
+    static int indexOf(String difficulty) {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equals(difficulty)) return i;
+        }
+        return -1;
+    }
+}
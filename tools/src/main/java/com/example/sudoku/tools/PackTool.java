@@ -0,0 +1,85 @@
+// Relative Path: tools/src/main/java/com/example/sudoku/tools/PackTool.java
+package com.example.sudoku.tools;
+
+import com.example.sudoku.core.PuzzlePack;
+import com.example.sudoku.core.PuzzlePackWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts a JSON puzzle list (BatchGenerator output, or any array of flat objects with
+ * difficulty/board_string/solution_string fields like PuzzleResponse) into a binary puzzle pack.
+ *
+ * Usage: PackTool --in puzzles.json --out puzzles.pack
+ */
+public final class PackTool {
+
+    private static final Pattern OBJECT = Pattern.compile("\\{[^{}]*\\}");
+    private static final Pattern DIFFICULTY = field("difficulty");
+    private static final Pattern BOARD = field("board_string");
+    private static final Pattern SOLUTION = field("solution_string");
+
+    private PackTool() {
+        // Command-line entry point only
+    }
+
+    public static void main(String[] args) throws Exception {
+        String in = null;
+        String out = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if ("--in".equals(args[i])) in = args[i + 1];
+            else if ("--out".equals(args[i])) out = args[i + 1];
+        }
+        if (in == null || out == null) {
+            System.err.println("Usage: PackTool --in puzzles.json --out puzzles.pack");
+            System.exit(2);
+            return;
+        }
+
+        String json = new String(Files.readAllBytes(Paths.get(in)), StandardCharsets.UTF_8);
+        PuzzlePackWriter writer = new PuzzlePackWriter();
+        int skipped = 0;
+        Matcher objects = OBJECT.matcher(json);
+        while (objects.find()) {
+            String object = objects.group();
+            String difficulty = value(DIFFICULTY, object);
+            String board = value(BOARD, object);
+            String solution = value(SOLUTION, object);
+            try {
+                writer.add(difficulty == null ? null : difficulty.toLowerCase(Locale.US), board, solution);
+            } catch (IllegalArgumentException e) {
+                skipped++;
+                System.err.println("Skipping puzzle: " + e.getMessage());
+            }
+        }
+
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(Paths.get(out)))) {
+            writer.writeTo(stream);
+        }
+
+        // Read the pack back to validate it and report its contents
+        PuzzlePack pack = PuzzlePack.open(new File(out));
+        long bytes = new File(out).length();
+        int puzzles = Math.max(1, writer.size());
+        System.out.println(String.format(Locale.US, "Wrote %s: %d puzzles (easy %d, medium %d, hard %d, skipped %d), %d bytes, %d bytes per puzzle (JSON: %d)",
+                out, writer.size(), pack.count("easy"), pack.count("medium"), pack.count("hard"), skipped, bytes,
+                (bytes - 32) / puzzles, json.length() / puzzles));
+    }
+
+    private static Pattern field(String name) {
+        return Pattern.compile("\"" + name + "\"\\s*:\\s*\"([^\"]*)\"");
+    }
+
+    private static String value(Pattern pattern, String object) {
+        Matcher matcher = pattern.matcher(object);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,697 @@
+// Relative Path: tools/src/main/java/com/example/sudoku/tools/StandInServer.java
+package com.example.sudoku.tools;
+
+import com.example.sudoku.core.StateDelta;
+import com.example.sudoku.engine.PuzzleGenerator;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * In-memory stand-in for the Sudoku backend, for trying client changes without the real
+ * server. Implements the auth, user and game endpoints the app uses, including versioned
+ * delta updates of update_game (see StateDelta), Idempotency-Key replay, ETags on GETs and
+ * the cursor-paged game history, plus challenges (list, changes since a watermark, create,
+ * respond, batched respond, complete). Request bodies may be gzipped. Any email/password logs in; tokens are "token-<user id>".
+ * As the app expects of the backend, in_progress_game only returns started games (updated at least once), so
+ * games the app prefetched but never played don't hide the one being played; unstarted games
+ * are deleted after UNSTARTED_GAME_LIFETIME_MS.
+ * Nothing is persisted. --history gives every new user that many completed games, to try
+ * the history screen with a long history; --challenges that many pending incoming
+ * challenges from rival players, to try clearing a backlog of challenges.
+ *
+ * Usage: StandInServer [--port 3001] [--history 0] [--challenges 0]
+ * (The emulator reaches it at http://10.0.2.2:3001/, see RetrofitClient.BASE_URL.)
+ */
+public final class StandInServer {
+
+    private final Gson gson = new Gson();
+    private final PuzzleGenerator generator = new PuzzleGenerator();
+    private final Map<String, JsonObject> usersById = new HashMap<>();
+    private final Map<String, String> userIdsByEmail = new HashMap<>();
+    private final Map<String, Game> games = new LinkedHashMap<>();
+    private final Map<String, Reply> idempotentReplies = new HashMap<>();
+    // Completed games per user in completion order (ascending Game.completedSeq), for paging
+    private final Map<String, List<Game>> completedByUser = new HashMap<>();
+    private final Map<String, Challenge> challenges = new LinkedHashMap<>();
+    private final List<String> rivalIds = new ArrayList<>(); // Challengers of the seeded challenges
+    private final int seedHistory;
+    private final int seedChallenges;
+    private long nextCompletedSeq = 1;
+    private long lastChallengeUpdate; // Latest Challenge.updatedAt, the watermark of a changes sync
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_ACTIONS = 100;
+    private static final int RIVALS = 5;
+    private static final long CHALLENGE_LIFETIME_MS = 7L * 86_400_000;
+    // new_game games that never got an update (e.g. prefetched by the app and never played) are deleted after this
+    private static final long UNSTARTED_GAME_LIFETIME_MS = 2L * 86_400_000;
+
+    // Upload volume of the saved state (current_state + move_journal vs. their deltas)
+    private long fullUpdates, fullStateBytes, deltaUpdates, deltaStateBytes;
+
+    private static final class Game {
+        String id;
+        String userId;
+        String difficulty;
+        String board;
+        String solution;
+        String state;
+        String journal;
+        int version; // 0 until the first update_game: not started yet
+        long createdAt;
+        boolean completed;
+        long completedSeq; // Order of completion, the history page cursor
+        JsonObject lastUpdate = new JsonObject();
+    }
+
+    private static final class Challenge {
+        String id;
+        String challengerId;
+        String opponentId;
+        String status; // pending, accepted, rejected, completed
+        String difficulty;
+        String board;
+        String solution;
+        String puzzleId;
+        int challengerDuration;
+        Integer opponentDuration;
+        String winnerId;
+        long createdAt;
+        long completedAt;
+        long updatedAt; // Unique and increasing across challenges (see touch())
+    }
+
+    private static final class Reply {
+        final int code;
+        final String body;
+
+        Reply(int code, String body) {
+            this.code = code;
+            this.body = body;
+        }
+    }
+
+    private StandInServer(int seedHistory, int seedChallenges) {
+        this.seedHistory = seedHistory;
+        this.seedChallenges = seedChallenges;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = 3001;
+        int seedHistory = 0;
+        int seedChallenges = 0;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if ("--port".equals(args[i])) port = Integer.parseInt(args[i + 1]);
+            else if ("--history".equals(args[i])) seedHistory = Integer.parseInt(args[i + 1]);
+            else if ("--challenges".equals(args[i])) seedChallenges = Integer.parseInt(args[i + 1]);
+        }
+        StandInServer server = new StandInServer(seedHistory, seedChallenges);
+        HttpServer http = HttpServer.create(new InetSocketAddress(port), 0);
+        http.createContext("/", server::handle);
+        http.setExecutor(Executors.newFixedThreadPool(4));
+        http.start();
+        System.out.println("Stand-in server listening on http://localhost:" + port + "/");
+    }
+
+    // --- Routing ---
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().replaceAll("/+$", "");
+        Reply reply;
+        try {
+            InputStream in = exchange.getRequestBody();
+            if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+                in = new GZIPInputStream(in); // Game updates are sent gzipped
+            }
+            String body = readBody(in);
+            synchronized (this) {
+                reply = route(exchange, method, path, body);
+            }
+        } catch (RuntimeException e) {
+            reply = error(400, "Bad request: " + e.getMessage());
+        }
+        byte[] bytes = reply.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if ("GET".equals(method) && reply.code == 200) {
+            // Strong ETag over the body, so clients can revalidate with If-None-Match
+            String etag = String.format(Locale.US, "\"%08x\"", Arrays.hashCode(bytes));
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                System.out.println(method + " " + path + " -> 304");
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+        }
+        System.out.println(method + " " + path + " -> " + reply.code);
+        exchange.sendResponseHeaders(reply.code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Reply route(HttpExchange exchange, String method, String path, String body) {
+        if ("GET".equals(method) && "/api/health".equals(path)) {
+            return new Reply(200, "{\"status\":\"ok\"}"); // Warmup probe, no auth
+        }
+        if ("POST".equals(method) && ("/api/auth/login".equals(path) || "/api/auth/register".equals(path))) {
+            return login(gson.fromJson(body, JsonObject.class));
+        }
+        String userId = authenticate(exchange);
+        if (userId == null) return error(401, "Not authenticated");
+
+        if ("GET".equals(method) && "/api/user".equals(path)) {
+            JsonObject response = new JsonObject();
+            response.addProperty("status", "success");
+            response.add("message", usersById.get(userId));
+            return new Reply(200, gson.toJson(response));
+        }
+        if ("GET".equals(method) && path.startsWith("/api/game/new_game/")) {
+            return newGame(userId, path.substring("/api/game/new_game/".length()));
+        }
+        if ("PUT".equals(method) && "/api/game/update_game".equals(path)) {
+            return idempotent(exchange, userId, () -> updateGame(userId, gson.fromJson(body, JsonObject.class), body.length()));
+        }
+        if ("GET".equals(method) && "/api/user/in_progress_game".equals(path)) {
+            Game latest = null;
+            for (Game game : games.values()) {
+                if (game.userId.equals(userId) && !game.completed && game.version > 0) latest = game; // Started games only
+            }
+            return latest == null ? error(404, "No game in progress") : new Reply(200, gson.toJson(toGameResponse(latest)));
+        }
+        if ("GET".equals(method) && "/api/user/game_history".equals(path)) {
+            JsonArray history = new JsonArray();
+            for (Game game : games.values()) {
+                if (game.userId.equals(userId) && game.completed) history.add(toGameResponse(game));
+            }
+            return new Reply(200, gson.toJson(history));
+        }
+        if ("GET".equals(method) && "/api/user/game_history/page".equals(path)) {
+            return gameHistoryPage(userId, query(exchange));
+        }
+        if (path.equals("/api/challenges") || path.startsWith("/api/challenges/")) {
+            return routeChallenges(exchange, method, path, body, userId);
+        }
+        return error(404, "Not found: " + method + " " + path);
+    }
+
+    private Reply routeChallenges(HttpExchange exchange, String method, String path, String body, String userId) {
+        if ("GET".equals(method) && "/api/challenges".equals(path)) {
+            JsonArray list = new JsonArray();
+            for (Challenge challenge : challenges.values()) {
+                if (userId.equals(challenge.challengerId) || userId.equals(challenge.opponentId)) list.add(toChallengeResponse(challenge));
+            }
+            return new Reply(200, gson.toJson(list));
+        }
+        if ("GET".equals(method) && "/api/challenges/changes".equals(path)) {
+            return challengeChanges(userId, query(exchange).get("since"));
+        }
+        if (!"POST".equals(method)) return error(404, "Not found: " + method + " " + path);
+        if ("/api/challenges".equals(path)) {
+            return createChallenge(userId, gson.fromJson(body, JsonObject.class));
+        }
+        if ("/api/challenges/respond_batch".equals(path)) {
+            return idempotent(exchange, userId, () -> respondBatch(userId, gson.fromJson(body, JsonObject.class)));
+        }
+        String[] parts = path.substring("/api/challenges/".length()).split("/");
+        if (parts.length != 2) return error(404, "Not found: " + method + " " + path);
+        Challenge challenge = challenges.get(parts[0]);
+        if ("respond".equals(parts[1])) {
+            Reply failure = respond(userId, challenge, string(gson.fromJson(body, JsonObject.class), "action"));
+            return failure != null ? failure : new Reply(200, gson.toJson(toChallengeResponse(challenge)));
+        }
+        if ("complete".equals(parts[1])) {
+            return idempotent(exchange, userId, () -> completeChallenge(userId, challenge, gson.fromJson(body, JsonObject.class)));
+        }
+        return error(404, "Not found: " + method + " " + path);
+    }
+
+    // Runs a write once per Idempotency-Key; a retry with the same key gets the first reply
+    private Reply idempotent(HttpExchange exchange, String userId, Supplier<Reply> write) {
+        String key = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+        Reply replay = key == null ? null : idempotentReplies.get(userId + ":" + key);
+        if (replay != null) return replay; // Retry of a write we already applied
+        Reply reply = write.get();
+        if (key != null) idempotentReplies.put(userId + ":" + key, reply);
+        return reply;
+    }
+
+    // --- Endpoints ---
+
+    private Reply login(JsonObject request) {
+        String email = string(request, "email");
+        if (email == null) return error(422, "Email is required");
+        String userId = userIdsByEmail.get(email);
+        if (userId == null) {
+            userId = UUID.randomUUID().toString();
+            JsonObject user = new JsonObject();
+            user.addProperty("id", userId);
+            String username = string(request, "username");
+            user.addProperty("username", username != null ? username : email.split("@")[0]);
+            user.addProperty("email", email);
+            user.addProperty("total_games_played", 0);
+            user.addProperty("total_score", 0);
+            usersById.put(userId, user);
+            userIdsByEmail.put(email, userId);
+            seedHistory(userId);
+            seedChallenges(userId);
+        }
+        JsonObject response = new JsonObject();
+        response.addProperty("status", "success");
+        response.addProperty("message", "Logged in");
+        response.addProperty("token", "token-" + userId);
+        response.addProperty("userId", userId);
+        return new Reply(200, gson.toJson(response));
+    }
+
+    private Reply newGame(String userId, String difficulty) {
+        difficulty = difficulty.toLowerCase(Locale.US);
+        if (!PuzzleGenerator.EASY.equals(difficulty) && !PuzzleGenerator.MEDIUM.equals(difficulty) && !PuzzleGenerator.HARD.equals(difficulty)) {
+            return error(422, "Unknown difficulty " + difficulty);
+        }
+        expireUnstartedGames();
+        PuzzleGenerator.Puzzle puzzle = generator.generate(difficulty);
+        Game game = new Game();
+        game.id = UUID.randomUUID().toString();
+        game.userId = userId;
+        game.difficulty = difficulty;
+        game.board = puzzle.getBoardString();
+        game.solution = puzzle.getSolutionString();
+        game.state = game.board;
+        game.createdAt = System.currentTimeMillis();
+        games.put(game.id, game);
+
+        JsonObject response = toPuzzle(game);
+        response.addProperty("gameId", game.id);
+        return new Reply(200, gson.toJson(response));
+    }
+
+    private Reply updateGame(String userId, JsonObject request, int bodyBytes) {
+        Game game = games.get(string(request, "id"));
+        if (game == null || !game.userId.equals(userId)) return error(404, "Game not found");
+        if (game.completed) return error(409, "Game already completed");
+
+        if (request.has("base_version")) {
+            int baseVersion = request.get("base_version").getAsInt();
+            if (baseVersion != game.version) {
+                JsonObject response = new JsonObject();
+                response.addProperty("status", "version_mismatch");
+                response.addProperty("message", "Base version " + baseVersion + " is not the current version " + game.version);
+                response.addProperty("state_version", game.version);
+                return new Reply(409, gson.toJson(response));
+            }
+            String stateDelta = string(request, "state_delta");
+            String journalDelta = string(request, "move_journal_delta");
+            game.state = StateDelta.applyBoard(game.state, stateDelta == null ? "" : stateDelta);
+            if (journalDelta != null) game.journal = StateDelta.applyJournal(game.journal, journalDelta);
+            deltaUpdates++;
+            deltaStateBytes += length(stateDelta) + length(journalDelta);
+        } else {
+            String state = string(request, "current_state");
+            if (state != null) game.state = state;
+            game.journal = string(request, "move_journal");
+            fullUpdates++;
+            fullStateBytes += length(state) + length(game.journal);
+        }
+        game.version++;
+        game.completed = request.has("was_completed") && request.get("was_completed").getAsBoolean();
+        if (game.completed) complete(game);
+        game.lastUpdate = request;
+        System.out.println(String.format(Locale.US, "  game %s v%d (%d bytes) | state uploads: %d full, avg %.1f bytes; %d delta, avg %.1f bytes",
+                game.id.substring(0, 8), game.version, bodyBytes,
+                fullUpdates, fullUpdates == 0 ? 0.0 : (double) fullStateBytes / fullUpdates,
+                deltaUpdates, deltaUpdates == 0 ? 0.0 : (double) deltaStateBytes / deltaUpdates));
+
+        JsonObject response = new JsonObject();
+        response.addProperty("status", "success");
+        response.addProperty("message", "Game updated");
+        response.addProperty("state_version", game.version);
+        return new Reply(200, gson.toJson(response));
+    }
+
+    private Reply gameHistoryPage(String userId, Map<String, String> query) {
+        int limit = query.containsKey("limit") ? Integer.parseInt(query.get("limit")) : DEFAULT_PAGE_SIZE;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) return error(422, "limit must be 1.." + MAX_PAGE_SIZE);
+        List<Game> completed = completedByUser.getOrDefault(userId, new ArrayList<>());
+        // Newest first; the cursor is the completedSeq of the last game of the previous page,
+        // so games completed while the user scrolls don't shift the later pages
+        int end = completed.size();
+        String cursor = query.get("cursor");
+        if (cursor != null) {
+            long before = Long.parseLong(cursor);
+            int lo = 0, hi = completed.size();
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (completed.get(mid).completedSeq < before) lo = mid + 1;
+                else hi = mid;
+            }
+            end = lo;
+        }
+        int start = Math.max(0, end - limit);
+        JsonArray items = new JsonArray();
+        for (int i = end - 1; i >= start; i--) {
+            items.add(toGameSummary(completed.get(i)));
+        }
+        JsonObject response = new JsonObject();
+        response.add("items", items);
+        if (start > 0) response.addProperty("next_cursor", Long.toString(completed.get(start).completedSeq)); // Absent on the last page
+        return new Reply(200, gson.toJson(response));
+    }
+
+    /**
+     * The user's challenges updated after `since` (an earlier watermark). Without one, or with
+     * one this server didn't hand out (e.g. from before a restart), all of them with full=true.
+     * Nothing is ever deleted here, so removed_ids is always empty.
+     */
+    private Reply challengeChanges(String userId, String since) {
+        long after = -1;
+        if (since != null) {
+            try {
+                after = Long.parseLong(since);
+            } catch (NumberFormatException e) {
+                after = -1;
+            }
+            if (after > lastChallengeUpdate) after = -1;
+        }
+        JsonArray changes = new JsonArray();
+        for (Challenge challenge : challenges.values()) {
+            if (challenge.updatedAt > after && (userId.equals(challenge.challengerId) || userId.equals(challenge.opponentId))) {
+                changes.add(toChallengeResponse(challenge));
+            }
+        }
+        JsonObject response = new JsonObject();
+        response.add("changes", changes);
+        response.add("removed_ids", new JsonArray());
+        response.addProperty("watermark", Long.toString(lastChallengeUpdate));
+        response.addProperty("full", after < 0);
+        System.out.println("  challenge " + (after < 0 ? "full sync" : "changes since " + after) + ": " + changes.size() + " challenges");
+        return new Reply(200, gson.toJson(response));
+    }
+
+    private Reply createChallenge(String userId, JsonObject request) {
+        String puzzleId = string(request, "puzzle_id");
+        Game game = puzzleId != null && puzzleId.startsWith("puzzle-") ? games.get(puzzleId.substring("puzzle-".length())) : null;
+        if (game == null || !game.userId.equals(userId)) return error(404, "Puzzle not found");
+        String opponentId = string(request, "opponent_id");
+        if (opponentId == null || !usersById.containsKey(opponentId)) return error(404, "Opponent not found");
+        if (opponentId.equals(userId)) return error(422, "Cannot challenge yourself");
+        Challenge challenge = newChallenge(userId, opponentId, game.difficulty, game.board, game.solution, puzzleId);
+        challenge.challengerDuration = request.has("challenger_duration") ? request.get("challenger_duration").getAsInt() : 0;
+        return new Reply(200, gson.toJson(toChallengeResponse(challenge)));
+    }
+
+    /**
+     * Applies actions one at a time; one failing doesn't stop the others. Results come in
+     * request order, each with the challenge as it is afterwards (if the user may see it).
+     */
+    private Reply respondBatch(String userId, JsonObject request) {
+        JsonArray actions = request.has("actions") ? request.getAsJsonArray("actions") : new JsonArray();
+        if (actions.size() == 0 || actions.size() > MAX_BATCH_ACTIONS) return error(422, "actions must have 1.." + MAX_BATCH_ACTIONS + " entries");
+        JsonArray results = new JsonArray();
+        int applied = 0;
+        for (JsonElement element : actions) {
+            JsonObject action = element.getAsJsonObject();
+            String challengeId = string(action, "challenge_id");
+            Challenge challenge = challengeId == null ? null : challenges.get(challengeId);
+            Reply failure = respond(userId, challenge, string(action, "action"));
+            JsonObject result = new JsonObject();
+            result.addProperty("challenge_id", challengeId);
+            if (failure == null) {
+                result.addProperty("status", "success");
+                applied++;
+            } else {
+                result.addProperty("status", "error");
+                result.addProperty("detail", string(gson.fromJson(failure.body, JsonObject.class), "detail"));
+            }
+            if (challenge != null && userId.equals(challenge.opponentId)) result.add("challenge", toChallengeResponse(challenge));
+            results.add(result);
+        }
+        System.out.println("  batch of " + actions.size() + " challenge actions, " + applied + " applied");
+        JsonObject response = new JsonObject();
+        response.add("results", results);
+        return new Reply(200, gson.toJson(response));
+    }
+
+    // Accept or reject; null on success, otherwise the error reply
+    private Reply respond(String userId, Challenge challenge, String action) {
+        if (challenge == null || !userId.equals(challenge.opponentId)) return error(404, "Challenge not found");
+        if (!"pending".equals(challenge.status)) return error(409, "Challenge is already " + challenge.status);
+        if ("accept".equals(action)) challenge.status = "accepted";
+        else if ("reject".equals(action)) challenge.status = "rejected";
+        else return error(422, "Unknown action " + action);
+        touch(challenge);
+        return null;
+    }
+
+    private Reply completeChallenge(String userId, Challenge challenge, JsonObject request) {
+        if (challenge == null || !userId.equals(challenge.opponentId)) return error(404, "Challenge not found");
+        if (!"accepted".equals(challenge.status)) return error(409, "Challenge is " + challenge.status + ", not accepted");
+        int duration = request.has("opponent_duration") ? request.get("opponent_duration").getAsInt() : 0;
+        challenge.opponentDuration = duration;
+        challenge.winnerId = duration < challenge.challengerDuration ? challenge.opponentId : challenge.challengerId;
+        challenge.status = "completed";
+        challenge.completedAt = System.currentTimeMillis();
+        touch(challenge);
+        return new Reply(200, gson.toJson(toChallengeResponse(challenge)));
+    }
+
+    private Challenge newChallenge(String challengerId, String opponentId, String difficulty, String board, String solution, String puzzleId) {
+        Challenge challenge = new Challenge();
+        challenge.id = UUID.randomUUID().toString();
+        challenge.challengerId = challengerId;
+        challenge.opponentId = opponentId;
+        challenge.status = "pending";
+        challenge.difficulty = difficulty;
+        challenge.board = board;
+        challenge.solution = solution;
+        challenge.puzzleId = puzzleId;
+        challenge.createdAt = System.currentTimeMillis();
+        challenges.put(challenge.id, challenge);
+        touch(challenge);
+        return challenge;
+    }
+
+    // Marks a challenge changed. updated_at is at least 1 ms past the previous change of any
+    // challenge, so "updated after the watermark" never misses a change made in the same ms.
+    private void touch(Challenge challenge) {
+        challenge.updatedAt = Math.max(System.currentTimeMillis(), lastChallengeUpdate + 1);
+        lastChallengeUpdate = challenge.updatedAt;
+    }
+
+    // Pending challenges for a new user (--challenges), from a few rival players
+    private void seedChallenges(String userId) {
+        if (seedChallenges <= 0) return;
+        while (rivalIds.size() < RIVALS) {
+            String rivalId = UUID.randomUUID().toString();
+            JsonObject rival = new JsonObject();
+            rival.addProperty("id", rivalId);
+            rival.addProperty("username", "rival" + (rivalIds.size() + 1));
+            rival.addProperty("email", "rival" + (rivalIds.size() + 1) + "@example.com");
+            rival.addProperty("total_games_played", 0);
+            rival.addProperty("total_score", 0);
+            usersById.put(rivalId, rival);
+            rivalIds.add(rivalId);
+        }
+        PuzzleGenerator.Puzzle puzzle = generator.generate(PuzzleGenerator.MEDIUM);
+        for (int i = 0; i < seedChallenges; i++) {
+            Challenge challenge = newChallenge(rivalIds.get(i % RIVALS), userId, PuzzleGenerator.MEDIUM,
+                    puzzle.getBoardString(), puzzle.getSolutionString(), "puzzle-seed-" + UUID.randomUUID());
+            challenge.challengerDuration = 180 + (i * 41) % 600;
+        }
+    }
+
+    private void expireUnstartedGames() {
+        long cutoff = System.currentTimeMillis() - UNSTARTED_GAME_LIFETIME_MS;
+        games.values().removeIf(game -> game.version == 0 && game.createdAt < cutoff);
+    }
+
+    private void complete(Game game) {
+        game.completedSeq = nextCompletedSeq++;
+        completedByUser.computeIfAbsent(game.userId, id -> new ArrayList<>()).add(game);
+    }
+
+    // Completed games for a new user (--history), a day apart and ending today
+    private void seedHistory(String userId) {
+        if (seedHistory <= 0) return;
+        PuzzleGenerator.Puzzle puzzle = generator.generate(PuzzleGenerator.EASY);
+        String[] difficulties = {PuzzleGenerator.EASY, PuzzleGenerator.MEDIUM, PuzzleGenerator.HARD};
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < seedHistory; i++) {
+            Game game = new Game();
+            game.id = UUID.randomUUID().toString();
+            game.userId = userId;
+            game.difficulty = difficulties[i % difficulties.length];
+            game.board = puzzle.getBoardString();
+            game.solution = puzzle.getSolutionString();
+            game.state = game.solution;
+            game.version = 1;
+            game.completed = true;
+            game.lastUpdate.addProperty("duration_seconds", 120 + (i * 37) % 900);
+            game.lastUpdate.addProperty("errors_made", i % 3);
+            game.lastUpdate.addProperty("hints_used", i % 2);
+            game.lastUpdate.addProperty("final_score", 500 + (i * 53) % 1500);
+            game.lastUpdate.addProperty("completed_at", isoUtc(now - (seedHistory - 1 - i) * 86_400_000L));
+            games.put(game.id, game);
+            complete(game);
+        }
+    }
+
+    // --- JSON helpers ---
+
+    // A history row: what the history list shows, without the puzzle and board state
+    private JsonObject toGameSummary(Game game) {
+        JsonObject response = new JsonObject();
+        response.addProperty("id", game.id);
+        response.addProperty("difficulty", game.difficulty);
+        response.addProperty("was_completed", game.completed);
+        for (String field : new String[]{"duration_seconds", "errors_made", "hints_used", "final_score", "completed_at"}) {
+            JsonElement value = game.lastUpdate.get(field);
+            if (value != null) response.add(field, value);
+        }
+        response.addProperty("is_challenge", false);
+        return response;
+    }
+
+    private JsonObject toGameResponse(Game game) {
+        JsonObject response = new JsonObject();
+        response.addProperty("id", game.id);
+        response.addProperty("difficulty", game.difficulty);
+        response.addProperty("was_completed", game.completed);
+        for (String field : new String[]{"duration_seconds", "errors_made", "hints_used", "final_score", "completed_at"}) {
+            JsonElement value = game.lastUpdate.get(field);
+            if (value != null) response.add(field, value);
+        }
+        response.addProperty("current_state", game.state);
+        response.addProperty("move_journal", game.journal);
+        response.addProperty("state_version", game.version);
+        response.add("puzzle", toPuzzle(game));
+        response.addProperty("is_challenge", false);
+        return response;
+    }
+
+    private JsonObject toChallengeResponse(Challenge challenge) {
+        JsonObject response = new JsonObject();
+        response.addProperty("id", challenge.id);
+        response.addProperty("puzzle_id", challenge.puzzleId);
+        response.addProperty("challenger_id", challenge.challengerId);
+        response.addProperty("opponent_id", challenge.opponentId);
+        response.addProperty("status", challenge.status);
+        response.addProperty("challenger_duration", challenge.challengerDuration);
+        response.addProperty("opponent_duration", challenge.opponentDuration);
+        response.addProperty("winner_id", challenge.winnerId);
+        response.addProperty("created_at", isoUtc(challenge.createdAt));
+        response.addProperty("expires_at", isoUtc(challenge.createdAt + CHALLENGE_LIFETIME_MS));
+        if (challenge.completedAt > 0) response.addProperty("completed_at", isoUtc(challenge.completedAt));
+        response.addProperty("updated_at", isoUtc(challenge.updatedAt));
+        JsonObject puzzle = new JsonObject();
+        puzzle.addProperty("id", challenge.puzzleId);
+        puzzle.addProperty("difficulty", challenge.difficulty);
+        puzzle.addProperty("board_string", challenge.board);
+        puzzle.addProperty("solution_string", challenge.solution);
+        response.add("puzzle", puzzle);
+        response.add("challenger", toChallengeUser(challenge.challengerId));
+        response.add("opponent", toChallengeUser(challenge.opponentId));
+        if (challenge.winnerId != null) response.add("winner", toChallengeUser(challenge.winnerId));
+        return response;
+    }
+
+    private JsonObject toChallengeUser(String userId) {
+        JsonObject user = new JsonObject();
+        user.addProperty("id", userId);
+        user.add("username", usersById.get(userId).get("username"));
+        return user;
+    }
+
+    private JsonObject toPuzzle(Game game) {
+        JsonObject puzzle = new JsonObject();
+        puzzle.addProperty("id", "puzzle-" + game.id);
+        puzzle.addProperty("difficulty", game.difficulty);
+        puzzle.addProperty("board_string", game.board);
+        puzzle.addProperty("solution_string", game.solution);
+        return puzzle;
+    }
+
+    private String authenticate(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith("Bearer token-")) return null;
+        String userId = header.substring("Bearer token-".length());
+        return usersById.containsKey(userId) ? userId : null;
+    }
+
+    private Reply error(int code, String detail) {
+        JsonObject response = new JsonObject();
+        response.addProperty("status", "error");
+        response.addProperty("detail", detail);
+        return new Reply(code, gson.toJson(response));
+    }
+
+    private static String string(JsonObject object, String field) {
+        JsonElement value = object.get(field);
+        return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+
+    private static String isoUtc(long millis) {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format.format(new Date(millis));
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) return params;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            try {
+                params.put(URLDecoder.decode(pair.substring(0, eq), "UTF-8"), URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+            } catch (UnsupportedEncodingException e) {
+                throw new AssertionError(e); // UTF-8 is always supported
+            }
+        }
+        return params;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static String readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.size() == 0 ? "{}" : out.toString(StandardCharsets.UTF_8.name());
+    }
+}